@@ -0,0 +1,40 @@
+package com.axellience.vuegwt.benchmarks;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * {@link Messager} used outside of javac.
+ * Benchmarked templates must be valid, so errors fail the benchmark instead of being measured.
+ */
+public class BenchmarkMessager implements Messager
+{
+    @Override
+    public void printMessage(Kind kind, CharSequence msg)
+    {
+        if (kind == Kind.ERROR)
+            throw new IllegalStateException("Error in the benchmarked template: " + msg);
+    }
+
+    @Override
+    public void printMessage(Kind kind, CharSequence msg, Element e)
+    {
+        printMessage(kind, msg);
+    }
+
+    @Override
+    public void printMessage(Kind kind, CharSequence msg, Element e, AnnotationMirror a)
+    {
+        printMessage(kind, msg);
+    }
+
+    @Override
+    public void printMessage(Kind kind, CharSequence msg, Element e, AnnotationMirror a,
+        AnnotationValue v)
+    {
+        printMessage(kind, msg);
+    }
+}
@@ -0,0 +1,110 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.benchmarks.SyntheticComponent.TemplateShape;
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.processors.VueGwtProcessorOptions;
+import com.axellience.vuegwt.processors.component.ComponentExposedTypeGenerator;
+import com.axellience.vuegwt.processors.component.ComponentInjectedDependenciesBuilder;
+import com.axellience.vuegwt.processors.component.model.ComponentModels;
+import com.axellience.vuegwt.processors.component.template.ComponentTemplateProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the {@link ComponentExposedTypeGenerator} on the {@link SyntheticComponent}, from
+ * the Component type to the written ExposedType source, template processing included.
+ * <br>
+ * It needs a javac run, {@link #javac()} measures the same run without annotation processing
+ * so its cost can be subtracted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComponentExposedTypeGeneratorBenchmark
+{
+    @Param({ "DEEP_NESTING", "WIDE_V_FOR", "MUSTACHES" })
+    private TemplateShape shape;
+
+    @Param({ "10", "100", "500" })
+    private int size;
+
+    private SyntheticComponentCompiler compiler;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        compiler = new SyntheticComponentCompiler(SyntheticComponent.getTemplate(shape, size));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        compiler.close();
+    }
+
+    @Benchmark
+    public void javac()
+    {
+        compiler.process();
+    }
+
+    @Benchmark
+    public void generateExposedType()
+    {
+        compiler.process(new ExposedTypeProcessor());
+    }
+
+    /**
+     * Only run the {@link ComponentExposedTypeGenerator}, not the other Vue GWT generators.
+     */
+    @SupportedAnnotationTypes("com.axellience.vuegwt.core.annotations.component.Component")
+    @SupportedSourceVersion(SourceVersion.RELEASE_8)
+    public static class ExposedTypeProcessor extends AbstractProcessor
+    {
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations,
+            RoundEnvironment roundEnv)
+        {
+            ComponentModels componentModels = new ComponentModels(processingEnv);
+            ComponentExposedTypeGenerator generator =
+                new ComponentExposedTypeGenerator(processingEnv,
+                    new ComponentTemplateProcessor(processingEnv,
+                        new VueGwtProcessorOptions(processingEnv)),
+                    componentModels);
+
+            for (TypeElement component : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(
+                Component.class)))
+            {
+                generator.generate(component,
+                    new ComponentInjectedDependenciesBuilder(processingEnv,
+                        componentModels.get(component)));
+            }
+
+            return true;
+        }
+    }
+}
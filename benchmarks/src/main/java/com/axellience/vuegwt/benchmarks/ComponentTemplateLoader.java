@@ -0,0 +1,71 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.benchmarks.SyntheticComponent.TemplateShape;
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.processors.VueGwtProcessorOptions;
+import com.axellience.vuegwt.processors.component.model.ComponentModels;
+import com.axellience.vuegwt.processors.component.template.ComponentTemplate;
+import com.axellience.vuegwt.processors.component.template.ComponentTemplateProcessor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Load the {@link ComponentTemplate} of the {@link SyntheticComponent}.
+ * The template parser context is built from the real Component type by javac, exactly like in
+ * the Vue GWT processor, it can then be used outside of javac.
+ */
+@SupportedAnnotationTypes("com.axellience.vuegwt.core.annotations.component.Component")
+@SupportedSourceVersion(SourceVersion.RELEASE_8)
+public class ComponentTemplateLoader extends AbstractProcessor
+{
+    private ComponentTemplate componentTemplate;
+
+    /**
+     * Load the template of the synthetic Component with the given shape and size.
+     * @param shape The shape of the template
+     * @param size The size of the template
+     * @return The template, ready to be parsed
+     * @throws IOException If the synthetic Component couldn't be written
+     */
+    public static ComponentTemplate load(TemplateShape shape, int size) throws IOException
+    {
+        ComponentTemplateLoader loader = new ComponentTemplateLoader();
+        try (SyntheticComponentCompiler compiler = new SyntheticComponentCompiler(
+            SyntheticComponent.getTemplate(shape, size)))
+        {
+            compiler.process(loader);
+        }
+
+        if (loader.componentTemplate == null)
+            throw new IllegalStateException("Couldn't load the synthetic component template");
+
+        return loader.componentTemplate;
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        ComponentTemplateProcessor componentTemplateProcessor = new ComponentTemplateProcessor(
+            processingEnv,
+            new VueGwtProcessorOptions(processingEnv));
+
+        ComponentModels componentModels = new ComponentModels(processingEnv);
+        for (TypeElement component : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(
+            Component.class)))
+        {
+            componentTemplateProcessor
+                .getComponentTemplate(componentModels.get(component), processingEnv.getMessager())
+                .ifPresent(template -> componentTemplate = template);
+        }
+
+        return true;
+    }
+}
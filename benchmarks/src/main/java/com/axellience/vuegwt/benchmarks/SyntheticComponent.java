@@ -0,0 +1,151 @@
+package com.axellience.vuegwt.benchmarks;
+
+/**
+ * Generate synthetic Components with templates of a given shape and size.
+ * All the templates only use the fields and methods of the generated Component class, so they
+ * can be processed without errors.
+ */
+public class SyntheticComponent
+{
+    public static final String PACKAGE_NAME = "com.axellience.vuegwt.benchmarks.synthetic";
+    public static final String CLASS_NAME = "SyntheticComponent";
+    public static final String QUALIFIED_NAME = PACKAGE_NAME + "." + CLASS_NAME;
+
+    /**
+     * The different shapes of templates, each one stressing a different part of the processing.
+     */
+    public enum TemplateShape
+    {
+        /**
+         * Elements nested in each other, with a binding and a mustache on each level.
+         */
+        DEEP_NESTING,
+        /**
+         * Many sibling v-for, each with a few bound children and an event handler.
+         */
+        WIDE_V_FOR,
+        /**
+         * Many mustache expressions in text, each one a different Java expression.
+         */
+        MUSTACHES
+    }
+
+    private SyntheticComponent()
+    {
+    }
+
+    /**
+     * Generate the Java source of the synthetic Component.
+     * @return The source of the Component class
+     */
+    public static String getJavaSource()
+    {
+        return "package " + PACKAGE_NAME + ";\n"
+            + "\n"
+            + "import com.axellience.vuegwt.core.annotations.component.Component;\n"
+            + "import com.axellience.vuegwt.core.annotations.component.Computed;\n"
+            + "import com.axellience.vuegwt.core.client.component.IsVueComponent;\n"
+            + "import jsinterop.annotations.JsMethod;\n"
+            + "import jsinterop.annotations.JsProperty;\n"
+            + "import java.util.List;\n"
+            + "\n"
+            + "@Component\n"
+            + "public class " + CLASS_NAME + " implements IsVueComponent {\n"
+            + "  @JsProperty String text;\n"
+            + "  @JsProperty int counter;\n"
+            + "  @JsProperty boolean visible;\n"
+            + "  @JsProperty List<String> items;\n"
+            + "\n"
+            + "  @Computed\n"
+            + "  public String getUpperText() {\n"
+            + "    return text.toUpperCase();\n"
+            + "  }\n"
+            + "\n"
+            + "  @JsMethod\n"
+            + "  public String format(int value) {\n"
+            + "    return text + value;\n"
+            + "  }\n"
+            + "\n"
+            + "  @JsMethod\n"
+            + "  public void select(String item) {\n"
+            + "    text = item;\n"
+            + "  }\n"
+            + "}\n";
+    }
+
+    /**
+     * Generate a template of the given shape.
+     * @param shape The shape of the template
+     * @param size The number of repeated blocks in the template
+     * @return The HTML template
+     */
+    public static String getTemplate(TemplateShape shape, int size)
+    {
+        switch (shape)
+        {
+            case DEEP_NESTING:
+                return getDeepNestingTemplate(size);
+            case WIDE_V_FOR:
+                return getWideVForTemplate(size);
+            case MUSTACHES:
+                return getMustachesTemplate(size);
+            default:
+                throw new IllegalArgumentException("Unknown template shape: " + shape);
+        }
+    }
+
+    private static String getDeepNestingTemplate(int depth)
+    {
+        StringBuilder template = new StringBuilder();
+        for (int i = 0; i < depth; i++)
+        {
+            template
+                .append("<div class=\"level\" :class='map(\"visible\", visible)'")
+                .append(" :data-level=\"counter + ")
+                .append(i)
+                .append("\">\n")
+                .append("<span>{{ format(")
+                .append(i)
+                .append(") }}</span>\n");
+        }
+        for (int i = 0; i < depth; i++)
+            template.append("</div>\n");
+
+        return template.toString();
+    }
+
+    private static String getWideVForTemplate(int width)
+    {
+        StringBuilder template = new StringBuilder("<div>\n");
+        for (int i = 0; i < width; i++)
+        {
+            template
+                .append("<ul v-if=\"visible\">\n")
+                .append("<li v-for=\"(String item, index) in items\" :key=\"item\"")
+                .append(" @click=\"select(item)\" :class='map(\"odd\", index % 2 == 1)'>\n")
+                .append("<span>{{ item }}</span> <b>{{ index + ")
+                .append(i)
+                .append(" }}</b>\n")
+                .append("</li>\n")
+                .append("</ul>\n");
+        }
+        return template.append("</div>").toString();
+    }
+
+    private static String getMustachesTemplate(int count)
+    {
+        StringBuilder template = new StringBuilder("<div>\n");
+        for (int i = 0; i < count; i++)
+        {
+            template
+                .append("<p>{{ text }} - {{ counter + ")
+                .append(i)
+                .append(" }} - {{ upperText.length() > ")
+                .append(i)
+                .append(" ? format(")
+                .append(i)
+                .append(") : text }}</p>\n");
+        }
+        return template.append("</div>").toString();
+    }
+}
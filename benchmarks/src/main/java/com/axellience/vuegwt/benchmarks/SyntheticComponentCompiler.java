@@ -0,0 +1,127 @@
+package com.axellience.vuegwt.benchmarks;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Run javac on the {@link SyntheticComponent} with the given annotation processors.
+ * Like in a Maven build, the template is put in the class output directory where the Vue GWT
+ * processor looks for it.
+ */
+public class SyntheticComponentCompiler implements AutoCloseable
+{
+    private final JavaCompiler javaCompiler;
+    private final StandardJavaFileManager fileManager;
+    private final Path workDirectory;
+    private final JavaFileObject componentSource;
+
+    /**
+     * @param template The template of the {@link SyntheticComponent}
+     * @throws IOException If the work directory couldn't be created
+     */
+    public SyntheticComponentCompiler(String template) throws IOException
+    {
+        javaCompiler = ToolProvider.getSystemJavaCompiler();
+        if (javaCompiler == null)
+            throw new IllegalStateException("No Java compiler, the benchmarks must run on a JDK");
+
+        workDirectory = Files.createTempDirectory("vue-gwt-benchmarks");
+        Path classOutput = Files.createDirectories(workDirectory.resolve("classes"));
+        Path sourceOutput = Files.createDirectories(workDirectory.resolve("generated-sources"));
+
+        Path templateFile =
+            classOutput.resolve(SyntheticComponent.QUALIFIED_NAME.replace('.', '/') + ".html");
+        Files.createDirectories(templateFile.getParent());
+        Files.write(templateFile, template.getBytes(StandardCharsets.UTF_8));
+
+        fileManager = javaCompiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT,
+            Collections.singletonList(classOutput.toFile()));
+        fileManager.setLocation(StandardLocation.SOURCE_OUTPUT,
+            Collections.singletonList(sourceOutput.toFile()));
+
+        componentSource = new SourceFile(SyntheticComponent.QUALIFIED_NAME,
+            SyntheticComponent.getJavaSource());
+    }
+
+    /**
+     * Run annotation processing on the synthetic Component.
+     * Generated sources are not compiled.
+     * @param processors The processors to run, none to only parse and attribute the Component
+     */
+    public void process(Processor... processors)
+    {
+        List<String> options = Arrays.asList(processors.length == 0 ? "-proc:none" : "-proc:only",
+            "-classpath",
+            System.getProperty("java.class.path"));
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        CompilationTask task = javaCompiler.getTask(null,
+            fileManager,
+            diagnostics,
+            options,
+            null,
+            Collections.singletonList(componentSource));
+        task.setProcessors(Arrays.asList(processors));
+
+        if (!task.call())
+        {
+            StringBuilder errors =
+                new StringBuilder("Compilation of the synthetic component failed:");
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+            {
+                if (diagnostic.getKind() == Kind.ERROR)
+                    errors.append('\n').append(diagnostic.getMessage(null));
+            }
+            throw new IllegalStateException(errors.toString());
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        fileManager.close();
+        try (Stream<Path> files = Files.walk(workDirectory))
+        {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject
+    {
+        private final String source;
+
+        private SourceFile(String qualifiedName, String source)
+        {
+            super(URI.create("string:///"
+                + qualifiedName.replace('.', '/')
+                + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors)
+        {
+            return source;
+        }
+    }
+}
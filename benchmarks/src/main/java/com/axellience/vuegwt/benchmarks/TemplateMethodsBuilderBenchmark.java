@@ -0,0 +1,71 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.benchmarks.SyntheticComponent.TemplateShape;
+import com.axellience.vuegwt.processors.component.template.ComponentTemplate;
+import com.axellience.vuegwt.processors.component.template.builder.TemplateMethodsBuilder;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerEngine;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.processors.component.template.parser.TemplateParser;
+import com.axellience.vuegwt.processors.component.template.parser.result.TemplateParserResult;
+import com.squareup.javapoet.TypeSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the {@link TemplateMethodsBuilder}, which adds the template expressions and the
+ * render functions to the ExposedType of a Component.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateMethodsBuilderBenchmark
+{
+    @Param({ "DEEP_NESTING", "WIDE_V_FOR", "MUSTACHES" })
+    private TemplateShape shape;
+
+    @Param({ "10", "100", "500" })
+    private int size;
+
+    private TemplateParserResult templateParserResult;
+    private VueTemplateCompilerResult vueTemplateCompilerResult;
+
+    @Setup
+    public void setup() throws IOException, VueTemplateCompilerException
+    {
+        ComponentTemplate componentTemplate = ComponentTemplateLoader.load(shape, size);
+        templateParserResult = new TemplateParser().parseHtmlTemplate(
+            componentTemplate.getTemplateContent(),
+            componentTemplate.getTemplateParserContext(),
+            new BenchmarkMessager());
+        vueTemplateCompilerResult = new VueTemplateCompiler(VueTemplateCompilerEngine.JAVA)
+            .compile(templateParserResult.getProcessedTemplate());
+    }
+
+    @Benchmark
+    public TypeSpec addTemplateMethods()
+    {
+        TypeSpec.Builder exposedTypeBuilder =
+            TypeSpec.classBuilder(SyntheticComponent.CLASS_NAME + "ExposedType");
+        new TemplateMethodsBuilder().addTemplateMethodsToComponentExposedType(exposedTypeBuilder,
+            templateParserResult,
+            vueTemplateCompilerResult);
+        return exposedTypeBuilder.build();
+    }
+}
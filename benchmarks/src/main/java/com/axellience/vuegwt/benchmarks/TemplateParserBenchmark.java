@@ -0,0 +1,57 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.benchmarks.SyntheticComponent.TemplateShape;
+import com.axellience.vuegwt.processors.component.template.ComponentTemplate;
+import com.axellience.vuegwt.processors.component.template.parser.TemplateParser;
+import com.axellience.vuegwt.processors.component.template.parser.result.TemplateParserResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark {@link TemplateParser#parseHtmlTemplate}, which finds and processes the Java
+ * expressions of a template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateParserBenchmark
+{
+    @Param({ "DEEP_NESTING", "WIDE_V_FOR", "MUSTACHES" })
+    private TemplateShape shape;
+
+    @Param({ "10", "100", "500" })
+    private int size;
+
+    private ComponentTemplate componentTemplate;
+    private BenchmarkMessager messager;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        componentTemplate = ComponentTemplateLoader.load(shape, size);
+        messager = new BenchmarkMessager();
+    }
+
+    @Benchmark
+    public TemplateParserResult parseHtmlTemplate()
+    {
+        return new TemplateParser().parseHtmlTemplate(componentTemplate.getTemplateContent(),
+            componentTemplate.getTemplateParserContext(),
+            messager);
+    }
+}
@@ -0,0 +1,69 @@
+package com.axellience.vuegwt.benchmarks;
+
+import com.axellience.vuegwt.benchmarks.SyntheticComponent.TemplateShape;
+import com.axellience.vuegwt.processors.component.template.ComponentTemplate;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerEngine;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.processors.component.template.parser.TemplateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark {@link VueTemplateCompiler#compile}, which turns a processed template into render
+ * functions.
+ * The JS engine is started during the setup, so only the compilations are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VueTemplateCompilerBenchmark
+{
+    @Param({ "DEEP_NESTING", "WIDE_V_FOR", "MUSTACHES" })
+    private TemplateShape shape;
+
+    @Param({ "10", "100", "500" })
+    private int size;
+
+    @Param({ "JAVA", "NASHORN" })
+    private VueTemplateCompilerEngine engine;
+
+    private String processedTemplate;
+    private VueTemplateCompiler vueTemplateCompiler;
+
+    @Setup
+    public void setup() throws IOException, VueTemplateCompilerException
+    {
+        ComponentTemplate componentTemplate = ComponentTemplateLoader.load(shape, size);
+        processedTemplate = new TemplateParser()
+            .parseHtmlTemplate(componentTemplate.getTemplateContent(),
+                componentTemplate.getTemplateParserContext(),
+                new BenchmarkMessager())
+            .getProcessedTemplate();
+
+        vueTemplateCompiler = new VueTemplateCompiler(engine);
+        vueTemplateCompiler.compile(processedTemplate);
+    }
+
+    @Benchmark
+    public VueTemplateCompilerResult compile() throws VueTemplateCompilerException
+    {
+        return vueTemplateCompiler.compile(processedTemplate);
+    }
+}
@@ -0,0 +1,18 @@
+package com.axellience.vuegwt.core.annotations.component;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Mark a method whose result doesn't only depend on the reactive state of the Component.
+ * Template expressions calling it are evaluated on each render instead of being cached in a
+ * computed property.
+ */
+@Target(METHOD)
+@Retention(CLASS)
+public @interface Impure
+{
+}
@@ -0,0 +1,18 @@
+package com.axellience.vuegwt.core.annotations.component;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Mark a field of a Component that is not reactive.
+ * It can still be used in the template, but changing it doesn't update the Component, and the
+ * objects assigned to it are not observed.
+ */
+@Target(FIELD)
+@Retention(CLASS)
+public @interface NonReactive
+{
+}
@@ -0,0 +1,18 @@
+package com.axellience.vuegwt.core.annotations.component;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Mark a field of a Component that is only reactive to assignments.
+ * Assigning it updates the Component, but the objects assigned to it are not observed, so
+ * changing them doesn't.
+ */
+@Target(FIELD)
+@Retention(CLASS)
+public @interface ShallowReactive
+{
+}
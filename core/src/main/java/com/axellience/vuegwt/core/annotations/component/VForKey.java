@@ -0,0 +1,18 @@
+package com.axellience.vuegwt.core.annotations.component;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Mark the field identifying the instances of a class.
+ * Elements with a v-for on instances of this class get a key bound to this field, unless they
+ * already have one.
+ */
+@Target(FIELD)
+@Retention(CLASS)
+public @interface VForKey
+{
+}
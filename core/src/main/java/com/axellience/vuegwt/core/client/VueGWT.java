@@ -5,11 +5,12 @@ import com.axellience.vuegwt.core.client.component.IsVueComponent;
 import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.core.client.observer.vuegwtobservers.CollectionObserver;
 import com.axellience.vuegwt.core.client.observer.vuegwtobservers.MapObserver;
+import com.axellience.vuegwt.core.client.observer.vuegwtobservers.ReactiveCollectionObserver;
+import com.axellience.vuegwt.core.client.tools.ScopedCssInjector;
 import com.axellience.vuegwt.core.client.vue.VueComponentFactory;
 import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
 import elemental2.core.JsObject;
 import elemental2.dom.DomGlobal;
-import elemental2.dom.HTMLStyleElement;
 import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsType;
@@ -18,7 +19,6 @@ import jsinterop.base.JsPropertyMap;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * @author Adrien Baron
@@ -65,8 +65,12 @@ public class VueGWT
                 "Couldn't find Vue.js on init. Either include it Vue.js in your index.html or call VueGWT.init() instead of initWithoutVueLib.");
 
         // Register custom observers for Collection and Maps
-        VueGWTObserverManager.get().registerVueGWTObserver(new CollectionObserver());
-        VueGWTObserverManager.get().registerVueGWTObserver(new MapObserver());
+        boolean wrapPrototypes = "prototype".equals(System.getProperty(
+            "vuegwt.collectionObservation",
+            "instance"));
+        VueGWTObserverManager.get().registerVueGWTObserver(new CollectionObserver(wrapPrototypes));
+        VueGWTObserverManager.get().registerVueGWTObserver(new MapObserver(wrapPrototypes));
+        VueGWTObserverManager.get().registerVueGWTObserver(new ReactiveCollectionObserver());
 
         isReady = true;
 
@@ -80,20 +84,11 @@ public class VueGWT
 
     private static void injectScopedCss() {
         if (scopedCss.isEmpty()) return;
-        String all = "";
-        for (Entry<String, String> i : scopedCss.entrySet()) {
-            all += i.getValue();
+        StringBuilder all = new StringBuilder();
+        for (String css : scopedCss.values()) {
+            all.append(css);
         }
-        injectCss(all);
-    }
-
-    @JsIgnore
-    private static void injectCss(String css) {
-        if (css == null || css.isEmpty()) return;
-        HTMLStyleElement styleElement = (HTMLStyleElement) DomGlobal.document.createElement("style");
-        styleElement.type = "text/css";
-        styleElement.textContent = css;
-        DomGlobal.document.head.appendChild(styleElement);
+        ScopedCssInjector.inject(all.toString());
     }
 
     /**
@@ -205,6 +200,20 @@ public class VueGWT
         scopedCss.put(qualifiedName, css);
     }
 
+    /**
+     * Prevent Vue from observing the given object, and the objects it references.
+     * This avoids the cost of observing large read only data. The object can still be changed,
+     * but this won't update the Components using it.
+     * @param object The object to freeze
+     * @param <T> The type of the object
+     * @return The object
+     */
+    @JsIgnore
+    public static <T> T freeze(T object)
+    {
+        return VueGWTObserverManager.markNonReactive(object);
+    }
+
     /**
      * Ask to be warned when Vue GWT is ready.
      * If Vue GWT is ready, the callback is called immediately.
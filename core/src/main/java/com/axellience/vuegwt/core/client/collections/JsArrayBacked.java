@@ -0,0 +1,20 @@
+package com.axellience.vuegwt.core.client.collections;
+
+import elemental2.core.JsArray;
+
+/**
+ * A Java object storing its values in a {@link JsArray}.
+ * v-for iterates directly on this array, without copying the values.
+ * @param <T> The type of the values
+ */
+public interface JsArrayBacked<T>
+{
+    /**
+     * Return the array holding the values, read only.
+     * This is the array used by the object itself, not a copy. Modifying it doesn't notify Vue,
+     * and breaks the object if it also indexes its values, like {@link ReactiveSet} and
+     * {@link ReactiveMap}. Use the Java methods of the object instead.
+     * @return The values, that must not be modified
+     */
+    JsArray<T> asJsArray();
+}
@@ -0,0 +1,63 @@
+package com.axellience.vuegwt.core.client.collections;
+
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.core.client.observer.VueObserver;
+import elemental2.core.JsArray;
+import jsinterop.base.Js;
+import jsinterop.base.JsArrayLike;
+
+/**
+ * Tools shared by the reactive collections.
+ */
+final class ReactiveCollections
+{
+    private ReactiveCollections()
+    {
+    }
+
+    static <T> T getAt(JsArray<T> array, int index)
+    {
+        return Js.<JsArrayLike<T>>uncheckedCast(array).getAt(index);
+    }
+
+    static <T> void setAt(JsArray<T> array, int index, T value)
+    {
+        Js.<JsArrayLike<T>>uncheckedCast(array).setAt(index, value);
+    }
+
+    // The JsArray methods with varargs are called on JsArray<Object>, as generic varargs are
+    // unchecked
+
+    static <T> void push(JsArray<T> array, T value)
+    {
+        asObjects(array).push(value);
+    }
+
+    static <T> void insert(JsArray<T> array, int index, T value)
+    {
+        asObjects(array).splice(index, 0, value);
+    }
+
+    static <T> T[] splice(JsArray<T> array, int index, int count)
+    {
+        return Js.uncheckedCast(asObjects(array).splice(index, count));
+    }
+
+    private static JsArray<Object> asObjects(JsArray<?> array)
+    {
+        return Js.uncheckedCast(array);
+    }
+
+    /**
+     * Notify Vue that a reactive collection changed, if it's observed.
+     * @param collection The collection that changed
+     * @param addedValues The values added to the collection, null if there are none
+     */
+    static void notifyChange(Object collection, Object[] addedValues)
+    {
+        // Checked first, so collections used before Vue is loaded don't capture its observer
+        VueObserver observer = (VueObserver) Js.asPropertyMap(collection).get("__ob__");
+        if (observer != null)
+            VueGWTObserverManager.get().notifyChange(observer, addedValues);
+    }
+}
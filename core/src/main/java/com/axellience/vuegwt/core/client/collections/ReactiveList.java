@@ -0,0 +1,195 @@
+package com.axellience.vuegwt.core.client.collections;
+
+import elemental2.core.JsArray;
+import jsinterop.base.Js;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.getAt;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.insert;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.notifyChange;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.push;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.setAt;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.splice;
+
+/**
+ * A {@link java.util.List} Vue can observe without wrapping its methods.
+ * Its values are stored in a {@link JsArray}, used directly by v-for. Each change notifies Vue
+ * once, and only the added values are observed.
+ * @param <E> The type of the elements
+ */
+public class ReactiveList<E> extends AbstractList<E> implements RandomAccess, JsArrayBacked<E>
+{
+    private final JsArray<E> array = new JsArray<>();
+
+    public ReactiveList()
+    {
+    }
+
+    public ReactiveList(Collection<? extends E> collection)
+    {
+        for (E element : collection)
+            push(array, element);
+    }
+
+    /**
+     * Return the array holding the elements, read only.
+     * See {@link JsArrayBacked#asJsArray()}.
+     * @return The elements, that must not be modified
+     */
+    @Override
+    public JsArray<E> asJsArray()
+    {
+        return array;
+    }
+
+    @Override
+    public int size()
+    {
+        return array.length;
+    }
+
+    @Override
+    public E get(int index)
+    {
+        checkElementIndex(index);
+        return getAt(array, index);
+    }
+
+    @Override
+    public E set(int index, E element)
+    {
+        checkElementIndex(index);
+        E previous = getAt(array, index);
+        setAt(array, index, element);
+        notifyChange(this, new Object[] { element });
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element)
+    {
+        push(array, element);
+        notifyChange(this, new Object[] { element });
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element)
+    {
+        checkPositionIndex(index);
+        insert(array, index, element);
+        notifyChange(this, new Object[] { element });
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection)
+    {
+        return addAll(array.length, collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection)
+    {
+        checkPositionIndex(index);
+        E[] added = Js.uncheckedCast(collection.toArray());
+        if (added.length == 0)
+            return false;
+
+        // Moved once, instead of once per added element
+        int movedCount = array.length - index;
+        E[] moved = splice(array, index, movedCount);
+        for (E element : added)
+            push(array, element);
+        for (E element : moved)
+            push(array, element);
+
+        notifyChange(this, added);
+        return true;
+    }
+
+    @Override
+    public E remove(int index)
+    {
+        checkElementIndex(index);
+        E removed = splice(array, index, 1)[0];
+        notifyChange(this, null);
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter)
+    {
+        int kept = 0;
+        int size = array.length;
+        for (int i = 0; i < size; i++)
+        {
+            E element = getAt(array, i);
+            if (!filter.test(element))
+                setAt(array, kept++, element);
+        }
+
+        if (kept == size)
+            return false;
+
+        array.length = kept;
+        notifyChange(this, null);
+        return true;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator)
+    {
+        for (int i = 0; i < array.length; i++)
+            setAt(array, i, operator.apply(getAt(array, i)));
+
+        notifyChange(this, array.slice());
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator)
+    {
+        // Arrays.sort is stable, unlike the sort of some browsers
+        E[] sorted = array.slice();
+        Arrays.sort(sorted, comparator);
+        for (int i = 0; i < sorted.length; i++)
+            setAt(array, i, sorted[i]);
+
+        notifyChange(this, null);
+    }
+
+    @Override
+    public void clear()
+    {
+        if (array.length == 0)
+            return;
+
+        array.length = 0;
+        notifyChange(this, null);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex)
+    {
+        splice(array, fromIndex, toIndex - fromIndex);
+        notifyChange(this, null);
+    }
+
+    private void checkElementIndex(int index)
+    {
+        if (index < 0 || index >= array.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + array.length);
+    }
+
+    private void checkPositionIndex(int index)
+    {
+        if (index < 0 || index > array.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + array.length);
+    }
+}
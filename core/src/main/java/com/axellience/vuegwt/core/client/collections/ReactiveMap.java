@@ -0,0 +1,206 @@
+package com.axellience.vuegwt.core.client.collections;
+
+import elemental2.core.JsArray;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.getAt;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.notifyChange;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.push;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.setAt;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.splice;
+
+/**
+ * A {@link java.util.Map} Vue can observe without wrapping its methods.
+ * Its values are stored in a {@link JsArray} in insertion order, used directly by v-for. Each
+ * change notifies Vue once, and only the added values are observed.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class ReactiveMap<K, V> extends AbstractMap<K, V> implements JsArrayBacked<V>
+{
+    private final JsArray<K> keys = new JsArray<>();
+    private final JsArray<V> values = new JsArray<>();
+    /** Index of each key in the keys and values */
+    private final Map<K, Integer> indexes = new HashMap<>();
+
+    public ReactiveMap()
+    {
+    }
+
+    public ReactiveMap(Map<? extends K, ? extends V> map)
+    {
+        for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            putWithoutNotify(entry.getKey(), entry.getValue());
+    }
+
+    /**
+     * Return the array holding the values, read only.
+     * See {@link JsArrayBacked#asJsArray()}.
+     * @return The values, that must not be modified
+     */
+    @Override
+    public JsArray<V> asJsArray()
+    {
+        return values;
+    }
+
+    @Override
+    public int size()
+    {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return indexes.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Integer index = indexes.get(key);
+        return index == null ? null : getAt(values, index);
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        V previous = putWithoutNotify(key, value);
+        notifyChange(this, new Object[] { value });
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map.isEmpty())
+            return;
+
+        JsArray<V> added = new JsArray<>();
+        for (Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            putWithoutNotify(entry.getKey(), entry.getValue());
+            push(added, entry.getValue());
+        }
+
+        notifyChange(this, added.slice());
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        Integer index = indexes.remove(key);
+        if (index == null)
+            return null;
+
+        V previous = getAt(values, index);
+        removeAt(index);
+        notifyChange(this, null);
+        return previous;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (keys.length == 0)
+            return;
+
+        keys.length = 0;
+        values.length = 0;
+        indexes.clear();
+        notifyChange(this, null);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new AbstractSet<Entry<K, V>>()
+        {
+            @Override
+            public int size()
+            {
+                return keys.length;
+            }
+
+            @Override
+            public Iterator<Entry<K, V>> iterator()
+            {
+                return new EntryIterator();
+            }
+        };
+    }
+
+    private V putWithoutNotify(K key, V value)
+    {
+        Integer index = indexes.get(key);
+        if (index != null)
+        {
+            V previous = getAt(values, index);
+            setAt(values, index, value);
+            return previous;
+        }
+
+        indexes.put(key, keys.length);
+        push(keys, key);
+        push(values, value);
+        return null;
+    }
+
+    private void removeAt(int index)
+    {
+        splice(keys, index, 1);
+        splice(values, index, 1);
+        for (int i = index; i < keys.length; i++)
+            indexes.put(getAt(keys, i), i);
+    }
+
+    private class EntryIterator implements Iterator<Entry<K, V>>
+    {
+        private int cursor = 0;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext()
+        {
+            return cursor < keys.length;
+        }
+
+        @Override
+        public Entry<K, V> next()
+        {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            last = cursor++;
+            K key = getAt(keys, last);
+            return new SimpleEntry<K, V>(key, getAt(values, last))
+            {
+                @Override
+                public V setValue(V value)
+                {
+                    super.setValue(value);
+                    return put(getKey(), value);
+                }
+            };
+        }
+
+        @Override
+        public void remove()
+        {
+            if (last < 0)
+                throw new IllegalStateException();
+
+            ReactiveMap.this.remove(getAt(keys, last));
+            cursor = last;
+            last = -1;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.axellience.vuegwt.core.client.collections;
+
+import elemental2.core.JsArray;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.getAt;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.notifyChange;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.push;
+import static com.axellience.vuegwt.core.client.collections.ReactiveCollections.splice;
+
+/**
+ * A {@link java.util.Set} Vue can observe without wrapping its methods.
+ * Its values are stored in a {@link JsArray} in insertion order, used directly by v-for. Each
+ * change notifies Vue once, and only the added values are observed.
+ * @param <E> The type of the elements
+ */
+public class ReactiveSet<E> extends AbstractSet<E> implements JsArrayBacked<E>
+{
+    private final JsArray<E> values = new JsArray<>();
+    /** Index of each element in the values */
+    private final Map<E, Integer> indexes = new HashMap<>();
+
+    public ReactiveSet()
+    {
+    }
+
+    public ReactiveSet(Collection<? extends E> collection)
+    {
+        for (E element : collection)
+            addWithoutNotify(element);
+    }
+
+    /**
+     * Return the array holding the elements, read only.
+     * See {@link JsArrayBacked#asJsArray()}.
+     * @return The elements, that must not be modified
+     */
+    @Override
+    public JsArray<E> asJsArray()
+    {
+        return values;
+    }
+
+    @Override
+    public int size()
+    {
+        return values.length;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return indexes.containsKey(o);
+    }
+
+    @Override
+    public boolean add(E element)
+    {
+        if (!addWithoutNotify(element))
+            return false;
+
+        notifyChange(this, new Object[] { element });
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection)
+    {
+        JsArray<E> added = new JsArray<>();
+        for (E element : collection)
+        {
+            if (addWithoutNotify(element))
+                push(added, element);
+        }
+
+        if (added.length == 0)
+            return false;
+
+        notifyChange(this, added.slice());
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        Integer index = indexes.remove(o);
+        if (index == null)
+            return false;
+
+        removeAt(index);
+        notifyChange(this, null);
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (values.length == 0)
+            return;
+
+        values.length = 0;
+        indexes.clear();
+        notifyChange(this, null);
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new Iterator<E>()
+        {
+            private int cursor = 0;
+            private int last = -1;
+
+            @Override
+            public boolean hasNext()
+            {
+                return cursor < values.length;
+            }
+
+            @Override
+            public E next()
+            {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                last = cursor++;
+                return getAt(values, last);
+            }
+
+            @Override
+            public void remove()
+            {
+                if (last < 0)
+                    throw new IllegalStateException();
+
+                ReactiveSet.this.remove(getAt(values, last));
+                cursor = last;
+                last = -1;
+            }
+        };
+    }
+
+    private boolean addWithoutNotify(E element)
+    {
+        if (indexes.containsKey(element))
+            return false;
+
+        indexes.put(element, values.length);
+        push(values, element);
+        return true;
+    }
+
+    private void removeAt(int index)
+    {
+        splice(values, index, 1);
+        for (int i = index; i < values.length; i++)
+            indexes.put(getAt(values, i), i);
+    }
+}
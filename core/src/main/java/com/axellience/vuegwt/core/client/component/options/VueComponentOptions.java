@@ -6,6 +6,7 @@ import com.axellience.vuegwt.core.client.component.options.computed.ComputedOpti
 import com.axellience.vuegwt.core.client.component.options.data.DataFactory;
 import com.axellience.vuegwt.core.client.component.options.props.PropOptions;
 import com.axellience.vuegwt.core.client.directive.options.VueDirectiveOptions;
+import com.axellience.vuegwt.core.client.tools.VueGWTTools;
 import elemental2.core.Function;
 import elemental2.core.JsArray;
 import elemental2.core.JsObject;
@@ -50,22 +51,23 @@ public class VueComponentOptions<T extends IsVueComponent> implements JsProperty
         this.componentExportedTypePrototype = prototype;
         // This must be set for Components extending Native JS Components
         this.componentExportedTypePrototype.set("options", this);
-        this.initTemplateExpressions();
     }
 
     /**
      * Add template expressions to this {@link VueComponentOptions}.
+     * Expressions without parameters are added as computed properties, so they are cached by
+     * Vue until one of their dependencies changes.
+     * @param methodsCount The number of expressions added as methods
+     * @param computedCount The number of expressions added as computed properties
      */
     @JsOverlay
-    private void initTemplateExpressions()
+    public final void initTemplateExpressions(int methodsCount, int computedCount)
     {
-        int i = 0;
-        Function templateMethod;
-        while ((templateMethod = getJavaComponentMethod("exp$" + i)) != null)
-        {
-            addMethod("exp$" + i, templateMethod);
-            i++;
-        }
+        for (int i = 0; i < methodsCount; i++)
+            addMethod("exp$" + i, getJavaComponentMethod("exp$" + i));
+
+        for (int i = 0; i < computedCount; i++)
+            addJavaComputed("getCexp$" + i, "cexp$" + i, ComputedKind.GETTER);
     }
 
     /**
@@ -106,6 +108,37 @@ public class VueComponentOptions<T extends IsVueComponent> implements JsProperty
         }
     }
 
+    /**
+     * Make the given data fields shallow reactive: assigning them is reactive, but the objects
+     * assigned to them are not observed.
+     * Must be called after {@link #initData(boolean, String...)}.
+     * @param fieldNames Name of the shallow data fields
+     */
+    @JsOverlay
+    public final void initShallowData(String... fieldNames)
+    {
+        DataFactory dataFactory = (DataFactory) this.getData();
+        Function defineReactive = VueGWTTools.getDeepValue(DomGlobal.window,
+            "Vue.util.defineReactive");
+
+        this.setData((DataFactory) () -> {
+            Object data = dataFactory.getData();
+            for (String fieldName : fieldNames)
+            {
+                // Without factory, the same data object is returned each time
+                if (!JsObject.getOwnPropertyDescriptor(data, fieldName).isConfigurable())
+                    continue;
+
+                defineReactive.call(null, data, fieldName, null, null, true);
+                // Vue skips non configurable properties when it observes the data
+                JsObject.defineProperty(data,
+                    fieldName,
+                    JsPropertyMap.of("configurable", false));
+            }
+            return data;
+        });
+    }
+
     /**
      * Add a computed property to this ComponentOptions.
      * If the computed has both a getter and a setter, this will be called twice, once for each.
@@ -4,6 +4,7 @@ import com.axellience.vuegwt.core.client.observer.functions.VueObserveArray;
 import com.axellience.vuegwt.core.client.observer.functions.VueWalk;
 import com.axellience.vuegwt.core.client.tools.VueGWTTools;
 import elemental2.core.JsArray;
+import elemental2.core.JsMap;
 import elemental2.core.JsObject;
 import elemental2.dom.DomGlobal;
 import jsinterop.annotations.JsMethod;
@@ -11,10 +12,9 @@ import jsinterop.base.Js;
 import jsinterop.base.JsConstructorFn;
 import jsinterop.base.JsPropertyMap;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This class allow extension of the default Vue Observer.
@@ -26,12 +26,17 @@ import java.util.Map;
 public class VueGWTObserverManager
 {
     private static VueGWTObserverManager INSTANCE;
+    private static final String NON_REACTIVE = "vg$nonReactive";
+    private static final String STATIC_PROPERTIES = "vg$rf";
 
     private final List<VueGWTObserver> observers = new LinkedList<>();
-    private final Map<String, Map<String, Object>> classesPropertyCaches = new HashMap<>();
     private VueObserveArray vueObserveArrayFunction;
     private VueWalk vueWalkFunction;
 
+    private int batchDepth = 0;
+    /** Observers changed during the current batch, with the values added to them */
+    private JsMap<VueObserver, JsArray<Object>> batchedChanges;
+
     public static VueGWTObserverManager get()
     {
         if (INSTANCE == null)
@@ -67,6 +72,10 @@ public class VueGWTObserverManager
      */
     private boolean observeJavaObject(Object object)
     {
+        // Vue doesn't walk marked objects, so their properties and children are not observed
+        if (isNonReactive(object))
+            return true;
+
         // Ignore pure JS objects, this is to avoid impacting pure Vue.js components
         if (object.getClass() == JsObject.class)
             return false;
@@ -80,11 +89,35 @@ public class VueGWTObserverManager
             if (observer.observe(object))
                 return true;
 
-        makeStaticallyInitializedPropertiesReactive((JsObject) object,
-            object.getClass().getCanonicalName());
+        makeStaticallyInitializedPropertiesReactive((JsObject) object);
         return false;
     }
 
+    /**
+     * Mark the given object as non reactive.
+     * Vue won't observe its properties, nor the objects it references. It can still be changed,
+     * but this won't update the Components using it.
+     * @param object The object to mark
+     * @param <T> The type of the object
+     * @return The object
+     */
+    public static <T> T markNonReactive(T object)
+    {
+        if (object != null && !isNonReactive(object))
+            JsObject.defineProperty(object, NON_REACTIVE, JsPropertyMap.of("value", true));
+
+        return object;
+    }
+
+    /**
+     * @param object The object to check
+     * @return true if the object was marked with {@link #markNonReactive(Object)}
+     */
+    public static boolean isNonReactive(Object object)
+    {
+        return ((JsObject) object).hasOwnProperty(NON_REACTIVE);
+    }
+
     /**
      * Return the Vue Observer for the given object.
      * The object must be reactive (visible in a Vue Component) otherwise this method
@@ -97,6 +130,96 @@ public class VueGWTObserverManager
         return (VueObserver) ((JsPropertyMap) object).get("__ob__");
     }
 
+    /**
+     * Run the given code in a batch.
+     * Changes to observed Java Collections and Maps made during the batch notify Vue once, at
+     * the end of the batch, instead of on each change.
+     * @param runnable The code to run
+     */
+    public void runBatched(Runnable runnable)
+    {
+        beginBatch();
+        try
+        {
+            runnable.run();
+        }
+        finally
+        {
+            endBatch();
+        }
+    }
+
+    /**
+     * Start a batch, changes to observed Java Collections and Maps will notify Vue when
+     * {@link #endBatch()} is called.
+     * Batches can be nested, Vue is then notified at the end of the outer batch.
+     */
+    public void beginBatch()
+    {
+        if (batchDepth == 0)
+            batchedChanges = new JsMap<>();
+
+        batchDepth++;
+    }
+
+    /**
+     * End a batch started with {@link #beginBatch()}.
+     * The values added during the batch are observed, and each changed object notifies its Vue
+     * observer once.
+     */
+    public void endBatch()
+    {
+        if (batchDepth == 0)
+            throw new IllegalStateException("endBatch() called without beginBatch()");
+
+        batchDepth--;
+        if (batchDepth > 0)
+            return;
+
+        JsMap<VueObserver, JsArray<Object>> changes = batchedChanges;
+        batchedChanges = null;
+        changes.forEach((addedValues, observer, map) -> {
+            if (addedValues.length > 0)
+                observer.observeArray(addedValues);
+            observer.notifyDep();
+            return null;
+        });
+    }
+
+    /**
+     * Notify the Vue observer of a Java object that it changed, and observe the values added to
+     * it.
+     * During a batch, this is delayed until the end of the batch.
+     * @param observer The Vue observer of the object that changed
+     * @param addedValues The values added to the object, null if there are none
+     */
+    public void notifyChange(VueObserver observer, Object[] addedValues)
+    {
+        if (batchDepth == 0)
+        {
+            observer.notifyDep();
+            if (addedValues != null)
+                observer.observeArray(addedValues);
+            return;
+        }
+
+        // Values can be rendered before the end of the batch
+        observer.invalidateVForView();
+
+        JsArray<Object> batchedValues = batchedChanges.get(observer);
+        if (batchedValues == null)
+        {
+            batchedValues = new JsArray<>();
+            batchedChanges.set(observer, batchedValues);
+        }
+
+        if (addedValues != null)
+        {
+            for (Object addedValue : addedValues)
+                batchedValues.push(addedValue);
+        }
+    }
+
     /**
      * Observe the given Object using Vue.js observer.
      * Will call {@link VueGWTObserverManager#observeJavaObject} to check if we have to make
@@ -175,37 +298,52 @@ public class VueGWTObserverManager
      * To fix the issue, we manually look for those properties and set them explicitly on the
      * object.
      * @param object The Java object to observe
-     * @param className The Java class name to observe
      */
-    private void makeStaticallyInitializedPropertiesReactive(JsObject object, String className)
+    private void makeStaticallyInitializedPropertiesReactive(JsObject object)
     {
-        Map<String, Object> cache = classesPropertyCaches.get(className);
-        if (cache == null)
-        {
-            cache = initClassPropertiesCache(object, className);
-        }
+        StaticPropertiesDescriptor descriptor = getStaticPropertiesDescriptor(object.__proto__);
 
         JsPropertyMap<Object> javaObjectPropertyMap = ((JsPropertyMap<Object>) object);
-        cache.forEach((key, value) -> {
-            if (!object.hasOwnProperty(key))
-                javaObjectPropertyMap.set(key, value);
-        });
+        for (int i = 0; i < descriptor.names.length; i++)
+        {
+            String name = descriptor.names[i];
+            if (!object.hasOwnProperty(name))
+                javaObjectPropertyMap.set(name, descriptor.values[i]);
+        }
     }
 
-    private Map<String, Object> initClassPropertiesCache(JsObject object, String className)
+    /**
+     * Return the statically initialized properties of the objects with the given prototype.
+     * They are computed once and stored on the prototype, so observing an object doesn't need
+     * to get its class name or to scan its prototype.
+     * @param prototype The prototype of the Java object to observe
+     * @return The descriptor of its statically initialized properties
+     */
+    private StaticPropertiesDescriptor getStaticPropertiesDescriptor(JsObject prototype)
     {
-        final Map<String, Object> tmpCache = new HashMap<>();
-        classesPropertyCaches.put(className, tmpCache);
+        // Own property, as subclasses can define more properties
+        if (prototype.hasOwnProperty(STATIC_PROPERTIES))
+            return (StaticPropertiesDescriptor) ((JsPropertyMap) prototype).get(STATIC_PROPERTIES);
 
-        JsPropertyMap prototype = (JsPropertyMap) object.__proto__;
-        prototype.forEach(property -> {
-            Object value = prototype.get(property);
+        List<String> names = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        JsPropertyMap<Object> prototypeMap = (JsPropertyMap<Object>) prototype;
+        prototypeMap.forEach(property -> {
+            Object value = prototypeMap.get(property);
             if (isDefaultValue(value))
             {
-                tmpCache.put(property, value);
+                names.add(property);
+                values.add(value);
             }
         });
-        return tmpCache;
+
+        StaticPropertiesDescriptor descriptor =
+            new StaticPropertiesDescriptor(names.toArray(new String[0]), values.toArray());
+        // Not enumerable, so it's not seen as a statically initialized property itself
+        JsObject.defineProperty(prototype,
+            STATIC_PROPERTIES,
+            JsPropertyMap.of("value", descriptor));
+        return descriptor;
     }
 
     private boolean isDefaultValue(Object value)
@@ -214,6 +352,21 @@ public class VueGWTObserverManager
                                                      && !"object".equals(Js.typeof(value)));
     }
 
+    /**
+     * Names and default values of the statically initialized properties of a Java class.
+     */
+    private static class StaticPropertiesDescriptor
+    {
+        private final String[] names;
+        private final Object[] values;
+
+        private StaticPropertiesDescriptor(String[] names, Object[] values)
+        {
+            this.names = names;
+            this.values = values;
+        }
+    }
+
     private static class CaptureComponentDefinition
     {
         @JsMethod
@@ -7,6 +7,8 @@ import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
 
+import java.util.function.Supplier;
+
 /**
  * @author Adrien Baron
  */
@@ -16,6 +18,10 @@ public class VueObserver
     @JsProperty
     private Dep dep;
 
+    /** Values of the observed Java Collection or Map, kept for v-for until it changes */
+    @JsProperty(name = "vg$vForView")
+    private JsArray<?> vForView;
+
     public native <T> void observeArray(JsArray<T> array);
     public native void observeArray(Object[] array);
 
@@ -26,9 +32,31 @@ public class VueObserver
 
     @JsOverlay
     public final void notifyDep() {
+        invalidateVForView();
         this.dep.notifySelf();
     }
 
+    /**
+     * Return the values of the observed object to use in v-for.
+     * They are kept until the object notifies a change, so v-for on unchanged Collections don't
+     * copy their values on each render.
+     * @param viewSupplier Copy the values of the object, called if they changed
+     * @param <T> The type of the values
+     * @return The values of the object
+     */
+    @JsOverlay
+    public final <T> JsArray<T> getVForView(Supplier<JsArray<T>> viewSupplier) {
+        if (this.vForView == null)
+            this.vForView = viewSupplier.get();
+
+        return (JsArray<T>) this.vForView;
+    }
+
+    @JsOverlay
+    public final void invalidateVForView() {
+        this.vForView = null;
+    }
+
     private class Dep {
         @JsMethod(name = "notify")
         public native void notifySelf();
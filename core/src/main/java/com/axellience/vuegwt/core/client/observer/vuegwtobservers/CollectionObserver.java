@@ -1,8 +1,6 @@
 package com.axellience.vuegwt.core.client.observer.vuegwtobservers;
 
-import com.axellience.vuegwt.core.client.observer.VueGWTObserver;
 import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
-import com.axellience.vuegwt.core.client.observer.VueObserver;
 import com.axellience.vuegwt.core.client.tools.AfterMethodCall;
 import com.axellience.vuegwt.core.client.tools.JsUtils;
 
@@ -10,8 +8,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
-import static com.axellience.vuegwt.core.client.tools.VueGWTTools.wrapMethod;
-
 /**
  * This observer is able to observe Java Collections.
  * For now it only support List and Set.
@@ -20,80 +16,82 @@ import static com.axellience.vuegwt.core.client.tools.VueGWTTools.wrapMethod;
  * when they are called.
  * @author Adrien Baron
  */
-public class CollectionObserver extends VueGWTObserver
+public class CollectionObserver extends MethodWrappingObserver
 {
+    private static final AfterMethodCall<Collection<?>> NOTIFY =
+        (object, methodName, result, args) -> notifyChange(object, null);
+    private static final AfterMethodCall<Collection<?>> NOTIFY_ADD =
+        (object, methodName, result, args) -> notifyChange(object, args);
+    private static final AfterMethodCall<Collection<?>> NOTIFY_ADD_ALL =
+        (object, methodName, result, args) -> notifyChange(object,
+            ((Collection<?>) args[0]).toArray());
+    private static final AfterMethodCall<Collection<?>> NOTIFY_ADD_AT_INDEX =
+        (object, methodName, result, args) -> notifyChange(object, new Object[] { args[1] });
+    private static final AfterMethodCall<Collection<?>> NOTIFY_ADD_ALL_AT_INDEX =
+        (object, methodName, result, args) -> notifyChange(object,
+            ((Collection<?>) args[1]).toArray());
+
+    public CollectionObserver()
+    {
+        this(false);
+    }
+
+    /**
+     * @param wrapPrototypes If true, the methods are wrapped once on the prototype of each
+     * Collection class instead of on each observed Collection
+     */
+    public CollectionObserver(boolean wrapPrototypes)
+    {
+        super(wrapPrototypes);
+    }
+
     @Override
     public boolean observe(Object object)
     {
         if (object instanceof List)
         {
-            observeList((List) object);
+            observeList((List<?>) object);
             return true;
         }
 
         if (object instanceof Set)
         {
-            observeSet((Set) object);
+            observeSet((Set<?>) object);
             return true;
         }
 
         return false;
     }
 
-    private void observeList(List list)
+    private void observeList(List<?> list)
     {
-        VueObserver observer = VueGWTObserverManager.get().getVueObserver(list);
-        observer.observeArray(JsUtils.arrayFrom(list));
+        VueGWTObserverManager.get().getVueObserver(list).observeArray(JsUtils.arrayFrom(list));
+        if (!shouldWrapMethods(list))
+            return;
 
-        AfterMethodCall<List> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
-
-        wrapMethod(list, "clear", callObserver);
-        wrapMethod(list, "remove", callObserver);
-        wrapMethod(list, "removeAtIndex", callObserver);
-        wrapMethod(list, "removeAll", callObserver);
-        wrapMethod(list, "retainAll", callObserver);
-        wrapMethod(list, "add", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(args);
-        }));
-        wrapMethod(list, "addAll", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(JsUtils.arrayFrom((Collection<?>) args[0]));
-        }));
-        wrapMethod(list, "addAtIndex", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { args[1] });
-        }));
-        wrapMethod(list, "addAllAtIndex", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(JsUtils.arrayFrom((Collection<?>) args[1]));
-        }));
-        wrapMethod(list, "setAtIndex", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { args[1] });
-        }));
+        wrap(list, "clear", NOTIFY);
+        wrap(list, "remove", NOTIFY);
+        wrap(list, "removeAtIndex", NOTIFY);
+        wrap(list, "removeAll", NOTIFY);
+        wrap(list, "retainAll", NOTIFY);
+        wrap(list, "add", NOTIFY_ADD);
+        wrap(list, "addAll", NOTIFY_ADD_ALL);
+        wrap(list, "addAtIndex", NOTIFY_ADD_AT_INDEX);
+        wrap(list, "addAllAtIndex", NOTIFY_ADD_ALL_AT_INDEX);
+        wrap(list, "setAtIndex", NOTIFY_ADD_AT_INDEX);
     }
 
-    private void observeSet(Set set)
+    private void observeSet(Set<?> set)
     {
-        VueObserver observer = VueGWTObserverManager.get().getVueObserver(set);
-        observer.observeArray(JsUtils.arrayFrom(set));
-
-        AfterMethodCall<Set> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
+        VueGWTObserverManager.get().getVueObserver(set).observeArray(JsUtils.arrayFrom(set));
+        if (!shouldWrapMethods(set))
+            return;
 
-        wrapMethod(set, "clear", callObserver);
-        wrapMethod(set, "remove", callObserver);
-        wrapMethod(set, "removeAll", callObserver);
-        wrapMethod(set, "retainAll", callObserver);
-        wrapMethod(set, "add", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(args);
-        }));
-        wrapMethod(set, "addAll", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(JsUtils.arrayFrom((Collection<?>) args[0]));
-        }));
+        wrap(set, "clear", NOTIFY);
+        wrap(set, "remove", NOTIFY);
+        wrap(set, "removeAll", NOTIFY);
+        wrap(set, "retainAll", NOTIFY);
+        wrap(set, "add", NOTIFY_ADD);
+        wrap(set, "addAll", NOTIFY_ADD_ALL);
     }
 }
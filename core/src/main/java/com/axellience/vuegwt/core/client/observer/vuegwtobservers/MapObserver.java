@@ -1,15 +1,11 @@
 package com.axellience.vuegwt.core.client.observer.vuegwtobservers;
 
-import com.axellience.vuegwt.core.client.observer.VueGWTObserver;
 import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
-import com.axellience.vuegwt.core.client.observer.VueObserver;
 import com.axellience.vuegwt.core.client.tools.AfterMethodCall;
 import com.axellience.vuegwt.core.client.tools.JsUtils;
 
 import java.util.Map;
 
-import static com.axellience.vuegwt.core.client.tools.VueGWTTools.wrapMethod;
-
 /**
  * This observer is able to observe Java Collections.
  * For now it only support List and Set.
@@ -18,47 +14,55 @@ import static com.axellience.vuegwt.core.client.tools.VueGWTTools.wrapMethod;
  * when they are called.
  * @author Adrien Baron
  */
-public class MapObserver extends VueGWTObserver
+public class MapObserver extends MethodWrappingObserver
 {
+    private static final AfterMethodCall<Map<?, ?>> NOTIFY =
+        (object, methodName, result, args) -> notifyChange(object, null);
+    private static final AfterMethodCall<Map<?, ?>> NOTIFY_PUT =
+        (object, methodName, result, args) -> notifyChange(object, new Object[] { args[1] });
+    private static final AfterMethodCall<Map<?, ?>> NOTIFY_PUT_ALL =
+        (object, methodName, result, args) -> notifyChange(object,
+            ((Map<?, ?>) args[0]).values().toArray());
+
+    public MapObserver()
+    {
+        this(false);
+    }
+
+    /**
+     * @param wrapPrototypes If true, the methods are wrapped once on the prototype of each Map
+     * class instead of on each observed Map
+     */
+    public MapObserver(boolean wrapPrototypes)
+    {
+        super(wrapPrototypes);
+    }
+
     @Override
     public boolean observe(Object object)
     {
         if (object instanceof Map)
         {
-            observeMap((Map) object);
+            observeMap((Map<?, ?>) object);
             return true;
         }
 
         return false;
     }
 
-    private void observeMap(Map map)
+    private void observeMap(Map<?, ?> map)
     {
-        VueObserver observer = VueGWTObserverManager.get().getVueObserver(map);
-        observer.observeArray(JsUtils.arrayFrom(map));
-
-        AfterMethodCall<Map> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
+        VueGWTObserverManager.get().getVueObserver(map).observeArray(JsUtils.arrayFrom(map));
+        if (!shouldWrapMethods(map))
+            return;
 
-        wrapMethod(map, "clear", callObserver);
-        wrapMethod(map, "remove", callObserver);
+        wrap(map, "clear", NOTIFY);
+        wrap(map, "remove", NOTIFY);
 
-        wrapMethod(map, "put", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { args[1] });
-        }));
-        wrapMethod(map, "putIfAbsent", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { args[1] });
-        }));
-        wrapMethod(map, "putAll", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(JsUtils.arrayFrom(((Map<?, ?>) args[0])));
-        }));
+        wrap(map, "put", NOTIFY_PUT);
+        wrap(map, "putIfAbsent", NOTIFY_PUT);
+        wrap(map, "putAll", NOTIFY_PUT_ALL);
 
-        wrapMethod(map, "replace", ((object, methodName, result, args) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { args[1] });
-        }));
+        wrap(map, "replace", NOTIFY_PUT);
     }
 }
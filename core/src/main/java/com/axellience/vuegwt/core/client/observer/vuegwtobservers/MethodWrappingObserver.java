@@ -0,0 +1,81 @@
+package com.axellience.vuegwt.core.client.observer.vuegwtobservers;
+
+import com.axellience.vuegwt.core.client.observer.VueGWTObserver;
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.core.client.observer.VueObserver;
+import com.axellience.vuegwt.core.client.tools.AfterMethodCall;
+import elemental2.core.JsObject;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static com.axellience.vuegwt.core.client.tools.VueGWTTools.wrapMethod;
+import static com.axellience.vuegwt.core.client.tools.VueGWTTools.wrapPrototypeMethod;
+
+/**
+ * Observe Java objects by wrapping their mutable methods, to call the Vue observer when they are
+ * called.
+ * Methods are either wrapped on each observed object, or once on the prototype of their class. In
+ * that case, they only notify the objects that are observed, and other objects of the same class
+ * don't pay anything per instance.
+ */
+abstract class MethodWrappingObserver extends VueGWTObserver
+{
+    private static final String OBSERVED_PROTOTYPE = "vg$observed";
+
+    private final boolean wrapPrototypes;
+
+    MethodWrappingObserver(boolean wrapPrototypes)
+    {
+        this.wrapPrototypes = wrapPrototypes;
+    }
+
+    /**
+     * Check if the methods of the given object must be wrapped.
+     * When wrapping prototypes, this is only the case for the first object of each class.
+     * @param object The object to observe
+     * @return true if its methods must be wrapped with {@link #wrap(Object, String,
+     * AfterMethodCall)}
+     */
+    protected boolean shouldWrapMethods(Object object)
+    {
+        if (!wrapPrototypes)
+            return true;
+
+        JsObject prototype = ((JsObject) object).__proto__;
+        if (prototype.hasOwnProperty(OBSERVED_PROTOTYPE))
+            return false;
+
+        // Not enumerable, so it's not seen as a property of the objects of this class
+        JsObject.defineProperty(prototype, OBSERVED_PROTOTYPE, JsPropertyMap.of("value", true));
+        return true;
+    }
+
+    protected <T> void wrap(T object, String methodName, AfterMethodCall<T> afterMethodCall)
+    {
+        if (wrapPrototypes)
+        {
+            wrapPrototypeMethod(Js.asPropertyMap(((JsObject) object).__proto__),
+                methodName,
+                afterMethodCall);
+        }
+        else
+        {
+            wrapMethod(object, methodName, afterMethodCall);
+        }
+    }
+
+    /**
+     * Notify the Vue observer of the given object, if it's observed, and observe the values added
+     * to it.
+     * See {@link VueGWTObserverManager#notifyChange(VueObserver, Object[])}.
+     * @param object The object that changed
+     * @param addedValues The values added to the object, null if there are none
+     */
+    protected static void notifyChange(Object object, Object[] addedValues)
+    {
+        VueGWTObserverManager observerManager = VueGWTObserverManager.get();
+        VueObserver observer = observerManager.getVueObserver(object);
+        if (observer != null)
+            observerManager.notifyChange(observer, addedValues);
+    }
+}
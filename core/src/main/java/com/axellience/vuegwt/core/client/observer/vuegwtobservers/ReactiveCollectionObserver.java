@@ -0,0 +1,30 @@
+package com.axellience.vuegwt.core.client.observer.vuegwtobservers;
+
+import com.axellience.vuegwt.core.client.collections.JsArrayBacked;
+import com.axellience.vuegwt.core.client.collections.ReactiveList;
+import com.axellience.vuegwt.core.client.collections.ReactiveMap;
+import com.axellience.vuegwt.core.client.collections.ReactiveSet;
+import com.axellience.vuegwt.core.client.observer.VueGWTObserver;
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+
+/**
+ * This observer observes the reactive collections, like {@link ReactiveList}, {@link
+ * ReactiveSet} and {@link ReactiveMap}.
+ * They notify Vue themselves when they change, so their methods are not wrapped, and their
+ * internal fields are not made reactive.
+ */
+public class ReactiveCollectionObserver extends VueGWTObserver
+{
+    @Override
+    public boolean observe(Object object)
+    {
+        if (!(object instanceof JsArrayBacked))
+            return false;
+
+        VueGWTObserverManager
+            .get()
+            .getVueObserver(object)
+            .observeArray(((JsArrayBacked<?>) object).asJsArray());
+        return true;
+    }
+}
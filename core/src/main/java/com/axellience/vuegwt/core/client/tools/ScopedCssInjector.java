@@ -0,0 +1,60 @@
+package com.axellience.vuegwt.core.client.tools;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLStyleElement;
+
+/**
+ * Inject the scoped CSS of Components in the page.
+ * Each injected style element triggers a style recalculation, so CSS of Components created
+ * during the same frame can be batched in a single style element.
+ */
+public class ScopedCssInjector
+{
+    private static final StringBuilder pendingCss = new StringBuilder();
+    private static boolean isFlushScheduled = false;
+
+    /**
+     * Inject the given CSS immediately, in its own style element.
+     * @param css The CSS to inject
+     */
+    public static void inject(String css)
+    {
+        if (css == null || css.isEmpty())
+            return;
+
+        HTMLStyleElement styleElement =
+            (HTMLStyleElement) DomGlobal.document.createElement("style");
+        styleElement.type = "text/css";
+        styleElement.textContent = css;
+        DomGlobal.document.head.appendChild(styleElement);
+    }
+
+    /**
+     * Inject the given CSS before the next frame, with the CSS of all the other Components
+     * injected until then.
+     * @param css The CSS to inject
+     */
+    public static void injectBatched(String css)
+    {
+        if (css == null || css.isEmpty())
+            return;
+
+        pendingCss.append(css);
+        if (isFlushScheduled)
+            return;
+
+        isFlushScheduled = true;
+        DomGlobal.requestAnimationFrame(timestamp -> flush());
+    }
+
+    /**
+     * Inject the pending CSS now, instead of waiting for the next frame.
+     */
+    public static void flush()
+    {
+        isFlushScheduled = false;
+        String css = pendingCss.toString();
+        pendingCss.setLength(0);
+        inject(css);
+    }
+}
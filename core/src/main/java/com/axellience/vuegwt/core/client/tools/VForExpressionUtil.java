@@ -1,5 +1,7 @@
 package com.axellience.vuegwt.core.client.tools;
 
+import com.axellience.vuegwt.core.client.collections.JsArrayBacked;
+import com.axellience.vuegwt.core.client.observer.VueObserver;
 import elemental2.core.JsArray;
 import jsinterop.base.Any;
 import jsinterop.base.Js;
@@ -9,14 +11,56 @@ import java.util.Map;
 
 public class VForExpressionUtil
 {
+    private static final boolean CACHED_VIEWS =
+        "cached".equals(System.getProperty("vuegwt.vForView", "copy"));
+
+    /**
+     * Return the values of a Collection for v-for.
+     * The values of {@link JsArrayBacked} Collections are not copied. With cached views, the values
+     * of observed Collections are only copied again after they notify a change.
+     * @param collection The Collection to iterate on
+     * @param <T> The type of the values
+     * @return The values as a JsArray
+     */
     public static <T> Any vForExpressionFromJava(Collection<T> collection)
     {
-        return Js.asAny(JsUtils.arrayFrom(collection));
+        if (collection instanceof JsArrayBacked)
+            return Js.asAny(((JsArrayBacked<T>) collection).asJsArray());
+
+        VueObserver observer = CACHED_VIEWS ? getVueObserver(collection) : null;
+        if (observer == null)
+            return Js.asAny(JsUtils.arrayFrom(collection));
+
+        return Js.asAny(observer.getVForView(() -> JsUtils.arrayFrom(collection)));
     }
 
+    /**
+     * Return the values of a Map for v-for.
+     * The values of {@link JsArrayBacked} Maps are not copied. With cached views, the values
+     * of observed Maps are only copied again after they notify a change.
+     * @param collection The Map to iterate on
+     * @param <K> The type of the keys
+     * @param <V> The type of the values
+     * @return The values as a JsArray
+     */
     public static <K, V> Any vForExpressionFromJava(Map<K, V> collection)
     {
-        return Js.asAny(JsUtils.arrayFrom(collection));
+        if (collection instanceof JsArrayBacked)
+            return Js.asAny(((JsArrayBacked<V>) collection).asJsArray());
+
+        VueObserver observer = CACHED_VIEWS ? getVueObserver(collection) : null;
+        if (observer == null)
+            return Js.asAny(JsUtils.arrayFrom(collection));
+
+        return Js.asAny(observer.getVForView(() -> JsUtils.arrayFrom(collection)));
+    }
+
+    private static VueObserver getVueObserver(Object object)
+    {
+        if (object == null)
+            return null;
+
+        return (VueObserver) Js.asPropertyMap(object).get("__ob__");
     }
 
     public static <T> Any vForExpressionFromJava(JsArray<T> collection)
@@ -5,6 +5,7 @@ import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
 import elemental2.core.Function;
 import elemental2.core.JsObject;
 import jsinterop.annotations.JsFunction;
+import jsinterop.base.Js;
 import jsinterop.base.JsPropertyMap;
 
 /**
@@ -13,6 +14,9 @@ import jsinterop.base.JsPropertyMap;
  */
 public class VueGWTTools
 {
+    // Also set by createPrototypeWrapper
+    private static final String WRAPPED_METHOD = "vg$wrapped";
+
     /**
      * Copy a Java class prototype to a VueComponent declaration. This allows
      * VueComponent created by Vue to pass as an instance of the {@link IsVueComponent}
@@ -60,6 +64,48 @@ public class VueGWTTools
         ((JsPropertyMap) object).set(methodName, wrappingFunction);
     }
 
+    /**
+     * Proxy a method on a prototype, to be warned when it's called on any object sharing this
+     * prototype. Unlike {@link #wrapMethod(Object, String, AfterMethodCall)}, this doesn't
+     * cost anything per object. Methods already wrapped on a parent prototype are not wrapped
+     * again.
+     * @param prototype The prototype to proxy the method on
+     * @param methodName The name of the method to proxify
+     * @param afterMethodCall A callback called each time after the method has been executed,
+     * with the object the method was called on
+     * @param <T> Type of the objects the we Proxy
+     */
+    public static <T> void wrapPrototypeMethod(JsPropertyMap<Object> prototype,
+        String methodName, AfterMethodCall<T> afterMethodCall)
+    {
+        Function method = (Function) prototype.get(methodName);
+        if (method == null || Js.asPropertyMap(method).has(WRAPPED_METHOD))
+            return;
+
+        prototype.set(methodName, createPrototypeWrapper(method, methodName, afterMethodCall));
+    }
+
+    /**
+     * Create the wrapper of a prototype method.
+     * It's written in JSNI as it needs the object it's called on, which a JsFunction can't get.
+     * @param method The method to wrap
+     * @param methodName The name of the method
+     * @param afterMethodCall The callback to call after the method
+     * @param <T> Type of the objects the we Proxy
+     * @return The wrapper, marked as wrapped
+     */
+    private static native <T> Function createPrototypeWrapper(Function method, String methodName,
+        AfterMethodCall<T> afterMethodCall)
+    /*-{
+        var wrapper = function() {
+            var result = method.apply(this, arguments);
+            afterMethodCall(this, methodName, result, Array.prototype.slice.call(arguments));
+            return result;
+        };
+        wrapper.vg$wrapped = true;
+        return wrapper;
+    }-*/;
+
     @FunctionalInterface
     @JsFunction
     private interface WrappingFunction
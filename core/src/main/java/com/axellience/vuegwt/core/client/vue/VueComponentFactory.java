@@ -3,11 +3,9 @@ package com.axellience.vuegwt.core.client.vue;
 import com.axellience.vuegwt.core.annotations.component.Component;
 import com.axellience.vuegwt.core.annotations.component.JsComponent;
 import com.axellience.vuegwt.core.client.component.IsVueComponent;
-import elemental2.dom.HTMLStyleElement;
+import com.axellience.vuegwt.core.client.tools.ScopedCssInjector;
 import jsinterop.annotations.JsMethod;
 
-import static elemental2.dom.DomGlobal.document;
-
 /**
  * A factory to create {@link IsVueComponent}s.
  * All the {@link Component} and {@link JsComponent} get a generated {@link VueComponentFactory}.
@@ -33,12 +31,6 @@ public abstract class VueComponentFactory<T extends IsVueComponent>
 
     protected void injectComponentCss(String componentCss)
     {
-        if (componentCss == null || componentCss.isEmpty())
-            return;
-
-        HTMLStyleElement styleElement = (HTMLStyleElement) document.createElement("style");
-        styleElement.type = "text/css";
-        styleElement.textContent = componentCss;
-        document.head.appendChild(styleElement);
+        ScopedCssInjector.inject(componentCss);
     }
 }
@@ -75,7 +75,8 @@ module.exports = {
           title: 'Tooling',
           collapsable: false,
           children: [
-            'tooling/unit-testing'
+            'tooling/unit-testing',
+            'tooling/processor-options'
           ]
         },
         {
@@ -7,7 +7,12 @@ import com.axellience.vuegwt.processors.component.ComponentInjectedDependenciesB
 import com.axellience.vuegwt.processors.component.ComponentExposedTypeGenerator;
 import com.axellience.vuegwt.processors.component.factory.VueComponentFactoryGenerator;
 import com.axellience.vuegwt.processors.component.factory.VueJsComponentFactoryGenerator;
+import com.axellience.vuegwt.processors.component.model.ComponentModels;
+import com.axellience.vuegwt.processors.component.template.ComponentTemplateProcessor;
+import com.axellience.vuegwt.processors.component.template.ParallelTemplateCompiler;
 import com.axellience.vuegwt.processors.directive.VueDirectiveOptionsGenerator;
+import com.axellience.vuegwt.processors.component.template.css.ScopedCssGenerator;
+import com.axellience.vuegwt.processors.report.BuildReport;
 import com.google.auto.service.AutoService;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -15,12 +20,15 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.ElementFilter;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @AutoService(Processor.class)
 @SupportedAnnotationTypes({
@@ -28,13 +36,49 @@ import java.util.Set;
     "com.axellience.vuegwt.core.annotations.component.JsComponent",
     "com.axellience.vuegwt.core.annotations.directive.Directive"
 })
+@SupportedOptions({
+    VueGwtProcessorOptions.PARALLEL,
+    VueGwtProcessorOptions.PARALLEL_THREADS,
+    VueGwtProcessorOptions.TEMPLATE_CACHE,
+    VueGwtProcessorOptions.TEMPLATE_CACHE_DIR,
+    VueGwtProcessorOptions.TEMPLATE_COMPILER,
+    VueGwtProcessorOptions.BUILD_REPORT,
+    VueGwtProcessorOptions.JSNI_RENDER_FUNCTIONS,
+    VueGwtProcessorOptions.TEMPLATE_EXPRESSION_LOWERING,
+    VueGwtProcessorOptions.TEMPLATE_COMPUTED_EXPRESSIONS,
+    VueGwtProcessorOptions.AUTO_V_ONCE,
+    VueGwtProcessorOptions.TEMPLATE_MINIFICATION,
+    VueGwtProcessorOptions.V_FOR_KEY_CHECK,
+    VueGwtProcessorOptions.CACHED_EVENT_HANDLERS,
+    VueGwtProcessorOptions.SCOPED_CSS_MODE,
+    VueGwtProcessorOptions.SCOPED_CSS_BUNDLE,
+    VueGwtProcessorOptions.BUDGET
+})
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 public class VueGwtProcessor extends AbstractProcessor
 {
+    private VueGwtProcessorOptions options;
+    private ComponentTemplateProcessor componentTemplateProcessor;
+    /** Timings and sizes of the processed Components, null if the report is disabled */
+    private BuildReport buildReport;
+    /** Kept between rounds, as bundled scoped CSS is written once all Components are processed */
+    private ScopedCssGenerator scopedCssGenerator;
+
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv)
     {
         super.init(processingEnv);
+        options = new VueGwtProcessorOptions(processingEnv);
+        // Budgets are checked on the report, even if it's not written
+        Map<String, Double> budgets = options.getBudgets();
+        if (options.getBuildReportFormat().isPresent() || !budgets.isEmpty())
+            buildReport = new BuildReport(options.getBuildReportFormat().orElse(null), budgets);
+        scopedCssGenerator = new ScopedCssGenerator(processingEnv, options);
+        // Kept between rounds to reuse the template compiler
+        componentTemplateProcessor = new ComponentTemplateProcessor(processingEnv,
+            options,
+            buildReport,
+            scopedCssGenerator);
     }
 
     @Override
@@ -42,8 +86,14 @@ public class VueGwtProcessor extends AbstractProcessor
     {
         this.processDirectiveAnnotations(roundEnv);
         this.processComponentAnnotations(roundEnv);
+        scopedCssGenerator.writeIfComplete(!roundEnv
+            .getElementsAnnotatedWith(Component.class)
+            .isEmpty());
         this.processJsComponentAnnotations(roundEnv);
 
+        if (buildReport != null && roundEnv.processingOver())
+            buildReport.write(processingEnv.getFiler(), processingEnv.getMessager());
+
         // claim the annotation
         return true;
     }
@@ -66,18 +116,57 @@ public class VueGwtProcessor extends AbstractProcessor
         Set<? extends Element> componentElements =
             roundEnv.getElementsAnnotatedWith(Component.class);
 
+        Set<TypeElement> componentTypes = ElementFilter.typesIn(componentElements);
+
+        // Each class is scanned once per round, and its model shared by all the generators
+        ComponentModels componentModels = new ComponentModels(processingEnv);
         ComponentExposedTypeGenerator componentExposedTypeGenerator =
-            new ComponentExposedTypeGenerator(processingEnv);
+            new ComponentExposedTypeGenerator(processingEnv,
+                componentTemplateProcessor,
+                componentModels,
+                buildReport);
         VueComponentFactoryGenerator vueFactoryGenerator =
-            new VueComponentFactoryGenerator(processingEnv);
+            new VueComponentFactoryGenerator(processingEnv, componentModels, scopedCssGenerator);
+
+        // Templates are parsed and compiled in the background,
+        // generation and writing of the files stays on this thread
+        ParallelTemplateCompiler parallelTemplateCompiler = null;
+        if (options.isParallel() && componentTypes.size() > 1)
+        {
+            parallelTemplateCompiler =
+                new ParallelTemplateCompiler(options.getParallelThreads(),
+                    options.getTemplateCompilerEngine());
+            componentTemplateProcessor.compileTemplatesInParallel(componentTypes
+                .stream()
+                .map(componentModels::get)
+                .collect(Collectors.toList()), parallelTemplateCompiler);
+        }
 
-        for (TypeElement componentType : ElementFilter.typesIn(componentElements))
+        try
+        {
+            for (TypeElement componentType : componentTypes)
+            {
+                long generationStart = System.nanoTime();
+                ComponentInjectedDependenciesBuilder dependenciesBuilder =
+                    new ComponentInjectedDependenciesBuilder(processingEnv,
+                        componentModels.get(componentType));
+                vueFactoryGenerator.generate(componentType,
+                    dependenciesBuilder.hasInjectedDependencies());
+                componentExposedTypeGenerator.generate(componentType, dependenciesBuilder);
+
+                if (buildReport != null)
+                {
+                    buildReport
+                        .getComponentReport(componentType)
+                        .setGenerationTime(System.nanoTime() - generationStart);
+                    buildReport.checkBudgets(componentType, processingEnv.getMessager());
+                }
+            }
+        }
+        finally
         {
-            ComponentInjectedDependenciesBuilder dependenciesBuilder =
-                new ComponentInjectedDependenciesBuilder(processingEnv, componentType);
-            vueFactoryGenerator.generate(componentType,
-                dependenciesBuilder.hasInjectedDependencies());
-            componentExposedTypeGenerator.generate(componentType, dependenciesBuilder);
+            if (parallelTemplateCompiler != null)
+                parallelTemplateCompiler.shutdown();
         }
     }
 
@@ -0,0 +1,434 @@
+package com.axellience.vuegwt.processors;
+
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerEngine;
+import com.axellience.vuegwt.processors.component.template.css.ScopedCssMode;
+import com.axellience.vuegwt.processors.component.template.minifier.TemplateMinification;
+import com.axellience.vuegwt.processors.component.template.parser.VForKeyCheck;
+import com.axellience.vuegwt.processors.report.BuildReport;
+import com.axellience.vuegwt.processors.report.BuildReportFormat;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.Diagnostic.Kind;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Options of the {@link VueGwtProcessor}.
+ * They are passed to javac using -A, for example: -Avuegwt.parallel=true
+ */
+public class VueGwtProcessorOptions
+{
+    /**
+     * Parse and compile component templates on a pool of worker threads.
+     */
+    public static final String PARALLEL = "vuegwt.parallel";
+    /**
+     * Number of worker threads used when {@link #PARALLEL} is enabled.
+     * Defaults to the number of available processors.
+     */
+    public static final String PARALLEL_THREADS = "vuegwt.parallelThreads";
+    /**
+     * Cache the compiled render functions of templates on disk between builds.
+     */
+    public static final String TEMPLATE_CACHE = "vuegwt.templateCache";
+    /**
+     * Directory used by {@link #TEMPLATE_CACHE}.
+     * Defaults to a "vue-gwt-template-cache" directory next to the class output directory.
+     */
+    public static final String TEMPLATE_CACHE_DIR = "vuegwt.templateCacheDir";
+    /**
+     * Engine used to compile templates, "java" (default) or "nashorn".
+     */
+    public static final String TEMPLATE_COMPILER = "vuegwt.templateCompiler";
+    /**
+     * Write a report of the time spent on and code generated for each Component, "json"
+     * (default) or "csv".
+     */
+    public static final String BUILD_REPORT = "vuegwt.buildReport";
+    /**
+     * Emit render functions as JSNI methods instead of creating them at runtime from strings.
+     */
+    public static final String JSNI_RENDER_FUNCTIONS = "vuegwt.jsniRenderFunctions";
+
+    /**
+     * Translate simple template expressions to JS in the render function, instead of calling a
+     * generated Java method. On by default.
+     */
+    public static final String TEMPLATE_EXPRESSION_LOWERING =
+        "vuegwt.templateExpressionLowering";
+
+    /**
+     * Generate template expressions without parameters as computed properties.
+     * Off by default.
+     */
+    public static final String TEMPLATE_COMPUTED_EXPRESSIONS =
+        "vuegwt.templateComputedExpressions";
+
+    /**
+     * Add v-once on the elements of templates that only use constants.
+     */
+    public static final String AUTO_V_ONCE = "vuegwt.autoVOnce";
+
+    /**
+     * Minification of templates before they are compiled: "none", "safe" or "aggressive".
+     */
+    public static final String TEMPLATE_MINIFICATION = "vuegwt.templateMinification";
+
+    /**
+     * What to report for v-for on Components without key: "none" (default), "warning" or
+     * "error".
+     */
+    public static final String V_FOR_KEY_CHECK = "vuegwt.vForKeyCheck";
+
+    /**
+     * Bind v-on handlers calling a method without parameters to the method directly, so they
+     * are not recreated on each render.
+     */
+    public static final String CACHED_EVENT_HANDLERS = "vuegwt.cachedEventHandlers";
+
+    /**
+     * How the scoped CSS of Components is added to the page: "lazy" (default), "batched",
+     * "bundled" or "linked".
+     */
+    public static final String SCOPED_CSS_MODE = "vuegwt.scopedCssMode";
+
+    /**
+     * Fully qualified name of the class generated with the scoped CSS of all the Components, when
+     * {@link #SCOPED_CSS_MODE} is "bundled".
+     */
+    public static final String SCOPED_CSS_BUNDLE = "vuegwt.scopedCssBundle";
+
+    /**
+     * Maximum values of the build report metrics for each Component, as comma separated
+     * metric=max pairs, for example: renderFunctionSize=20000,expressionCount=200
+     * Times are only reported, they can't have a budget.
+     */
+    public static final String BUDGET = "vuegwt.budget";
+
+    private final Map<String, String> options;
+    private final Messager messager;
+
+    public VueGwtProcessorOptions(ProcessingEnvironment processingEnvironment)
+    {
+        this.options = processingEnvironment.getOptions();
+        this.messager = processingEnvironment.getMessager();
+    }
+
+    /**
+     * Should templates be processed in parallel.
+     * @return true if templates should be parsed and compiled on worker threads
+     */
+    public boolean isParallel()
+    {
+        return getBoolean(PARALLEL, false);
+    }
+
+    /**
+     * Number of threads to use to process templates in parallel.
+     * @return The number of worker threads, at least 1
+     */
+    public int getParallelThreads()
+    {
+        return Math.max(1, getInt(PARALLEL_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Should compiled templates be cached on disk.
+     * @return true if the template cache is enabled
+     */
+    public boolean isTemplateCache()
+    {
+        return getBoolean(TEMPLATE_CACHE, false);
+    }
+
+    /**
+     * Directory where compiled templates are cached, if set.
+     * @return The directory, or empty to use the default one
+     */
+    public Optional<String> getTemplateCacheDir()
+    {
+        return Optional
+            .ofNullable(options.get(TEMPLATE_CACHE_DIR))
+            .map(String::trim)
+            .filter(dir -> !dir.isEmpty());
+    }
+
+    /**
+     * Engine to use to compile templates to render functions.
+     * @return The engine, {@link VueTemplateCompilerEngine#JAVA} by default
+     */
+    public VueTemplateCompilerEngine getTemplateCompilerEngine()
+    {
+        String value = options.get(TEMPLATE_COMPILER);
+        if (value == null || value.trim().isEmpty())
+            return VueTemplateCompilerEngine.JAVA;
+
+        try
+        {
+            return VueTemplateCompilerEngine.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException e)
+        {
+            messager.printMessage(Kind.WARNING,
+                "Invalid value \""
+                    + value
+                    + "\" for option "
+                    + TEMPLATE_COMPILER
+                    + ", expected \"java\" or \"nashorn\".");
+            return VueTemplateCompilerEngine.JAVA;
+        }
+    }
+
+    /**
+     * Format of the build report, if it's enabled.
+     * @return The format, or empty if no report should be written
+     */
+    public Optional<BuildReportFormat> getBuildReportFormat()
+    {
+        String value = options.get(BUILD_REPORT);
+        if (value == null)
+            return Optional.empty();
+
+        // Passing -Avuegwt.buildReport without value enables the JSON report
+        if (value.trim().isEmpty())
+            return Optional.of(BuildReportFormat.JSON);
+
+        try
+        {
+            return Optional.of(BuildReportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        }
+        catch (IllegalArgumentException e)
+        {
+            messager.printMessage(Kind.WARNING,
+                "Invalid value \""
+                    + value
+                    + "\" for option "
+                    + BUILD_REPORT
+                    + ", expected \"json\" or \"csv\".");
+            return Optional.of(BuildReportFormat.JSON);
+        }
+    }
+
+    /**
+     * Should render functions be emitted as JSNI methods.
+     * @return true if render functions should be compiled with the rest of the application
+     */
+    public boolean isJsniRenderFunctions()
+    {
+        return getBoolean(JSNI_RENDER_FUNCTIONS, false);
+    }
+
+    /**
+     * Should simple template expressions be translated to JS in the render function.
+     * @return true if they should be translated, the default
+     */
+    public boolean isTemplateExpressionLowering()
+    {
+        return getBoolean(TEMPLATE_EXPRESSION_LOWERING, true);
+    }
+
+    /**
+     * Should template expressions without parameters be cached in computed properties.
+     * @return true if they should be generated as computed properties
+     */
+    public boolean isTemplateComputedExpressions()
+    {
+        return getBoolean(TEMPLATE_COMPUTED_EXPRESSIONS, false);
+    }
+
+    /**
+     * Should elements only using constants be rendered once.
+     * @return true if v-once should be added on them
+     */
+    public boolean isAutoVOnce()
+    {
+        return getBoolean(AUTO_V_ONCE, false);
+    }
+
+    /**
+     * Minification applied to templates before they are compiled.
+     * @return The minification, {@link TemplateMinification#NONE} by default
+     */
+    public TemplateMinification getTemplateMinification()
+    {
+        String value = options.get(TEMPLATE_MINIFICATION);
+        if (value == null || value.trim().isEmpty())
+            return TemplateMinification.NONE;
+
+        try
+        {
+            return TemplateMinification.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException e)
+        {
+            messager.printMessage(Kind.WARNING,
+                "Invalid value \""
+                    + value
+                    + "\" for option "
+                    + TEMPLATE_MINIFICATION
+                    + ", expected \"none\", \"safe\" or \"aggressive\".");
+            return TemplateMinification.NONE;
+        }
+    }
+
+    /**
+     * Should v-on handlers calling a method without parameters be bound to the method.
+     * @return true if they should, false by default
+     */
+    public boolean isCachedEventHandlers()
+    {
+        return getBoolean(CACHED_EVENT_HANDLERS, false);
+    }
+
+    /**
+     * What to report when a v-for on a Component doesn't have a key.
+     * @return The check, {@link VForKeyCheck#NONE} by default
+     */
+    public VForKeyCheck getVForKeyCheck()
+    {
+        String value = options.get(V_FOR_KEY_CHECK);
+        if (value == null || value.trim().isEmpty())
+            return VForKeyCheck.NONE;
+
+        try
+        {
+            return VForKeyCheck.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException e)
+        {
+            messager.printMessage(Kind.WARNING,
+                "Invalid value \""
+                    + value
+                    + "\" for option "
+                    + V_FOR_KEY_CHECK
+                    + ", expected \"none\", \"warning\" or \"error\".");
+            return VForKeyCheck.NONE;
+        }
+    }
+
+    /**
+     * How the scoped CSS of Components is added to the page.
+     * @return The mode, {@link ScopedCssMode#LAZY} by default
+     */
+    public ScopedCssMode getScopedCssMode()
+    {
+        String value = options.get(SCOPED_CSS_MODE);
+        if (value == null || value.trim().isEmpty())
+            return ScopedCssMode.LAZY;
+
+        try
+        {
+            return ScopedCssMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException e)
+        {
+            messager.printMessage(Kind.WARNING,
+                "Invalid value \""
+                    + value
+                    + "\" for option "
+                    + SCOPED_CSS_MODE
+                    + ", expected \"lazy\", \"batched\", \"bundled\" or \"linked\".");
+            return ScopedCssMode.LAZY;
+        }
+    }
+
+    /**
+     * Class generated with the scoped CSS of all the Components, if set.
+     * @return The fully qualified name of the class, or empty if it's not set
+     */
+    public Optional<String> getScopedCssBundle()
+    {
+        return Optional
+            .ofNullable(options.get(SCOPED_CSS_BUNDLE))
+            .map(String::trim)
+            .filter(bundle -> !bundle.isEmpty());
+    }
+
+    /**
+     * Budgets of the Components, exceeding them fails the build.
+     * @return The maximum value of each metric of the build report, by metric name
+     */
+    public Map<String, Double> getBudgets()
+    {
+        String value = options.get(BUDGET);
+        if (value == null || value.trim().isEmpty())
+            return Collections.emptyMap();
+
+        Map<String, Double> budgets = new LinkedHashMap<>();
+        for (String budget : value.split(","))
+        {
+            String[] metricAndMax = budget.split("=");
+            String metric = metricAndMax[0].trim();
+            if (metricAndMax.length != 2 || !BuildReport.hasMetric(metric))
+            {
+                messager.printMessage(Kind.WARNING,
+                    "Invalid budget \""
+                        + budget.trim()
+                        + "\" for option "
+                        + BUDGET
+                        + ", expected metric=max with a metric of the build report.");
+                continue;
+            }
+
+            if (!BuildReport.canHaveBudget(metric))
+            {
+                messager.printMessage(Kind.WARNING,
+                    "Invalid budget \""
+                        + budget.trim()
+                        + "\" for option "
+                        + BUDGET
+                        + ", "
+                        + metric
+                        + " depends on the machine building and is only reported.");
+                continue;
+            }
+
+            try
+            {
+                budgets.put(metric, Double.parseDouble(metricAndMax[1].trim()));
+            }
+            catch (NumberFormatException e)
+            {
+                messager.printMessage(Kind.WARNING,
+                    "Invalid budget \""
+                        + budget.trim()
+                        + "\" for option "
+                        + BUDGET
+                        + ", expected a number.");
+            }
+        }
+        return budgets;
+    }
+
+    private boolean getBoolean(String name, boolean defaultValue)
+    {
+        String value = options.get(name);
+        if (value == null)
+            return defaultValue;
+
+        // Passing -Aoption without value enables it
+        return value.isEmpty() || Boolean.parseBoolean(value);
+    }
+
+    private int getInt(String name, int defaultValue)
+    {
+        String value = options.get(name);
+        if (value == null || value.isEmpty())
+            return defaultValue;
+
+        try
+        {
+            return Integer.parseInt(value.trim());
+        }
+        catch (NumberFormatException e)
+        {
+            messager.printMessage(Kind.WARNING,
+                "Invalid value \"" + value + "\" for option " + name + ", expected a number.");
+            return defaultValue;
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.axellience.vuegwt.processors.component;
 
 import com.axellience.vuegwt.core.annotations.component.Component;
-import com.axellience.vuegwt.core.annotations.component.Computed;
 import com.axellience.vuegwt.core.annotations.component.Emit;
 import com.axellience.vuegwt.core.annotations.component.HookMethod;
+import com.axellience.vuegwt.core.annotations.component.NonReactive;
 import com.axellience.vuegwt.core.annotations.component.Prop;
 import com.axellience.vuegwt.core.annotations.component.PropDefault;
 import com.axellience.vuegwt.core.annotations.component.PropValidator;
+import com.axellience.vuegwt.core.annotations.component.ShallowReactive;
 import com.axellience.vuegwt.core.annotations.component.Watch;
 import com.axellience.vuegwt.core.client.VueGWT;
 import com.axellience.vuegwt.core.client.component.ComponentExposedTypeConstructorFn;
@@ -19,8 +20,10 @@ import com.axellience.vuegwt.core.client.vnode.VNode;
 import com.axellience.vuegwt.core.client.vnode.builder.CreateElementFunction;
 import com.axellience.vuegwt.core.client.vnode.builder.VNodeBuilder;
 import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
+import com.axellience.vuegwt.processors.component.model.ComponentModel;
+import com.axellience.vuegwt.processors.component.model.ComponentModels;
 import com.axellience.vuegwt.processors.component.template.ComponentTemplateProcessor;
-import com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil;
+import com.axellience.vuegwt.processors.report.BuildReport;
 import com.axellience.vuegwt.processors.utils.GeneratorsUtil;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
@@ -40,19 +43,17 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic.Kind;
-import java.lang.annotation.Annotation;
-import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.*;
 import static com.axellience.vuegwt.processors.utils.GeneratorsNameUtil.componentExposedTypeName;
@@ -77,19 +78,37 @@ public class ComponentExposedTypeGenerator
     private final Messager messager;
     private final Elements elements;
     private final ComponentTemplateProcessor componentTemplateProcessor;
+    private final ComponentModels componentModels;
+    /** Generated code size of the processed Components, null if not reported */
+    private final BuildReport buildReport;
 
-    public ComponentExposedTypeGenerator(ProcessingEnvironment processingEnvironment)
+    /** Number of proxy methods added to the ExposedType being generated */
+    private int proxyMethodCount;
+
+    public ComponentExposedTypeGenerator(ProcessingEnvironment processingEnvironment,
+        ComponentTemplateProcessor componentTemplateProcessor, ComponentModels componentModels)
+    {
+        this(processingEnvironment, componentTemplateProcessor, componentModels, null);
+    }
+
+    public ComponentExposedTypeGenerator(ProcessingEnvironment processingEnvironment,
+        ComponentTemplateProcessor componentTemplateProcessor, ComponentModels componentModels,
+        BuildReport buildReport)
     {
         processingEnv = processingEnvironment;
         filer = processingEnvironment.getFiler();
         messager = processingEnvironment.getMessager();
         elements = processingEnvironment.getElementUtils();
-        componentTemplateProcessor = new ComponentTemplateProcessor(processingEnvironment);
+        this.componentTemplateProcessor = componentTemplateProcessor;
+        this.componentModels = componentModels;
+        this.buildReport = buildReport;
     }
 
     public void generate(TypeElement component,
         ComponentInjectedDependenciesBuilder dependenciesBuilder)
     {
+        proxyMethodCount = 0;
+
         // Template resource abstract class
         ClassName componentWithSuffixClassName = componentExposedTypeName(component);
 
@@ -122,10 +141,12 @@ public class ComponentExposedTypeGenerator
             dependenciesBuilder);
 
         // Process the HTML template if there is one
-        if (hasTemplate(processingEnv, component))
+        ComponentModel componentModel = componentModels.get(component);
+        if (componentModel.hasTemplate())
         {
-            componentTemplateProcessor.processComponentTemplate(component,
-                componentExposedTypeBuilder);
+            componentTemplateProcessor.processComponentTemplate(componentModel,
+                componentExposedTypeBuilder,
+                optionsBuilder);
             optionsBuilder.addStatement(
                 "options.initRenderFunctions(getRenderFunction(), getStaticRenderFunctions())");
         }
@@ -138,7 +159,15 @@ public class ComponentExposedTypeGenerator
         GeneratorsUtil.toJavaFile(filer,
             componentExposedTypeBuilder,
             componentWithSuffixClassName,
-            component);
+            getComponentHierarchy(component));
+
+        if (buildReport != null)
+        {
+            buildReport
+                .getComponentReport(component)
+                .setGeneratedMembers(proxyMethodCount,
+                    dependenciesBuilder.getInjectedFieldsName().size());
+        }
     }
 
     /**
@@ -156,7 +185,6 @@ public class ComponentExposedTypeGenerator
             .addAnnotation(AnnotationSpec
                 .builder(Generated.class)
                 .addMember("value", "$S", ComponentExposedTypeGenerator.class.getCanonicalName())
-                .addMember("date", "$S", new Date().toString())
                 .addMember("comments", "$S", "https://github.com/Axellience/vue-gwt")
                 .build());
 
@@ -229,11 +257,15 @@ public class ComponentExposedTypeGenerator
     {
         Component annotation = component.getAnnotation(Component.class);
 
-        List<String> fieldsName = ElementFilter
-            .fieldsIn(component.getEnclosedElements())
+        componentModels
+            .get(component)
+            .getJsVisibleFields()
+            .forEach(this::validateReactivityAnnotations);
+
+        List<String> fieldsName = componentModels
+            .get(component)
+            .getDataFields()
             .stream()
-            .filter(ComponentGeneratorsUtil::isFieldVisibleInJS)
-            .filter(field -> field.getAnnotation(Prop.class) == null)
             .map(field -> field.getSimpleName().toString())
             .collect(Collectors.toList());
 
@@ -249,6 +281,42 @@ public class ComponentExposedTypeGenerator
         optionsBuilder.addStatement("options.initData($L, $L)",
             annotation.useFactory(),
             fieldNamesParameters);
+
+        String shallowFieldNamesParameters = componentModels
+            .get(component)
+            .getShallowDataFields()
+            .stream()
+            .map(field -> "\"" + field.getSimpleName() + "\"")
+            .collect(Collectors.joining(", "));
+
+        if (!shallowFieldNamesParameters.isEmpty())
+            optionsBuilder.addStatement("options.initShallowData($L)", shallowFieldNamesParameters);
+    }
+
+    /**
+     * Check that a field doesn't have incompatible annotations about its reactivity.
+     * @param field The field to check
+     */
+    private void validateReactivityAnnotations(VariableElement field)
+    {
+        boolean isNonReactive = hasAnnotation(field, NonReactive.class);
+        boolean isShallowReactive = hasAnnotation(field, ShallowReactive.class);
+        if (!isNonReactive && !isShallowReactive)
+            return;
+
+        if (isNonReactive && isShallowReactive)
+        {
+            messager.printMessage(Kind.ERROR,
+                "A field can't be both @NonReactive and @ShallowReactive",
+                field);
+        }
+        else if (hasAnnotation(field, Prop.class))
+        {
+            messager.printMessage(Kind.ERROR,
+                "@Prop can't be @NonReactive or @ShallowReactive, their values are owned by the "
+                    + "parent Component",
+                field);
+        }
     }
 
     /**
@@ -259,27 +327,23 @@ public class ComponentExposedTypeGenerator
      */
     private void processProps(TypeElement component, MethodSpec.Builder optionsBuilder)
     {
-        ElementFilter
-            .fieldsIn(component.getEnclosedElements())
-            .stream()
-            .filter(field -> hasAnnotation(field, Prop.class))
-            .forEach(field -> {
-                String fieldName = field.getSimpleName().toString();
-                Prop prop = field.getAnnotation(Prop.class);
-
-                if (!isFieldVisibleInJS(field))
-                {
-                    printError("The field \""
-                            + fieldName
-                            + "\" annotated with @Prop must also be annotated with @JsProperty.",
-                        component);
-                }
-
-                optionsBuilder.addStatement("options.addJavaProp($S, $L, $S)",
-                    fieldName,
-                    prop.required(),
-                    prop.checkType() ? getNativeNameForJavaType(field.asType()) : null);
-            });
+        componentModels.get(component).getPropFields().forEach(field -> {
+            String fieldName = field.getSimpleName().toString();
+            Prop prop = field.getAnnotation(Prop.class);
+
+            if (!isFieldVisibleInJS(field))
+            {
+                printError("The field \""
+                        + fieldName
+                        + "\" annotated with @Prop must also be annotated with @JsProperty.",
+                    component);
+            }
+
+            optionsBuilder.addStatement("options.addJavaProp($S, $L, $S)",
+                fieldName,
+                prop.required(),
+                prop.checkType() ? getNativeNameForJavaType(field.asType()) : null);
+        });
     }
 
     /**
@@ -292,7 +356,7 @@ public class ComponentExposedTypeGenerator
     private void processComputed(TypeElement component, MethodSpec.Builder optionsBuilder,
         Builder componentExposedTypeBuilder)
     {
-        getMethodsWithAnnotation(component, Computed.class).forEach(method -> {
+        componentModels.get(component).getComputedMethods().forEach(method -> {
             String methodName = method.getSimpleName().toString();
 
             ComputedKind kind = ComputedKind.GETTER;
@@ -324,10 +388,10 @@ public class ComponentExposedTypeGenerator
     private void processTemplateMethods(TypeElement component, MethodSpec.Builder optionsBuilder,
         Builder componentExposedTypeBuilder, Set<ExecutableElement> hookMethodsFromInterfaces)
     {
-        List<ExecutableElement> templateMethods = ElementFilter
-            .methodsIn(component.getEnclosedElements())
+        List<ExecutableElement> templateMethods = componentModels
+            .get(component)
+            .getTemplateMethods()
             .stream()
-            .filter(ComponentGeneratorsUtil::isMethodVisibleInTemplate)
             .filter(method -> !isHookMethod(component, method, hookMethodsFromInterfaces))
             .collect(Collectors.toList());
 
@@ -353,7 +417,7 @@ public class ComponentExposedTypeGenerator
     private void addFieldsForComputedMethod(TypeElement component,
         Builder componentExposedTypeBuilder, Set<String> alreadyDone)
     {
-        getMethodsWithAnnotation(component, Computed.class).forEach(method -> {
+        componentModels.get(component).getComputedMethods().forEach(method -> {
             String propertyName = GeneratorsUtil.getComputedPropertyName(method);
 
             if (alreadyDone.contains(propertyName))
@@ -371,10 +435,12 @@ public class ComponentExposedTypeGenerator
             alreadyDone.add(propertyName);
         });
 
-        getSuperComponentType(component).ifPresent(superComponent -> addFieldsForComputedMethod(
-            superComponent,
-            componentExposedTypeBuilder,
-            alreadyDone));
+        componentModels
+            .get(component)
+            .getSuperComponent()
+            .ifPresent(superComponent -> addFieldsForComputedMethod(superComponent.getComponent(),
+                componentExposedTypeBuilder,
+                alreadyDone));
     }
 
     /**
@@ -386,7 +452,7 @@ public class ComponentExposedTypeGenerator
     private void processWatchers(TypeElement component, MethodSpec.Builder optionsBuilder,
         Builder componentExposedTypeBuilder)
     {
-        getMethodsWithAnnotation(component, Watch.class).forEach(method -> {
+        componentModels.get(component).getWatchMethods().forEach(method -> {
             Watch watch = method.getAnnotation(Watch.class);
 
             optionsBuilder.addStatement("options.addJavaWatch($S, $S, $L)",
@@ -407,7 +473,7 @@ public class ComponentExposedTypeGenerator
     private void processPropValidators(TypeElement component, MethodSpec.Builder optionsBuilder,
         Builder componentExposedTypeBuilder)
     {
-        getMethodsWithAnnotation(component, PropValidator.class).forEach(method -> {
+        componentModels.get(component).getPropValidatorMethods().forEach(method -> {
             PropValidator propValidator = method.getAnnotation(PropValidator.class);
 
             if (!TypeName.get(method.getReturnType()).equals(TypeName.BOOLEAN))
@@ -435,7 +501,7 @@ public class ComponentExposedTypeGenerator
     private void processPropDefaultValues(TypeElement component, MethodSpec.Builder optionsBuilder,
         Builder componentExposedTypeBuilder)
     {
-        getMethodsWithAnnotation(component, PropDefault.class).forEach(method -> {
+        componentModels.get(component).getPropDefaultMethods().forEach(method -> {
             PropDefault propValidator = method.getAnnotation(PropDefault.class);
 
             String propertyName = propValidator.value();
@@ -458,8 +524,9 @@ public class ComponentExposedTypeGenerator
     private void processHooks(TypeElement component, MethodSpec.Builder optionsBuilder,
         Set<ExecutableElement> hookMethodsFromInterfaces)
     {
-        ElementFilter
-            .methodsIn(component.getEnclosedElements())
+        componentModels
+            .get(component)
+            .getMethods()
             .stream()
             .filter(method -> isHookMethod(component, method, hookMethodsFromInterfaces))
             .forEach(method -> optionsBuilder.addStatement("options.addHookMethod($S)",
@@ -536,7 +603,8 @@ public class ComponentExposedTypeGenerator
         Builder componentExposedTypeBuilder,
         ComponentInjectedDependenciesBuilder dependenciesBuilder)
     {
-        String hasRunCreatedFlagName = "vuegwt$hrc_" + getSuperComponentCount(component);
+        String hasRunCreatedFlagName =
+            "vuegwt$hrc_" + componentModels.get(component).getSuperComponentCount();
         componentExposedTypeBuilder.addField(boolean.class, hasRunCreatedFlagName, Modifier.PUBLIC);
 
         MethodSpec.Builder createdMethodBuilder =
@@ -601,10 +669,10 @@ public class ComponentExposedTypeGenerator
      */
     private void processInvalidEmitMethods(TypeElement component)
     {
-        ElementFilter
-            .methodsIn(component.getEnclosedElements())
+        componentModels
+            .get(component)
+            .getEmitMethods()
             .stream()
-            .filter(method -> hasAnnotation(method, Emit.class))
             .filter(method -> !hasAnnotation(method, JsMethod.class))
             .forEach(invalidEmitMethod -> printError("The method \"" + invalidEmitMethod
                     .getSimpleName()
@@ -703,6 +771,7 @@ public class ComponentExposedTypeGenerator
             proxyMethodBuilder.addStatement("return result");
 
         componentExposedTypeBuilder.addMethod(proxyMethodBuilder.build());
+        proxyMethodCount++;
     }
 
     /**
@@ -769,15 +838,6 @@ public class ComponentExposedTypeGenerator
         return false;
     }
 
-    private Stream<ExecutableElement> getMethodsWithAnnotation(TypeElement component,
-        Class<? extends Annotation> annotation)
-    {
-        return ElementFilter
-            .methodsIn(component.getEnclosedElements())
-            .stream()
-            .filter(method -> hasAnnotation(method, annotation));
-    }
-
     /**
      * Transform a Java type name into a JavaScript type name.
      * Takes care of primitive types.
@@ -1,6 +1,7 @@
 package com.axellience.vuegwt.processors.component;
 
 import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import com.axellience.vuegwt.processors.component.model.ComponentModel;
 import com.axellience.vuegwt.processors.utils.GeneratorsUtil;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
@@ -20,16 +21,13 @@ import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.tools.Diagnostic.Kind;
-import java.util.Date;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.resolveVariableTypeName;
 import static com.axellience.vuegwt.processors.utils.GeneratorsNameUtil.componentInjectedDependenciesName;
-import static com.axellience.vuegwt.processors.utils.InjectedDependenciesUtil.getInjectedFields;
-import static com.axellience.vuegwt.processors.utils.InjectedDependenciesUtil.getInjectedMethods;
 import static com.axellience.vuegwt.processors.utils.InjectedDependenciesUtil.hasInjectAnnotation;
 
 /**
@@ -42,12 +40,13 @@ public class ComponentInjectedDependenciesBuilder
     private final Builder builder;
 
     private final List<String> injectedFieldsName = new LinkedList<>();
-    private final Map<String, List<String>> injectedParametersByMethod = new HashMap<>();
+    private final Map<String, List<String>> injectedParametersByMethod = new LinkedHashMap<>();
 
     public ComponentInjectedDependenciesBuilder(ProcessingEnvironment processingEnvironment,
-        TypeElement component)
+        ComponentModel componentModel)
     {
         this.messager = processingEnvironment.getMessager();
+        TypeElement component = componentModel.getComponent();
 
         // Template resource abstract class
         ClassName componentInjectedDependenciesName = componentInjectedDependenciesName(component);
@@ -60,12 +59,11 @@ public class ComponentInjectedDependenciesBuilder
                 .addMember("value",
                     "$S",
                     ComponentInjectedDependenciesBuilder.class.getCanonicalName())
-                .addMember("date", "$S", new Date().toString())
                 .addMember("comments", "$S", "https://github.com/Axellience/vue-gwt")
                 .build());
 
-        processInjectedFields(component);
-        processInjectedMethods(component);
+        processInjectedFields(componentModel);
+        processInjectedMethods(componentModel);
 
         if (hasInjectedDependencies())
         {
@@ -84,11 +82,11 @@ public class ComponentInjectedDependenciesBuilder
 
     /**
      * Process all the injected fields from our Component.
-     * @param component The {@link IsVueComponent} we are processing
+     * @param componentModel The {@link IsVueComponent} we are processing
      */
-    private void processInjectedFields(TypeElement component)
+    private void processInjectedFields(ComponentModel componentModel)
     {
-        getInjectedFields(component).stream().peek(this::validateField).forEach(field -> {
+        componentModel.getInjectedFields().stream().peek(this::validateField).forEach(field -> {
             String fieldName = field.getSimpleName().toString();
             addInjectedVariable(field, fieldName);
             injectedFieldsName.add(fieldName);
@@ -97,11 +95,12 @@ public class ComponentInjectedDependenciesBuilder
 
     /**
      * Process all the injected methods from our Component.
-     * @param component The {@link IsVueComponent} we are processing
+     * @param componentModel The {@link IsVueComponent} we are processing
      */
-    private void processInjectedMethods(TypeElement component)
+    private void processInjectedMethods(ComponentModel componentModel)
     {
-        getInjectedMethods(component)
+        componentModel
+            .getInjectedMethods()
             .stream()
             .peek(this::validateMethod)
             .forEach(this::processInjectedMethod);
@@ -6,6 +6,7 @@ import com.axellience.vuegwt.core.client.component.IsVueComponent;
 import com.axellience.vuegwt.core.client.component.options.VueComponentOptions;
 import com.axellience.vuegwt.core.client.vue.VueComponentFactory;
 import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
+import com.axellience.vuegwt.processors.component.template.css.ScopedCssGenerator;
 import com.axellience.vuegwt.processors.utils.GeneratorsUtil;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
@@ -24,7 +25,6 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
-import java.util.Date;
 import java.util.List;
 
 import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.hasTemplate;
@@ -45,10 +45,14 @@ public abstract class AbstractVueComponentFactoryGenerator
     private final ProcessingEnvironment processingEnv;
     private final Filer filer;
     final Messager messager;
+    /** Generates the injection of the scoped CSS, null if Components don't have templates */
+    private final ScopedCssGenerator scopedCssGenerator;
 
-    AbstractVueComponentFactoryGenerator(ProcessingEnvironment processingEnv)
+    AbstractVueComponentFactoryGenerator(ProcessingEnvironment processingEnv,
+        ScopedCssGenerator scopedCssGenerator)
     {
         this.processingEnv = processingEnv;
+        this.scopedCssGenerator = scopedCssGenerator;
         this.filer = processingEnv.getFiler();
         this.messager = processingEnv.getMessager();
     }
@@ -99,7 +103,6 @@ public abstract class AbstractVueComponentFactoryGenerator
             .addAnnotation(AnnotationSpec
                 .builder(Generated.class)
                 .addMember("value", "$S", this.getClass().getCanonicalName())
-                .addMember("date", "$S", new Date().toString())
                 .addMember("comments", "$S", "https://github.com/Axellience/vue-gwt")
                 .build());
     }
@@ -146,9 +149,9 @@ public abstract class AbstractVueComponentFactoryGenerator
 
         getBuilder.addStatement("$L = new $T()", INSTANCE_PROP, vueFactoryClassName);
 
-        if (hasTemplate(processingEnv, component))
+        if (scopedCssGenerator != null && hasTemplate(processingEnv, component))
         {
-            getBuilder.addStatement("$L.injectComponentCss($T.getScopedCss())",
+            scopedCssGenerator.addInjectStatement(getBuilder,
                 INSTANCE_PROP,
                 componentExposedTypeName(component));
         }
@@ -10,6 +10,9 @@ import com.axellience.vuegwt.core.client.directive.options.VueDirectiveOptions;
 import com.axellience.vuegwt.core.client.vue.VueComponentFactory;
 import com.axellience.vuegwt.core.client.vue.VueJsAsyncProvider;
 import com.axellience.vuegwt.core.client.vue.VueJsConstructor;
+import com.axellience.vuegwt.processors.component.model.ComponentModel;
+import com.axellience.vuegwt.processors.component.model.ComponentModels;
+import com.axellience.vuegwt.processors.component.template.css.ScopedCssGenerator;
 import com.axellience.vuegwt.processors.utils.GeneratorsNameUtil;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
@@ -26,16 +29,12 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.MirroredTypesException;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic.Kind;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
-import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.getComponentCustomizeOptions;
-import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.getComponentLocalComponents;
-import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.getSuperComponentType;
 import static com.axellience.vuegwt.processors.utils.GeneratorsNameUtil.*;
 
 /**
@@ -45,14 +44,15 @@ import static com.axellience.vuegwt.processors.utils.GeneratorsNameUtil.*;
  */
 public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGenerator
 {
-    private final Elements elements;
+    private final ComponentModels componentModels;
     private boolean hasInjectedDependencies;
 
-    public VueComponentFactoryGenerator(ProcessingEnvironment processingEnv)
+    public VueComponentFactoryGenerator(ProcessingEnvironment processingEnv,
+        ComponentModels componentModels, ScopedCssGenerator scopedCssGenerator)
     {
-        super(processingEnv);
+        super(processingEnv, scopedCssGenerator);
 
-        elements = processingEnv.getElementUtils();
+        this.componentModels = componentModels;
     }
 
     public void generate(TypeElement component, boolean hasInjectedDependencies)
@@ -80,8 +80,11 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
         processCustomizeOptions(component, initBuilder, initParametersCall);
 
         // Extend the parent Component
-        Optional<ClassName> superFactoryType =
-            getSuperComponentType(component).map(GeneratorsNameUtil::componentFactoryName);
+        Optional<ClassName> superFactoryType = componentModels
+            .get(component)
+            .getSuperComponent()
+            .map(ComponentModel::getComponent)
+            .map(GeneratorsNameUtil::componentFactoryName);
 
         if (superFactoryType.isPresent())
         {
@@ -149,7 +152,7 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
     private void registerLocalComponents(TypeElement component, MethodSpec.Builder initBuilder,
         List<CodeBlock> staticInitParameters)
     {
-        List<TypeMirror> localComponents = getComponentLocalComponents(elements, component);
+        List<TypeMirror> localComponents = componentModels.get(component).getLocalComponents();
 
         if (localComponents.isEmpty())
             return;
@@ -238,10 +241,12 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
     private void processCustomizeOptions(TypeElement component, MethodSpec.Builder initBuilder,
         List<CodeBlock> staticInitParameters)
     {
-        getComponentCustomizeOptions(elements,
-            component).forEach(customizeOptions -> this.processCustomizeOptions(customizeOptions,
-            initBuilder,
-            staticInitParameters));
+        componentModels
+            .get(component)
+            .getCustomizeOptions()
+            .forEach(customizeOptions -> this.processCustomizeOptions(customizeOptions,
+                initBuilder,
+                staticInitParameters));
     }
 
     /**
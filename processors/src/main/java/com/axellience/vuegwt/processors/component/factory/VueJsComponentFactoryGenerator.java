@@ -31,7 +31,8 @@ public class VueJsComponentFactoryGenerator extends AbstractVueComponentFactoryG
 {
     public VueJsComponentFactoryGenerator(ProcessingEnvironment processingEnv)
     {
-        super(processingEnv);
+        // JsComponents don't have templates, so no scoped CSS
+        super(processingEnv, null);
     }
 
     @Override
@@ -0,0 +1,304 @@
+package com.axellience.vuegwt.processors.component.model;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.annotations.component.Computed;
+import com.axellience.vuegwt.core.annotations.component.Emit;
+import com.axellience.vuegwt.core.annotations.component.NonReactive;
+import com.axellience.vuegwt.core.annotations.component.Prop;
+import com.axellience.vuegwt.core.annotations.component.PropDefault;
+import com.axellience.vuegwt.core.annotations.component.PropValidator;
+import com.axellience.vuegwt.core.annotations.component.ShallowReactive;
+import com.axellience.vuegwt.core.annotations.component.Watch;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.getComponentCustomizeOptions;
+import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.getComponentLocalComponents;
+import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.getSuperComponentType;
+import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.isFieldVisibleInJS;
+import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.isMethodVisibleInTemplate;
+import static com.axellience.vuegwt.processors.utils.GeneratorsUtil.hasAnnotation;
+import static com.axellience.vuegwt.processors.utils.InjectedDependenciesUtil.hasInjectAnnotation;
+
+/**
+ * The members of an {@link IsVueComponent} class, sorted by kind.
+ * The enclosed elements of the class are scanned once when the model is built. Members are kept
+ * in declaration order. Only the members declared in this class are listed, members inherited
+ * from super Components are in their own model, accessible with {@link #getSuperComponent()}.
+ * <br>
+ * Models should be retrieved from {@link ComponentModels} so they are shared between generators.
+ */
+public class ComponentModel
+{
+    private final TypeElement component;
+    private final ComponentModels componentModels;
+    private final ProcessingEnvironment processingEnvironment;
+
+    private final List<VariableElement> jsVisibleFields = new ArrayList<>();
+    private final List<VariableElement> dataFields = new ArrayList<>();
+    private final List<VariableElement> shallowDataFields = new ArrayList<>();
+    private final List<VariableElement> propFields = new ArrayList<>();
+    private final List<VariableElement> injectedFields = new ArrayList<>();
+
+    private final List<ExecutableElement> methods = new ArrayList<>();
+    private final List<ExecutableElement> templateMethods = new ArrayList<>();
+    private final List<ExecutableElement> computedMethods = new ArrayList<>();
+    private final List<ExecutableElement> watchMethods = new ArrayList<>();
+    private final List<ExecutableElement> propValidatorMethods = new ArrayList<>();
+    private final List<ExecutableElement> propDefaultMethods = new ArrayList<>();
+    private final List<ExecutableElement> emitMethods = new ArrayList<>();
+    private final List<ExecutableElement> injectedMethods = new ArrayList<>();
+
+    // Computed the first time they are needed
+    private Optional<ComponentModel> superComponent;
+    private List<TypeMirror> localComponents;
+    private List<ComponentModel> localComponentModels;
+    private List<TypeMirror> customizeOptions;
+    private Boolean hasTemplate;
+
+    ComponentModel(TypeElement component, ComponentModels componentModels,
+        ProcessingEnvironment processingEnvironment)
+    {
+        this.component = component;
+        this.componentModels = componentModels;
+        this.processingEnvironment = processingEnvironment;
+
+        for (Element element : component.getEnclosedElements())
+        {
+            if (element.getKind() == ElementKind.FIELD)
+                addField((VariableElement) element);
+            else if (element.getKind() == ElementKind.METHOD)
+                addMethod((ExecutableElement) element);
+        }
+    }
+
+    private void addField(VariableElement field)
+    {
+        boolean isProp = hasAnnotation(field, Prop.class);
+        if (isProp)
+            propFields.add(field);
+
+        if (isFieldVisibleInJS(field))
+        {
+            jsVisibleFields.add(field);
+            if (!isProp && !hasAnnotation(field, NonReactive.class))
+            {
+                dataFields.add(field);
+                if (hasAnnotation(field, ShallowReactive.class))
+                    shallowDataFields.add(field);
+            }
+        }
+
+        if (hasInjectAnnotation(field))
+            injectedFields.add(field);
+    }
+
+    private void addMethod(ExecutableElement method)
+    {
+        methods.add(method);
+
+        if (isMethodVisibleInTemplate(method))
+            templateMethods.add(method);
+        if (hasAnnotation(method, Computed.class))
+            computedMethods.add(method);
+        if (hasAnnotation(method, Watch.class))
+            watchMethods.add(method);
+        if (hasAnnotation(method, PropValidator.class))
+            propValidatorMethods.add(method);
+        if (hasAnnotation(method, PropDefault.class))
+            propDefaultMethods.add(method);
+        if (hasAnnotation(method, Emit.class))
+            emitMethods.add(method);
+        if (hasInjectAnnotation(method))
+            injectedMethods.add(method);
+    }
+
+    public TypeElement getComponent()
+    {
+        return component;
+    }
+
+    /**
+     * @return The {@link Component} annotation on this class, null if it doesn't have one
+     */
+    public Component getAnnotation()
+    {
+        return component.getAnnotation(Component.class);
+    }
+
+    /**
+     * @return The model of the parent Component, empty if this class doesn't extend a Component
+     */
+    public Optional<ComponentModel> getSuperComponent()
+    {
+        if (superComponent == null)
+            superComponent = getSuperComponentType(component).map(componentModels::get);
+
+        return superComponent;
+    }
+
+    /**
+     * @return The number of Components in the chain of parents
+     */
+    public int getSuperComponentCount()
+    {
+        return getSuperComponent().map(model -> model.getSuperComponentCount() + 1).orElse(0);
+    }
+
+    /**
+     * @return true if this Component has an HTML template
+     * @see ComponentGeneratorsUtil#hasTemplate(ProcessingEnvironment, TypeElement)
+     */
+    public boolean hasTemplate()
+    {
+        if (hasTemplate == null)
+            hasTemplate = ComponentGeneratorsUtil.hasTemplate(processingEnvironment, component);
+
+        return hasTemplate;
+    }
+
+    /**
+     * @return The Components registered on the {@link Component} annotation of this class
+     */
+    public List<TypeMirror> getLocalComponents()
+    {
+        if (localComponents == null)
+        {
+            localComponents = getAnnotation() == null ? Collections.emptyList()
+                : getComponentLocalComponents(processingEnvironment.getElementUtils(), component);
+        }
+
+        return Collections.unmodifiableList(localComponents);
+    }
+
+    /**
+     * @return The models of the Components registered on the {@link Component} annotation of this
+     * class
+     */
+    public List<ComponentModel> getLocalComponentModels()
+    {
+        if (localComponentModels == null)
+        {
+            localComponentModels = getLocalComponents()
+                .stream()
+                .map(DeclaredType.class::cast)
+                .map(DeclaredType::asElement)
+                .map(TypeElement.class::cast)
+                .map(componentModels::get)
+                .collect(Collectors.toList());
+        }
+
+        return Collections.unmodifiableList(localComponentModels);
+    }
+
+    /**
+     * @return The CustomizeOptions registered on the {@link Component} annotation of this class
+     */
+    public List<TypeMirror> getCustomizeOptions()
+    {
+        if (customizeOptions == null)
+        {
+            customizeOptions = getAnnotation() == null ? Collections.emptyList()
+                : getComponentCustomizeOptions(processingEnvironment.getElementUtils(), component);
+        }
+
+        return Collections.unmodifiableList(customizeOptions);
+    }
+
+    /**
+     * @return The fields visible in JS
+     */
+    public List<VariableElement> getJsVisibleFields()
+    {
+        return Collections.unmodifiableList(jsVisibleFields);
+    }
+
+    /**
+     * @return The fields visible in JS that are not {@link Prop} nor {@link NonReactive}
+     */
+    public List<VariableElement> getDataFields()
+    {
+        return Collections.unmodifiableList(dataFields);
+    }
+
+    /**
+     * @return The data fields annotated with {@link ShallowReactive}
+     */
+    public List<VariableElement> getShallowDataFields()
+    {
+        return Collections.unmodifiableList(shallowDataFields);
+    }
+
+    /**
+     * @return The fields annotated with {@link Prop}, visible in JS or not
+     */
+    public List<VariableElement> getPropFields()
+    {
+        return Collections.unmodifiableList(propFields);
+    }
+
+    public List<VariableElement> getInjectedFields()
+    {
+        return Collections.unmodifiableList(injectedFields);
+    }
+
+    /**
+     * @return All the methods declared in this class
+     */
+    public List<ExecutableElement> getMethods()
+    {
+        return Collections.unmodifiableList(methods);
+    }
+
+    /**
+     * @return The methods that can be called from the template, hooks included
+     */
+    public List<ExecutableElement> getTemplateMethods()
+    {
+        return Collections.unmodifiableList(templateMethods);
+    }
+
+    public List<ExecutableElement> getComputedMethods()
+    {
+        return Collections.unmodifiableList(computedMethods);
+    }
+
+    public List<ExecutableElement> getWatchMethods()
+    {
+        return Collections.unmodifiableList(watchMethods);
+    }
+
+    public List<ExecutableElement> getPropValidatorMethods()
+    {
+        return Collections.unmodifiableList(propValidatorMethods);
+    }
+
+    public List<ExecutableElement> getPropDefaultMethods()
+    {
+        return Collections.unmodifiableList(propDefaultMethods);
+    }
+
+    public List<ExecutableElement> getEmitMethods()
+    {
+        return Collections.unmodifiableList(emitMethods);
+    }
+
+    public List<ExecutableElement> getInjectedMethods()
+    {
+        return Collections.unmodifiableList(injectedMethods);
+    }
+}
@@ -0,0 +1,44 @@
+package com.axellience.vuegwt.processors.component.model;
+
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of the {@link ComponentModel} of each {@link IsVueComponent} met during a round.
+ * Generators share it, so each class is only scanned once per round, even when it's the super
+ * class or a local component of many other Components.
+ * <br>
+ * A new instance should be created for each round, as elements are not kept between rounds.
+ * It's not thread safe and should only be used from the processor thread.
+ */
+public class ComponentModels
+{
+    private final ProcessingEnvironment processingEnvironment;
+    private final Map<TypeElement, ComponentModel> models = new HashMap<>();
+
+    public ComponentModels(ProcessingEnvironment processingEnvironment)
+    {
+        this.processingEnvironment = processingEnvironment;
+    }
+
+    /**
+     * Get the model of a given class, building it the first time.
+     * @param component The class of the Component
+     * @return The {@link ComponentModel} for this class
+     */
+    public ComponentModel get(TypeElement component)
+    {
+        ComponentModel model = models.get(component);
+        if (model == null)
+        {
+            model = new ComponentModel(component, this, processingEnvironment);
+            models.put(component, model);
+        }
+
+        return model;
+    }
+}
@@ -0,0 +1,70 @@
+package com.axellience.vuegwt.processors.component.template;
+
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.processors.component.template.parser.result.TemplateParserResult;
+
+/**
+ * A parsed and compiled template, ready to be added to the Component ExposedType.
+ * Also holds the time spent on each step, for the build report.
+ */
+public class CompiledTemplate
+{
+    private final TemplateParserResult templateParserResult;
+    private final VueTemplateCompilerResult vueTemplateCompilerResult;
+
+    private final int templateSize;
+    private final long parseTime;
+    private final long expressionProcessingTime;
+    private final long compileTime;
+
+    /**
+     * @param templateParserResult The result of the template parsing
+     * @param vueTemplateCompilerResult The compiled render functions
+     * @param templateSize The size of the template, in characters
+     * @param parseTime Time spent parsing the template, without expression processing, in
+     * nanoseconds
+     * @param expressionProcessingTime Time spent processing the Java expressions, in nanoseconds
+     * @param compileTime Time spent compiling the render functions, in nanoseconds
+     */
+    public CompiledTemplate(TemplateParserResult templateParserResult,
+        VueTemplateCompilerResult vueTemplateCompilerResult, int templateSize, long parseTime,
+        long expressionProcessingTime, long compileTime)
+    {
+        this.templateParserResult = templateParserResult;
+        this.vueTemplateCompilerResult = vueTemplateCompilerResult;
+        this.templateSize = templateSize;
+        this.parseTime = parseTime;
+        this.expressionProcessingTime = expressionProcessingTime;
+        this.compileTime = compileTime;
+    }
+
+    public TemplateParserResult getTemplateParserResult()
+    {
+        return templateParserResult;
+    }
+
+    public VueTemplateCompilerResult getVueTemplateCompilerResult()
+    {
+        return vueTemplateCompilerResult;
+    }
+
+    public int getTemplateSize()
+    {
+        return templateSize;
+    }
+
+    public long getParseTime()
+    {
+        return parseTime;
+    }
+
+    public long getExpressionProcessingTime()
+    {
+        return expressionProcessingTime;
+    }
+
+    public long getCompileTime()
+    {
+        return compileTime;
+    }
+}
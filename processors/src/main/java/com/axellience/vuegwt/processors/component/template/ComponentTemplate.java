@@ -0,0 +1,104 @@
+package com.axellience.vuegwt.processors.component.template;
+
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerCache;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.processors.component.template.minifier.TemplateMinifier;
+import com.axellience.vuegwt.processors.component.template.parser.TemplateParser;
+import com.axellience.vuegwt.processors.component.template.parser.context.TemplateParserContext;
+import com.axellience.vuegwt.processors.component.template.parser.result.TemplateParserResult;
+
+import javax.annotation.processing.Messager;
+
+/**
+ * The HTML template of an {@link IsVueComponent} along with the context needed to parse it.
+ * Once created, parsing and compiling the template doesn't access the annotation processing
+ * environment, so it can be done on any thread.
+ */
+public class ComponentTemplate
+{
+    private final String templateContent;
+    private final TemplateParserContext templateParserContext;
+    private final VueTemplateCompilerCache vueTemplateCompilerCache;
+    private final TemplateMinifier templateMinifier;
+
+    ComponentTemplate(String templateContent, TemplateParserContext templateParserContext,
+        VueTemplateCompilerCache vueTemplateCompilerCache, TemplateMinifier templateMinifier)
+    {
+        this.templateContent = templateContent;
+        this.templateParserContext = templateParserContext;
+        this.vueTemplateCompilerCache = vueTemplateCompilerCache;
+        this.templateMinifier = templateMinifier;
+    }
+
+    public String getTemplateContent()
+    {
+        return templateContent;
+    }
+
+    public TemplateParserContext getTemplateParserContext()
+    {
+        return templateParserContext;
+    }
+
+    /**
+     * Parse the template and compile the resulting HTML to JS render functions.
+     * The HTML is minified between the two steps.
+     * @param messager Used to report errors in the template
+     * @param vueTemplateCompiler The compiler to use, must not be used by another thread
+     * @return The result of the parsing and the compilation
+     */
+    public CompiledTemplate compile(Messager messager, VueTemplateCompiler vueTemplateCompiler)
+    {
+        long parseStart = System.nanoTime();
+        TemplateParser templateParser = new TemplateParser();
+        TemplateParserResult templateParserResult =
+            templateParser.parseHtmlTemplate(templateContent, templateParserContext, messager);
+        templateParserResult.setProcessedTemplate(templateMinifier.minify(templateParserResult
+            .getProcessedTemplate()));
+        long parseEnd = System.nanoTime();
+
+        VueTemplateCompilerResult vueTemplateCompilerResult =
+            compileTemplateString(vueTemplateCompiler,
+                templateParserResult.getProcessedTemplate(),
+                messager);
+        long compileEnd = System.nanoTime();
+
+        long expressionProcessingTime = templateParser.getExpressionProcessingTime();
+        return new CompiledTemplate(templateParserResult,
+            vueTemplateCompilerResult,
+            templateContent.length(),
+            parseEnd - parseStart - expressionProcessingTime,
+            expressionProcessingTime,
+            compileEnd - parseEnd);
+    }
+
+    /**
+     * Compile the HTML template and transform it to a JS render function.
+     * If the cache is enabled and contains the template, the compiler is not used.
+     * @param vueTemplateCompiler The compiler to use
+     * @param templateString The HTML template string to compile
+     * @param messager Used to report issues with the cache
+     * @return The render functions
+     */
+    private VueTemplateCompilerResult compileTemplateString(
+        VueTemplateCompiler vueTemplateCompiler, String templateString, Messager messager)
+    {
+        try
+        {
+            if (vueTemplateCompilerCache != null)
+                return vueTemplateCompilerCache.compile(templateString,
+                    vueTemplateCompiler,
+                    messager);
+
+            return vueTemplateCompiler.compile(templateString);
+        }
+        catch (VueTemplateCompilerException e)
+        {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+}
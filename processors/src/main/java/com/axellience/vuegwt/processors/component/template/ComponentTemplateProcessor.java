@@ -1,18 +1,30 @@
 package com.axellience.vuegwt.processors.component.template;
 
 import com.axellience.vuegwt.core.annotations.component.Component;
-import com.axellience.vuegwt.core.annotations.component.Computed;
+import com.axellience.vuegwt.core.annotations.component.Impure;
 import com.axellience.vuegwt.core.annotations.component.JsComponent;
+import com.axellience.vuegwt.core.annotations.component.NonReactive;
 import com.axellience.vuegwt.core.annotations.component.Prop;
+import com.axellience.vuegwt.core.annotations.component.ShallowReactive;
 import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import com.axellience.vuegwt.processors.VueGwtProcessorOptions;
 import com.axellience.vuegwt.processors.component.ComponentExposedTypeGenerator;
+import com.axellience.vuegwt.processors.component.model.ComponentModel;
+import com.axellience.vuegwt.processors.component.template.ParallelTemplateCompiler.PendingTemplate;
 import com.axellience.vuegwt.processors.component.template.builder.TemplateMethodsBuilder;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerCache;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerEngine;
+import com.axellience.vuegwt.processors.component.template.css.ScopedCssGenerator;
+import com.axellience.vuegwt.processors.component.template.minifier.TemplateMinifier;
 import com.axellience.vuegwt.processors.component.template.parser.TemplateParser;
+import com.axellience.vuegwt.processors.component.template.parser.VForKeyCheck;
 import com.axellience.vuegwt.processors.component.template.parser.context.TemplateParserContext;
 import com.axellience.vuegwt.processors.component.template.parser.context.localcomponents.LocalComponent;
 import com.axellience.vuegwt.processors.component.template.parser.context.localcomponents.LocalComponents;
 import com.axellience.vuegwt.processors.component.template.parser.result.TemplateParserResult;
-import com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil;
+import com.axellience.vuegwt.processors.report.BuildReport;
+import com.axellience.vuegwt.processors.utils.BufferedMessager;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -22,23 +34,22 @@ import com.squareup.javapoet.TypeSpec.Builder;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.ElementFilter;
-import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic.Kind;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.getComponentLocalComponents;
-import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.getSuperComponentType;
 import static com.axellience.vuegwt.processors.utils.GeneratorsNameUtil.componentToTagName;
 import static com.axellience.vuegwt.processors.utils.GeneratorsUtil.getComputedPropertyName;
 import static com.axellience.vuegwt.processors.utils.GeneratorsUtil.hasAnnotation;
@@ -49,79 +60,283 @@ import static com.axellience.vuegwt.processors.utils.GeneratorsUtil.hasAnnotatio
  */
 public class ComponentTemplateProcessor
 {
+    private final ProcessingEnvironment processingEnvironment;
     private final Filer filer;
     private final Messager messager;
-    private final Elements elementUtils;
 
-    public ComponentTemplateProcessor(ProcessingEnvironment processingEnvironment)
+    /** Templates currently compiled on worker threads */
+    private final Map<TypeElement, PendingTemplate> pendingTemplates = new HashMap<>();
+    private VueTemplateCompiler vueTemplateCompiler;
+    private final VueTemplateCompilerEngine vueTemplateCompilerEngine;
+    /** Cache of compiled templates, null if disabled */
+    private final VueTemplateCompilerCache vueTemplateCompilerCache;
+    /** Report of the build timings, null if disabled */
+    private final BuildReport buildReport;
+    private final boolean jsniRenderFunctions;
+    private final boolean expressionLowering;
+    private final boolean computedExpressions;
+    private final boolean autoVOnce;
+    private final VForKeyCheck vForKeyCheck;
+    private final boolean cachedEventHandlers;
+    private final JsVisibleFieldsCollector jsVisibleFieldsCollector =
+        new JsVisibleFieldsCollector();
+    private final TemplateConstantsCollector templateConstantsCollector;
+    private final TemplateMinifier templateMinifier;
+    private final ScopedCssGenerator scopedCssGenerator;
+
+    public ComponentTemplateProcessor(ProcessingEnvironment processingEnvironment,
+        VueGwtProcessorOptions options)
     {
+        this(processingEnvironment, options, null);
+    }
+
+    public ComponentTemplateProcessor(ProcessingEnvironment processingEnvironment,
+        VueGwtProcessorOptions options, BuildReport buildReport)
+    {
+        this(processingEnvironment,
+            options,
+            buildReport,
+            new ScopedCssGenerator(processingEnvironment, options));
+    }
+
+    public ComponentTemplateProcessor(ProcessingEnvironment processingEnvironment,
+        VueGwtProcessorOptions options, BuildReport buildReport,
+        ScopedCssGenerator scopedCssGenerator)
+    {
+        this.buildReport = buildReport;
+        this.scopedCssGenerator = scopedCssGenerator;
+        this.processingEnvironment = processingEnvironment;
         filer = processingEnvironment.getFiler();
         messager = processingEnvironment.getMessager();
-        elementUtils = processingEnvironment.getElementUtils();
+        vueTemplateCompilerCache = createVueTemplateCompilerCache(options);
+        vueTemplateCompilerEngine = options.getTemplateCompilerEngine();
+        jsniRenderFunctions = options.isJsniRenderFunctions();
+        expressionLowering = options.isTemplateExpressionLowering();
+        computedExpressions = options.isTemplateComputedExpressions();
+        autoVOnce = options.isAutoVOnce();
+        vForKeyCheck = options.getVForKeyCheck();
+        cachedEventHandlers = options.isCachedEventHandlers();
+        templateConstantsCollector =
+            new TemplateConstantsCollector(processingEnvironment.getElementUtils());
+        templateMinifier = new TemplateMinifier(options.getTemplateMinification());
+    }
+
+    /**
+     * Start the compilation of the templates of the given components on worker threads.
+     * The templates are loaded and their context is built on the current thread, only the
+     * parsing and the compilation are done in parallel.
+     * Results are then retrieved by {@link #processComponentTemplate(ComponentModel, Builder,
+     * MethodSpec.Builder)}.
+     * @param components The components to compile the templates of
+     * @param parallelTemplateCompiler The compiler to use
+     */
+    public void compileTemplatesInParallel(Collection<ComponentModel> components,
+        ParallelTemplateCompiler parallelTemplateCompiler)
+    {
+        for (ComponentModel component : components)
+        {
+            if (!component.hasTemplate())
+                continue;
+
+            BufferedMessager bufferedMessager = new BufferedMessager();
+            pendingTemplates.put(component.getComponent(),
+                parallelTemplateCompiler.submit(getComponentTemplate(component, bufferedMessager),
+                    bufferedMessager));
+        }
     }
 
-    public void processComponentTemplate(TypeElement componentTypeElement,
-        Builder componentExposedTypeBuilder)
+    /**
+     * Add the expressions and render functions of the template of the given Component to its
+     * ExposedType, and register the expressions in its options.
+     * @param componentModel The Component
+     * @param componentExposedTypeBuilder Builder for the ExposedType of the Component
+     * @param optionsBuilder Builder for the options getter of the ExposedType
+     */
+    public void processComponentTemplate(ComponentModel componentModel,
+        Builder componentExposedTypeBuilder, MethodSpec.Builder optionsBuilder)
     {
+        TypeElement componentTypeElement = componentModel.getComponent();
+        long templateStart = System.nanoTime();
+        Optional<CompiledTemplate> optionalCompiledTemplate;
+        PendingTemplate pendingTemplate = pendingTemplates.remove(componentTypeElement);
+        if (pendingTemplate != null)
+        {
+            optionalCompiledTemplate = pendingTemplate.get(messager);
+        }
+        else
+        {
+            optionalCompiledTemplate = getComponentTemplate(componentModel, messager).map(
+                componentTemplate -> componentTemplate.compile(messager,
+                    getVueTemplateCompiler()));
+        }
+
+        if (!optionalCompiledTemplate.isPresent())
+            return;
+
+        CompiledTemplate compiledTemplate = optionalCompiledTemplate.get();
+        if (buildReport != null)
+        {
+            buildReport
+                .getComponentReport(componentTypeElement)
+                .addCompiledTemplate(compiledTemplate, System.nanoTime() - templateStart);
+        }
+
+        registerScopedCss(componentModel,
+            componentExposedTypeBuilder,
+            compiledTemplate.getTemplateParserResult());
+
+        // Add expressions from the template to ExposedType and the render functions
+        TemplateMethodsBuilder templateMethodsBuilder =
+            new TemplateMethodsBuilder(jsniRenderFunctions);
+        templateMethodsBuilder.addTemplateMethodsToComponentExposedType(componentExposedTypeBuilder,
+            compiledTemplate.getTemplateParserResult(),
+            compiledTemplate.getVueTemplateCompilerResult());
+
+        // The exact count avoids probing the prototype for each expression at runtime
+        optionsBuilder.addStatement("options.initTemplateExpressions($L, $L)",
+            compiledTemplate.getTemplateParserResult().getMethodsCount(),
+            compiledTemplate.getTemplateParserResult().getComputedCount());
+    }
+
+    /**
+     * Load the template of the given Component and build its parser context.
+     * @param componentModel The Component to get the template of
+     * @param messager Used to report errors
+     * @return The template ready to be compiled, or empty if it couldn't be loaded
+     */
+    public Optional<ComponentTemplate> getComponentTemplate(ComponentModel componentModel,
+        Messager messager)
+    {
+        TypeElement componentTypeElement = componentModel.getComponent();
         ClassName componentTypeName = ClassName.get(componentTypeElement);
         Optional<String> optionalTemplateContent =
-            getTemplateContent(componentTypeName, componentTypeElement);
+            getTemplateContent(componentTypeName, componentTypeElement, messager);
 
         if (!optionalTemplateContent.isPresent())
-            return;
+            return Optional.empty();
 
         LocalComponents localComponents = new LocalComponents();
-        findLocalComponentsForComponent(localComponents, componentTypeElement);
+        findLocalComponentsForComponent(localComponents, componentModel, messager);
 
         // Initialize the template parser context based on the VueComponent type element
         TemplateParserContext templateParserContext =
             new TemplateParserContext(componentTypeElement, localComponents);
         registerFieldsAndMethodsInContext(templateParserContext,
-            componentTypeElement,
+            componentModel,
             new HashSet<>(),
             new HashSet<>());
+        templateParserContext.setExpressionLowering(expressionLowering);
+        if (expressionLowering)
+        {
+            templateParserContext.setJsVisibleFields(jsVisibleFieldsCollector.collect(
+                componentModel));
+        }
+        templateParserContext.setComputedExpressions(computedExpressions);
+        templateParserContext.setVForKeyCheck(vForKeyCheck);
+        templateParserContext.setCachedEventHandlers(cachedEventHandlers);
+        if (autoVOnce)
+        {
+            // The constants of imported classes are collected here, as templates can be parsed
+            // on threads that can't access the elements of the compilation
+            TemplateParser.resolveImports(optionalTemplateContent.get(), templateParserContext);
+            templateParserContext.setAutoVOnce(true,
+                templateConstantsCollector.collect(componentModel,
+                    templateParserContext.getImportedClasses()));
+        }
 
-        // Parse the template
-        TemplateParserResult templateParserResult = new TemplateParser().parseHtmlTemplate(
-            optionalTemplateContent.get(),
+        return Optional.of(new ComponentTemplate(optionalTemplateContent.get(),
             templateParserContext,
-            messager);
+            vueTemplateCompilerCache,
+            templateMinifier));
+    }
+
+    /**
+     * Return the compiler used when templates are compiled on the processor thread.
+     * It is created lazily as starting the JS engine can be expensive.
+     * @return The {@link VueTemplateCompiler}
+     */
+    private VueTemplateCompiler getVueTemplateCompiler()
+    {
+        if (vueTemplateCompiler == null)
+            vueTemplateCompiler = new VueTemplateCompiler(vueTemplateCompilerEngine);
 
-        registerScopedCss(componentExposedTypeBuilder, templateParserResult);
+        return vueTemplateCompiler;
+    }
 
-        // Add expressions from the template to ExposedType and compile template
-        TemplateMethodsBuilder templateMethodsBuilder = new TemplateMethodsBuilder();
-        templateMethodsBuilder.addTemplateMethodsToComponentExposedType(componentExposedTypeBuilder,
-            templateParserResult);
+    /**
+     * Create the cache for compiled templates if it's enabled.
+     * By default it's stored next to the class output directory, so it gets cleaned with the rest
+     * of the build.
+     * @param options The options of the processor
+     * @return The cache, or null if it's disabled or its directory couldn't be resolved
+     */
+    private VueTemplateCompilerCache createVueTemplateCompilerCache(VueGwtProcessorOptions options)
+    {
+        if (!options.isTemplateCache())
+            return null;
+
+        Optional<String> compilerImplementation =
+            VueTemplateCompilerCache.getCompilerImplementation();
+        if (!compilerImplementation.isPresent())
+        {
+            messager.printMessage(Kind.WARNING,
+                "Couldn't read the classes of the template compilers, the template cache is "
+                    + "disabled.");
+            return null;
+        }
+
+        Optional<String> templateCacheDir = options.getTemplateCacheDir();
+        if (templateCacheDir.isPresent())
+        {
+            return new VueTemplateCompilerCache(Paths.get(templateCacheDir.get()),
+                compilerImplementation.get());
+        }
+
+        try
+        {
+            Path classOutput = Paths
+                .get(filer.getResource(StandardLocation.CLASS_OUTPUT, "", "vue-gwt").toUri())
+                .getParent();
+            Path buildDirectory =
+                classOutput.getParent() != null ? classOutput.getParent() : classOutput;
+            return new VueTemplateCompilerCache(buildDirectory.resolve("vue-gwt-template-cache"),
+                compilerImplementation.get());
+        }
+        catch (IOException | IllegalArgumentException | FileSystemNotFoundException e)
+        {
+            messager.printMessage(Kind.WARNING,
+                "Couldn't find the class output directory, the template cache is disabled. Use -A"
+                    + VueGwtProcessorOptions.TEMPLATE_CACHE_DIR
+                    + " to set the cache directory.");
+            return null;
+        }
     }
 
     /**
      * Process the ComponentExposedType class to register all the fields and methods visible in
      * the context.
      * TODO: Improve this method by putting things together with {@link ComponentExposedTypeGenerator}
-     * @param componentTypeElement The class to process
+     * @param componentModel The class to process
      */
     private void registerFieldsAndMethodsInContext(TemplateParserContext templateParserContext,
-        TypeElement componentTypeElement, Set<String> alreadyDoneVariable,
+        ComponentModel componentModel, Set<String> alreadyDoneVariable,
         Set<String> alreadyDoneMethods)
     {
-        ElementFilter
-            .fieldsIn(componentTypeElement.getEnclosedElements())
-            .stream()
-            .filter(ComponentGeneratorsUtil::isFieldVisibleInJS)
-            .forEach(field -> {
-                String name = field.getSimpleName().toString();
-                if (alreadyDoneVariable.contains(name))
-                    return;
-
-                alreadyDoneVariable.add(name);
-                templateParserContext.addRootVariable(ClassName.get(field.asType()), name);
-            });
+        componentModel.getJsVisibleFields().forEach(field -> {
+            String name = field.getSimpleName().toString();
+            if (alreadyDoneVariable.contains(name))
+                return;
+
+            alreadyDoneVariable.add(name);
+            templateParserContext.addRootVariable(ClassName.get(field.asType()), name);
+            if (hasAnnotation(field, NonReactive.class)
+                || hasAnnotation(field, ShallowReactive.class))
+                templateParserContext.addUntrackedVariable(name);
+        });
 
-        ElementFilter
-            .methodsIn(componentTypeElement.getEnclosedElements())
+        componentModel
+            .getComputedMethods()
             .stream()
-            .filter(method -> hasAnnotation(method, Computed.class))
             .filter(method -> !"void".equals(method.getReturnType().toString()))
             .forEach(method -> {
                 String name = getComputedPropertyName(method);
@@ -129,71 +344,67 @@ public class ComponentTemplateProcessor
                     return;
                 alreadyDoneVariable.add(name);
 
-                TypeMirror propertyType;
-                if ("void".equals(method.getReturnType().toString()))
-                    propertyType = method.getParameters().get(0).asType();
-                else
-                    propertyType = method.getReturnType();
-
-                templateParserContext.addRootVariable(ClassName.get(propertyType), name);
+                templateParserContext.addRootVariable(ClassName.get(method.getReturnType()),
+                    name);
             });
 
-        ElementFilter
-            .methodsIn(componentTypeElement.getEnclosedElements())
-            .stream()
-            .filter(ComponentGeneratorsUtil::isMethodVisibleInTemplate)
-            .map(ExecutableElement::getSimpleName)
-            .map(Object::toString)
-            .forEach(methodName -> {
-                if (alreadyDoneMethods.contains(methodName))
-                    return;
-                alreadyDoneMethods.add(methodName);
+        componentModel.getTemplateMethods().forEach(method -> {
+            String methodName = method.getSimpleName().toString();
+            if (hasAnnotation(method, Impure.class))
+                templateParserContext.addImpureMethod(methodName);
 
-                templateParserContext.addRootMethod(methodName);
-            });
+            if (alreadyDoneMethods.contains(methodName))
+                return;
+            alreadyDoneMethods.add(methodName);
 
-        getSuperComponentType(componentTypeElement).ifPresent(superComponent -> registerFieldsAndMethodsInContext(
-            templateParserContext,
-            superComponent,
-            alreadyDoneVariable,
-            alreadyDoneMethods));
+            templateParserContext.addRootMethod(methodName);
+        });
+
+        componentModel
+            .getSuperComponent()
+            .ifPresent(superComponent -> registerFieldsAndMethodsInContext(templateParserContext,
+                superComponent,
+                alreadyDoneVariable,
+                alreadyDoneMethods));
     }
 
     /**
      * Register all locally declared components.
      * @param localComponents The {@link LocalComponents} where we register our local components
-     * @param componentTypeElement The class to process
+     * @param componentModel The class to process
+     * @param messager Used to report errors
      */
     private void findLocalComponentsForComponent(LocalComponents localComponents,
-        TypeElement componentTypeElement)
+        ComponentModel componentModel, Messager messager)
     {
-        Component componentAnnotation = componentTypeElement.getAnnotation(Component.class);
-        if (componentAnnotation == null)
+        if (componentModel.getAnnotation() == null)
             return;
 
-        processLocalComponentClass(localComponents, componentTypeElement);
-        getComponentLocalComponents(elementUtils, componentTypeElement)
-            .stream()
-            .map(DeclaredType.class::cast)
-            .map(DeclaredType::asElement)
-            .map(TypeElement.class::cast)
-            .forEach(childTypeElement -> processLocalComponentClass(localComponents,
-                childTypeElement));
-
-        getSuperComponentType(componentTypeElement).ifPresent(superComponentType -> findLocalComponentsForComponent(
-            localComponents,
-            superComponentType));
+        processLocalComponentClass(localComponents, componentModel, messager);
+        componentModel
+            .getLocalComponentModels()
+            .forEach(localComponentModel -> processLocalComponentClass(localComponents,
+                localComponentModel,
+                messager));
+
+        componentModel
+            .getSuperComponent()
+            .ifPresent(superComponent -> findLocalComponentsForComponent(localComponents,
+                superComponent,
+                messager));
     }
 
     /**
      * Register the local component and all of its {@link Prop}.
      * This will be used for type validation.
      * @param localComponents The {@link LocalComponents} object where we should register our {@link LocalComponent}
-     * @param localComponentType The class to process
+     * @param localComponentModel The class to process
+     * @param messager Used to report errors
      */
     private void processLocalComponentClass(LocalComponents localComponents,
-        TypeElement localComponentType)
+        ComponentModel localComponentModel, Messager messager)
     {
+        TypeElement localComponentType = localComponentModel.getComponent();
         Component componentAnnotation = localComponentType.getAnnotation(Component.class);
         JsComponent jsComponentAnnotation = localComponentType.getAnnotation(JsComponent.class);
         if (componentAnnotation == null && jsComponentAnnotation == null)
@@ -212,19 +423,16 @@ public class ComponentTemplateProcessor
 
         LocalComponent localComponent = localComponents.addLocalComponent(localComponentTagName);
 
-        ElementFilter.fieldsIn(localComponentType.getEnclosedElements()).forEach(field -> {
+        localComponentModel.getPropFields().forEach(field -> {
             Prop propAnnotation = field.getAnnotation(Prop.class);
-            if (propAnnotation != null)
-            {
-                localComponent.addProp(field.getSimpleName().toString(),
-                    TypeName.get(field.asType()),
-                    propAnnotation.required());
-            }
+            localComponent.addProp(field.getSimpleName().toString(),
+                TypeName.get(field.asType()),
+                propAnnotation.required());
         });
     }
 
     private Optional<String> getTemplateContent(ClassName componentTypeName,
-        TypeElement componentTypeElement)
+        TypeElement componentTypeElement, Messager messager)
     {
         String path = slashify(componentTypeName.reflectionName()) + ".html";
         FileObject resource;
@@ -258,10 +466,11 @@ public class ComponentTemplateProcessor
         }
     }
 
-    private void registerScopedCss(Builder componentExposedTypeBuilder,
-        TemplateParserResult templateParserResult)
+    private void registerScopedCss(ComponentModel componentModel,
+        Builder componentExposedTypeBuilder, TemplateParserResult templateParserResult)
     {
         String scopedCss = templateParserResult.getScopedCss();
+        scopedCssGenerator.addComponentCss(componentModel.getComponent(), scopedCss);
         componentExposedTypeBuilder.addMethod(MethodSpec
             .methodBuilder("getScopedCss")
             .addModifiers(Modifier.STATIC, Modifier.PUBLIC)
@@ -0,0 +1,193 @@
+package com.axellience.vuegwt.processors.component.template;
+
+import com.axellience.vuegwt.core.annotations.component.VForKey;
+import com.axellience.vuegwt.processors.component.model.ComponentModel;
+import com.axellience.vuegwt.processors.component.template.parser.context.JsVisibleFields;
+import com.axellience.vuegwt.processors.component.template.parser.variable.VariableInfo;
+import com.squareup.javapoet.TypeName;
+import jsinterop.annotations.JsIgnore;
+import jsinterop.annotations.JsProperty;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.axellience.vuegwt.processors.utils.ComponentGeneratorsUtil.isFieldVisibleInJS;
+import static com.axellience.vuegwt.processors.utils.GeneratorsUtil.hasAnnotation;
+
+/**
+ * Collect the fields visible in JS of the types reachable from the fields and computed properties
+ * of a Component. They are used to lower field accesses in template expressions.
+ * The field annotated with {@link VForKey} of these types is also collected, to key the v-for on
+ * them.
+ * <br>
+ * Types are followed through field types and type arguments, up to {@link #MAX_DEPTH} field
+ * accesses from the Component. This must be used on the processor thread, as it accesses the
+ * elements of the compilation.
+ */
+public class JsVisibleFieldsCollector
+{
+    private static final int MAX_DEPTH = 3;
+    private static final String JS_PROPERTY_AUTO_NAME = "<auto>";
+
+    /** Shared between Components, a type is only scanned once per processor */
+    private final Map<String, List<VariableElement>> jsVisibleFieldsByType = new HashMap<>();
+    /** Shared between Components, empty if a type doesn't have a key */
+    private final Map<String, Optional<VariableInfo>> vForKeyByType = new HashMap<>();
+
+    /**
+     * Collect the fields visible in JS of the types that can be accessed from the given Component.
+     * @param componentModel The Component
+     * @return The fields visible in JS of the reachable types
+     */
+    public JsVisibleFields collect(ComponentModel componentModel)
+    {
+        Map<String, Map<String, TypeName>> fieldsByType = new HashMap<>();
+        Map<String, VariableInfo> vForKeys = new HashMap<>();
+        Optional<ComponentModel> currentModel = Optional.of(componentModel);
+        while (currentModel.isPresent())
+        {
+            ComponentModel model = currentModel.get();
+            for (VariableElement field : model.getJsVisibleFields())
+                collect(field.asType(), 0, fieldsByType, vForKeys);
+            for (ExecutableElement computedMethod : model.getComputedMethods())
+                collect(computedMethod.getReturnType(), 0, fieldsByType, vForKeys);
+
+            currentModel = model.getSuperComponent();
+        }
+
+        return new JsVisibleFields(fieldsByType, vForKeys);
+    }
+
+    private void collect(TypeMirror type, int depth,
+        Map<String, Map<String, TypeName>> fieldsByType, Map<String, VariableInfo> vForKeys)
+    {
+        if (type.getKind() == TypeKind.ARRAY)
+        {
+            collect(((ArrayType) type).getComponentType(), depth, fieldsByType, vForKeys);
+            return;
+        }
+
+        if (type.getKind() == TypeKind.WILDCARD)
+        {
+            TypeMirror extendsBound = ((WildcardType) type).getExtendsBound();
+            if (extendsBound != null)
+                collect(extendsBound, depth, fieldsByType, vForKeys);
+            return;
+        }
+
+        if (type.getKind() != TypeKind.DECLARED)
+            return;
+
+        // The elements of collections are usually what's accessed in v-for
+        DeclaredType declaredType = (DeclaredType) type;
+        for (TypeMirror typeArgument : declaredType.getTypeArguments())
+            collect(typeArgument, depth, fieldsByType, vForKeys);
+
+        TypeElement typeElement = (TypeElement) declaredType.asElement();
+        String typeName = typeElement.getQualifiedName().toString();
+        if (depth >= MAX_DEPTH || fieldsByType.containsKey(typeName) || typeName.startsWith(
+            "java."))
+            return;
+
+        Map<String, TypeName> fields = new LinkedHashMap<>();
+        fieldsByType.put(typeName, fields);
+        getVForKey(typeElement).ifPresent(vForKey -> vForKeys.put(typeName, vForKey));
+        for (VariableElement field : getJsVisibleFields(typeElement))
+        {
+            fields.put(field.getSimpleName().toString(), TypeName.get(field.asType()));
+            collect(field.asType(), depth + 1, fieldsByType, vForKeys);
+        }
+    }
+
+    /**
+     * Get the field annotated with {@link VForKey} of a type, inherited ones included.
+     * @param typeElement The type to get the key of
+     * @return The name and type of the field, or empty if there is none
+     */
+    private Optional<VariableInfo> getVForKey(TypeElement typeElement)
+    {
+        String typeName = typeElement.getQualifiedName().toString();
+        Optional<VariableInfo> vForKey = vForKeyByType.get(typeName);
+        if (vForKey != null)
+            return vForKey;
+
+        vForKey = ElementFilter
+            .fieldsIn(typeElement.getEnclosedElements())
+            .stream()
+            .filter(field -> hasAnnotation(field, VForKey.class))
+            .map(field -> new VariableInfo(TypeName.get(field.asType()),
+                field.getSimpleName().toString()))
+            .findFirst();
+
+        TypeMirror superclass = typeElement.getSuperclass();
+        if (!vForKey.isPresent() && superclass.getKind() == TypeKind.DECLARED)
+            vForKey = getVForKey((TypeElement) ((DeclaredType) superclass).asElement());
+
+        vForKeyByType.put(typeName, vForKey);
+        return vForKey;
+    }
+
+    /**
+     * Get the instance fields accessible with their Java name in JS, inherited ones included.
+     * @param typeElement The type to get the fields of
+     * @return The fields, shadowing fields first
+     */
+    private List<VariableElement> getJsVisibleFields(TypeElement typeElement)
+    {
+        String typeName = typeElement.getQualifiedName().toString();
+        List<VariableElement> fields = jsVisibleFieldsByType.get(typeName);
+        if (fields != null)
+            return fields;
+
+        fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(typeElement.getEnclosedElements()))
+        {
+            if (isJsVisibleWithJavaName(field))
+                fields.add(field);
+        }
+
+        TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED)
+        {
+            TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+            if (!superElement.getQualifiedName().toString().startsWith("java."))
+            {
+                for (VariableElement superField : getJsVisibleFields(superElement))
+                {
+                    if (fields.stream().noneMatch(field -> field.getSimpleName().equals(
+                        superField.getSimpleName())))
+                        fields.add(superField);
+                }
+            }
+        }
+
+        jsVisibleFieldsByType.put(typeName, fields);
+        return fields;
+    }
+
+    private static boolean isJsVisibleWithJavaName(VariableElement field)
+    {
+        if (field.getModifiers().contains(Modifier.STATIC) || hasAnnotation(field, JsIgnore.class)
+            || !isFieldVisibleInJS(field))
+            return false;
+
+        JsProperty jsProperty = field.getAnnotation(JsProperty.class);
+        return jsProperty == null
+            || JS_PROPERTY_AUTO_NAME.equals(jsProperty.name())
+            || field.getSimpleName().contentEquals(jsProperty.name());
+    }
+}
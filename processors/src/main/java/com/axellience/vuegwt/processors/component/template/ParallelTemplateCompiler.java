@@ -0,0 +1,117 @@
+package com.axellience.vuegwt.processors.component.template;
+
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerEngine;
+import com.axellience.vuegwt.processors.utils.BufferedMessager;
+
+import javax.annotation.processing.Messager;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parse and compile {@link ComponentTemplate} on a pool of worker threads.
+ * Each worker has its own {@link VueTemplateCompiler}, as the JS engine is not thread safe.
+ * Messages are buffered and only printed when the result is retrieved on the processor thread,
+ * so they come in the same order as in a serial build.
+ */
+public class ParallelTemplateCompiler
+{
+    private final ExecutorService executorService;
+    private final ThreadLocal<VueTemplateCompiler> vueTemplateCompiler;
+
+    public ParallelTemplateCompiler(int threads, VueTemplateCompilerEngine compilerEngine)
+    {
+        vueTemplateCompiler =
+            ThreadLocal.withInitial(() -> new VueTemplateCompiler(compilerEngine));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread =
+                new Thread(runnable, "vue-gwt-template-compiler-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedule the compilation of a template.
+     * @param componentTemplate The template to compile, empty if the component template couldn't
+     * be loaded
+     * @param messager Messager holding the messages already emitted for this template
+     * @return A handle to get the result on the processor thread
+     */
+    PendingTemplate submit(Optional<ComponentTemplate> componentTemplate,
+        BufferedMessager messager)
+    {
+        Future<CompiledTemplate> future = componentTemplate
+            .map(template -> executorService.submit(() -> template.compile(messager,
+                vueTemplateCompiler.get())))
+            .orElse(null);
+
+        return new PendingTemplate(future, messager);
+    }
+
+    /**
+     * Stop the worker threads. Templates already submitted are still compiled.
+     */
+    public void shutdown()
+    {
+        executorService.shutdown();
+    }
+
+    /**
+     * A template being compiled on a worker thread.
+     */
+    static class PendingTemplate
+    {
+        private final Future<CompiledTemplate> future;
+        private final BufferedMessager bufferedMessager;
+
+        private PendingTemplate(Future<CompiledTemplate> future,
+            BufferedMessager bufferedMessager)
+        {
+            this.future = future;
+            this.bufferedMessager = bufferedMessager;
+        }
+
+        /**
+         * Wait for the compilation to end, and print the messages it emitted.
+         * Exceptions thrown during the compilation are rethrown on the calling thread.
+         * @param messager The messager of the processing environment
+         * @return The compiled template, or empty if the template couldn't be loaded
+         */
+        Optional<CompiledTemplate> get(Messager messager)
+        {
+            try
+            {
+                if (future == null)
+                    return Optional.empty();
+
+                return Optional.of(future.get());
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                if (cause instanceof Error)
+                    throw (Error) cause;
+
+                throw new RuntimeException(cause);
+            }
+            finally
+            {
+                bufferedMessager.replay(messager);
+            }
+        }
+    }
+}
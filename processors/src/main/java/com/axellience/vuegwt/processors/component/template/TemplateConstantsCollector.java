@@ -0,0 +1,83 @@
+package com.axellience.vuegwt.processors.component.template;
+
+import com.axellience.vuegwt.processors.component.model.ComponentModel;
+import com.axellience.vuegwt.processors.component.template.parser.context.TemplateConstants;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Collect the fields with a compile time constant value that can be used in the template of a
+ * Component: its own fields, and the static fields of the classes imported in the template.
+ * <br>
+ * This must be used on the processor thread, as it accesses the elements of the compilation.
+ */
+public class TemplateConstantsCollector
+{
+    private final Elements elements;
+    /** Shared between Components, a class is only scanned once per processor */
+    private final Map<String, Set<String>> staticConstantsByClass = new HashMap<>();
+
+    public TemplateConstantsCollector(Elements elements)
+    {
+        this.elements = elements;
+    }
+
+    /**
+     * Collect the constants that can be used in the template of the given Component.
+     * @param componentModel The Component
+     * @param importedClasses The classes imported in the template, by qualified name
+     * @return The constants usable in the template
+     */
+    public TemplateConstants collect(ComponentModel componentModel,
+        Collection<String> importedClasses)
+    {
+        Set<String> componentConstants = new HashSet<>();
+        Optional<ComponentModel> currentModel = Optional.of(componentModel);
+        while (currentModel.isPresent())
+        {
+            ComponentModel model = currentModel.get();
+            for (VariableElement field : model.getJsVisibleFields())
+            {
+                if (field.getConstantValue() != null)
+                    componentConstants.add(field.getSimpleName().toString());
+            }
+
+            currentModel = model.getSuperComponent();
+        }
+
+        Map<String, Set<String>> constantsByClass = new HashMap<>();
+        for (String importedClass : importedClasses)
+            constantsByClass.put(importedClass, getStaticConstants(importedClass));
+
+        return new TemplateConstants(componentConstants, constantsByClass);
+    }
+
+    private Set<String> getStaticConstants(String classQualifiedName)
+    {
+        return staticConstantsByClass.computeIfAbsent(classQualifiedName, className -> {
+            Set<String> constants = new HashSet<>();
+            TypeElement typeElement = elements.getTypeElement(className);
+            if (typeElement == null)
+                return constants;
+
+            for (VariableElement field : ElementFilter.fieldsIn(typeElement.getEnclosedElements()))
+            {
+                if (field.getModifiers().contains(Modifier.STATIC)
+                    && field.getModifiers().contains(Modifier.PUBLIC)
+                    && field.getConstantValue() != null)
+                    constants.add(field.getSimpleName().toString());
+            }
+            return constants;
+        });
+    }
+}
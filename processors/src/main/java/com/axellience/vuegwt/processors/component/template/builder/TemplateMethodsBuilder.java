@@ -2,9 +2,8 @@ package com.axellience.vuegwt.processors.component.template.builder;
 
 import com.axellience.vuegwt.core.client.component.IsVueComponent;
 import com.axellience.vuegwt.core.client.tools.VueGWTTools;
-import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompiler;
-import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerException;
 import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.WithStatementStripper;
 import com.axellience.vuegwt.processors.component.template.parser.TemplateParser;
 import com.axellience.vuegwt.processors.component.template.parser.result.TemplateExpression;
 import com.axellience.vuegwt.processors.component.template.parser.result.TemplateParserResult;
@@ -16,52 +15,54 @@ import jsinterop.annotations.JsMethod;
 import jsinterop.base.Js;
 
 import javax.lang.model.element.Modifier;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.axellience.vuegwt.processors.utils.GeneratorsUtil.getUnusableByJSAnnotation;
 
 public class TemplateMethodsBuilder
 {
+    // A backslash starts a Java unicode escape if it's preceded by an even number of backslashes
+    private static final Pattern UNICODE_ESCAPE = Pattern.compile("(?<!\\\\)((?:\\\\\\\\)*)\\\\u");
+
+    private final boolean jsniRenderFunctions;
+
+    public TemplateMethodsBuilder()
+    {
+        this(false);
+    }
+
+    /**
+     * @param jsniRenderFunctions If true, render functions are emitted as JSNI methods instead of
+     * being created at runtime from their string representation
+     */
+    public TemplateMethodsBuilder(boolean jsniRenderFunctions)
+    {
+        this.jsniRenderFunctions = jsniRenderFunctions;
+    }
+
     /**
      * Add Template methods to @{@link IsVueComponent} ExposedType based on the result of the template parser.
      * @param componentExposedTypeBuilder Builder for the ExposedType class
      * @param templateParserResult The result of the HTML template parsed by {@link TemplateParser}
-     * render function
+     * @param vueTemplateCompilerResult The result of the compilation of the processed template to
+     * render functions
      */
     public void addTemplateMethodsToComponentExposedType(Builder componentExposedTypeBuilder,
-        TemplateParserResult templateParserResult)
+        TemplateParserResult templateParserResult,
+        VueTemplateCompilerResult vueTemplateCompilerResult)
     {
-        // Compile the resulting HTML template String
-        compileTemplateString(componentExposedTypeBuilder, templateParserResult.getProcessedTemplate());
+        // Add the render functions
+        generateGetRenderFunction(componentExposedTypeBuilder, vueTemplateCompilerResult);
+        generateGetStaticRenderFunctions(componentExposedTypeBuilder, vueTemplateCompilerResult);
 
         // Process the java expressions from the template
         processTemplateExpressions(componentExposedTypeBuilder, templateParserResult);
     }
 
     /**
-     * Compile the HTML template and transform it to a JS render function.
-     * @param templateBuilder The template builder
-     * @param templateString The HTML template string to compile
-     */
-    private void compileTemplateString(Builder templateBuilder, String templateString)
-    {
-        VueTemplateCompilerResult result;
-        try
-        {
-            VueTemplateCompiler vueTemplateCompiler = new VueTemplateCompiler();
-            result = vueTemplateCompiler.compile(templateString);
-        }
-        catch (VueTemplateCompilerException e)
-        {
-            e.printStackTrace();
-            throw new RuntimeException();
-        }
-
-        generateGetRenderFunction(templateBuilder, result);
-        generateGetStaticRenderFunctions(templateBuilder, result);
-    }
-
-    /**
-     * Generate the method that returns the body of the render function.
+     * Generate the method that returns the render function.
      * @param templateBuilder The template builder
      * @param result The result from compilation using vue-template-compiler
      */
@@ -71,14 +72,28 @@ public class TemplateMethodsBuilder
         MethodSpec.Builder getRenderFunctionBuilder = MethodSpec
             .methodBuilder("getRenderFunction")
             .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
-            .returns(Function.class)
-            .addStatement("return new $T($S)", Function.class, result.getRenderFunction());
+            .returns(Function.class);
+
+        Optional<String> jsniRenderFunction = getJsniFunction(result.getRenderFunction());
+        if (jsniRenderFunction.isPresent())
+        {
+            getRenderFunctionBuilder
+                .addModifiers(Modifier.NATIVE)
+                .addCode("$L", jsniRenderFunction.get());
+        }
+        else
+        {
+            getRenderFunctionBuilder.addStatement("return new $T($S)",
+                Function.class,
+                result.getRenderFunction());
+        }
 
         templateBuilder.addMethod(getRenderFunctionBuilder.build());
     }
 
     /**
-     * Generate the method that returns the body of the static render functions.
+     * Generate the method that returns the static render functions.
+     * In JSNI mode, each static render function gets its own native method.
      * @param templateBuilder The template builder
      * @param result The result from compilation using vue-template-compiler
      */
@@ -87,15 +102,28 @@ public class TemplateMethodsBuilder
     {
         CodeBlock.Builder staticFunctions = CodeBlock.builder();
 
-        boolean isFirst = true;
-        for (String staticRenderFunction : result.getStaticRenderFunctions())
+        String[] staticRenderFunctions = result.getStaticRenderFunctions();
+        for (int i = 0; i < staticRenderFunctions.length; i++)
         {
-            if (!isFirst)
+            if (i > 0)
                 staticFunctions.add(", ");
-            else
-                isFirst = false;
 
-            staticFunctions.add("new $T($S)", Function.class, staticRenderFunction);
+            String staticRenderFunction = staticRenderFunctions[i];
+            Optional<String> jsniStaticRenderFunction = getJsniFunction(staticRenderFunction);
+            if (!jsniStaticRenderFunction.isPresent())
+            {
+                staticFunctions.add("new $T($S)", Function.class, staticRenderFunction);
+                continue;
+            }
+
+            String methodName = "getStaticRenderFunction" + i;
+            templateBuilder.addMethod(MethodSpec
+                .methodBuilder(methodName)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.NATIVE)
+                .returns(Function.class)
+                .addCode("$L", jsniStaticRenderFunction.get())
+                .build());
+            staticFunctions.add("$L()", methodName);
         }
 
         MethodSpec.Builder getStaticRenderFunctionsBuilder = MethodSpec
@@ -107,6 +135,39 @@ public class TemplateMethodsBuilder
         templateBuilder.addMethod(getStaticRenderFunctionsBuilder.build());
     }
 
+    /**
+     * Get the JSNI body of a method returning the given render function.
+     * JSNI doesn't support with statements, so they are stripped from the render function first.
+     * @param renderFunction The body of the render function
+     * @return The JSNI body, or empty if JSNI is disabled or the with statement couldn't be
+     * stripped, in which case the function must be created at runtime
+     */
+    private Optional<String> getJsniFunction(String renderFunction)
+    {
+        if (!jsniRenderFunctions)
+            return Optional.empty();
+
+        // "*/" can only appear in string literals, where "*\/" is equivalent
+        return WithStatementStripper
+            .strip(renderFunction)
+            .map(body -> body.replace("*/", "*\\/"))
+            .map(TemplateMethodsBuilder::escapeUnicodeEscapes)
+            .map(body -> "/*-{\n  return function() {" + body + "};\n}-*/");
+    }
+
+    /**
+     * Java unicode escapes are processed even in comments, so JS unicode escapes in strings would
+     * be turned into actual characters in the JSNI code. Escape their backslash to keep them.
+     * @param jsCode Some JS code
+     * @return The JS code, safe to put in a Java comment
+     */
+    private static String escapeUnicodeEscapes(String jsCode)
+    {
+        return UNICODE_ESCAPE
+            .matcher(jsCode)
+            .replaceAll("$1" + Matcher.quoteReplacement("\\u005Cu"));
+    }
+
     /**
      * Process the expressions found in the HTML template
      * @param templateBuilder The template builder
@@ -133,7 +194,7 @@ public class TemplateMethodsBuilder
         TemplateExpression expression, String templateName)
     {
         MethodSpec.Builder templateExpressionMethodBuilder = MethodSpec
-            .methodBuilder(expression.getId())
+            .methodBuilder(expression.getMethodName())
             .addModifiers(Modifier.PUBLIC)
             .addAnnotation(JsMethod.class)
             .addAnnotation(getUnusableByJSAnnotation())
@@ -1,34 +1,61 @@
 package com.axellience.vuegwt.processors.component.template.builder.compiler;
 
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.JavaVueTemplateCompiler;
 import jdk.nashorn.api.scripting.NashornScriptEngine;
 import jdk.nashorn.api.scripting.ScriptObjectMirror;
 
 import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
+import java.util.Optional;
 
 /**
- * Compile an HTML Vue template to JS render function using Nashorn and the vue-template-compiler.
+ * Compile an HTML Vue template to JS render function.
+ * <br>
+ * With the {@link VueTemplateCompilerEngine#JAVA} engine templates are compiled by the
+ * {@link JavaVueTemplateCompiler}. Nashorn and the vue-template-compiler are only used for the
+ * templates it doesn't support, or for every template with the
+ * {@link VueTemplateCompilerEngine#NASHORN} engine.
+ * <br>
+ * Each instance owns its own Nashorn engine. Engines are not thread safe, so an instance must
+ * not be shared between threads. Instances should be reused between compilations as creating the
+ * engine is expensive. The engine is only created when it's first needed.
  * @author Adrien Baron
  */
 public class VueTemplateCompiler
 {
-    private static NashornScriptEngine engine;
+    /**
+     * Version of the vue-template-compiler embedded in {@link NashornVueTemplateCompiler}.
+     * Must be updated when the embedded compiler is updated.
+     */
+    public static final String VUE_TEMPLATE_COMPILER_VERSION = "2.5.16";
 
-    public VueTemplateCompiler()
+    private final VueTemplateCompilerEngine compilerEngine;
+    private final JavaVueTemplateCompiler javaVueTemplateCompiler = new JavaVueTemplateCompiler();
+    private NashornScriptEngine engine;
+
+    public VueTemplateCompiler(VueTemplateCompilerEngine compilerEngine)
     {
-        // Engine is cached between instance to avoid creating at each compilation
-        if (engine == null)
-        {
-            initEngine();
-        }
+        this.compilerEngine = compilerEngine;
+    }
+
+    public VueTemplateCompilerEngine getCompilerEngine()
+    {
+        return compilerEngine;
     }
 
     /**
      * Init the Nashorn engine and load the Vue compiler in it.
+     * @throws VueTemplateCompilerException If Nashorn is not available in this JVM
      */
-    private void initEngine()
+    private void initEngine() throws VueTemplateCompilerException
     {
         engine = (NashornScriptEngine) new ScriptEngineManager().getEngineByName("nashorn");
+        if (engine == null)
+        {
+            throw new VueTemplateCompilerException(
+                "The Nashorn JS engine is not available in this JVM, it is needed to compile "
+                    + "templates with the vue-template-compiler.");
+        }
 
         try
         {
@@ -42,7 +69,7 @@ public class VueTemplateCompiler
     }
 
     /**
-     * Compile the given HTML template to JS functions using vue-template-compiler.
+     * Compile the given HTML template to JS functions.
      * @param htmlTemplate The HTML Component template to compile
      * @return An object containing the render functions
      * @throws VueTemplateCompilerException If the compilation fails
@@ -50,6 +77,29 @@ public class VueTemplateCompiler
     public VueTemplateCompilerResult compile(String htmlTemplate)
     throws VueTemplateCompilerException
     {
+        if (compilerEngine == VueTemplateCompilerEngine.JAVA)
+        {
+            Optional<VueTemplateCompilerResult> result =
+                javaVueTemplateCompiler.compile(htmlTemplate);
+            if (result.isPresent())
+                return result.get();
+        }
+
+        return compileWithNashorn(htmlTemplate);
+    }
+
+    /**
+     * Compile the given HTML template to JS functions using vue-template-compiler.
+     * @param htmlTemplate The HTML Component template to compile
+     * @return An object containing the render functions
+     * @throws VueTemplateCompilerException If the compilation fails
+     */
+    private VueTemplateCompilerResult compileWithNashorn(String htmlTemplate)
+    throws VueTemplateCompilerException
+    {
+        if (engine == null)
+            initEngine();
+
         ScriptObjectMirror templateCompilerResult;
         try
         {
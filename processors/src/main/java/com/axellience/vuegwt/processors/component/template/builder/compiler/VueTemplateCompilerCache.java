@@ -0,0 +1,300 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler;
+
+import javax.annotation.processing.Messager;
+import javax.tools.Diagnostic.Kind;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Cache {@link VueTemplateCompilerResult} on disk between builds.
+ * <br>
+ * Entries are keyed by a hash of the processed HTML template, of the version of the
+ * vue-template-compiler, of the engine used to compile it and of the classes of the compilers.
+ * When a template hasn't changed, its render functions are read from the cache and the template
+ * is never compiled.
+ * <br>
+ * Entries are written to a temporary file then moved, so the cache can be shared by several
+ * threads and several builds at the same time.
+ * For this reason entries are never removed: an entry not used by a build may still be used by
+ * another one. The cache directory must be deleted to reclaim its space.
+ */
+public class VueTemplateCompilerCache
+{
+    /**
+     * Version of the format of the cache entries.
+     * Must be incremented when the format changes, changes of the compilers are detected by
+     * {@link #getCompilerImplementation()}.
+     */
+    private static final int CACHE_FORMAT_VERSION = 1;
+    private static final String CACHE_ENTRY_EXTENSION = ".vue-template";
+    private static final String COMPILER_PACKAGE_PATH =
+        VueTemplateCompilerCache.class.getPackage().getName().replace('.', '/') + "/";
+
+    private final Path cacheDirectory;
+    private final String compilerImplementation;
+
+    /**
+     * @param cacheDirectory The directory where entries are stored
+     * @param compilerImplementation The implementation of the compilers, as returned by
+     * {@link #getCompilerImplementation()}
+     */
+    public VueTemplateCompilerCache(Path cacheDirectory, String compilerImplementation)
+    {
+        this.cacheDirectory = cacheDirectory;
+        this.compilerImplementation = compilerImplementation;
+    }
+
+    /**
+     * Identify the implementation of the compilers, with the version of the processor and a hash
+     * of the classes of this package and its sub packages. Snapshot builds of the processor keep
+     * the same version, so the hash is needed to detect changes of the compilers.
+     * @return The implementation, or empty if the classes of the compilers couldn't be read
+     */
+    public static Optional<String> getCompilerImplementation()
+    {
+        CodeSource codeSource =
+            VueTemplateCompilerCache.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null)
+            return Optional.empty();
+
+        try
+        {
+            MessageDigest digest = createDigest();
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            if (Files.isDirectory(location))
+                digestCompilerDirectory(location, digest);
+            else
+                digestCompilerJar(location, digest);
+
+            // Not set when the processor is not run from its jar, for instance in an IDE
+            String version = Optional
+                .ofNullable(VueTemplateCompilerCache.class.getPackage().getImplementationVersion())
+                .orElse("unknown");
+            return Optional.of(version + "/" + toHex(digest.digest()));
+        }
+        catch (IOException | URISyntaxException | RuntimeException e)
+        {
+            return Optional.empty();
+        }
+    }
+
+    private static void digestCompilerDirectory(Path classesDirectory, MessageDigest digest)
+    throws IOException
+    {
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(classesDirectory.resolve(COMPILER_PACKAGE_PATH)))
+        {
+            classFiles = files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+
+        for (Path classFile : classFiles)
+        {
+            digest.update(classesDirectory
+                .relativize(classFile)
+                .toString()
+                .getBytes(StandardCharsets.UTF_8));
+            digest.update(Files.readAllBytes(classFile));
+        }
+    }
+
+    private static void digestCompilerJar(Path jar, MessageDigest digest) throws IOException
+    {
+        try (ZipFile zipFile = new ZipFile(jar.toFile()))
+        {
+            List<ZipEntry> classEntries = zipFile
+                .stream()
+                .filter(entry -> !entry.isDirectory() && entry
+                    .getName()
+                    .startsWith(COMPILER_PACKAGE_PATH))
+                .sorted((entry, other) -> entry.getName().compareTo(other.getName()))
+                .collect(Collectors.toList());
+
+            byte[] buffer = new byte[8192];
+            for (ZipEntry classEntry : classEntries)
+            {
+                digest.update(classEntry.getName().getBytes(StandardCharsets.UTF_8));
+                try (InputStream input = zipFile.getInputStream(classEntry))
+                {
+                    int read;
+                    while ((read = input.read(buffer)) != -1)
+                        digest.update(buffer, 0, read);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the render functions of the given template from the cache, or compile it and store
+     * the result in the cache.
+     * @param htmlTemplate The HTML Component template to compile
+     * @param vueTemplateCompiler The compiler to use if the template is not in the cache
+     * @param messager Used to report issues with the cache
+     * @return An object containing the render functions
+     * @throws VueTemplateCompilerException If the compilation fails
+     */
+    public VueTemplateCompilerResult compile(String htmlTemplate,
+        VueTemplateCompiler vueTemplateCompiler, Messager messager)
+    throws VueTemplateCompilerException
+    {
+        Path cacheEntry =
+            cacheDirectory.resolve(getCacheKey(htmlTemplate, vueTemplateCompiler.getCompilerEngine())
+                + CACHE_ENTRY_EXTENSION);
+
+        Optional<VueTemplateCompilerResult> cachedResult = readCacheEntry(cacheEntry);
+        if (cachedResult.isPresent())
+            return cachedResult.get();
+
+        VueTemplateCompilerResult result = vueTemplateCompiler.compile(htmlTemplate);
+        writeCacheEntry(cacheEntry, result, messager);
+        return result;
+    }
+
+    private String getCacheKey(String htmlTemplate, VueTemplateCompilerEngine compilerEngine)
+    {
+        MessageDigest digest = createDigest();
+        digest.update(("vue-template-compiler@"
+            + VueTemplateCompiler.VUE_TEMPLATE_COMPILER_VERSION
+            + "/"
+            + CACHE_FORMAT_VERSION
+            + "/"
+            + compilerEngine
+            + "/"
+            + compilerImplementation
+            + "\n").getBytes(StandardCharsets.UTF_8));
+        digest.update(htmlTemplate.getBytes(StandardCharsets.UTF_8));
+
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest createDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // SHA-256 is required in every Java platform implementation
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes)
+    {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes)
+            hex.append(String.format("%02x", b));
+
+        return hex.toString();
+    }
+
+    private Optional<VueTemplateCompilerResult> readCacheEntry(Path cacheEntry)
+    {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(
+            cacheEntry))))
+        {
+            if (input.readInt() != CACHE_FORMAT_VERSION)
+                return Optional.empty();
+
+            String renderFunction = readString(input);
+            String[] staticRenderFunctions = new String[input.readInt()];
+            for (int i = 0; i < staticRenderFunctions.length; i++)
+                staticRenderFunctions[i] = readString(input);
+
+            return Optional.of(new VueTemplateCompilerResult(renderFunction,
+                staticRenderFunctions));
+        }
+        catch (IOException | RuntimeException e)
+        {
+            // Missing or corrupted entry, it will be replaced by a fresh compilation
+            return Optional.empty();
+        }
+    }
+
+    private void writeCacheEntry(Path cacheEntry, VueTemplateCompilerResult result,
+        Messager messager)
+    {
+        Path temporaryFile = null;
+        try
+        {
+            Files.createDirectories(cacheDirectory);
+            temporaryFile = Files.createTempFile(cacheDirectory, "entry", ".tmp");
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                temporaryFile))))
+            {
+                output.writeInt(CACHE_FORMAT_VERSION);
+                writeString(output, result.getRenderFunction());
+                output.writeInt(result.getStaticRenderFunctions().length);
+                for (String staticRenderFunction : result.getStaticRenderFunctions())
+                    writeString(output, staticRenderFunction);
+            }
+
+            try
+            {
+                Files.move(temporaryFile,
+                    cacheEntry,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(temporaryFile, cacheEntry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException e)
+        {
+            messager.printMessage(Kind.WARNING,
+                "Couldn't write compiled template to the cache in "
+                    + cacheDirectory
+                    + ": "
+                    + e.getMessage());
+
+            if (temporaryFile != null)
+            {
+                try
+                {
+                    Files.deleteIfExists(temporaryFile);
+                }
+                catch (IOException ignored)
+                {
+                }
+            }
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException
+    {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException
+    {
+        // DataOutputStream.writeUTF is limited to 64KB, render functions can be bigger
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
@@ -0,0 +1,17 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler;
+
+/**
+ * Engines available to compile templates to render functions.
+ */
+public enum VueTemplateCompilerEngine
+{
+    /**
+     * Port of the vue-template-compiler in Java, falls back to {@link #NASHORN} for the few
+     * templates it doesn't support.
+     */
+    JAVA,
+    /**
+     * The vue-template-compiler running in the Nashorn JS engine.
+     */
+    NASHORN
+}
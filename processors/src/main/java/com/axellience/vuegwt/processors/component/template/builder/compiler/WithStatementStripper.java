@@ -0,0 +1,337 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Remove the with(this){...} statement wrapping the render functions produced by the
+ * vue-template-compiler.
+ * Free identifiers are prefixed with "_vm." instead, like the stripWith option of the
+ * vue-template-es2015-compiler. This allows render functions to be emitted in contexts that don't
+ * support with statements, like JSNI.
+ * <br>
+ * This only understands the subset of JS produced by the vue-template-compiler: no regular
+ * expressions, comments, template literals or destructuring.
+ */
+public class WithStatementStripper
+{
+    private static final String WITH_PREFIX = "with(this){";
+    private static final String HEADER =
+        "var _vm=this;var _h=_vm.$createElement;var _c=_vm._self._c||_h;";
+
+    private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList("break",
+        "case",
+        "catch",
+        "continue",
+        "default",
+        "delete",
+        "do",
+        "else",
+        "false",
+        "finally",
+        "for",
+        "function",
+        "if",
+        "in",
+        "instanceof",
+        "new",
+        "null",
+        "return",
+        "switch",
+        "this",
+        "throw",
+        "true",
+        "try",
+        "typeof",
+        "var",
+        "void",
+        "while",
+        "arguments"));
+
+    // Same list as the allowed globals of Vue
+    private static final Set<String> GLOBALS = new HashSet<>(Arrays.asList("Infinity",
+        "undefined",
+        "NaN",
+        "isFinite",
+        "isNaN",
+        "parseFloat",
+        "parseInt",
+        "decodeURI",
+        "decodeURIComponent",
+        "encodeURI",
+        "encodeURIComponent",
+        "Math",
+        "Number",
+        "Date",
+        "Array",
+        "Object",
+        "Boolean",
+        "String",
+        "RegExp",
+        "Map",
+        "Set",
+        "JSON",
+        "Intl",
+        "require"));
+
+    /**
+     * Strip the with statement of a render function.
+     * @param renderFunction The body of a render function, as returned by the
+     * vue-template-compiler
+     * @return The body without with statement, or empty if the render function doesn't have the
+     * expected shape
+     */
+    public static Optional<String> strip(String renderFunction)
+    {
+        String trimmed = renderFunction.trim();
+        if (!trimmed.startsWith(WITH_PREFIX) || !trimmed.endsWith("}"))
+            return Optional.empty();
+
+        String body = trimmed.substring(WITH_PREFIX.length(), trimmed.length() - 1);
+        return new WithStatementStripper(body).rewrite().map(HEADER::concat);
+    }
+
+    private final String source;
+    private final StringBuilder result = new StringBuilder();
+    private int position = 0;
+
+    /** Local variables by function scope, the outer scope holds the header variables */
+    private final Deque<Set<String>> scopes = new ArrayDeque<>();
+    /** For each open brace, true if it's the body of a function */
+    private final Deque<Boolean> braces = new ArrayDeque<>();
+    /** Depth of parentheses, brackets and braces */
+    private int depth = 0;
+
+    private String previousToken = "";
+    private Set<String> pendingFunctionScope;
+    private boolean inFunctionHeader;
+    private int functionParametersDepth = -1;
+    private int varDepth = -1;
+    private boolean expectVarName;
+
+    private WithStatementStripper(String source)
+    {
+        this.source = source;
+        scopes.push(new HashSet<>(Arrays.asList("_vm", "_h", "_c")));
+    }
+
+    private Optional<String> rewrite()
+    {
+        while (position < source.length())
+        {
+            char c = source.charAt(position);
+            if (Character.isWhitespace(c))
+            {
+                result.append(c);
+                position++;
+            }
+            else if (c == '"' || c == '\'')
+            {
+                if (!copyString(c))
+                    return Optional.empty();
+                previousToken = "\"";
+            }
+            else if (Character.isDigit(c) || (c == '.' && isDigitAt(position + 1)))
+            {
+                copyNumber();
+                previousToken = "0";
+            }
+            else if (Character.isJavaIdentifierStart(c))
+            {
+                processIdentifier(readIdentifier());
+            }
+            else if (c == '/' && (peek(1) == '/' || peek(1) == '*'))
+            {
+                // Comments are never generated, better leave the function as is
+                return Optional.empty();
+            }
+            else
+            {
+                if (!processPunctuation(c))
+                    return Optional.empty();
+                result.append(c);
+                position++;
+                previousToken = String.valueOf(c);
+            }
+        }
+
+        if (depth != 0 || braces.size() != 0)
+            return Optional.empty();
+
+        return Optional.of(result.toString());
+    }
+
+    private void processIdentifier(String identifier)
+    {
+        if (inFunctionHeader)
+        {
+            // Function parameters, or name of a function expression
+            if (functionParametersDepth != -1)
+                pendingFunctionScope.add(identifier);
+        }
+        else if (expectVarName)
+        {
+            scopes.peek().add(identifier);
+            expectVarName = false;
+        }
+        else if ("function".equals(identifier))
+        {
+            inFunctionHeader = true;
+            pendingFunctionScope = new HashSet<>();
+        }
+        else if ("var".equals(identifier))
+        {
+            varDepth = depth;
+            expectVarName = true;
+        }
+        else if (isFreeIdentifier(identifier))
+        {
+            result.append("_vm.");
+        }
+
+        result.append(identifier);
+        previousToken = identifier;
+    }
+
+    private boolean isFreeIdentifier(String identifier)
+    {
+        if (".".equals(previousToken) || KEYWORDS.contains(identifier)
+            || GLOBALS.contains(identifier))
+            return false;
+
+        // Key in an object literal
+        if (("{".equals(previousToken) || ",".equals(previousToken)) && nextCharIs(':'))
+            return false;
+
+        return scopes.stream().noneMatch(scope -> scope.contains(identifier));
+    }
+
+    private boolean processPunctuation(char c)
+    {
+        switch (c)
+        {
+            case '(':
+            case '[':
+                depth++;
+                if (inFunctionHeader && c == '(' && functionParametersDepth == -1)
+                    functionParametersDepth = depth;
+                else if (inFunctionHeader)
+                    return false;
+                break;
+            case ')':
+            case ']':
+                if (inFunctionHeader && depth == functionParametersDepth)
+                    functionParametersDepth = -1;
+                depth--;
+                break;
+            case '{':
+                // Destructured parameters are not supported by ES5
+                if (inFunctionHeader && functionParametersDepth != -1)
+                    return false;
+                depth++;
+                if (inFunctionHeader)
+                {
+                    scopes.push(pendingFunctionScope);
+                    inFunctionHeader = false;
+                    pendingFunctionScope = null;
+                    braces.push(true);
+                }
+                else
+                {
+                    braces.push(false);
+                }
+                break;
+            case '}':
+                if (braces.isEmpty())
+                    return false;
+                if (braces.pop())
+                    scopes.pop();
+                depth--;
+                if (depth < varDepth)
+                    varDepth = -1;
+                break;
+            case ',':
+                if (depth == varDepth)
+                    expectVarName = true;
+                break;
+            case ';':
+                if (depth == varDepth)
+                    varDepth = -1;
+                break;
+            default:
+                break;
+        }
+        return depth >= 0;
+    }
+
+    private boolean copyString(char quote)
+    {
+        int start = position;
+        position++;
+        while (position < source.length())
+        {
+            char c = source.charAt(position);
+            if (c == '\\')
+            {
+                position += 2;
+                continue;
+            }
+            position++;
+            if (c == quote)
+            {
+                result.append(source, start, position);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void copyNumber()
+    {
+        int start = position;
+        while (position < source.length() && (Character.isLetterOrDigit(source.charAt(position))
+            || source.charAt(position) == '.'))
+        {
+            position++;
+        }
+        result.append(source, start, position);
+    }
+
+    private String readIdentifier()
+    {
+        int start = position;
+        position++;
+        while (position < source.length()
+            && Character.isJavaIdentifierPart(source.charAt(position)))
+        {
+            position++;
+        }
+        return source.substring(start, position);
+    }
+
+    private boolean nextCharIs(char expected)
+    {
+        for (int i = position; i < source.length(); i++)
+        {
+            char c = source.charAt(i);
+            if (!Character.isWhitespace(c))
+                return c == expected;
+        }
+        return false;
+    }
+
+    private boolean isDigitAt(int index)
+    {
+        return index < source.length() && Character.isDigit(source.charAt(index));
+    }
+
+    private char peek(int offset)
+    {
+        int index = position + offset;
+        return index < source.length() ? source.charAt(index) : 0;
+    }
+}
@@ -0,0 +1,297 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An element node (type 1 in the vue-template-compiler).
+ * Fields are named after the properties of the AST elements of the vue-template-compiler.
+ */
+class AstElement extends AstNode
+{
+    final String tag;
+    final List<Attribute> attrsList;
+    final Map<String, String> attrsMap;
+    AstElement parent;
+    final List<AstNode> children = new ArrayList<>();
+
+    String ns;
+    boolean forbidden;
+    boolean pre;
+    boolean plain;
+    boolean hasBindings;
+
+    String key;
+    String ref;
+    boolean refInFor;
+
+    String forExpression;
+    String alias;
+    String iterator1;
+    String iterator2;
+
+    String ifExpression;
+    String elseIfExpression;
+    boolean isElse;
+    List<IfCondition> ifConditions;
+    boolean once;
+
+    String slotName;
+    String slotTarget;
+    String slotScope;
+    boolean hasSlotScopeKey;
+    Map<String, AstElement> scopedSlots;
+
+    String component;
+    boolean inlineTemplate;
+
+    String staticClass;
+    String classBinding;
+    String staticStyle;
+    String styleBinding;
+
+    List<Attribute> attrs;
+    List<Attribute> props;
+    Map<String, List<Handler>> events;
+    Map<String, List<Handler>> nativeEvents;
+    List<Directive> directives;
+
+    // Set during code generation
+    Model model;
+    Directive wrapData;
+    Directive wrapListeners;
+
+    // Set by the optimizer
+    boolean staticRoot;
+    boolean staticInFor;
+
+    // Code generation state
+    boolean staticProcessed;
+    boolean onceProcessed;
+    boolean forProcessed;
+    boolean ifProcessed;
+
+    AstElement(String tag, List<Attribute> attrs, AstElement parent)
+    {
+        this.tag = tag;
+        this.attrsList = new ArrayList<>(attrs);
+        this.attrsMap = new LinkedHashMap<>();
+        for (Attribute attr : attrs)
+            this.attrsMap.put(attr.name, attr.value);
+        this.parent = parent;
+    }
+
+    /**
+     * Equivalent of Object.keys(node).every(isStaticKey) in the vue-template-compiler optimizer.
+     * @return true if this element has no property preventing it from being static
+     */
+    boolean hasOnlyStaticKeys()
+    {
+        return ns == null
+            && !forbidden
+            && !hasBindings
+            && key == null
+            && ref == null
+            && forExpression == null
+            && ifExpression == null
+            && elseIfExpression == null
+            && !isElse
+            && ifConditions == null
+            && !once
+            && slotName == null
+            && slotTarget == null
+            && !hasSlotScopeKey
+            && scopedSlots == null
+            && component == null
+            && !inlineTemplate
+            && classBinding == null
+            && styleBinding == null
+            && props == null
+            && events == null
+            && nativeEvents == null
+            && directives == null;
+    }
+
+    void addIfCondition(String expression, AstElement block)
+    {
+        if (ifConditions == null)
+            ifConditions = new ArrayList<>();
+        ifConditions.add(new IfCondition(expression, block));
+    }
+
+    void addAttr(String name, String value)
+    {
+        if (attrs == null)
+            attrs = new ArrayList<>();
+        attrs.add(new Attribute(name, value));
+        plain = false;
+    }
+
+    void addProp(String name, String value)
+    {
+        if (props == null)
+            props = new ArrayList<>();
+        props.add(new Attribute(name, value));
+        plain = false;
+    }
+
+    void addDirective(Directive directive)
+    {
+        if (directives == null)
+            directives = new ArrayList<>();
+        directives.add(directive);
+        plain = false;
+    }
+
+    /**
+     * Add an event handler to this element.
+     * @param name The name of the event
+     * @param value The JS expression of the handler
+     * @param modifiers The modifiers of the handler, null if it has none
+     * @param important If true the handler is added before the existing ones
+     */
+    void addHandler(String name, String value, Map<String, Boolean> modifiers,
+        boolean important)
+    {
+        Map<String, Boolean> handlerModifiers =
+            modifiers == null ? new LinkedHashMap<>() : modifiers;
+
+        if (handlerModifiers.remove("capture") != null)
+            name = "!" + name;
+        if (handlerModifiers.remove("once") != null)
+            name = "~" + name;
+        if (handlerModifiers.remove("passive") != null)
+            name = "&" + name;
+
+        if ("click".equals(name))
+        {
+            if (handlerModifiers.remove("right") != null)
+                name = "contextmenu";
+            else if (handlerModifiers.containsKey("middle"))
+                name = "mouseup";
+        }
+
+        Map<String, List<Handler>> handlers;
+        if (handlerModifiers.remove("native") != null)
+        {
+            if (nativeEvents == null)
+                nativeEvents = new LinkedHashMap<>();
+            handlers = nativeEvents;
+        }
+        else
+        {
+            if (events == null)
+                events = new LinkedHashMap<>();
+            handlers = events;
+        }
+
+        Handler handler = new Handler(JsUtils.trim(value), modifiers);
+        List<Handler> eventHandlers = handlers.computeIfAbsent(name, k -> new ArrayList<>());
+        if (important)
+            eventHandlers.add(0, handler);
+        else
+            eventHandlers.add(handler);
+
+        plain = false;
+    }
+
+    /**
+     * Remove the first attribute with the given name from the attributes list.
+     * It stays in the attributes map.
+     * @param name The name of the attribute
+     * @return The value of the attribute, null if it's not present
+     */
+    String getAndRemoveAttr(String name)
+    {
+        String value = attrsMap.get(name);
+        if (value != null)
+        {
+            for (int i = 0; i < attrsList.size(); i++)
+            {
+                if (attrsList.get(i).name.equals(name))
+                {
+                    attrsList.remove(i);
+                    break;
+                }
+            }
+        }
+        return value;
+    }
+
+    static class Attribute
+    {
+        final String name;
+        final String value;
+
+        Attribute(String name, String value)
+        {
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+    static class IfCondition
+    {
+        final String expression;
+        final AstElement block;
+
+        IfCondition(String expression, AstElement block)
+        {
+            this.expression = expression;
+            this.block = block;
+        }
+    }
+
+    static class Directive
+    {
+        final String name;
+        final String rawName;
+        final String value;
+        final String arg;
+        final Map<String, Boolean> modifiers;
+
+        Directive(String name, String rawName, String value, String arg,
+            Map<String, Boolean> modifiers)
+        {
+            this.name = name;
+            this.rawName = rawName;
+            this.value = value;
+            this.arg = arg;
+            this.modifiers = modifiers;
+        }
+
+        boolean hasModifier(String modifier)
+        {
+            return modifiers != null && modifiers.containsKey(modifier);
+        }
+    }
+
+    static class Handler
+    {
+        final String value;
+        /** null when the handler has no modifiers object, can be empty */
+        final Map<String, Boolean> modifiers;
+
+        Handler(String value, Map<String, Boolean> modifiers)
+        {
+            this.value = value;
+            this.modifiers = modifiers;
+        }
+    }
+
+    static class Model
+    {
+        final String value;
+        final String callback;
+        final String expression;
+
+        Model(String value, String callback, String expression)
+        {
+            this.value = value;
+            this.callback = callback;
+            this.expression = expression;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+/**
+ * A text node containing {{ }} interpolations (type 2 in the vue-template-compiler).
+ */
+class AstExpressionText extends AstNode
+{
+    final String expression;
+    final String text;
+
+    AstExpressionText(String expression, String text)
+    {
+        this.expression = expression;
+        this.text = text;
+    }
+}
@@ -0,0 +1,9 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+/**
+ * A node of the template AST, equivalent of the AST nodes of the vue-template-compiler.
+ */
+abstract class AstNode
+{
+    boolean isStatic;
+}
@@ -0,0 +1,14 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+/**
+ * A static text node (type 3 in the vue-template-compiler).
+ */
+class AstText extends AstNode
+{
+    final String text;
+
+    AstText(String text)
+    {
+        this.text = text;
+    }
+}
@@ -0,0 +1,2191 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+This class is generated by utils/he/process-html-entities.js
+*/
+class HtmlEntities
+{
+    /**
+     * Match the character references, groups are: decimal code point and semicolon, hexadecimal
+     * code point and semicolon, named reference with semicolon, legacy named reference without
+     * semicolon and the character following it.
+     */
+    static final Pattern DECODE = Pattern.compile("&#([0-9]+)(;?)"
+        + "|&#[xX]([a-fA-F0-9]+)(;?)"
+        + "|&([0-9a-zA-Z]+);"
+        + "|&(Aacute|Agrave|Atilde|Ccedil|Eacute|Egrave|Iacute|Igrave|Ntilde|Oacute|Ograve|"
+        + "Oslash|Otilde|Uacute|Ugrave|Yacute|aacute|agrave|atilde|brvbar|ccedil|curren|"
+        + "divide|eacute|egrave|frac12|frac14|frac34|iacute|igrave|iquest|middot|ntilde|"
+        + "oacute|ograve|oslash|otilde|plusmn|uacute|ugrave|yacute|AElig|Acirc|Aring|Ecirc|"
+        + "Icirc|Ocirc|THORN|Ucirc|acirc|acute|aelig|aring|cedil|ecirc|icirc|iexcl|laquo|"
+        + "micro|ocirc|pound|raquo|szlig|thorn|times|ucirc|Auml|COPY|Euml|Iuml|Ouml|QUOT|"
+        + "Uuml|auml|cent|copy|euml|iuml|macr|nbsp|ordf|ordm|ouml|para|quot|sect|sup1|sup2|"
+        + "sup3|uuml|yuml|AMP|ETH|REG|amp|deg|eth|not|reg|shy|uml|yen|GT|LT|gt|"
+        + "lt)([=a-zA-Z0-9])?");
+    /** Named character references, without their semicolon */
+    static final Map<String, String> NAMED = new HashMap<>();
+    /** Characters replacing numeric references to some code points */
+    static final Map<Integer, String> NUMERIC = new HashMap<>();
+
+    static
+    {
+        NAMED.put("aacute", "\u00E1");
+        NAMED.put("Aacute", "\u00C1");
+        NAMED.put("abreve", "\u0103");
+        NAMED.put("Abreve", "\u0102");
+        NAMED.put("ac", "\u223E");
+        NAMED.put("acd", "\u223F");
+        NAMED.put("acE", "\u223E\u0333");
+        NAMED.put("acirc", "\u00E2");
+        NAMED.put("Acirc", "\u00C2");
+        NAMED.put("acute", "\u00B4");
+        NAMED.put("acy", "\u0430");
+        NAMED.put("Acy", "\u0410");
+        NAMED.put("aelig", "\u00E6");
+        NAMED.put("AElig", "\u00C6");
+        NAMED.put("af", "\u2061");
+        NAMED.put("afr", "\uD835\uDD1E");
+        NAMED.put("Afr", "\uD835\uDD04");
+        NAMED.put("agrave", "\u00E0");
+        NAMED.put("Agrave", "\u00C0");
+        NAMED.put("alefsym", "\u2135");
+        NAMED.put("aleph", "\u2135");
+        NAMED.put("alpha", "\u03B1");
+        NAMED.put("Alpha", "\u0391");
+        NAMED.put("amacr", "\u0101");
+        NAMED.put("Amacr", "\u0100");
+        NAMED.put("amalg", "\u2A3F");
+        NAMED.put("amp", "&");
+        NAMED.put("AMP", "&");
+        NAMED.put("and", "\u2227");
+        NAMED.put("And", "\u2A53");
+        NAMED.put("andand", "\u2A55");
+        NAMED.put("andd", "\u2A5C");
+        NAMED.put("andslope", "\u2A58");
+        NAMED.put("andv", "\u2A5A");
+        NAMED.put("ang", "\u2220");
+        NAMED.put("ange", "\u29A4");
+        NAMED.put("angle", "\u2220");
+        NAMED.put("angmsd", "\u2221");
+        NAMED.put("angmsdaa", "\u29A8");
+        NAMED.put("angmsdab", "\u29A9");
+        NAMED.put("angmsdac", "\u29AA");
+        NAMED.put("angmsdad", "\u29AB");
+        NAMED.put("angmsdae", "\u29AC");
+        NAMED.put("angmsdaf", "\u29AD");
+        NAMED.put("angmsdag", "\u29AE");
+        NAMED.put("angmsdah", "\u29AF");
+        NAMED.put("angrt", "\u221F");
+        NAMED.put("angrtvb", "\u22BE");
+        NAMED.put("angrtvbd", "\u299D");
+        NAMED.put("angsph", "\u2222");
+        NAMED.put("angst", "\u00C5");
+        NAMED.put("angzarr", "\u237C");
+        NAMED.put("aogon", "\u0105");
+        NAMED.put("Aogon", "\u0104");
+        NAMED.put("aopf", "\uD835\uDD52");
+        NAMED.put("Aopf", "\uD835\uDD38");
+        NAMED.put("ap", "\u2248");
+        NAMED.put("apacir", "\u2A6F");
+        NAMED.put("ape", "\u224A");
+        NAMED.put("apE", "\u2A70");
+        NAMED.put("apid", "\u224B");
+        NAMED.put("apos", "'");
+        NAMED.put("ApplyFunction", "\u2061");
+        NAMED.put("approx", "\u2248");
+        NAMED.put("approxeq", "\u224A");
+        NAMED.put("aring", "\u00E5");
+        NAMED.put("Aring", "\u00C5");
+        NAMED.put("ascr", "\uD835\uDCB6");
+        NAMED.put("Ascr", "\uD835\uDC9C");
+        NAMED.put("Assign", "\u2254");
+        NAMED.put("ast", "*");
+        NAMED.put("asymp", "\u2248");
+        NAMED.put("asympeq", "\u224D");
+        NAMED.put("atilde", "\u00E3");
+        NAMED.put("Atilde", "\u00C3");
+        NAMED.put("auml", "\u00E4");
+        NAMED.put("Auml", "\u00C4");
+        NAMED.put("awconint", "\u2233");
+        NAMED.put("awint", "\u2A11");
+        NAMED.put("backcong", "\u224C");
+        NAMED.put("backepsilon", "\u03F6");
+        NAMED.put("backprime", "\u2035");
+        NAMED.put("backsim", "\u223D");
+        NAMED.put("backsimeq", "\u22CD");
+        NAMED.put("Backslash", "\u2216");
+        NAMED.put("Barv", "\u2AE7");
+        NAMED.put("barvee", "\u22BD");
+        NAMED.put("barwed", "\u2305");
+        NAMED.put("Barwed", "\u2306");
+        NAMED.put("barwedge", "\u2305");
+        NAMED.put("bbrk", "\u23B5");
+        NAMED.put("bbrktbrk", "\u23B6");
+        NAMED.put("bcong", "\u224C");
+        NAMED.put("bcy", "\u0431");
+        NAMED.put("Bcy", "\u0411");
+        NAMED.put("bdquo", "\u201E");
+        NAMED.put("becaus", "\u2235");
+        NAMED.put("because", "\u2235");
+        NAMED.put("Because", "\u2235");
+        NAMED.put("bemptyv", "\u29B0");
+        NAMED.put("bepsi", "\u03F6");
+        NAMED.put("bernou", "\u212C");
+        NAMED.put("Bernoullis", "\u212C");
+        NAMED.put("beta", "\u03B2");
+        NAMED.put("Beta", "\u0392");
+        NAMED.put("beth", "\u2136");
+        NAMED.put("between", "\u226C");
+        NAMED.put("bfr", "\uD835\uDD1F");
+        NAMED.put("Bfr", "\uD835\uDD05");
+        NAMED.put("bigcap", "\u22C2");
+        NAMED.put("bigcirc", "\u25EF");
+        NAMED.put("bigcup", "\u22C3");
+        NAMED.put("bigodot", "\u2A00");
+        NAMED.put("bigoplus", "\u2A01");
+        NAMED.put("bigotimes", "\u2A02");
+        NAMED.put("bigsqcup", "\u2A06");
+        NAMED.put("bigstar", "\u2605");
+        NAMED.put("bigtriangledown", "\u25BD");
+        NAMED.put("bigtriangleup", "\u25B3");
+        NAMED.put("biguplus", "\u2A04");
+        NAMED.put("bigvee", "\u22C1");
+        NAMED.put("bigwedge", "\u22C0");
+        NAMED.put("bkarow", "\u290D");
+        NAMED.put("blacklozenge", "\u29EB");
+        NAMED.put("blacksquare", "\u25AA");
+        NAMED.put("blacktriangle", "\u25B4");
+        NAMED.put("blacktriangledown", "\u25BE");
+        NAMED.put("blacktriangleleft", "\u25C2");
+        NAMED.put("blacktriangleright", "\u25B8");
+        NAMED.put("blank", "\u2423");
+        NAMED.put("blk12", "\u2592");
+        NAMED.put("blk14", "\u2591");
+        NAMED.put("blk34", "\u2593");
+        NAMED.put("block", "\u2588");
+        NAMED.put("bne", "=\u20E5");
+        NAMED.put("bnequiv", "\u2261\u20E5");
+        NAMED.put("bnot", "\u2310");
+        NAMED.put("bNot", "\u2AED");
+        NAMED.put("bopf", "\uD835\uDD53");
+        NAMED.put("Bopf", "\uD835\uDD39");
+        NAMED.put("bot", "\u22A5");
+        NAMED.put("bottom", "\u22A5");
+        NAMED.put("bowtie", "\u22C8");
+        NAMED.put("boxbox", "\u29C9");
+        NAMED.put("boxdl", "\u2510");
+        NAMED.put("boxdL", "\u2555");
+        NAMED.put("boxDl", "\u2556");
+        NAMED.put("boxDL", "\u2557");
+        NAMED.put("boxdr", "\u250C");
+        NAMED.put("boxdR", "\u2552");
+        NAMED.put("boxDr", "\u2553");
+        NAMED.put("boxDR", "\u2554");
+        NAMED.put("boxh", "\u2500");
+        NAMED.put("boxH", "\u2550");
+        NAMED.put("boxhd", "\u252C");
+        NAMED.put("boxhD", "\u2565");
+        NAMED.put("boxHd", "\u2564");
+        NAMED.put("boxHD", "\u2566");
+        NAMED.put("boxhu", "\u2534");
+        NAMED.put("boxhU", "\u2568");
+        NAMED.put("boxHu", "\u2567");
+        NAMED.put("boxHU", "\u2569");
+        NAMED.put("boxminus", "\u229F");
+        NAMED.put("boxplus", "\u229E");
+        NAMED.put("boxtimes", "\u22A0");
+        NAMED.put("boxul", "\u2518");
+        NAMED.put("boxuL", "\u255B");
+        NAMED.put("boxUl", "\u255C");
+        NAMED.put("boxUL", "\u255D");
+        NAMED.put("boxur", "\u2514");
+        NAMED.put("boxuR", "\u2558");
+        NAMED.put("boxUr", "\u2559");
+        NAMED.put("boxUR", "\u255A");
+        NAMED.put("boxv", "\u2502");
+        NAMED.put("boxV", "\u2551");
+        NAMED.put("boxvh", "\u253C");
+        NAMED.put("boxvH", "\u256A");
+        NAMED.put("boxVh", "\u256B");
+        NAMED.put("boxVH", "\u256C");
+        NAMED.put("boxvl", "\u2524");
+        NAMED.put("boxvL", "\u2561");
+        NAMED.put("boxVl", "\u2562");
+        NAMED.put("boxVL", "\u2563");
+        NAMED.put("boxvr", "\u251C");
+        NAMED.put("boxvR", "\u255E");
+        NAMED.put("boxVr", "\u255F");
+        NAMED.put("boxVR", "\u2560");
+        NAMED.put("bprime", "\u2035");
+        NAMED.put("breve", "\u02D8");
+        NAMED.put("Breve", "\u02D8");
+        NAMED.put("brvbar", "\u00A6");
+        NAMED.put("bscr", "\uD835\uDCB7");
+        NAMED.put("Bscr", "\u212C");
+        NAMED.put("bsemi", "\u204F");
+        NAMED.put("bsim", "\u223D");
+        NAMED.put("bsime", "\u22CD");
+        NAMED.put("bsol", "\\");
+        NAMED.put("bsolb", "\u29C5");
+        NAMED.put("bsolhsub", "\u27C8");
+        NAMED.put("bull", "\u2022");
+        NAMED.put("bullet", "\u2022");
+        NAMED.put("bump", "\u224E");
+        NAMED.put("bumpe", "\u224F");
+        NAMED.put("bumpE", "\u2AAE");
+        NAMED.put("bumpeq", "\u224F");
+        NAMED.put("Bumpeq", "\u224E");
+        NAMED.put("cacute", "\u0107");
+        NAMED.put("Cacute", "\u0106");
+        NAMED.put("cap", "\u2229");
+        NAMED.put("Cap", "\u22D2");
+        NAMED.put("capand", "\u2A44");
+        NAMED.put("capbrcup", "\u2A49");
+        NAMED.put("capcap", "\u2A4B");
+        NAMED.put("capcup", "\u2A47");
+        NAMED.put("capdot", "\u2A40");
+        NAMED.put("CapitalDifferentialD", "\u2145");
+        NAMED.put("caps", "\u2229\uFE00");
+        NAMED.put("caret", "\u2041");
+        NAMED.put("caron", "\u02C7");
+        NAMED.put("Cayleys", "\u212D");
+        NAMED.put("ccaps", "\u2A4D");
+        NAMED.put("ccaron", "\u010D");
+        NAMED.put("Ccaron", "\u010C");
+        NAMED.put("ccedil", "\u00E7");
+        NAMED.put("Ccedil", "\u00C7");
+        NAMED.put("ccirc", "\u0109");
+        NAMED.put("Ccirc", "\u0108");
+        NAMED.put("Cconint", "\u2230");
+        NAMED.put("ccups", "\u2A4C");
+        NAMED.put("ccupssm", "\u2A50");
+        NAMED.put("cdot", "\u010B");
+        NAMED.put("Cdot", "\u010A");
+        NAMED.put("cedil", "\u00B8");
+        NAMED.put("Cedilla", "\u00B8");
+        NAMED.put("cemptyv", "\u29B2");
+        NAMED.put("cent", "\u00A2");
+        NAMED.put("centerdot", "\u00B7");
+        NAMED.put("CenterDot", "\u00B7");
+        NAMED.put("cfr", "\uD835\uDD20");
+        NAMED.put("Cfr", "\u212D");
+        NAMED.put("chcy", "\u0447");
+        NAMED.put("CHcy", "\u0427");
+        NAMED.put("check", "\u2713");
+        NAMED.put("checkmark", "\u2713");
+        NAMED.put("chi", "\u03C7");
+        NAMED.put("Chi", "\u03A7");
+        NAMED.put("cir", "\u25CB");
+        NAMED.put("circ", "\u02C6");
+        NAMED.put("circeq", "\u2257");
+        NAMED.put("circlearrowleft", "\u21BA");
+        NAMED.put("circlearrowright", "\u21BB");
+        NAMED.put("circledast", "\u229B");
+        NAMED.put("circledcirc", "\u229A");
+        NAMED.put("circleddash", "\u229D");
+        NAMED.put("CircleDot", "\u2299");
+        NAMED.put("circledR", "\u00AE");
+        NAMED.put("circledS", "\u24C8");
+        NAMED.put("CircleMinus", "\u2296");
+        NAMED.put("CirclePlus", "\u2295");
+        NAMED.put("CircleTimes", "\u2297");
+        NAMED.put("cire", "\u2257");
+        NAMED.put("cirE", "\u29C3");
+        NAMED.put("cirfnint", "\u2A10");
+        NAMED.put("cirmid", "\u2AEF");
+        NAMED.put("cirscir", "\u29C2");
+        NAMED.put("ClockwiseContourIntegral", "\u2232");
+        NAMED.put("CloseCurlyDoubleQuote", "\u201D");
+        NAMED.put("CloseCurlyQuote", "\u2019");
+        NAMED.put("clubs", "\u2663");
+        NAMED.put("clubsuit", "\u2663");
+        NAMED.put("colon", ":");
+        NAMED.put("Colon", "\u2237");
+        NAMED.put("colone", "\u2254");
+        NAMED.put("Colone", "\u2A74");
+        NAMED.put("coloneq", "\u2254");
+        NAMED.put("comma", ",");
+        NAMED.put("commat", "@");
+        NAMED.put("comp", "\u2201");
+        NAMED.put("compfn", "\u2218");
+        NAMED.put("complement", "\u2201");
+        NAMED.put("complexes", "\u2102");
+        NAMED.put("cong", "\u2245");
+        NAMED.put("congdot", "\u2A6D");
+        NAMED.put("Congruent", "\u2261");
+        NAMED.put("conint", "\u222E");
+        NAMED.put("Conint", "\u222F");
+        NAMED.put("ContourIntegral", "\u222E");
+        NAMED.put("copf", "\uD835\uDD54");
+        NAMED.put("Copf", "\u2102");
+        NAMED.put("coprod", "\u2210");
+        NAMED.put("Coproduct", "\u2210");
+        NAMED.put("copy", "\u00A9");
+        NAMED.put("COPY", "\u00A9");
+        NAMED.put("copysr", "\u2117");
+        NAMED.put("CounterClockwiseContourIntegral", "\u2233");
+        NAMED.put("crarr", "\u21B5");
+        NAMED.put("cross", "\u2717");
+        NAMED.put("Cross", "\u2A2F");
+        NAMED.put("cscr", "\uD835\uDCB8");
+        NAMED.put("Cscr", "\uD835\uDC9E");
+        NAMED.put("csub", "\u2ACF");
+        NAMED.put("csube", "\u2AD1");
+        NAMED.put("csup", "\u2AD0");
+        NAMED.put("csupe", "\u2AD2");
+        NAMED.put("ctdot", "\u22EF");
+        NAMED.put("cudarrl", "\u2938");
+        NAMED.put("cudarrr", "\u2935");
+        NAMED.put("cuepr", "\u22DE");
+        NAMED.put("cuesc", "\u22DF");
+        NAMED.put("cularr", "\u21B6");
+        NAMED.put("cularrp", "\u293D");
+        NAMED.put("cup", "\u222A");
+        NAMED.put("Cup", "\u22D3");
+        NAMED.put("cupbrcap", "\u2A48");
+        NAMED.put("cupcap", "\u2A46");
+        NAMED.put("CupCap", "\u224D");
+        NAMED.put("cupcup", "\u2A4A");
+        NAMED.put("cupdot", "\u228D");
+        NAMED.put("cupor", "\u2A45");
+        NAMED.put("cups", "\u222A\uFE00");
+        NAMED.put("curarr", "\u21B7");
+        NAMED.put("curarrm", "\u293C");
+        NAMED.put("curlyeqprec", "\u22DE");
+        NAMED.put("curlyeqsucc", "\u22DF");
+        NAMED.put("curlyvee", "\u22CE");
+        NAMED.put("curlywedge", "\u22CF");
+        NAMED.put("curren", "\u00A4");
+        NAMED.put("curvearrowleft", "\u21B6");
+        NAMED.put("curvearrowright", "\u21B7");
+        NAMED.put("cuvee", "\u22CE");
+        NAMED.put("cuwed", "\u22CF");
+        NAMED.put("cwconint", "\u2232");
+        NAMED.put("cwint", "\u2231");
+        NAMED.put("cylcty", "\u232D");
+        NAMED.put("dagger", "\u2020");
+        NAMED.put("Dagger", "\u2021");
+        NAMED.put("daleth", "\u2138");
+        NAMED.put("darr", "\u2193");
+        NAMED.put("dArr", "\u21D3");
+        NAMED.put("Darr", "\u21A1");
+        NAMED.put("dash", "\u2010");
+        NAMED.put("dashv", "\u22A3");
+        NAMED.put("Dashv", "\u2AE4");
+        NAMED.put("dbkarow", "\u290F");
+        NAMED.put("dblac", "\u02DD");
+        NAMED.put("dcaron", "\u010F");
+        NAMED.put("Dcaron", "\u010E");
+        NAMED.put("dcy", "\u0434");
+        NAMED.put("Dcy", "\u0414");
+        NAMED.put("dd", "\u2146");
+        NAMED.put("DD", "\u2145");
+        NAMED.put("ddagger", "\u2021");
+        NAMED.put("ddarr", "\u21CA");
+        NAMED.put("DDotrahd", "\u2911");
+        NAMED.put("ddotseq", "\u2A77");
+        NAMED.put("deg", "\u00B0");
+        NAMED.put("Del", "\u2207");
+        NAMED.put("delta", "\u03B4");
+        NAMED.put("Delta", "\u0394");
+        NAMED.put("demptyv", "\u29B1");
+        NAMED.put("dfisht", "\u297F");
+        NAMED.put("dfr", "\uD835\uDD21");
+        NAMED.put("Dfr", "\uD835\uDD07");
+        NAMED.put("dHar", "\u2965");
+        NAMED.put("dharl", "\u21C3");
+        NAMED.put("dharr", "\u21C2");
+        NAMED.put("DiacriticalAcute", "\u00B4");
+        NAMED.put("DiacriticalDot", "\u02D9");
+        NAMED.put("DiacriticalDoubleAcute", "\u02DD");
+        NAMED.put("DiacriticalGrave", "`");
+        NAMED.put("DiacriticalTilde", "\u02DC");
+        NAMED.put("diam", "\u22C4");
+        NAMED.put("diamond", "\u22C4");
+        NAMED.put("Diamond", "\u22C4");
+        NAMED.put("diamondsuit", "\u2666");
+        NAMED.put("diams", "\u2666");
+        NAMED.put("die", "\u00A8");
+        NAMED.put("DifferentialD", "\u2146");
+        NAMED.put("digamma", "\u03DD");
+        NAMED.put("disin", "\u22F2");
+        NAMED.put("div", "\u00F7");
+        NAMED.put("divide", "\u00F7");
+        NAMED.put("divideontimes", "\u22C7");
+        NAMED.put("divonx", "\u22C7");
+        NAMED.put("djcy", "\u0452");
+        NAMED.put("DJcy", "\u0402");
+        NAMED.put("dlcorn", "\u231E");
+        NAMED.put("dlcrop", "\u230D");
+        NAMED.put("dollar", "$");
+        NAMED.put("dopf", "\uD835\uDD55");
+        NAMED.put("Dopf", "\uD835\uDD3B");
+        NAMED.put("dot", "\u02D9");
+        NAMED.put("Dot", "\u00A8");
+        NAMED.put("DotDot", "\u20DC");
+        NAMED.put("doteq", "\u2250");
+        NAMED.put("doteqdot", "\u2251");
+        NAMED.put("DotEqual", "\u2250");
+        NAMED.put("dotminus", "\u2238");
+        NAMED.put("dotplus", "\u2214");
+        NAMED.put("dotsquare", "\u22A1");
+        NAMED.put("doublebarwedge", "\u2306");
+        NAMED.put("DoubleContourIntegral", "\u222F");
+        NAMED.put("DoubleDot", "\u00A8");
+        NAMED.put("DoubleDownArrow", "\u21D3");
+        NAMED.put("DoubleLeftArrow", "\u21D0");
+        NAMED.put("DoubleLeftRightArrow", "\u21D4");
+        NAMED.put("DoubleLeftTee", "\u2AE4");
+        NAMED.put("DoubleLongLeftArrow", "\u27F8");
+        NAMED.put("DoubleLongLeftRightArrow", "\u27FA");
+        NAMED.put("DoubleLongRightArrow", "\u27F9");
+        NAMED.put("DoubleRightArrow", "\u21D2");
+        NAMED.put("DoubleRightTee", "\u22A8");
+        NAMED.put("DoubleUpArrow", "\u21D1");
+        NAMED.put("DoubleUpDownArrow", "\u21D5");
+        NAMED.put("DoubleVerticalBar", "\u2225");
+        NAMED.put("downarrow", "\u2193");
+        NAMED.put("Downarrow", "\u21D3");
+        NAMED.put("DownArrow", "\u2193");
+        NAMED.put("DownArrowBar", "\u2913");
+        NAMED.put("DownArrowUpArrow", "\u21F5");
+        NAMED.put("DownBreve", "\u0311");
+        NAMED.put("downdownarrows", "\u21CA");
+        NAMED.put("downharpoonleft", "\u21C3");
+        NAMED.put("downharpoonright", "\u21C2");
+        NAMED.put("DownLeftRightVector", "\u2950");
+        NAMED.put("DownLeftTeeVector", "\u295E");
+        NAMED.put("DownLeftVector", "\u21BD");
+        NAMED.put("DownLeftVectorBar", "\u2956");
+        NAMED.put("DownRightTeeVector", "\u295F");
+        NAMED.put("DownRightVector", "\u21C1");
+        NAMED.put("DownRightVectorBar", "\u2957");
+        NAMED.put("DownTee", "\u22A4");
+        NAMED.put("DownTeeArrow", "\u21A7");
+        NAMED.put("drbkarow", "\u2910");
+        NAMED.put("drcorn", "\u231F");
+        NAMED.put("drcrop", "\u230C");
+        NAMED.put("dscr", "\uD835\uDCB9");
+        NAMED.put("Dscr", "\uD835\uDC9F");
+        NAMED.put("dscy", "\u0455");
+        NAMED.put("DScy", "\u0405");
+        NAMED.put("dsol", "\u29F6");
+        NAMED.put("dstrok", "\u0111");
+        NAMED.put("Dstrok", "\u0110");
+        NAMED.put("dtdot", "\u22F1");
+        NAMED.put("dtri", "\u25BF");
+        NAMED.put("dtrif", "\u25BE");
+        NAMED.put("duarr", "\u21F5");
+        NAMED.put("duhar", "\u296F");
+        NAMED.put("dwangle", "\u29A6");
+        NAMED.put("dzcy", "\u045F");
+        NAMED.put("DZcy", "\u040F");
+        NAMED.put("dzigrarr", "\u27FF");
+        NAMED.put("eacute", "\u00E9");
+        NAMED.put("Eacute", "\u00C9");
+        NAMED.put("easter", "\u2A6E");
+        NAMED.put("ecaron", "\u011B");
+        NAMED.put("Ecaron", "\u011A");
+        NAMED.put("ecir", "\u2256");
+        NAMED.put("ecirc", "\u00EA");
+        NAMED.put("Ecirc", "\u00CA");
+        NAMED.put("ecolon", "\u2255");
+        NAMED.put("ecy", "\u044D");
+        NAMED.put("Ecy", "\u042D");
+        NAMED.put("eDDot", "\u2A77");
+        NAMED.put("edot", "\u0117");
+        NAMED.put("eDot", "\u2251");
+        NAMED.put("Edot", "\u0116");
+        NAMED.put("ee", "\u2147");
+        NAMED.put("efDot", "\u2252");
+        NAMED.put("efr", "\uD835\uDD22");
+        NAMED.put("Efr", "\uD835\uDD08");
+        NAMED.put("eg", "\u2A9A");
+        NAMED.put("egrave", "\u00E8");
+        NAMED.put("Egrave", "\u00C8");
+        NAMED.put("egs", "\u2A96");
+        NAMED.put("egsdot", "\u2A98");
+        NAMED.put("el", "\u2A99");
+        NAMED.put("Element", "\u2208");
+        NAMED.put("elinters", "\u23E7");
+        NAMED.put("ell", "\u2113");
+        NAMED.put("els", "\u2A95");
+        NAMED.put("elsdot", "\u2A97");
+        NAMED.put("emacr", "\u0113");
+        NAMED.put("Emacr", "\u0112");
+        NAMED.put("empty", "\u2205");
+        NAMED.put("emptyset", "\u2205");
+        NAMED.put("EmptySmallSquare", "\u25FB");
+        NAMED.put("emptyv", "\u2205");
+        NAMED.put("EmptyVerySmallSquare", "\u25AB");
+        NAMED.put("emsp", "\u2003");
+        NAMED.put("emsp13", "\u2004");
+        NAMED.put("emsp14", "\u2005");
+        NAMED.put("eng", "\u014B");
+        NAMED.put("ENG", "\u014A");
+        NAMED.put("ensp", "\u2002");
+        NAMED.put("eogon", "\u0119");
+        NAMED.put("Eogon", "\u0118");
+        NAMED.put("eopf", "\uD835\uDD56");
+        NAMED.put("Eopf", "\uD835\uDD3C");
+        NAMED.put("epar", "\u22D5");
+        NAMED.put("eparsl", "\u29E3");
+        NAMED.put("eplus", "\u2A71");
+        NAMED.put("epsi", "\u03B5");
+        NAMED.put("epsilon", "\u03B5");
+        NAMED.put("Epsilon", "\u0395");
+        NAMED.put("epsiv", "\u03F5");
+        NAMED.put("eqcirc", "\u2256");
+        NAMED.put("eqcolon", "\u2255");
+        NAMED.put("eqsim", "\u2242");
+        NAMED.put("eqslantgtr", "\u2A96");
+        NAMED.put("eqslantless", "\u2A95");
+        NAMED.put("Equal", "\u2A75");
+        NAMED.put("equals", "=");
+        NAMED.put("EqualTilde", "\u2242");
+        NAMED.put("equest", "\u225F");
+        NAMED.put("Equilibrium", "\u21CC");
+        NAMED.put("equiv", "\u2261");
+        NAMED.put("equivDD", "\u2A78");
+        NAMED.put("eqvparsl", "\u29E5");
+        NAMED.put("erarr", "\u2971");
+        NAMED.put("erDot", "\u2253");
+        NAMED.put("escr", "\u212F");
+        NAMED.put("Escr", "\u2130");
+        NAMED.put("esdot", "\u2250");
+        NAMED.put("esim", "\u2242");
+        NAMED.put("Esim", "\u2A73");
+        NAMED.put("eta", "\u03B7");
+        NAMED.put("Eta", "\u0397");
+        NAMED.put("eth", "\u00F0");
+        NAMED.put("ETH", "\u00D0");
+        NAMED.put("euml", "\u00EB");
+        NAMED.put("Euml", "\u00CB");
+        NAMED.put("euro", "\u20AC");
+        NAMED.put("excl", "!");
+        NAMED.put("exist", "\u2203");
+        NAMED.put("Exists", "\u2203");
+        NAMED.put("expectation", "\u2130");
+        NAMED.put("exponentiale", "\u2147");
+        NAMED.put("ExponentialE", "\u2147");
+        NAMED.put("fallingdotseq", "\u2252");
+        NAMED.put("fcy", "\u0444");
+        NAMED.put("Fcy", "\u0424");
+        NAMED.put("female", "\u2640");
+        NAMED.put("ffilig", "\uFB03");
+        NAMED.put("fflig", "\uFB00");
+        NAMED.put("ffllig", "\uFB04");
+        NAMED.put("ffr", "\uD835\uDD23");
+        NAMED.put("Ffr", "\uD835\uDD09");
+        NAMED.put("filig", "\uFB01");
+        NAMED.put("FilledSmallSquare", "\u25FC");
+        NAMED.put("FilledVerySmallSquare", "\u25AA");
+        NAMED.put("fjlig", "fj");
+        NAMED.put("flat", "\u266D");
+        NAMED.put("fllig", "\uFB02");
+        NAMED.put("fltns", "\u25B1");
+        NAMED.put("fnof", "\u0192");
+        NAMED.put("fopf", "\uD835\uDD57");
+        NAMED.put("Fopf", "\uD835\uDD3D");
+        NAMED.put("forall", "\u2200");
+        NAMED.put("ForAll", "\u2200");
+        NAMED.put("fork", "\u22D4");
+        NAMED.put("forkv", "\u2AD9");
+        NAMED.put("Fouriertrf", "\u2131");
+        NAMED.put("fpartint", "\u2A0D");
+        NAMED.put("frac12", "\u00BD");
+        NAMED.put("frac13", "\u2153");
+        NAMED.put("frac14", "\u00BC");
+        NAMED.put("frac15", "\u2155");
+        NAMED.put("frac16", "\u2159");
+        NAMED.put("frac18", "\u215B");
+        NAMED.put("frac23", "\u2154");
+        NAMED.put("frac25", "\u2156");
+        NAMED.put("frac34", "\u00BE");
+        NAMED.put("frac35", "\u2157");
+        NAMED.put("frac38", "\u215C");
+        NAMED.put("frac45", "\u2158");
+        NAMED.put("frac56", "\u215A");
+        NAMED.put("frac58", "\u215D");
+        NAMED.put("frac78", "\u215E");
+        NAMED.put("frasl", "\u2044");
+        NAMED.put("frown", "\u2322");
+        NAMED.put("fscr", "\uD835\uDCBB");
+        NAMED.put("Fscr", "\u2131");
+        NAMED.put("gacute", "\u01F5");
+        NAMED.put("gamma", "\u03B3");
+        NAMED.put("Gamma", "\u0393");
+        NAMED.put("gammad", "\u03DD");
+        NAMED.put("Gammad", "\u03DC");
+        NAMED.put("gap", "\u2A86");
+        NAMED.put("gbreve", "\u011F");
+        NAMED.put("Gbreve", "\u011E");
+        NAMED.put("Gcedil", "\u0122");
+        NAMED.put("gcirc", "\u011D");
+        NAMED.put("Gcirc", "\u011C");
+        NAMED.put("gcy", "\u0433");
+        NAMED.put("Gcy", "\u0413");
+        NAMED.put("gdot", "\u0121");
+        NAMED.put("Gdot", "\u0120");
+        NAMED.put("ge", "\u2265");
+        NAMED.put("gE", "\u2267");
+        NAMED.put("gel", "\u22DB");
+        NAMED.put("gEl", "\u2A8C");
+        NAMED.put("geq", "\u2265");
+        NAMED.put("geqq", "\u2267");
+        NAMED.put("geqslant", "\u2A7E");
+        NAMED.put("ges", "\u2A7E");
+        NAMED.put("gescc", "\u2AA9");
+        NAMED.put("gesdot", "\u2A80");
+        NAMED.put("gesdoto", "\u2A82");
+        NAMED.put("gesdotol", "\u2A84");
+        NAMED.put("gesl", "\u22DB\uFE00");
+        NAMED.put("gesles", "\u2A94");
+        NAMED.put("gfr", "\uD835\uDD24");
+        NAMED.put("Gfr", "\uD835\uDD0A");
+        NAMED.put("gg", "\u226B");
+        NAMED.put("Gg", "\u22D9");
+        NAMED.put("ggg", "\u22D9");
+        NAMED.put("gimel", "\u2137");
+        NAMED.put("gjcy", "\u0453");
+        NAMED.put("GJcy", "\u0403");
+        NAMED.put("gl", "\u2277");
+        NAMED.put("gla", "\u2AA5");
+        NAMED.put("glE", "\u2A92");
+        NAMED.put("glj", "\u2AA4");
+        NAMED.put("gnap", "\u2A8A");
+        NAMED.put("gnapprox", "\u2A8A");
+        NAMED.put("gne", "\u2A88");
+        NAMED.put("gnE", "\u2269");
+        NAMED.put("gneq", "\u2A88");
+        NAMED.put("gneqq", "\u2269");
+        NAMED.put("gnsim", "\u22E7");
+        NAMED.put("gopf", "\uD835\uDD58");
+        NAMED.put("Gopf", "\uD835\uDD3E");
+        NAMED.put("grave", "`");
+        NAMED.put("GreaterEqual", "\u2265");
+        NAMED.put("GreaterEqualLess", "\u22DB");
+        NAMED.put("GreaterFullEqual", "\u2267");
+        NAMED.put("GreaterGreater", "\u2AA2");
+        NAMED.put("GreaterLess", "\u2277");
+        NAMED.put("GreaterSlantEqual", "\u2A7E");
+        NAMED.put("GreaterTilde", "\u2273");
+        NAMED.put("gscr", "\u210A");
+        NAMED.put("Gscr", "\uD835\uDCA2");
+        NAMED.put("gsim", "\u2273");
+        NAMED.put("gsime", "\u2A8E");
+        NAMED.put("gsiml", "\u2A90");
+        NAMED.put("gt", ">");
+        NAMED.put("Gt", "\u226B");
+        NAMED.put("GT", ">");
+        NAMED.put("gtcc", "\u2AA7");
+        NAMED.put("gtcir", "\u2A7A");
+        NAMED.put("gtdot", "\u22D7");
+        NAMED.put("gtlPar", "\u2995");
+        NAMED.put("gtquest", "\u2A7C");
+        NAMED.put("gtrapprox", "\u2A86");
+        NAMED.put("gtrarr", "\u2978");
+        NAMED.put("gtrdot", "\u22D7");
+        NAMED.put("gtreqless", "\u22DB");
+        NAMED.put("gtreqqless", "\u2A8C");
+        NAMED.put("gtrless", "\u2277");
+        NAMED.put("gtrsim", "\u2273");
+        NAMED.put("gvertneqq", "\u2269\uFE00");
+        NAMED.put("gvnE", "\u2269\uFE00");
+        NAMED.put("Hacek", "\u02C7");
+        NAMED.put("hairsp", "\u200A");
+        NAMED.put("half", "\u00BD");
+        NAMED.put("hamilt", "\u210B");
+        NAMED.put("hardcy", "\u044A");
+        NAMED.put("HARDcy", "\u042A");
+        NAMED.put("harr", "\u2194");
+        NAMED.put("hArr", "\u21D4");
+        NAMED.put("harrcir", "\u2948");
+        NAMED.put("harrw", "\u21AD");
+        NAMED.put("Hat", "^");
+        NAMED.put("hbar", "\u210F");
+        NAMED.put("hcirc", "\u0125");
+        NAMED.put("Hcirc", "\u0124");
+        NAMED.put("hearts", "\u2665");
+        NAMED.put("heartsuit", "\u2665");
+        NAMED.put("hellip", "\u2026");
+        NAMED.put("hercon", "\u22B9");
+        NAMED.put("hfr", "\uD835\uDD25");
+        NAMED.put("Hfr", "\u210C");
+        NAMED.put("HilbertSpace", "\u210B");
+        NAMED.put("hksearow", "\u2925");
+        NAMED.put("hkswarow", "\u2926");
+        NAMED.put("hoarr", "\u21FF");
+        NAMED.put("homtht", "\u223B");
+        NAMED.put("hookleftarrow", "\u21A9");
+        NAMED.put("hookrightarrow", "\u21AA");
+        NAMED.put("hopf", "\uD835\uDD59");
+        NAMED.put("Hopf", "\u210D");
+        NAMED.put("horbar", "\u2015");
+        NAMED.put("HorizontalLine", "\u2500");
+        NAMED.put("hscr", "\uD835\uDCBD");
+        NAMED.put("Hscr", "\u210B");
+        NAMED.put("hslash", "\u210F");
+        NAMED.put("hstrok", "\u0127");
+        NAMED.put("Hstrok", "\u0126");
+        NAMED.put("HumpDownHump", "\u224E");
+        NAMED.put("HumpEqual", "\u224F");
+        NAMED.put("hybull", "\u2043");
+        NAMED.put("hyphen", "\u2010");
+        NAMED.put("iacute", "\u00ED");
+        NAMED.put("Iacute", "\u00CD");
+        NAMED.put("ic", "\u2063");
+        NAMED.put("icirc", "\u00EE");
+        NAMED.put("Icirc", "\u00CE");
+        NAMED.put("icy", "\u0438");
+        NAMED.put("Icy", "\u0418");
+        NAMED.put("Idot", "\u0130");
+        NAMED.put("iecy", "\u0435");
+        NAMED.put("IEcy", "\u0415");
+        NAMED.put("iexcl", "\u00A1");
+        NAMED.put("iff", "\u21D4");
+        NAMED.put("ifr", "\uD835\uDD26");
+        NAMED.put("Ifr", "\u2111");
+        NAMED.put("igrave", "\u00EC");
+        NAMED.put("Igrave", "\u00CC");
+        NAMED.put("ii", "\u2148");
+        NAMED.put("iiiint", "\u2A0C");
+        NAMED.put("iiint", "\u222D");
+        NAMED.put("iinfin", "\u29DC");
+        NAMED.put("iiota", "\u2129");
+        NAMED.put("ijlig", "\u0133");
+        NAMED.put("IJlig", "\u0132");
+        NAMED.put("Im", "\u2111");
+        NAMED.put("imacr", "\u012B");
+        NAMED.put("Imacr", "\u012A");
+        NAMED.put("image", "\u2111");
+        NAMED.put("ImaginaryI", "\u2148");
+        NAMED.put("imagline", "\u2110");
+        NAMED.put("imagpart", "\u2111");
+        NAMED.put("imath", "\u0131");
+        NAMED.put("imof", "\u22B7");
+        NAMED.put("imped", "\u01B5");
+        NAMED.put("Implies", "\u21D2");
+        NAMED.put("in", "\u2208");
+        NAMED.put("incare", "\u2105");
+        NAMED.put("infin", "\u221E");
+        NAMED.put("infintie", "\u29DD");
+        NAMED.put("inodot", "\u0131");
+        NAMED.put("int", "\u222B");
+        NAMED.put("Int", "\u222C");
+        NAMED.put("intcal", "\u22BA");
+        NAMED.put("integers", "\u2124");
+        NAMED.put("Integral", "\u222B");
+        NAMED.put("intercal", "\u22BA");
+        NAMED.put("Intersection", "\u22C2");
+        NAMED.put("intlarhk", "\u2A17");
+        NAMED.put("intprod", "\u2A3C");
+        NAMED.put("InvisibleComma", "\u2063");
+        NAMED.put("InvisibleTimes", "\u2062");
+        NAMED.put("iocy", "\u0451");
+        NAMED.put("IOcy", "\u0401");
+        NAMED.put("iogon", "\u012F");
+        NAMED.put("Iogon", "\u012E");
+        NAMED.put("iopf", "\uD835\uDD5A");
+        NAMED.put("Iopf", "\uD835\uDD40");
+        NAMED.put("iota", "\u03B9");
+        NAMED.put("Iota", "\u0399");
+        NAMED.put("iprod", "\u2A3C");
+        NAMED.put("iquest", "\u00BF");
+        NAMED.put("iscr", "\uD835\uDCBE");
+        NAMED.put("Iscr", "\u2110");
+        NAMED.put("isin", "\u2208");
+        NAMED.put("isindot", "\u22F5");
+        NAMED.put("isinE", "\u22F9");
+        NAMED.put("isins", "\u22F4");
+        NAMED.put("isinsv", "\u22F3");
+        NAMED.put("isinv", "\u2208");
+        NAMED.put("it", "\u2062");
+        NAMED.put("itilde", "\u0129");
+        NAMED.put("Itilde", "\u0128");
+        NAMED.put("iukcy", "\u0456");
+        NAMED.put("Iukcy", "\u0406");
+        NAMED.put("iuml", "\u00EF");
+        NAMED.put("Iuml", "\u00CF");
+        NAMED.put("jcirc", "\u0135");
+        NAMED.put("Jcirc", "\u0134");
+        NAMED.put("jcy", "\u0439");
+        NAMED.put("Jcy", "\u0419");
+        NAMED.put("jfr", "\uD835\uDD27");
+        NAMED.put("Jfr", "\uD835\uDD0D");
+        NAMED.put("jmath", "\u0237");
+        NAMED.put("jopf", "\uD835\uDD5B");
+        NAMED.put("Jopf", "\uD835\uDD41");
+        NAMED.put("jscr", "\uD835\uDCBF");
+        NAMED.put("Jscr", "\uD835\uDCA5");
+        NAMED.put("jsercy", "\u0458");
+        NAMED.put("Jsercy", "\u0408");
+        NAMED.put("jukcy", "\u0454");
+        NAMED.put("Jukcy", "\u0404");
+        NAMED.put("kappa", "\u03BA");
+        NAMED.put("Kappa", "\u039A");
+        NAMED.put("kappav", "\u03F0");
+        NAMED.put("kcedil", "\u0137");
+        NAMED.put("Kcedil", "\u0136");
+        NAMED.put("kcy", "\u043A");
+        NAMED.put("Kcy", "\u041A");
+        NAMED.put("kfr", "\uD835\uDD28");
+        NAMED.put("Kfr", "\uD835\uDD0E");
+        NAMED.put("kgreen", "\u0138");
+        NAMED.put("khcy", "\u0445");
+        NAMED.put("KHcy", "\u0425");
+        NAMED.put("kjcy", "\u045C");
+        NAMED.put("KJcy", "\u040C");
+        NAMED.put("kopf", "\uD835\uDD5C");
+        NAMED.put("Kopf", "\uD835\uDD42");
+        NAMED.put("kscr", "\uD835\uDCC0");
+        NAMED.put("Kscr", "\uD835\uDCA6");
+        NAMED.put("lAarr", "\u21DA");
+        NAMED.put("lacute", "\u013A");
+        NAMED.put("Lacute", "\u0139");
+        NAMED.put("laemptyv", "\u29B4");
+        NAMED.put("lagran", "\u2112");
+        NAMED.put("lambda", "\u03BB");
+        NAMED.put("Lambda", "\u039B");
+        NAMED.put("lang", "\u27E8");
+        NAMED.put("Lang", "\u27EA");
+        NAMED.put("langd", "\u2991");
+        NAMED.put("langle", "\u27E8");
+        NAMED.put("lap", "\u2A85");
+        NAMED.put("Laplacetrf", "\u2112");
+        NAMED.put("laquo", "\u00AB");
+        NAMED.put("larr", "\u2190");
+        NAMED.put("lArr", "\u21D0");
+        NAMED.put("Larr", "\u219E");
+        NAMED.put("larrb", "\u21E4");
+        NAMED.put("larrbfs", "\u291F");
+        NAMED.put("larrfs", "\u291D");
+        NAMED.put("larrhk", "\u21A9");
+        NAMED.put("larrlp", "\u21AB");
+        NAMED.put("larrpl", "\u2939");
+        NAMED.put("larrsim", "\u2973");
+        NAMED.put("larrtl", "\u21A2");
+        NAMED.put("lat", "\u2AAB");
+        NAMED.put("latail", "\u2919");
+        NAMED.put("lAtail", "\u291B");
+        NAMED.put("late", "\u2AAD");
+        NAMED.put("lates", "\u2AAD\uFE00");
+        NAMED.put("lbarr", "\u290C");
+        NAMED.put("lBarr", "\u290E");
+        NAMED.put("lbbrk", "\u2772");
+        NAMED.put("lbrace", "{");
+        NAMED.put("lbrack", "[");
+        NAMED.put("lbrke", "\u298B");
+        NAMED.put("lbrksld", "\u298F");
+        NAMED.put("lbrkslu", "\u298D");
+        NAMED.put("lcaron", "\u013E");
+        NAMED.put("Lcaron", "\u013D");
+        NAMED.put("lcedil", "\u013C");
+        NAMED.put("Lcedil", "\u013B");
+        NAMED.put("lceil", "\u2308");
+        NAMED.put("lcub", "{");
+        NAMED.put("lcy", "\u043B");
+        NAMED.put("Lcy", "\u041B");
+        NAMED.put("ldca", "\u2936");
+        NAMED.put("ldquo", "\u201C");
+        NAMED.put("ldquor", "\u201E");
+        NAMED.put("ldrdhar", "\u2967");
+        NAMED.put("ldrushar", "\u294B");
+        NAMED.put("ldsh", "\u21B2");
+        NAMED.put("le", "\u2264");
+        NAMED.put("lE", "\u2266");
+        NAMED.put("LeftAngleBracket", "\u27E8");
+        NAMED.put("leftarrow", "\u2190");
+        NAMED.put("Leftarrow", "\u21D0");
+        NAMED.put("LeftArrow", "\u2190");
+        NAMED.put("LeftArrowBar", "\u21E4");
+        NAMED.put("LeftArrowRightArrow", "\u21C6");
+        NAMED.put("leftarrowtail", "\u21A2");
+        NAMED.put("LeftCeiling", "\u2308");
+        NAMED.put("LeftDoubleBracket", "\u27E6");
+        NAMED.put("LeftDownTeeVector", "\u2961");
+        NAMED.put("LeftDownVector", "\u21C3");
+        NAMED.put("LeftDownVectorBar", "\u2959");
+        NAMED.put("LeftFloor", "\u230A");
+        NAMED.put("leftharpoondown", "\u21BD");
+        NAMED.put("leftharpoonup", "\u21BC");
+        NAMED.put("leftleftarrows", "\u21C7");
+        NAMED.put("leftrightarrow", "\u2194");
+        NAMED.put("Leftrightarrow", "\u21D4");
+        NAMED.put("LeftRightArrow", "\u2194");
+        NAMED.put("leftrightarrows", "\u21C6");
+        NAMED.put("leftrightharpoons", "\u21CB");
+        NAMED.put("leftrightsquigarrow", "\u21AD");
+        NAMED.put("LeftRightVector", "\u294E");
+        NAMED.put("LeftTee", "\u22A3");
+        NAMED.put("LeftTeeArrow", "\u21A4");
+        NAMED.put("LeftTeeVector", "\u295A");
+        NAMED.put("leftthreetimes", "\u22CB");
+        NAMED.put("LeftTriangle", "\u22B2");
+        NAMED.put("LeftTriangleBar", "\u29CF");
+        NAMED.put("LeftTriangleEqual", "\u22B4");
+        NAMED.put("LeftUpDownVector", "\u2951");
+        NAMED.put("LeftUpTeeVector", "\u2960");
+        NAMED.put("LeftUpVector", "\u21BF");
+        NAMED.put("LeftUpVectorBar", "\u2958");
+        NAMED.put("LeftVector", "\u21BC");
+        NAMED.put("LeftVectorBar", "\u2952");
+        NAMED.put("leg", "\u22DA");
+        NAMED.put("lEg", "\u2A8B");
+        NAMED.put("leq", "\u2264");
+        NAMED.put("leqq", "\u2266");
+        NAMED.put("leqslant", "\u2A7D");
+        NAMED.put("les", "\u2A7D");
+        NAMED.put("lescc", "\u2AA8");
+        NAMED.put("lesdot", "\u2A7F");
+        NAMED.put("lesdoto", "\u2A81");
+        NAMED.put("lesdotor", "\u2A83");
+        NAMED.put("lesg", "\u22DA\uFE00");
+        NAMED.put("lesges", "\u2A93");
+        NAMED.put("lessapprox", "\u2A85");
+        NAMED.put("lessdot", "\u22D6");
+        NAMED.put("lesseqgtr", "\u22DA");
+        NAMED.put("lesseqqgtr", "\u2A8B");
+        NAMED.put("LessEqualGreater", "\u22DA");
+        NAMED.put("LessFullEqual", "\u2266");
+        NAMED.put("LessGreater", "\u2276");
+        NAMED.put("lessgtr", "\u2276");
+        NAMED.put("LessLess", "\u2AA1");
+        NAMED.put("lesssim", "\u2272");
+        NAMED.put("LessSlantEqual", "\u2A7D");
+        NAMED.put("LessTilde", "\u2272");
+        NAMED.put("lfisht", "\u297C");
+        NAMED.put("lfloor", "\u230A");
+        NAMED.put("lfr", "\uD835\uDD29");
+        NAMED.put("Lfr", "\uD835\uDD0F");
+        NAMED.put("lg", "\u2276");
+        NAMED.put("lgE", "\u2A91");
+        NAMED.put("lHar", "\u2962");
+        NAMED.put("lhard", "\u21BD");
+        NAMED.put("lharu", "\u21BC");
+        NAMED.put("lharul", "\u296A");
+        NAMED.put("lhblk", "\u2584");
+        NAMED.put("ljcy", "\u0459");
+        NAMED.put("LJcy", "\u0409");
+        NAMED.put("ll", "\u226A");
+        NAMED.put("Ll", "\u22D8");
+        NAMED.put("llarr", "\u21C7");
+        NAMED.put("llcorner", "\u231E");
+        NAMED.put("Lleftarrow", "\u21DA");
+        NAMED.put("llhard", "\u296B");
+        NAMED.put("lltri", "\u25FA");
+        NAMED.put("lmidot", "\u0140");
+        NAMED.put("Lmidot", "\u013F");
+        NAMED.put("lmoust", "\u23B0");
+        NAMED.put("lmoustache", "\u23B0");
+        NAMED.put("lnap", "\u2A89");
+        NAMED.put("lnapprox", "\u2A89");
+        NAMED.put("lne", "\u2A87");
+        NAMED.put("lnE", "\u2268");
+        NAMED.put("lneq", "\u2A87");
+        NAMED.put("lneqq", "\u2268");
+        NAMED.put("lnsim", "\u22E6");
+        NAMED.put("loang", "\u27EC");
+        NAMED.put("loarr", "\u21FD");
+        NAMED.put("lobrk", "\u27E6");
+        NAMED.put("longleftarrow", "\u27F5");
+        NAMED.put("Longleftarrow", "\u27F8");
+        NAMED.put("LongLeftArrow", "\u27F5");
+        NAMED.put("longleftrightarrow", "\u27F7");
+        NAMED.put("Longleftrightarrow", "\u27FA");
+        NAMED.put("LongLeftRightArrow", "\u27F7");
+        NAMED.put("longmapsto", "\u27FC");
+        NAMED.put("longrightarrow", "\u27F6");
+        NAMED.put("Longrightarrow", "\u27F9");
+        NAMED.put("LongRightArrow", "\u27F6");
+        NAMED.put("looparrowleft", "\u21AB");
+        NAMED.put("looparrowright", "\u21AC");
+        NAMED.put("lopar", "\u2985");
+        NAMED.put("lopf", "\uD835\uDD5D");
+        NAMED.put("Lopf", "\uD835\uDD43");
+        NAMED.put("loplus", "\u2A2D");
+        NAMED.put("lotimes", "\u2A34");
+        NAMED.put("lowast", "\u2217");
+        NAMED.put("lowbar", "_");
+        NAMED.put("LowerLeftArrow", "\u2199");
+        NAMED.put("LowerRightArrow", "\u2198");
+        NAMED.put("loz", "\u25CA");
+        NAMED.put("lozenge", "\u25CA");
+        NAMED.put("lozf", "\u29EB");
+        NAMED.put("lpar", "(");
+        NAMED.put("lparlt", "\u2993");
+        NAMED.put("lrarr", "\u21C6");
+        NAMED.put("lrcorner", "\u231F");
+        NAMED.put("lrhar", "\u21CB");
+        NAMED.put("lrhard", "\u296D");
+        NAMED.put("lrm", "\u200E");
+        NAMED.put("lrtri", "\u22BF");
+        NAMED.put("lsaquo", "\u2039");
+        NAMED.put("lscr", "\uD835\uDCC1");
+        NAMED.put("Lscr", "\u2112");
+        NAMED.put("lsh", "\u21B0");
+        NAMED.put("Lsh", "\u21B0");
+        NAMED.put("lsim", "\u2272");
+        NAMED.put("lsime", "\u2A8D");
+        NAMED.put("lsimg", "\u2A8F");
+        NAMED.put("lsqb", "[");
+        NAMED.put("lsquo", "\u2018");
+        NAMED.put("lsquor", "\u201A");
+        NAMED.put("lstrok", "\u0142");
+        NAMED.put("Lstrok", "\u0141");
+        NAMED.put("lt", "<");
+        NAMED.put("Lt", "\u226A");
+        NAMED.put("LT", "<");
+        NAMED.put("ltcc", "\u2AA6");
+        NAMED.put("ltcir", "\u2A79");
+        NAMED.put("ltdot", "\u22D6");
+        NAMED.put("lthree", "\u22CB");
+        NAMED.put("ltimes", "\u22C9");
+        NAMED.put("ltlarr", "\u2976");
+        NAMED.put("ltquest", "\u2A7B");
+        NAMED.put("ltri", "\u25C3");
+        NAMED.put("ltrie", "\u22B4");
+        NAMED.put("ltrif", "\u25C2");
+        NAMED.put("ltrPar", "\u2996");
+        NAMED.put("lurdshar", "\u294A");
+        NAMED.put("luruhar", "\u2966");
+        NAMED.put("lvertneqq", "\u2268\uFE00");
+        NAMED.put("lvnE", "\u2268\uFE00");
+        NAMED.put("macr", "\u00AF");
+        NAMED.put("male", "\u2642");
+        NAMED.put("malt", "\u2720");
+        NAMED.put("maltese", "\u2720");
+        NAMED.put("map", "\u21A6");
+        NAMED.put("Map", "\u2905");
+        NAMED.put("mapsto", "\u21A6");
+        NAMED.put("mapstodown", "\u21A7");
+        NAMED.put("mapstoleft", "\u21A4");
+        NAMED.put("mapstoup", "\u21A5");
+        NAMED.put("marker", "\u25AE");
+        NAMED.put("mcomma", "\u2A29");
+        NAMED.put("mcy", "\u043C");
+        NAMED.put("Mcy", "\u041C");
+        NAMED.put("mdash", "\u2014");
+        NAMED.put("mDDot", "\u223A");
+        NAMED.put("measuredangle", "\u2221");
+        NAMED.put("MediumSpace", "\u205F");
+        NAMED.put("Mellintrf", "\u2133");
+        NAMED.put("mfr", "\uD835\uDD2A");
+        NAMED.put("Mfr", "\uD835\uDD10");
+        NAMED.put("mho", "\u2127");
+        NAMED.put("micro", "\u00B5");
+        NAMED.put("mid", "\u2223");
+        NAMED.put("midast", "*");
+        NAMED.put("midcir", "\u2AF0");
+        NAMED.put("middot", "\u00B7");
+        NAMED.put("minus", "\u2212");
+        NAMED.put("minusb", "\u229F");
+        NAMED.put("minusd", "\u2238");
+        NAMED.put("minusdu", "\u2A2A");
+        NAMED.put("MinusPlus", "\u2213");
+        NAMED.put("mlcp", "\u2ADB");
+        NAMED.put("mldr", "\u2026");
+        NAMED.put("mnplus", "\u2213");
+        NAMED.put("models", "\u22A7");
+        NAMED.put("mopf", "\uD835\uDD5E");
+        NAMED.put("Mopf", "\uD835\uDD44");
+        NAMED.put("mp", "\u2213");
+        NAMED.put("mscr", "\uD835\uDCC2");
+        NAMED.put("Mscr", "\u2133");
+        NAMED.put("mstpos", "\u223E");
+        NAMED.put("mu", "\u03BC");
+        NAMED.put("Mu", "\u039C");
+        NAMED.put("multimap", "\u22B8");
+        NAMED.put("mumap", "\u22B8");
+        NAMED.put("nabla", "\u2207");
+        NAMED.put("nacute", "\u0144");
+        NAMED.put("Nacute", "\u0143");
+        NAMED.put("nang", "\u2220\u20D2");
+        NAMED.put("nap", "\u2249");
+        NAMED.put("napE", "\u2A70\u0338");
+        NAMED.put("napid", "\u224B\u0338");
+        NAMED.put("napos", "\u0149");
+        NAMED.put("napprox", "\u2249");
+        NAMED.put("natur", "\u266E");
+        NAMED.put("natural", "\u266E");
+        NAMED.put("naturals", "\u2115");
+        NAMED.put("nbsp", "\u00A0");
+        NAMED.put("nbump", "\u224E\u0338");
+        NAMED.put("nbumpe", "\u224F\u0338");
+        NAMED.put("ncap", "\u2A43");
+        NAMED.put("ncaron", "\u0148");
+        NAMED.put("Ncaron", "\u0147");
+        NAMED.put("ncedil", "\u0146");
+        NAMED.put("Ncedil", "\u0145");
+        NAMED.put("ncong", "\u2247");
+        NAMED.put("ncongdot", "\u2A6D\u0338");
+        NAMED.put("ncup", "\u2A42");
+        NAMED.put("ncy", "\u043D");
+        NAMED.put("Ncy", "\u041D");
+        NAMED.put("ndash", "\u2013");
+        NAMED.put("ne", "\u2260");
+        NAMED.put("nearhk", "\u2924");
+        NAMED.put("nearr", "\u2197");
+        NAMED.put("neArr", "\u21D7");
+        NAMED.put("nearrow", "\u2197");
+        NAMED.put("nedot", "\u2250\u0338");
+        NAMED.put("NegativeMediumSpace", "\u200B");
+        NAMED.put("NegativeThickSpace", "\u200B");
+        NAMED.put("NegativeThinSpace", "\u200B");
+        NAMED.put("NegativeVeryThinSpace", "\u200B");
+        NAMED.put("nequiv", "\u2262");
+        NAMED.put("nesear", "\u2928");
+        NAMED.put("nesim", "\u2242\u0338");
+        NAMED.put("NestedGreaterGreater", "\u226B");
+        NAMED.put("NestedLessLess", "\u226A");
+        NAMED.put("NewLine", "\n");
+        NAMED.put("nexist", "\u2204");
+        NAMED.put("nexists", "\u2204");
+        NAMED.put("nfr", "\uD835\uDD2B");
+        NAMED.put("Nfr", "\uD835\uDD11");
+        NAMED.put("nge", "\u2271");
+        NAMED.put("ngE", "\u2267\u0338");
+        NAMED.put("ngeq", "\u2271");
+        NAMED.put("ngeqq", "\u2267\u0338");
+        NAMED.put("ngeqslant", "\u2A7E\u0338");
+        NAMED.put("nges", "\u2A7E\u0338");
+        NAMED.put("nGg", "\u22D9\u0338");
+        NAMED.put("ngsim", "\u2275");
+        NAMED.put("ngt", "\u226F");
+        NAMED.put("nGt", "\u226B\u20D2");
+        NAMED.put("ngtr", "\u226F");
+        NAMED.put("nGtv", "\u226B\u0338");
+        NAMED.put("nharr", "\u21AE");
+        NAMED.put("nhArr", "\u21CE");
+        NAMED.put("nhpar", "\u2AF2");
+        NAMED.put("ni", "\u220B");
+        NAMED.put("nis", "\u22FC");
+        NAMED.put("nisd", "\u22FA");
+        NAMED.put("niv", "\u220B");
+        NAMED.put("njcy", "\u045A");
+        NAMED.put("NJcy", "\u040A");
+        NAMED.put("nlarr", "\u219A");
+        NAMED.put("nlArr", "\u21CD");
+        NAMED.put("nldr", "\u2025");
+        NAMED.put("nle", "\u2270");
+        NAMED.put("nlE", "\u2266\u0338");
+        NAMED.put("nleftarrow", "\u219A");
+        NAMED.put("nLeftarrow", "\u21CD");
+        NAMED.put("nleftrightarrow", "\u21AE");
+        NAMED.put("nLeftrightarrow", "\u21CE");
+        NAMED.put("nleq", "\u2270");
+        NAMED.put("nleqq", "\u2266\u0338");
+        NAMED.put("nleqslant", "\u2A7D\u0338");
+        NAMED.put("nles", "\u2A7D\u0338");
+        NAMED.put("nless", "\u226E");
+        NAMED.put("nLl", "\u22D8\u0338");
+        NAMED.put("nlsim", "\u2274");
+        NAMED.put("nlt", "\u226E");
+        NAMED.put("nLt", "\u226A\u20D2");
+        NAMED.put("nltri", "\u22EA");
+        NAMED.put("nltrie", "\u22EC");
+        NAMED.put("nLtv", "\u226A\u0338");
+        NAMED.put("nmid", "\u2224");
+        NAMED.put("NoBreak", "\u2060");
+        NAMED.put("NonBreakingSpace", "\u00A0");
+        NAMED.put("nopf", "\uD835\uDD5F");
+        NAMED.put("Nopf", "\u2115");
+        NAMED.put("not", "\u00AC");
+        NAMED.put("Not", "\u2AEC");
+        NAMED.put("NotCongruent", "\u2262");
+        NAMED.put("NotCupCap", "\u226D");
+        NAMED.put("NotDoubleVerticalBar", "\u2226");
+        NAMED.put("NotElement", "\u2209");
+        NAMED.put("NotEqual", "\u2260");
+        NAMED.put("NotEqualTilde", "\u2242\u0338");
+        NAMED.put("NotExists", "\u2204");
+        NAMED.put("NotGreater", "\u226F");
+        NAMED.put("NotGreaterEqual", "\u2271");
+        NAMED.put("NotGreaterFullEqual", "\u2267\u0338");
+        NAMED.put("NotGreaterGreater", "\u226B\u0338");
+        NAMED.put("NotGreaterLess", "\u2279");
+        NAMED.put("NotGreaterSlantEqual", "\u2A7E\u0338");
+        NAMED.put("NotGreaterTilde", "\u2275");
+        NAMED.put("NotHumpDownHump", "\u224E\u0338");
+        NAMED.put("NotHumpEqual", "\u224F\u0338");
+        NAMED.put("notin", "\u2209");
+        NAMED.put("notindot", "\u22F5\u0338");
+        NAMED.put("notinE", "\u22F9\u0338");
+        NAMED.put("notinva", "\u2209");
+        NAMED.put("notinvb", "\u22F7");
+        NAMED.put("notinvc", "\u22F6");
+        NAMED.put("NotLeftTriangle", "\u22EA");
+        NAMED.put("NotLeftTriangleBar", "\u29CF\u0338");
+        NAMED.put("NotLeftTriangleEqual", "\u22EC");
+        NAMED.put("NotLess", "\u226E");
+        NAMED.put("NotLessEqual", "\u2270");
+        NAMED.put("NotLessGreater", "\u2278");
+        NAMED.put("NotLessLess", "\u226A\u0338");
+        NAMED.put("NotLessSlantEqual", "\u2A7D\u0338");
+        NAMED.put("NotLessTilde", "\u2274");
+        NAMED.put("NotNestedGreaterGreater", "\u2AA2\u0338");
+        NAMED.put("NotNestedLessLess", "\u2AA1\u0338");
+        NAMED.put("notni", "\u220C");
+        NAMED.put("notniva", "\u220C");
+        NAMED.put("notnivb", "\u22FE");
+        NAMED.put("notnivc", "\u22FD");
+        NAMED.put("NotPrecedes", "\u2280");
+        NAMED.put("NotPrecedesEqual", "\u2AAF\u0338");
+        NAMED.put("NotPrecedesSlantEqual", "\u22E0");
+        NAMED.put("NotReverseElement", "\u220C");
+        NAMED.put("NotRightTriangle", "\u22EB");
+        NAMED.put("NotRightTriangleBar", "\u29D0\u0338");
+        NAMED.put("NotRightTriangleEqual", "\u22ED");
+        NAMED.put("NotSquareSubset", "\u228F\u0338");
+        NAMED.put("NotSquareSubsetEqual", "\u22E2");
+        NAMED.put("NotSquareSuperset", "\u2290\u0338");
+        NAMED.put("NotSquareSupersetEqual", "\u22E3");
+        NAMED.put("NotSubset", "\u2282\u20D2");
+        NAMED.put("NotSubsetEqual", "\u2288");
+        NAMED.put("NotSucceeds", "\u2281");
+        NAMED.put("NotSucceedsEqual", "\u2AB0\u0338");
+        NAMED.put("NotSucceedsSlantEqual", "\u22E1");
+        NAMED.put("NotSucceedsTilde", "\u227F\u0338");
+        NAMED.put("NotSuperset", "\u2283\u20D2");
+        NAMED.put("NotSupersetEqual", "\u2289");
+        NAMED.put("NotTilde", "\u2241");
+        NAMED.put("NotTildeEqual", "\u2244");
+        NAMED.put("NotTildeFullEqual", "\u2247");
+        NAMED.put("NotTildeTilde", "\u2249");
+        NAMED.put("NotVerticalBar", "\u2224");
+        NAMED.put("npar", "\u2226");
+        NAMED.put("nparallel", "\u2226");
+        NAMED.put("nparsl", "\u2AFD\u20E5");
+        NAMED.put("npart", "\u2202\u0338");
+        NAMED.put("npolint", "\u2A14");
+        NAMED.put("npr", "\u2280");
+        NAMED.put("nprcue", "\u22E0");
+        NAMED.put("npre", "\u2AAF\u0338");
+        NAMED.put("nprec", "\u2280");
+        NAMED.put("npreceq", "\u2AAF\u0338");
+        NAMED.put("nrarr", "\u219B");
+        NAMED.put("nrArr", "\u21CF");
+        NAMED.put("nrarrc", "\u2933\u0338");
+        NAMED.put("nrarrw", "\u219D\u0338");
+        NAMED.put("nrightarrow", "\u219B");
+        NAMED.put("nRightarrow", "\u21CF");
+        NAMED.put("nrtri", "\u22EB");
+        NAMED.put("nrtrie", "\u22ED");
+        NAMED.put("nsc", "\u2281");
+        NAMED.put("nsccue", "\u22E1");
+        NAMED.put("nsce", "\u2AB0\u0338");
+        NAMED.put("nscr", "\uD835\uDCC3");
+        NAMED.put("Nscr", "\uD835\uDCA9");
+        NAMED.put("nshortmid", "\u2224");
+        NAMED.put("nshortparallel", "\u2226");
+        NAMED.put("nsim", "\u2241");
+        NAMED.put("nsime", "\u2244");
+        NAMED.put("nsimeq", "\u2244");
+        NAMED.put("nsmid", "\u2224");
+        NAMED.put("nspar", "\u2226");
+        NAMED.put("nsqsube", "\u22E2");
+        NAMED.put("nsqsupe", "\u22E3");
+        NAMED.put("nsub", "\u2284");
+        NAMED.put("nsube", "\u2288");
+        NAMED.put("nsubE", "\u2AC5\u0338");
+        NAMED.put("nsubset", "\u2282\u20D2");
+        NAMED.put("nsubseteq", "\u2288");
+        NAMED.put("nsubseteqq", "\u2AC5\u0338");
+        NAMED.put("nsucc", "\u2281");
+        NAMED.put("nsucceq", "\u2AB0\u0338");
+        NAMED.put("nsup", "\u2285");
+        NAMED.put("nsupe", "\u2289");
+        NAMED.put("nsupE", "\u2AC6\u0338");
+        NAMED.put("nsupset", "\u2283\u20D2");
+        NAMED.put("nsupseteq", "\u2289");
+        NAMED.put("nsupseteqq", "\u2AC6\u0338");
+        NAMED.put("ntgl", "\u2279");
+        NAMED.put("ntilde", "\u00F1");
+        NAMED.put("Ntilde", "\u00D1");
+        NAMED.put("ntlg", "\u2278");
+        NAMED.put("ntriangleleft", "\u22EA");
+        NAMED.put("ntrianglelefteq", "\u22EC");
+        NAMED.put("ntriangleright", "\u22EB");
+        NAMED.put("ntrianglerighteq", "\u22ED");
+        NAMED.put("nu", "\u03BD");
+        NAMED.put("Nu", "\u039D");
+        NAMED.put("num", "#");
+        NAMED.put("numero", "\u2116");
+        NAMED.put("numsp", "\u2007");
+        NAMED.put("nvap", "\u224D\u20D2");
+        NAMED.put("nvdash", "\u22AC");
+        NAMED.put("nvDash", "\u22AD");
+        NAMED.put("nVdash", "\u22AE");
+        NAMED.put("nVDash", "\u22AF");
+        NAMED.put("nvge", "\u2265\u20D2");
+        NAMED.put("nvgt", ">\u20D2");
+        NAMED.put("nvHarr", "\u2904");
+        NAMED.put("nvinfin", "\u29DE");
+        NAMED.put("nvlArr", "\u2902");
+        NAMED.put("nvle", "\u2264\u20D2");
+        NAMED.put("nvlt", "<\u20D2");
+        NAMED.put("nvltrie", "\u22B4\u20D2");
+        NAMED.put("nvrArr", "\u2903");
+        NAMED.put("nvrtrie", "\u22B5\u20D2");
+        NAMED.put("nvsim", "\u223C\u20D2");
+        NAMED.put("nwarhk", "\u2923");
+        NAMED.put("nwarr", "\u2196");
+        NAMED.put("nwArr", "\u21D6");
+        NAMED.put("nwarrow", "\u2196");
+        NAMED.put("nwnear", "\u2927");
+        NAMED.put("oacute", "\u00F3");
+        NAMED.put("Oacute", "\u00D3");
+        NAMED.put("oast", "\u229B");
+        NAMED.put("ocir", "\u229A");
+        NAMED.put("ocirc", "\u00F4");
+        NAMED.put("Ocirc", "\u00D4");
+        NAMED.put("ocy", "\u043E");
+        NAMED.put("Ocy", "\u041E");
+        NAMED.put("odash", "\u229D");
+        NAMED.put("odblac", "\u0151");
+        NAMED.put("Odblac", "\u0150");
+        NAMED.put("odiv", "\u2A38");
+        NAMED.put("odot", "\u2299");
+        NAMED.put("odsold", "\u29BC");
+        NAMED.put("oelig", "\u0153");
+        NAMED.put("OElig", "\u0152");
+        NAMED.put("ofcir", "\u29BF");
+        NAMED.put("ofr", "\uD835\uDD2C");
+        NAMED.put("Ofr", "\uD835\uDD12");
+        NAMED.put("ogon", "\u02DB");
+        NAMED.put("ograve", "\u00F2");
+        NAMED.put("Ograve", "\u00D2");
+        NAMED.put("ogt", "\u29C1");
+        NAMED.put("ohbar", "\u29B5");
+        NAMED.put("ohm", "\u03A9");
+        NAMED.put("oint", "\u222E");
+        NAMED.put("olarr", "\u21BA");
+        NAMED.put("olcir", "\u29BE");
+        NAMED.put("olcross", "\u29BB");
+        NAMED.put("oline", "\u203E");
+        NAMED.put("olt", "\u29C0");
+        NAMED.put("omacr", "\u014D");
+        NAMED.put("Omacr", "\u014C");
+        NAMED.put("omega", "\u03C9");
+        NAMED.put("Omega", "\u03A9");
+        NAMED.put("omicron", "\u03BF");
+        NAMED.put("Omicron", "\u039F");
+        NAMED.put("omid", "\u29B6");
+        NAMED.put("ominus", "\u2296");
+        NAMED.put("oopf", "\uD835\uDD60");
+        NAMED.put("Oopf", "\uD835\uDD46");
+        NAMED.put("opar", "\u29B7");
+        NAMED.put("OpenCurlyDoubleQuote", "\u201C");
+        NAMED.put("OpenCurlyQuote", "\u2018");
+        NAMED.put("operp", "\u29B9");
+        NAMED.put("oplus", "\u2295");
+        NAMED.put("or", "\u2228");
+        NAMED.put("Or", "\u2A54");
+        NAMED.put("orarr", "\u21BB");
+        NAMED.put("ord", "\u2A5D");
+        NAMED.put("order", "\u2134");
+        NAMED.put("orderof", "\u2134");
+        NAMED.put("ordf", "\u00AA");
+        NAMED.put("ordm", "\u00BA");
+        NAMED.put("origof", "\u22B6");
+        NAMED.put("oror", "\u2A56");
+        NAMED.put("orslope", "\u2A57");
+        NAMED.put("orv", "\u2A5B");
+        NAMED.put("oS", "\u24C8");
+        NAMED.put("oscr", "\u2134");
+        NAMED.put("Oscr", "\uD835\uDCAA");
+        NAMED.put("oslash", "\u00F8");
+        NAMED.put("Oslash", "\u00D8");
+        NAMED.put("osol", "\u2298");
+        NAMED.put("otilde", "\u00F5");
+        NAMED.put("Otilde", "\u00D5");
+        NAMED.put("otimes", "\u2297");
+        NAMED.put("Otimes", "\u2A37");
+        NAMED.put("otimesas", "\u2A36");
+        NAMED.put("ouml", "\u00F6");
+        NAMED.put("Ouml", "\u00D6");
+        NAMED.put("ovbar", "\u233D");
+        NAMED.put("OverBar", "\u203E");
+        NAMED.put("OverBrace", "\u23DE");
+        NAMED.put("OverBracket", "\u23B4");
+        NAMED.put("OverParenthesis", "\u23DC");
+        NAMED.put("par", "\u2225");
+        NAMED.put("para", "\u00B6");
+        NAMED.put("parallel", "\u2225");
+        NAMED.put("parsim", "\u2AF3");
+        NAMED.put("parsl", "\u2AFD");
+        NAMED.put("part", "\u2202");
+        NAMED.put("PartialD", "\u2202");
+        NAMED.put("pcy", "\u043F");
+        NAMED.put("Pcy", "\u041F");
+        NAMED.put("percnt", "%");
+        NAMED.put("period", ".");
+        NAMED.put("permil", "\u2030");
+        NAMED.put("perp", "\u22A5");
+        NAMED.put("pertenk", "\u2031");
+        NAMED.put("pfr", "\uD835\uDD2D");
+        NAMED.put("Pfr", "\uD835\uDD13");
+        NAMED.put("phi", "\u03C6");
+        NAMED.put("Phi", "\u03A6");
+        NAMED.put("phiv", "\u03D5");
+        NAMED.put("phmmat", "\u2133");
+        NAMED.put("phone", "\u260E");
+        NAMED.put("pi", "\u03C0");
+        NAMED.put("Pi", "\u03A0");
+        NAMED.put("pitchfork", "\u22D4");
+        NAMED.put("piv", "\u03D6");
+        NAMED.put("planck", "\u210F");
+        NAMED.put("planckh", "\u210E");
+        NAMED.put("plankv", "\u210F");
+        NAMED.put("plus", "+");
+        NAMED.put("plusacir", "\u2A23");
+        NAMED.put("plusb", "\u229E");
+        NAMED.put("pluscir", "\u2A22");
+        NAMED.put("plusdo", "\u2214");
+        NAMED.put("plusdu", "\u2A25");
+        NAMED.put("pluse", "\u2A72");
+        NAMED.put("PlusMinus", "\u00B1");
+        NAMED.put("plusmn", "\u00B1");
+        NAMED.put("plussim", "\u2A26");
+        NAMED.put("plustwo", "\u2A27");
+        NAMED.put("pm", "\u00B1");
+        NAMED.put("Poincareplane", "\u210C");
+        NAMED.put("pointint", "\u2A15");
+        NAMED.put("popf", "\uD835\uDD61");
+        NAMED.put("Popf", "\u2119");
+        NAMED.put("pound", "\u00A3");
+        NAMED.put("pr", "\u227A");
+        NAMED.put("Pr", "\u2ABB");
+        NAMED.put("prap", "\u2AB7");
+        NAMED.put("prcue", "\u227C");
+        NAMED.put("pre", "\u2AAF");
+        NAMED.put("prE", "\u2AB3");
+        NAMED.put("prec", "\u227A");
+        NAMED.put("precapprox", "\u2AB7");
+        NAMED.put("preccurlyeq", "\u227C");
+        NAMED.put("Precedes", "\u227A");
+        NAMED.put("PrecedesEqual", "\u2AAF");
+        NAMED.put("PrecedesSlantEqual", "\u227C");
+        NAMED.put("PrecedesTilde", "\u227E");
+        NAMED.put("preceq", "\u2AAF");
+        NAMED.put("precnapprox", "\u2AB9");
+        NAMED.put("precneqq", "\u2AB5");
+        NAMED.put("precnsim", "\u22E8");
+        NAMED.put("precsim", "\u227E");
+        NAMED.put("prime", "\u2032");
+        NAMED.put("Prime", "\u2033");
+        NAMED.put("primes", "\u2119");
+        NAMED.put("prnap", "\u2AB9");
+        NAMED.put("prnE", "\u2AB5");
+        NAMED.put("prnsim", "\u22E8");
+        NAMED.put("prod", "\u220F");
+        NAMED.put("Product", "\u220F");
+        NAMED.put("profalar", "\u232E");
+        NAMED.put("profline", "\u2312");
+        NAMED.put("profsurf", "\u2313");
+        NAMED.put("prop", "\u221D");
+        NAMED.put("Proportion", "\u2237");
+        NAMED.put("Proportional", "\u221D");
+        NAMED.put("propto", "\u221D");
+        NAMED.put("prsim", "\u227E");
+        NAMED.put("prurel", "\u22B0");
+        NAMED.put("pscr", "\uD835\uDCC5");
+        NAMED.put("Pscr", "\uD835\uDCAB");
+        NAMED.put("psi", "\u03C8");
+        NAMED.put("Psi", "\u03A8");
+        NAMED.put("puncsp", "\u2008");
+        NAMED.put("qfr", "\uD835\uDD2E");
+        NAMED.put("Qfr", "\uD835\uDD14");
+        NAMED.put("qint", "\u2A0C");
+        NAMED.put("qopf", "\uD835\uDD62");
+        NAMED.put("Qopf", "\u211A");
+        NAMED.put("qprime", "\u2057");
+        NAMED.put("qscr", "\uD835\uDCC6");
+        NAMED.put("Qscr", "\uD835\uDCAC");
+        NAMED.put("quaternions", "\u210D");
+        NAMED.put("quatint", "\u2A16");
+        NAMED.put("quest", "?");
+        NAMED.put("questeq", "\u225F");
+        NAMED.put("quot", "\"");
+        NAMED.put("QUOT", "\"");
+        NAMED.put("rAarr", "\u21DB");
+        NAMED.put("race", "\u223D\u0331");
+        NAMED.put("racute", "\u0155");
+        NAMED.put("Racute", "\u0154");
+        NAMED.put("radic", "\u221A");
+        NAMED.put("raemptyv", "\u29B3");
+        NAMED.put("rang", "\u27E9");
+        NAMED.put("Rang", "\u27EB");
+        NAMED.put("rangd", "\u2992");
+        NAMED.put("range", "\u29A5");
+        NAMED.put("rangle", "\u27E9");
+        NAMED.put("raquo", "\u00BB");
+        NAMED.put("rarr", "\u2192");
+        NAMED.put("rArr", "\u21D2");
+        NAMED.put("Rarr", "\u21A0");
+        NAMED.put("rarrap", "\u2975");
+        NAMED.put("rarrb", "\u21E5");
+        NAMED.put("rarrbfs", "\u2920");
+        NAMED.put("rarrc", "\u2933");
+        NAMED.put("rarrfs", "\u291E");
+        NAMED.put("rarrhk", "\u21AA");
+        NAMED.put("rarrlp", "\u21AC");
+        NAMED.put("rarrpl", "\u2945");
+        NAMED.put("rarrsim", "\u2974");
+        NAMED.put("rarrtl", "\u21A3");
+        NAMED.put("Rarrtl", "\u2916");
+        NAMED.put("rarrw", "\u219D");
+        NAMED.put("ratail", "\u291A");
+        NAMED.put("rAtail", "\u291C");
+        NAMED.put("ratio", "\u2236");
+        NAMED.put("rationals", "\u211A");
+        NAMED.put("rbarr", "\u290D");
+        NAMED.put("rBarr", "\u290F");
+        NAMED.put("RBarr", "\u2910");
+        NAMED.put("rbbrk", "\u2773");
+        NAMED.put("rbrace", "}");
+        NAMED.put("rbrack", "]");
+        NAMED.put("rbrke", "\u298C");
+        NAMED.put("rbrksld", "\u298E");
+        NAMED.put("rbrkslu", "\u2990");
+        NAMED.put("rcaron", "\u0159");
+        NAMED.put("Rcaron", "\u0158");
+        NAMED.put("rcedil", "\u0157");
+        NAMED.put("Rcedil", "\u0156");
+        NAMED.put("rceil", "\u2309");
+        NAMED.put("rcub", "}");
+        NAMED.put("rcy", "\u0440");
+        NAMED.put("Rcy", "\u0420");
+        NAMED.put("rdca", "\u2937");
+        NAMED.put("rdldhar", "\u2969");
+        NAMED.put("rdquo", "\u201D");
+        NAMED.put("rdquor", "\u201D");
+        NAMED.put("rdsh", "\u21B3");
+        NAMED.put("Re", "\u211C");
+        NAMED.put("real", "\u211C");
+        NAMED.put("realine", "\u211B");
+        NAMED.put("realpart", "\u211C");
+        NAMED.put("reals", "\u211D");
+        NAMED.put("rect", "\u25AD");
+        NAMED.put("reg", "\u00AE");
+        NAMED.put("REG", "\u00AE");
+        NAMED.put("ReverseElement", "\u220B");
+        NAMED.put("ReverseEquilibrium", "\u21CB");
+        NAMED.put("ReverseUpEquilibrium", "\u296F");
+        NAMED.put("rfisht", "\u297D");
+        NAMED.put("rfloor", "\u230B");
+        NAMED.put("rfr", "\uD835\uDD2F");
+        NAMED.put("Rfr", "\u211C");
+        NAMED.put("rHar", "\u2964");
+        NAMED.put("rhard", "\u21C1");
+        NAMED.put("rharu", "\u21C0");
+        NAMED.put("rharul", "\u296C");
+        NAMED.put("rho", "\u03C1");
+        NAMED.put("Rho", "\u03A1");
+        NAMED.put("rhov", "\u03F1");
+        NAMED.put("RightAngleBracket", "\u27E9");
+        NAMED.put("rightarrow", "\u2192");
+        NAMED.put("Rightarrow", "\u21D2");
+        NAMED.put("RightArrow", "\u2192");
+        NAMED.put("RightArrowBar", "\u21E5");
+        NAMED.put("RightArrowLeftArrow", "\u21C4");
+        NAMED.put("rightarrowtail", "\u21A3");
+        NAMED.put("RightCeiling", "\u2309");
+        NAMED.put("RightDoubleBracket", "\u27E7");
+        NAMED.put("RightDownTeeVector", "\u295D");
+        NAMED.put("RightDownVector", "\u21C2");
+        NAMED.put("RightDownVectorBar", "\u2955");
+        NAMED.put("RightFloor", "\u230B");
+        NAMED.put("rightharpoondown", "\u21C1");
+        NAMED.put("rightharpoonup", "\u21C0");
+        NAMED.put("rightleftarrows", "\u21C4");
+        NAMED.put("rightleftharpoons", "\u21CC");
+        NAMED.put("rightrightarrows", "\u21C9");
+        NAMED.put("rightsquigarrow", "\u219D");
+        NAMED.put("RightTee", "\u22A2");
+        NAMED.put("RightTeeArrow", "\u21A6");
+        NAMED.put("RightTeeVector", "\u295B");
+        NAMED.put("rightthreetimes", "\u22CC");
+        NAMED.put("RightTriangle", "\u22B3");
+        NAMED.put("RightTriangleBar", "\u29D0");
+        NAMED.put("RightTriangleEqual", "\u22B5");
+        NAMED.put("RightUpDownVector", "\u294F");
+        NAMED.put("RightUpTeeVector", "\u295C");
+        NAMED.put("RightUpVector", "\u21BE");
+        NAMED.put("RightUpVectorBar", "\u2954");
+        NAMED.put("RightVector", "\u21C0");
+        NAMED.put("RightVectorBar", "\u2953");
+        NAMED.put("ring", "\u02DA");
+        NAMED.put("risingdotseq", "\u2253");
+        NAMED.put("rlarr", "\u21C4");
+        NAMED.put("rlhar", "\u21CC");
+        NAMED.put("rlm", "\u200F");
+        NAMED.put("rmoust", "\u23B1");
+        NAMED.put("rmoustache", "\u23B1");
+        NAMED.put("rnmid", "\u2AEE");
+        NAMED.put("roang", "\u27ED");
+        NAMED.put("roarr", "\u21FE");
+        NAMED.put("robrk", "\u27E7");
+        NAMED.put("ropar", "\u2986");
+        NAMED.put("ropf", "\uD835\uDD63");
+        NAMED.put("Ropf", "\u211D");
+        NAMED.put("roplus", "\u2A2E");
+        NAMED.put("rotimes", "\u2A35");
+        NAMED.put("RoundImplies", "\u2970");
+        NAMED.put("rpar", ")");
+        NAMED.put("rpargt", "\u2994");
+        NAMED.put("rppolint", "\u2A12");
+        NAMED.put("rrarr", "\u21C9");
+        NAMED.put("Rrightarrow", "\u21DB");
+        NAMED.put("rsaquo", "\u203A");
+        NAMED.put("rscr", "\uD835\uDCC7");
+        NAMED.put("Rscr", "\u211B");
+        NAMED.put("rsh", "\u21B1");
+        NAMED.put("Rsh", "\u21B1");
+        NAMED.put("rsqb", "]");
+        NAMED.put("rsquo", "\u2019");
+        NAMED.put("rsquor", "\u2019");
+        NAMED.put("rthree", "\u22CC");
+        NAMED.put("rtimes", "\u22CA");
+        NAMED.put("rtri", "\u25B9");
+        NAMED.put("rtrie", "\u22B5");
+        NAMED.put("rtrif", "\u25B8");
+        NAMED.put("rtriltri", "\u29CE");
+        NAMED.put("RuleDelayed", "\u29F4");
+        NAMED.put("ruluhar", "\u2968");
+        NAMED.put("rx", "\u211E");
+        NAMED.put("sacute", "\u015B");
+        NAMED.put("Sacute", "\u015A");
+        NAMED.put("sbquo", "\u201A");
+        NAMED.put("sc", "\u227B");
+        NAMED.put("Sc", "\u2ABC");
+        NAMED.put("scap", "\u2AB8");
+        NAMED.put("scaron", "\u0161");
+        NAMED.put("Scaron", "\u0160");
+        NAMED.put("sccue", "\u227D");
+        NAMED.put("sce", "\u2AB0");
+        NAMED.put("scE", "\u2AB4");
+        NAMED.put("scedil", "\u015F");
+        NAMED.put("Scedil", "\u015E");
+        NAMED.put("scirc", "\u015D");
+        NAMED.put("Scirc", "\u015C");
+        NAMED.put("scnap", "\u2ABA");
+        NAMED.put("scnE", "\u2AB6");
+        NAMED.put("scnsim", "\u22E9");
+        NAMED.put("scpolint", "\u2A13");
+        NAMED.put("scsim", "\u227F");
+        NAMED.put("scy", "\u0441");
+        NAMED.put("Scy", "\u0421");
+        NAMED.put("sdot", "\u22C5");
+        NAMED.put("sdotb", "\u22A1");
+        NAMED.put("sdote", "\u2A66");
+        NAMED.put("searhk", "\u2925");
+        NAMED.put("searr", "\u2198");
+        NAMED.put("seArr", "\u21D8");
+        NAMED.put("searrow", "\u2198");
+        NAMED.put("sect", "\u00A7");
+        NAMED.put("semi", ";");
+        NAMED.put("seswar", "\u2929");
+        NAMED.put("setminus", "\u2216");
+        NAMED.put("setmn", "\u2216");
+        NAMED.put("sext", "\u2736");
+        NAMED.put("sfr", "\uD835\uDD30");
+        NAMED.put("Sfr", "\uD835\uDD16");
+        NAMED.put("sfrown", "\u2322");
+        NAMED.put("sharp", "\u266F");
+        NAMED.put("shchcy", "\u0449");
+        NAMED.put("SHCHcy", "\u0429");
+        NAMED.put("shcy", "\u0448");
+        NAMED.put("SHcy", "\u0428");
+        NAMED.put("ShortDownArrow", "\u2193");
+        NAMED.put("ShortLeftArrow", "\u2190");
+        NAMED.put("shortmid", "\u2223");
+        NAMED.put("shortparallel", "\u2225");
+        NAMED.put("ShortRightArrow", "\u2192");
+        NAMED.put("ShortUpArrow", "\u2191");
+        NAMED.put("shy", "\u00AD");
+        NAMED.put("sigma", "\u03C3");
+        NAMED.put("Sigma", "\u03A3");
+        NAMED.put("sigmaf", "\u03C2");
+        NAMED.put("sigmav", "\u03C2");
+        NAMED.put("sim", "\u223C");
+        NAMED.put("simdot", "\u2A6A");
+        NAMED.put("sime", "\u2243");
+        NAMED.put("simeq", "\u2243");
+        NAMED.put("simg", "\u2A9E");
+        NAMED.put("simgE", "\u2AA0");
+        NAMED.put("siml", "\u2A9D");
+        NAMED.put("simlE", "\u2A9F");
+        NAMED.put("simne", "\u2246");
+        NAMED.put("simplus", "\u2A24");
+        NAMED.put("simrarr", "\u2972");
+        NAMED.put("slarr", "\u2190");
+        NAMED.put("SmallCircle", "\u2218");
+        NAMED.put("smallsetminus", "\u2216");
+        NAMED.put("smashp", "\u2A33");
+        NAMED.put("smeparsl", "\u29E4");
+        NAMED.put("smid", "\u2223");
+        NAMED.put("smile", "\u2323");
+        NAMED.put("smt", "\u2AAA");
+        NAMED.put("smte", "\u2AAC");
+        NAMED.put("smtes", "\u2AAC\uFE00");
+        NAMED.put("softcy", "\u044C");
+        NAMED.put("SOFTcy", "\u042C");
+        NAMED.put("sol", "/");
+        NAMED.put("solb", "\u29C4");
+        NAMED.put("solbar", "\u233F");
+        NAMED.put("sopf", "\uD835\uDD64");
+        NAMED.put("Sopf", "\uD835\uDD4A");
+        NAMED.put("spades", "\u2660");
+        NAMED.put("spadesuit", "\u2660");
+        NAMED.put("spar", "\u2225");
+        NAMED.put("sqcap", "\u2293");
+        NAMED.put("sqcaps", "\u2293\uFE00");
+        NAMED.put("sqcup", "\u2294");
+        NAMED.put("sqcups", "\u2294\uFE00");
+        NAMED.put("Sqrt", "\u221A");
+        NAMED.put("sqsub", "\u228F");
+        NAMED.put("sqsube", "\u2291");
+        NAMED.put("sqsubset", "\u228F");
+        NAMED.put("sqsubseteq", "\u2291");
+        NAMED.put("sqsup", "\u2290");
+        NAMED.put("sqsupe", "\u2292");
+        NAMED.put("sqsupset", "\u2290");
+        NAMED.put("sqsupseteq", "\u2292");
+        NAMED.put("squ", "\u25A1");
+        NAMED.put("square", "\u25A1");
+        NAMED.put("Square", "\u25A1");
+        NAMED.put("SquareIntersection", "\u2293");
+        NAMED.put("SquareSubset", "\u228F");
+        NAMED.put("SquareSubsetEqual", "\u2291");
+        NAMED.put("SquareSuperset", "\u2290");
+        NAMED.put("SquareSupersetEqual", "\u2292");
+        NAMED.put("SquareUnion", "\u2294");
+        NAMED.put("squarf", "\u25AA");
+        NAMED.put("squf", "\u25AA");
+        NAMED.put("srarr", "\u2192");
+        NAMED.put("sscr", "\uD835\uDCC8");
+        NAMED.put("Sscr", "\uD835\uDCAE");
+        NAMED.put("ssetmn", "\u2216");
+        NAMED.put("ssmile", "\u2323");
+        NAMED.put("sstarf", "\u22C6");
+        NAMED.put("star", "\u2606");
+        NAMED.put("Star", "\u22C6");
+        NAMED.put("starf", "\u2605");
+        NAMED.put("straightepsilon", "\u03F5");
+        NAMED.put("straightphi", "\u03D5");
+        NAMED.put("strns", "\u00AF");
+        NAMED.put("sub", "\u2282");
+        NAMED.put("Sub", "\u22D0");
+        NAMED.put("subdot", "\u2ABD");
+        NAMED.put("sube", "\u2286");
+        NAMED.put("subE", "\u2AC5");
+        NAMED.put("subedot", "\u2AC3");
+        NAMED.put("submult", "\u2AC1");
+        NAMED.put("subne", "\u228A");
+        NAMED.put("subnE", "\u2ACB");
+        NAMED.put("subplus", "\u2ABF");
+        NAMED.put("subrarr", "\u2979");
+        NAMED.put("subset", "\u2282");
+        NAMED.put("Subset", "\u22D0");
+        NAMED.put("subseteq", "\u2286");
+        NAMED.put("subseteqq", "\u2AC5");
+        NAMED.put("SubsetEqual", "\u2286");
+        NAMED.put("subsetneq", "\u228A");
+        NAMED.put("subsetneqq", "\u2ACB");
+        NAMED.put("subsim", "\u2AC7");
+        NAMED.put("subsub", "\u2AD5");
+        NAMED.put("subsup", "\u2AD3");
+        NAMED.put("succ", "\u227B");
+        NAMED.put("succapprox", "\u2AB8");
+        NAMED.put("succcurlyeq", "\u227D");
+        NAMED.put("Succeeds", "\u227B");
+        NAMED.put("SucceedsEqual", "\u2AB0");
+        NAMED.put("SucceedsSlantEqual", "\u227D");
+        NAMED.put("SucceedsTilde", "\u227F");
+        NAMED.put("succeq", "\u2AB0");
+        NAMED.put("succnapprox", "\u2ABA");
+        NAMED.put("succneqq", "\u2AB6");
+        NAMED.put("succnsim", "\u22E9");
+        NAMED.put("succsim", "\u227F");
+        NAMED.put("SuchThat", "\u220B");
+        NAMED.put("sum", "\u2211");
+        NAMED.put("Sum", "\u2211");
+        NAMED.put("sung", "\u266A");
+        NAMED.put("sup", "\u2283");
+        NAMED.put("Sup", "\u22D1");
+        NAMED.put("sup1", "\u00B9");
+        NAMED.put("sup2", "\u00B2");
+        NAMED.put("sup3", "\u00B3");
+        NAMED.put("supdot", "\u2ABE");
+        NAMED.put("supdsub", "\u2AD8");
+        NAMED.put("supe", "\u2287");
+        NAMED.put("supE", "\u2AC6");
+        NAMED.put("supedot", "\u2AC4");
+        NAMED.put("Superset", "\u2283");
+        NAMED.put("SupersetEqual", "\u2287");
+        NAMED.put("suphsol", "\u27C9");
+        NAMED.put("suphsub", "\u2AD7");
+        NAMED.put("suplarr", "\u297B");
+        NAMED.put("supmult", "\u2AC2");
+        NAMED.put("supne", "\u228B");
+        NAMED.put("supnE", "\u2ACC");
+        NAMED.put("supplus", "\u2AC0");
+        NAMED.put("supset", "\u2283");
+        NAMED.put("Supset", "\u22D1");
+        NAMED.put("supseteq", "\u2287");
+        NAMED.put("supseteqq", "\u2AC6");
+        NAMED.put("supsetneq", "\u228B");
+        NAMED.put("supsetneqq", "\u2ACC");
+        NAMED.put("supsim", "\u2AC8");
+        NAMED.put("supsub", "\u2AD4");
+        NAMED.put("supsup", "\u2AD6");
+        NAMED.put("swarhk", "\u2926");
+        NAMED.put("swarr", "\u2199");
+        NAMED.put("swArr", "\u21D9");
+        NAMED.put("swarrow", "\u2199");
+        NAMED.put("swnwar", "\u292A");
+        NAMED.put("szlig", "\u00DF");
+        NAMED.put("Tab", "\t");
+        NAMED.put("target", "\u2316");
+        NAMED.put("tau", "\u03C4");
+        NAMED.put("Tau", "\u03A4");
+        NAMED.put("tbrk", "\u23B4");
+        NAMED.put("tcaron", "\u0165");
+        NAMED.put("Tcaron", "\u0164");
+        NAMED.put("tcedil", "\u0163");
+        NAMED.put("Tcedil", "\u0162");
+        NAMED.put("tcy", "\u0442");
+        NAMED.put("Tcy", "\u0422");
+        NAMED.put("tdot", "\u20DB");
+        NAMED.put("telrec", "\u2315");
+        NAMED.put("tfr", "\uD835\uDD31");
+        NAMED.put("Tfr", "\uD835\uDD17");
+        NAMED.put("there4", "\u2234");
+        NAMED.put("therefore", "\u2234");
+        NAMED.put("Therefore", "\u2234");
+        NAMED.put("theta", "\u03B8");
+        NAMED.put("Theta", "\u0398");
+        NAMED.put("thetasym", "\u03D1");
+        NAMED.put("thetav", "\u03D1");
+        NAMED.put("thickapprox", "\u2248");
+        NAMED.put("thicksim", "\u223C");
+        NAMED.put("ThickSpace", "\u205F\u200A");
+        NAMED.put("thinsp", "\u2009");
+        NAMED.put("ThinSpace", "\u2009");
+        NAMED.put("thkap", "\u2248");
+        NAMED.put("thksim", "\u223C");
+        NAMED.put("thorn", "\u00FE");
+        NAMED.put("THORN", "\u00DE");
+        NAMED.put("tilde", "\u02DC");
+        NAMED.put("Tilde", "\u223C");
+        NAMED.put("TildeEqual", "\u2243");
+        NAMED.put("TildeFullEqual", "\u2245");
+        NAMED.put("TildeTilde", "\u2248");
+        NAMED.put("times", "\u00D7");
+        NAMED.put("timesb", "\u22A0");
+        NAMED.put("timesbar", "\u2A31");
+        NAMED.put("timesd", "\u2A30");
+        NAMED.put("tint", "\u222D");
+        NAMED.put("toea", "\u2928");
+        NAMED.put("top", "\u22A4");
+        NAMED.put("topbot", "\u2336");
+        NAMED.put("topcir", "\u2AF1");
+        NAMED.put("topf", "\uD835\uDD65");
+        NAMED.put("Topf", "\uD835\uDD4B");
+        NAMED.put("topfork", "\u2ADA");
+        NAMED.put("tosa", "\u2929");
+        NAMED.put("tprime", "\u2034");
+        NAMED.put("trade", "\u2122");
+        NAMED.put("TRADE", "\u2122");
+        NAMED.put("triangle", "\u25B5");
+        NAMED.put("triangledown", "\u25BF");
+        NAMED.put("triangleleft", "\u25C3");
+        NAMED.put("trianglelefteq", "\u22B4");
+        NAMED.put("triangleq", "\u225C");
+        NAMED.put("triangleright", "\u25B9");
+        NAMED.put("trianglerighteq", "\u22B5");
+        NAMED.put("tridot", "\u25EC");
+        NAMED.put("trie", "\u225C");
+        NAMED.put("triminus", "\u2A3A");
+        NAMED.put("TripleDot", "\u20DB");
+        NAMED.put("triplus", "\u2A39");
+        NAMED.put("trisb", "\u29CD");
+        NAMED.put("tritime", "\u2A3B");
+        NAMED.put("trpezium", "\u23E2");
+        NAMED.put("tscr", "\uD835\uDCC9");
+        NAMED.put("Tscr", "\uD835\uDCAF");
+        NAMED.put("tscy", "\u0446");
+        NAMED.put("TScy", "\u0426");
+        NAMED.put("tshcy", "\u045B");
+        NAMED.put("TSHcy", "\u040B");
+        NAMED.put("tstrok", "\u0167");
+        NAMED.put("Tstrok", "\u0166");
+        NAMED.put("twixt", "\u226C");
+        NAMED.put("twoheadleftarrow", "\u219E");
+        NAMED.put("twoheadrightarrow", "\u21A0");
+        NAMED.put("uacute", "\u00FA");
+        NAMED.put("Uacute", "\u00DA");
+        NAMED.put("uarr", "\u2191");
+        NAMED.put("uArr", "\u21D1");
+        NAMED.put("Uarr", "\u219F");
+        NAMED.put("Uarrocir", "\u2949");
+        NAMED.put("ubrcy", "\u045E");
+        NAMED.put("Ubrcy", "\u040E");
+        NAMED.put("ubreve", "\u016D");
+        NAMED.put("Ubreve", "\u016C");
+        NAMED.put("ucirc", "\u00FB");
+        NAMED.put("Ucirc", "\u00DB");
+        NAMED.put("ucy", "\u0443");
+        NAMED.put("Ucy", "\u0423");
+        NAMED.put("udarr", "\u21C5");
+        NAMED.put("udblac", "\u0171");
+        NAMED.put("Udblac", "\u0170");
+        NAMED.put("udhar", "\u296E");
+        NAMED.put("ufisht", "\u297E");
+        NAMED.put("ufr", "\uD835\uDD32");
+        NAMED.put("Ufr", "\uD835\uDD18");
+        NAMED.put("ugrave", "\u00F9");
+        NAMED.put("Ugrave", "\u00D9");
+        NAMED.put("uHar", "\u2963");
+        NAMED.put("uharl", "\u21BF");
+        NAMED.put("uharr", "\u21BE");
+        NAMED.put("uhblk", "\u2580");
+        NAMED.put("ulcorn", "\u231C");
+        NAMED.put("ulcorner", "\u231C");
+        NAMED.put("ulcrop", "\u230F");
+        NAMED.put("ultri", "\u25F8");
+        NAMED.put("umacr", "\u016B");
+        NAMED.put("Umacr", "\u016A");
+        NAMED.put("uml", "\u00A8");
+        NAMED.put("UnderBar", "_");
+        NAMED.put("UnderBrace", "\u23DF");
+        NAMED.put("UnderBracket", "\u23B5");
+        NAMED.put("UnderParenthesis", "\u23DD");
+        NAMED.put("Union", "\u22C3");
+        NAMED.put("UnionPlus", "\u228E");
+        NAMED.put("uogon", "\u0173");
+        NAMED.put("Uogon", "\u0172");
+        NAMED.put("uopf", "\uD835\uDD66");
+        NAMED.put("Uopf", "\uD835\uDD4C");
+        NAMED.put("uparrow", "\u2191");
+        NAMED.put("Uparrow", "\u21D1");
+        NAMED.put("UpArrow", "\u2191");
+        NAMED.put("UpArrowBar", "\u2912");
+        NAMED.put("UpArrowDownArrow", "\u21C5");
+        NAMED.put("updownarrow", "\u2195");
+        NAMED.put("Updownarrow", "\u21D5");
+        NAMED.put("UpDownArrow", "\u2195");
+        NAMED.put("UpEquilibrium", "\u296E");
+        NAMED.put("upharpoonleft", "\u21BF");
+        NAMED.put("upharpoonright", "\u21BE");
+        NAMED.put("uplus", "\u228E");
+        NAMED.put("UpperLeftArrow", "\u2196");
+        NAMED.put("UpperRightArrow", "\u2197");
+        NAMED.put("upsi", "\u03C5");
+        NAMED.put("Upsi", "\u03D2");
+        NAMED.put("upsih", "\u03D2");
+        NAMED.put("upsilon", "\u03C5");
+        NAMED.put("Upsilon", "\u03A5");
+        NAMED.put("UpTee", "\u22A5");
+        NAMED.put("UpTeeArrow", "\u21A5");
+        NAMED.put("upuparrows", "\u21C8");
+        NAMED.put("urcorn", "\u231D");
+        NAMED.put("urcorner", "\u231D");
+        NAMED.put("urcrop", "\u230E");
+        NAMED.put("uring", "\u016F");
+        NAMED.put("Uring", "\u016E");
+        NAMED.put("urtri", "\u25F9");
+        NAMED.put("uscr", "\uD835\uDCCA");
+        NAMED.put("Uscr", "\uD835\uDCB0");
+        NAMED.put("utdot", "\u22F0");
+        NAMED.put("utilde", "\u0169");
+        NAMED.put("Utilde", "\u0168");
+        NAMED.put("utri", "\u25B5");
+        NAMED.put("utrif", "\u25B4");
+        NAMED.put("uuarr", "\u21C8");
+        NAMED.put("uuml", "\u00FC");
+        NAMED.put("Uuml", "\u00DC");
+        NAMED.put("uwangle", "\u29A7");
+        NAMED.put("vangrt", "\u299C");
+        NAMED.put("varepsilon", "\u03F5");
+        NAMED.put("varkappa", "\u03F0");
+        NAMED.put("varnothing", "\u2205");
+        NAMED.put("varphi", "\u03D5");
+        NAMED.put("varpi", "\u03D6");
+        NAMED.put("varpropto", "\u221D");
+        NAMED.put("varr", "\u2195");
+        NAMED.put("vArr", "\u21D5");
+        NAMED.put("varrho", "\u03F1");
+        NAMED.put("varsigma", "\u03C2");
+        NAMED.put("varsubsetneq", "\u228A\uFE00");
+        NAMED.put("varsubsetneqq", "\u2ACB\uFE00");
+        NAMED.put("varsupsetneq", "\u228B\uFE00");
+        NAMED.put("varsupsetneqq", "\u2ACC\uFE00");
+        NAMED.put("vartheta", "\u03D1");
+        NAMED.put("vartriangleleft", "\u22B2");
+        NAMED.put("vartriangleright", "\u22B3");
+        NAMED.put("vBar", "\u2AE8");
+        NAMED.put("Vbar", "\u2AEB");
+        NAMED.put("vBarv", "\u2AE9");
+        NAMED.put("vcy", "\u0432");
+        NAMED.put("Vcy", "\u0412");
+        NAMED.put("vdash", "\u22A2");
+        NAMED.put("vDash", "\u22A8");
+        NAMED.put("Vdash", "\u22A9");
+        NAMED.put("VDash", "\u22AB");
+        NAMED.put("Vdashl", "\u2AE6");
+        NAMED.put("vee", "\u2228");
+        NAMED.put("Vee", "\u22C1");
+        NAMED.put("veebar", "\u22BB");
+        NAMED.put("veeeq", "\u225A");
+        NAMED.put("vellip", "\u22EE");
+        NAMED.put("verbar", "|");
+        NAMED.put("Verbar", "\u2016");
+        NAMED.put("vert", "|");
+        NAMED.put("Vert", "\u2016");
+        NAMED.put("VerticalBar", "\u2223");
+        NAMED.put("VerticalLine", "|");
+        NAMED.put("VerticalSeparator", "\u2758");
+        NAMED.put("VerticalTilde", "\u2240");
+        NAMED.put("VeryThinSpace", "\u200A");
+        NAMED.put("vfr", "\uD835\uDD33");
+        NAMED.put("Vfr", "\uD835\uDD19");
+        NAMED.put("vltri", "\u22B2");
+        NAMED.put("vnsub", "\u2282\u20D2");
+        NAMED.put("vnsup", "\u2283\u20D2");
+        NAMED.put("vopf", "\uD835\uDD67");
+        NAMED.put("Vopf", "\uD835\uDD4D");
+        NAMED.put("vprop", "\u221D");
+        NAMED.put("vrtri", "\u22B3");
+        NAMED.put("vscr", "\uD835\uDCCB");
+        NAMED.put("Vscr", "\uD835\uDCB1");
+        NAMED.put("vsubne", "\u228A\uFE00");
+        NAMED.put("vsubnE", "\u2ACB\uFE00");
+        NAMED.put("vsupne", "\u228B\uFE00");
+        NAMED.put("vsupnE", "\u2ACC\uFE00");
+        NAMED.put("Vvdash", "\u22AA");
+        NAMED.put("vzigzag", "\u299A");
+        NAMED.put("wcirc", "\u0175");
+        NAMED.put("Wcirc", "\u0174");
+        NAMED.put("wedbar", "\u2A5F");
+        NAMED.put("wedge", "\u2227");
+        NAMED.put("Wedge", "\u22C0");
+        NAMED.put("wedgeq", "\u2259");
+        NAMED.put("weierp", "\u2118");
+        NAMED.put("wfr", "\uD835\uDD34");
+        NAMED.put("Wfr", "\uD835\uDD1A");
+        NAMED.put("wopf", "\uD835\uDD68");
+        NAMED.put("Wopf", "\uD835\uDD4E");
+        NAMED.put("wp", "\u2118");
+        NAMED.put("wr", "\u2240");
+        NAMED.put("wreath", "\u2240");
+        NAMED.put("wscr", "\uD835\uDCCC");
+        NAMED.put("Wscr", "\uD835\uDCB2");
+        NAMED.put("xcap", "\u22C2");
+        NAMED.put("xcirc", "\u25EF");
+        NAMED.put("xcup", "\u22C3");
+        NAMED.put("xdtri", "\u25BD");
+        NAMED.put("xfr", "\uD835\uDD35");
+        NAMED.put("Xfr", "\uD835\uDD1B");
+        NAMED.put("xharr", "\u27F7");
+        NAMED.put("xhArr", "\u27FA");
+        NAMED.put("xi", "\u03BE");
+        NAMED.put("Xi", "\u039E");
+        NAMED.put("xlarr", "\u27F5");
+        NAMED.put("xlArr", "\u27F8");
+        NAMED.put("xmap", "\u27FC");
+        NAMED.put("xnis", "\u22FB");
+        NAMED.put("xodot", "\u2A00");
+        NAMED.put("xopf", "\uD835\uDD69");
+        NAMED.put("Xopf", "\uD835\uDD4F");
+        NAMED.put("xoplus", "\u2A01");
+        NAMED.put("xotime", "\u2A02");
+        NAMED.put("xrarr", "\u27F6");
+        NAMED.put("xrArr", "\u27F9");
+        NAMED.put("xscr", "\uD835\uDCCD");
+        NAMED.put("Xscr", "\uD835\uDCB3");
+        NAMED.put("xsqcup", "\u2A06");
+        NAMED.put("xuplus", "\u2A04");
+        NAMED.put("xutri", "\u25B3");
+        NAMED.put("xvee", "\u22C1");
+        NAMED.put("xwedge", "\u22C0");
+        NAMED.put("yacute", "\u00FD");
+        NAMED.put("Yacute", "\u00DD");
+        NAMED.put("yacy", "\u044F");
+        NAMED.put("YAcy", "\u042F");
+        NAMED.put("ycirc", "\u0177");
+        NAMED.put("Ycirc", "\u0176");
+        NAMED.put("ycy", "\u044B");
+        NAMED.put("Ycy", "\u042B");
+        NAMED.put("yen", "\u00A5");
+        NAMED.put("yfr", "\uD835\uDD36");
+        NAMED.put("Yfr", "\uD835\uDD1C");
+        NAMED.put("yicy", "\u0457");
+        NAMED.put("YIcy", "\u0407");
+        NAMED.put("yopf", "\uD835\uDD6A");
+        NAMED.put("Yopf", "\uD835\uDD50");
+        NAMED.put("yscr", "\uD835\uDCCE");
+        NAMED.put("Yscr", "\uD835\uDCB4");
+        NAMED.put("yucy", "\u044E");
+        NAMED.put("YUcy", "\u042E");
+        NAMED.put("yuml", "\u00FF");
+        NAMED.put("Yuml", "\u0178");
+        NAMED.put("zacute", "\u017A");
+        NAMED.put("Zacute", "\u0179");
+        NAMED.put("zcaron", "\u017E");
+        NAMED.put("Zcaron", "\u017D");
+        NAMED.put("zcy", "\u0437");
+        NAMED.put("Zcy", "\u0417");
+        NAMED.put("zdot", "\u017C");
+        NAMED.put("Zdot", "\u017B");
+        NAMED.put("zeetrf", "\u2128");
+        NAMED.put("ZeroWidthSpace", "\u200B");
+        NAMED.put("zeta", "\u03B6");
+        NAMED.put("Zeta", "\u0396");
+        NAMED.put("zfr", "\uD835\uDD37");
+        NAMED.put("Zfr", "\u2128");
+        NAMED.put("zhcy", "\u0436");
+        NAMED.put("ZHcy", "\u0416");
+        NAMED.put("zigrarr", "\u21DD");
+        NAMED.put("zopf", "\uD835\uDD6B");
+        NAMED.put("Zopf", "\u2124");
+        NAMED.put("zscr", "\uD835\uDCCF");
+        NAMED.put("Zscr", "\uD835\uDCB5");
+        NAMED.put("zwj", "\u200D");
+        NAMED.put("zwnj", "\u200C");
+
+        NUMERIC.put(0, "\uFFFD");
+        NUMERIC.put(128, "\u20AC");
+        NUMERIC.put(130, "\u201A");
+        NUMERIC.put(131, "\u0192");
+        NUMERIC.put(132, "\u201E");
+        NUMERIC.put(133, "\u2026");
+        NUMERIC.put(134, "\u2020");
+        NUMERIC.put(135, "\u2021");
+        NUMERIC.put(136, "\u02C6");
+        NUMERIC.put(137, "\u2030");
+        NUMERIC.put(138, "\u0160");
+        NUMERIC.put(139, "\u2039");
+        NUMERIC.put(140, "\u0152");
+        NUMERIC.put(142, "\u017D");
+        NUMERIC.put(145, "\u2018");
+        NUMERIC.put(146, "\u2019");
+        NUMERIC.put(147, "\u201C");
+        NUMERIC.put(148, "\u201D");
+        NUMERIC.put(149, "\u2022");
+        NUMERIC.put(150, "\u2013");
+        NUMERIC.put(151, "\u2014");
+        NUMERIC.put(152, "\u02DC");
+        NUMERIC.put(153, "\u2122");
+        NUMERIC.put(154, "\u0161");
+        NUMERIC.put(155, "\u203A");
+        NUMERIC.put(156, "\u0153");
+        NUMERIC.put(158, "\u017E");
+        NUMERIC.put(159, "\u0178");
+    }
+}
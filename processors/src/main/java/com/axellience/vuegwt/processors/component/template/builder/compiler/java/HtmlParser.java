@@ -0,0 +1,311 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.Attribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.JS_WHITESPACES;
+
+/**
+ * Tokenize an HTML template, port of the html-parser of the vue-template-compiler 2.5.
+ * Like the original it is permissive: it never fails and closes unclosed tags.
+ */
+class HtmlParser
+{
+    private static final String NCNAME = "[a-zA-Z_][\\w\\-.]*";
+    private static final String QNAME_CAPTURE = "((?:" + NCNAME + ":)?" + NCNAME + ")";
+
+    private static final Pattern ATTRIBUTE = Pattern.compile("["
+        + JS_WHITESPACES
+        + "]*([^"
+        + JS_WHITESPACES
+        + "\"'<>/=]+)(?:["
+        + JS_WHITESPACES
+        + "]*(=)["
+        + JS_WHITESPACES
+        + "]*(?:\"([^\"]*)\"+|'([^']*)'+|([^"
+        + JS_WHITESPACES
+        + "\"'=<>`]+)))?");
+    private static final Pattern START_TAG_OPEN = Pattern.compile("<" + QNAME_CAPTURE);
+    private static final Pattern START_TAG_CLOSE =
+        Pattern.compile("[" + JS_WHITESPACES + "]*(/?)>");
+    private static final Pattern END_TAG = Pattern.compile("</" + QNAME_CAPTURE + "[^>]*>");
+    private static final Pattern DOCTYPE =
+        Pattern.compile("<!DOCTYPE [^>]+>", Pattern.CASE_INSENSITIVE);
+    private static final String COMMENT = "<!--";
+    private static final String CONDITIONAL_COMMENT = "<![";
+
+    private static final Set<String> PLAIN_TEXT_ELEMENTS = set("script,style,textarea");
+    private static final Set<String> IGNORE_NEWLINE_TAGS = set("pre,textarea");
+    private static final Set<String> UNARY_TAGS = set(
+        "area,base,br,col,embed,frame,hr,img,input,isindex,keygen,link,meta,param,source,track,wbr");
+    private static final Set<String> CAN_BE_LEFT_OPEN_TAGS =
+        set("colgroup,dd,dt,li,options,p,td,tfoot,th,thead,tr,source");
+    private static final Set<String> NON_PHRASING_TAGS = set(
+        "address,article,aside,base,blockquote,body,caption,col,colgroup,dd,details,dialog,div,dl,dt,fieldset,figcaption,figure,footer,form,h1,h2,h3,h4,h5,h6,head,header,hgroup,hr,html,legend,li,menuitem,meta,optgroup,option,param,rp,rt,source,style,summary,tbody,td,tfoot,th,thead,title,tr,track");
+
+    /**
+     * Receive the tokens of the template.
+     */
+    interface Handler
+    {
+        void start(String tag, List<Attribute> attrs, boolean unary);
+
+        void end();
+
+        void chars(String text);
+    }
+
+    private final String html;
+    private final Handler handler;
+    private final List<String> stack = new ArrayList<>();
+    private int index;
+    private String lastTag;
+
+    HtmlParser(String html, Handler handler)
+    {
+        this.html = html;
+        this.handler = handler;
+    }
+
+    void parse()
+    {
+        while (index < html.length())
+        {
+            int last = index;
+            if (lastTag == null || !isPlainTextElement(lastTag))
+            {
+                // Relative to the current index, as parseStartTag can move the index even if it fails
+                int textEndIndex = html.indexOf('<', index);
+                int textEndOffset = textEndIndex < 0 ? -1 : textEndIndex - index;
+                if (textEndOffset == 0)
+                {
+                    if (html.startsWith(COMMENT, index))
+                    {
+                        int commentEnd = html.indexOf("-->", index);
+                        if (commentEnd >= 0)
+                        {
+                            // Comments are not kept
+                            index = commentEnd + 3;
+                            continue;
+                        }
+                    }
+
+                    if (html.startsWith(CONDITIONAL_COMMENT, index))
+                    {
+                        int conditionalEnd = html.indexOf("]>", index);
+                        if (conditionalEnd >= 0)
+                        {
+                            index = conditionalEnd + 2;
+                            continue;
+                        }
+                    }
+
+                    Matcher doctypeMatch = matchAt(DOCTYPE, index);
+                    if (doctypeMatch != null)
+                    {
+                        index = doctypeMatch.end();
+                        continue;
+                    }
+
+                    Matcher endTagMatch = matchAt(END_TAG, index);
+                    if (endTagMatch != null)
+                    {
+                        index = endTagMatch.end();
+                        parseEndTag(endTagMatch.group(1));
+                        continue;
+                    }
+
+                    if (parseStartTag())
+                    {
+                        if (shouldIgnoreFirstNewline(lastTag, index))
+                            index++;
+                        continue;
+                    }
+                }
+
+                String text;
+                if (textEndOffset >= 0)
+                {
+                    int textEnd = index + textEndOffset;
+                    while (!isTagOrCommentStart(textEnd))
+                    {
+                        int next = html.indexOf('<', textEnd + 1);
+                        if (next < 0)
+                            break;
+                        textEnd = next;
+                    }
+                    text = html.substring(index, textEnd);
+                    index = textEnd;
+                }
+                else
+                {
+                    text = html.substring(index);
+                    index = html.length();
+                }
+
+                if (!text.isEmpty())
+                    handler.chars(text);
+            }
+            else
+            {
+                String stackedTag = lastTag.toLowerCase(Locale.ROOT);
+                Matcher matcher = Pattern
+                    .compile("([\\s\\S]*?)(</" + Pattern.quote(stackedTag) + "[^>]*>)",
+                        Pattern.CASE_INSENSITIVE)
+                    .matcher(html);
+                matcher.region(index, html.length());
+                if (matcher.find())
+                {
+                    String text = matcher.group(1);
+                    if (IGNORE_NEWLINE_TAGS.contains(stackedTag) && text.startsWith("\n"))
+                        text = text.substring(1);
+
+                    handler.chars(text);
+                    index = matcher.end();
+                }
+                parseEndTag(stackedTag);
+            }
+
+            if (index == last)
+            {
+                handler.chars(html.substring(index));
+                break;
+            }
+        }
+
+        // Clean up any remaining tags
+        closeTagsFrom(0);
+    }
+
+    private boolean isTagOrCommentStart(int position)
+    {
+        return matchAt(END_TAG, position) != null
+            || matchAt(START_TAG_OPEN, position) != null
+            || html.startsWith(COMMENT, position)
+            || html.startsWith(CONDITIONAL_COMMENT, position);
+    }
+
+    private boolean parseStartTag()
+    {
+        Matcher start = matchAt(START_TAG_OPEN, index);
+        if (start == null)
+            return false;
+
+        String tagName = start.group(1);
+        index = start.end();
+        List<Attribute> attrs = new ArrayList<>();
+        Matcher end;
+        Matcher attr;
+        while ((end = matchAt(START_TAG_CLOSE, index)) == null
+            && (attr = matchAt(ATTRIBUTE, index)) != null)
+        {
+            index = attr.end();
+            String value = attr.group(3) != null && !attr.group(3).isEmpty() ? attr.group(3)
+                : attr.group(4) != null && !attr.group(4).isEmpty() ? attr.group(4)
+                    : attr.group(5) != null ? attr.group(5) : "";
+            attrs.add(new Attribute(attr.group(1), decodeAttr(value)));
+        }
+
+        if (end == null)
+            return false;
+
+        index = end.end();
+        handleStartTag(tagName, attrs, !end.group(1).isEmpty());
+        return true;
+    }
+
+    private void handleStartTag(String tagName, List<Attribute> attrs, boolean unarySlash)
+    {
+        if ("p".equals(lastTag) && NON_PHRASING_TAGS.contains(tagName))
+            parseEndTag(lastTag);
+        if (CAN_BE_LEFT_OPEN_TAGS.contains(tagName) && tagName.equals(lastTag))
+            parseEndTag(tagName);
+
+        boolean unary = UNARY_TAGS.contains(tagName) || unarySlash;
+        if (!unary)
+        {
+            stack.add(tagName);
+            lastTag = tagName;
+        }
+
+        handler.start(tagName, attrs, unary);
+    }
+
+    private void parseEndTag(String tagName)
+    {
+        String lowerCasedTagName = tagName.toLowerCase(Locale.ROOT);
+        int position;
+        for (position = stack.size() - 1; position >= 0; position--)
+        {
+            if (stack.get(position).toLowerCase(Locale.ROOT).equals(lowerCasedTagName))
+                break;
+        }
+
+        if (position >= 0)
+        {
+            closeTagsFrom(position);
+        }
+        else if ("br".equals(lowerCasedTagName))
+        {
+            handler.start(tagName, new ArrayList<>(), true);
+        }
+        else if ("p".equals(lowerCasedTagName))
+        {
+            handler.start(tagName, new ArrayList<>(), false);
+            handler.end();
+        }
+    }
+
+    private void closeTagsFrom(int position)
+    {
+        for (int i = stack.size() - 1; i >= position; i--)
+            handler.end();
+
+        while (stack.size() > position)
+            stack.remove(stack.size() - 1);
+        lastTag = position > 0 ? stack.get(position - 1) : null;
+    }
+
+    private boolean shouldIgnoreFirstNewline(String tag, int position)
+    {
+        return tag != null && IGNORE_NEWLINE_TAGS.contains(tag) && html.startsWith("\n",
+            position);
+    }
+
+    private Matcher matchAt(Pattern pattern, int position)
+    {
+        Matcher matcher = pattern.matcher(html);
+        matcher.region(position, html.length());
+        return matcher.lookingAt() ? matcher : null;
+    }
+
+    private static boolean isPlainTextElement(String tag)
+    {
+        return PLAIN_TEXT_ELEMENTS.contains(tag.toLowerCase(Locale.ROOT));
+    }
+
+    private static String decodeAttr(String value)
+    {
+        if (value.indexOf('&') < 0)
+            return value;
+
+        return value
+            .replace("&lt;", "<")
+            .replace("&gt;", ">")
+            .replace("&quot;", "\"")
+            .replace("&amp;", "&");
+    }
+
+    static Set<String> set(String values)
+    {
+        return new HashSet<>(Arrays.asList(values.split(",")));
+    }
+}
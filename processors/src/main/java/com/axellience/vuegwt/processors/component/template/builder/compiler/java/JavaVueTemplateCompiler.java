@@ -0,0 +1,45 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerResult;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compile an HTML Vue template to JS render functions without a JS engine.
+ * <br>
+ * This is a port of the vue-template-compiler 2.5.16 for the web platform, it generates the
+ * exact same render functions. Two rarely used features (inline-template and v-model on inputs
+ * with a dynamic type) are not supported, for these templates compile returns empty and the
+ * vue-template-compiler should be used instead.
+ * <br>
+ * Instances are stateless and can be shared between threads.
+ */
+public class JavaVueTemplateCompiler
+{
+    /**
+     * Compile the given HTML template to JS functions.
+     * @param htmlTemplate The HTML Component template to compile
+     * @return An object containing the render functions, or empty if the template uses a feature
+     * not supported by this compiler
+     */
+    public Optional<VueTemplateCompilerResult> compile(String htmlTemplate)
+    {
+        try
+        {
+            AstElement root = new TemplateAstParser().parse(htmlTemplate);
+            new TemplateOptimizer().optimize(root);
+
+            TemplateCodeGenerator codeGenerator = new TemplateCodeGenerator();
+            String renderFunction = codeGenerator.generate(root);
+            List<String> staticRenderFunctions = codeGenerator.getStaticRenderFunctions();
+
+            return Optional.of(new VueTemplateCompilerResult(renderFunction,
+                staticRenderFunctions.toArray(new String[0])));
+        }
+        catch (UnsupportedTemplateException e)
+        {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers reproducing the behavior of the JS functions used by the vue-template-compiler.
+ * They must give the exact same results as their JS counterpart, so the
+ * {@link JavaVueTemplateCompiler} generates the same render functions as the vue-template-compiler.
+ */
+final class JsUtils
+{
+    /**
+     * Characters matched by \s in a JS regular expression.
+     */
+    static final String JS_WHITESPACES =
+        " \\t\\n\\x0B\\f\\r\\u00a0\\u1680\\u2000-\\u200a\\u2028\\u2029\\u202f\\u205f\\u3000\\ufeff";
+
+    private static final Pattern CAMELIZE_PATTERN = Pattern.compile("-(\\w)");
+    private static final Pattern ARRAY_INDEX_PATTERN = Pattern.compile("0|[1-9][0-9]{0,9}");
+
+    private JsUtils()
+    {
+    }
+
+    /**
+     * Equivalent of String.prototype.trim in JS.
+     * @param value The String to trim
+     * @return The trimmed String
+     */
+    static String trim(String value)
+    {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isJsWhitespace(value.charAt(start)))
+            start++;
+        while (end > start && isJsWhitespace(value.charAt(end - 1)))
+            end--;
+
+        return value.substring(start, end);
+    }
+
+    static boolean isJsWhitespace(char c)
+    {
+        switch (c)
+        {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\u000B':
+            case '\f':
+            case '\r':
+            case '\u00a0':
+            case '\u1680':
+            case '\u2028':
+            case '\u2029':
+            case '\u202f':
+            case '\u205f':
+            case '\u3000':
+            case '\ufeff':
+                return true;
+            default:
+                return c >= '\u2000' && c <= '\u200a';
+        }
+    }
+
+    /**
+     * Equivalent of JSON.stringify for a String.
+     * @param value The String to serialize
+     * @return The JSON String literal
+     */
+    static String stringify(String value)
+    {
+        StringBuilder builder = new StringBuilder(value.length() + 2);
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            switch (c)
+            {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20)
+                        builder.append(String.format("\\u%04x", (int) c));
+                    else
+                        builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Equivalent of JSON.stringify for an object with String values.
+     * @param object The object to serialize
+     * @return The JSON object literal
+     */
+    static String stringify(Map<String, String> object)
+    {
+        StringBuilder builder = new StringBuilder("{");
+        for (String key : keys(object))
+        {
+            if (builder.length() > 1)
+                builder.append(',');
+            builder.append(stringify(key)).append(':').append(stringify(object.get(key)));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Equivalent of JSON.stringify for a modifiers object, where every value is true.
+     * @param modifiers The modifiers to serialize
+     * @return The JSON object literal
+     */
+    static String stringifyModifiers(Map<String, Boolean> modifiers)
+    {
+        StringBuilder builder = new StringBuilder("{");
+        for (String key : keys(modifiers))
+        {
+            if (builder.length() > 1)
+                builder.append(',');
+            builder.append(stringify(key)).append(":true");
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Return the keys of a map in the order they would be iterated on in a JS object.
+     * Keys that are array indexes come first in ascending order, the other ones keep their
+     * insertion order.
+     * @param object The map representing the JS object, must keep insertion order
+     * @return The ordered keys
+     */
+    static List<String> keys(Map<String, ?> object)
+    {
+        List<String> indexes = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (String key : object.keySet())
+        {
+            if (ARRAY_INDEX_PATTERN.matcher(key).matches() && Long.parseLong(key) < 0xFFFFFFFFL)
+                indexes.add(key);
+            else
+                keys.add(key);
+        }
+
+        if (indexes.isEmpty())
+            return keys;
+
+        indexes.sort((a, b) -> Long.compare(Long.parseLong(a), Long.parseLong(b)));
+        indexes.addAll(keys);
+        return indexes;
+    }
+
+    /**
+     * Convert a hyphen delimited String to camel case, like the camelize function of Vue.
+     * @param value The String to convert
+     * @return The camel cased String
+     */
+    static String camelize(String value)
+    {
+        Matcher matcher = CAMELIZE_PATTERN.matcher(value);
+        StringBuffer buffer = new StringBuffer();
+        while (matcher.find())
+            matcher.appendReplacement(buffer, matcher.group(1).toUpperCase(Locale.ROOT));
+        matcher.appendTail(buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Equivalent of parseInt(value, 10) in JS, converted back to a String.
+     * @param value The String to parse
+     * @return The parsed number, or null if it is falsy in JS (NaN or 0)
+     */
+    static String parseInt(String value)
+    {
+        String trimmed = trim(value);
+        int i = 0;
+        String sign = "";
+        if (i < trimmed.length() && (trimmed.charAt(i) == '-' || trimmed.charAt(i) == '+'))
+        {
+            if (trimmed.charAt(i) == '-')
+                sign = "-";
+            i++;
+        }
+
+        int digitsStart = i;
+        while (i < trimmed.length() && trimmed.charAt(i) >= '0' && trimmed.charAt(i) <= '9')
+            i++;
+
+        String digits = trimmed.substring(digitsStart, i).replaceFirst("^0+", "");
+        if (digits.isEmpty())
+            return null;
+
+        return sign + digits;
+    }
+}
@@ -0,0 +1,822 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.Attribute;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.Directive;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.Handler;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.JS_WHITESPACES;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.camelize;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.stringify;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.trim;
+
+/**
+ * Build the AST of an HTML template, port of the parser of the vue-template-compiler 2.5 with the
+ * modules of the web platform (class, style and model).
+ */
+class TemplateAstParser implements HtmlParser.Handler
+{
+    private static final Pattern ON = Pattern.compile("^@|^v-on:");
+    private static final Pattern DIRECTIVE = Pattern.compile("^v-|^@|^:");
+    private static final Pattern BIND = Pattern.compile("^:|^v-bind:");
+    private static final Pattern MODIFIER = Pattern.compile("\\.[^.]+");
+    private static final Pattern ARG = Pattern.compile(":([^\\n\\r\\u2028\\u2029]*)$");
+    private static final Pattern FOR_ALIAS = Pattern.compile("([\\s\\S]*?)["
+        + JS_WHITESPACES
+        + "]+(?:in|of)["
+        + JS_WHITESPACES
+        + "]+([\\s\\S]*)");
+    private static final Pattern FOR_ITERATOR = Pattern.compile(",([^,}\\]]*)(?:,([^,}\\]]*))?$");
+    private static final Pattern STRIP_PARENS = Pattern.compile("^\\(|\\)$");
+    private static final Pattern MUSTACHE = Pattern.compile("\\{\\{([^\\r\\u2028\\u2029]+?)}}");
+    private static final Pattern STYLE_LIST_DELIMITER = Pattern.compile(";(?![^(]*\\))");
+    private static final Pattern STYLE_PROPERTY_DELIMITER =
+        Pattern.compile(":([^\\n\\r\\u2028\\u2029]+)");
+    private static final Pattern VALID_DIVISION_CHAR = Pattern.compile("[\\w).+\\-_$\\]]");
+    private static final BigInteger MAX_CODE_POINT = BigInteger.valueOf(Character.MAX_CODE_POINT);
+    private static final String REPLACEMENT_CHARACTER = "\uFFFD";
+
+    private static final Set<String> HTML_TAGS = HtmlParser.set(
+        "html,body,base,head,link,meta,style,title,address,article,aside,footer,header,h1,h2,h3,h4,h5,h6,hgroup,nav,section,div,dd,dl,dt,figcaption,figure,picture,hr,img,li,main,ol,p,pre,ul,a,b,abbr,bdi,bdo,br,cite,code,data,dfn,em,i,kbd,mark,q,rp,rt,rtc,ruby,s,samp,small,span,strong,sub,sup,time,u,var,wbr,area,audio,map,track,video,embed,object,param,source,canvas,script,noscript,del,ins,caption,col,colgroup,table,thead,tbody,td,th,tr,button,datalist,fieldset,form,input,label,legend,meter,optgroup,option,output,progress,select,textarea,details,dialog,menu,menuitem,summary,content,element,shadow,template,blockquote,iframe,tfoot");
+    private static final Set<String> SVG_TAGS = HtmlParser.set(
+        "svg,animate,circle,clippath,cursor,defs,desc,ellipse,filter,font-face,foreignObject,g,glyph,image,line,marker,mask,missing-glyph,path,pattern,polygon,polyline,rect,switch,symbol,text,textpath,tspan,use,view");
+    private static final Set<String> ACCEPT_VALUE_TAGS =
+        HtmlParser.set("input,textarea,option,select,progress");
+
+    private final List<AstElement> stack = new ArrayList<>();
+    private AstElement root;
+    private AstElement currentParent;
+    private boolean inVPre;
+    private boolean inPre;
+
+    /**
+     * Parse the given template.
+     * @param template The HTML template
+     * @return The root element of the AST, null if the template has no element
+     * @throws UnsupportedTemplateException If the template uses a feature not supported by this
+     * parser
+     */
+    AstElement parse(String template)
+    {
+        new HtmlParser(trim(template), this).parse();
+        return root;
+    }
+
+    @Override
+    public void start(String tag, List<Attribute> attrs, boolean unary)
+    {
+        String ns = currentParent != null && currentParent.ns != null ? currentParent.ns
+            : getTagNamespace(tag);
+
+        AstElement element = new AstElement(tag, attrs, currentParent);
+        element.ns = ns;
+        element.forbidden = isForbiddenTag(element);
+
+        checkDynamicInputType(element);
+
+        if (!inVPre)
+        {
+            if (element.getAndRemoveAttr("v-pre") != null)
+            {
+                element.pre = true;
+                inVPre = true;
+            }
+        }
+        if (isPreTag(tag))
+            inPre = true;
+
+        if (inVPre)
+        {
+            processRawAttrs(element);
+        }
+        else
+        {
+            processFor(element);
+            processIf(element);
+            processOnce(element);
+            processElement(element);
+        }
+
+        if (root == null)
+        {
+            root = element;
+        }
+        else if (stack.isEmpty())
+        {
+            // Allow root elements with v-if, v-else-if and v-else
+            if (root.ifExpression != null && (element.elseIfExpression != null
+                || element.isElse))
+                root.addIfCondition(element.elseIfExpression, element);
+        }
+
+        if (currentParent != null && !element.forbidden)
+        {
+            if (element.elseIfExpression != null || element.isElse)
+            {
+                processIfConditions(element, currentParent);
+            }
+            else if (isTruthy(element.slotScope))
+            {
+                currentParent.plain = false;
+                String name = element.slotTarget != null ? element.slotTarget : "\"default\"";
+                if (currentParent.scopedSlots == null)
+                    currentParent.scopedSlots = new LinkedHashMap<>();
+                currentParent.scopedSlots.put(name, element);
+            }
+            else
+            {
+                currentParent.children.add(element);
+                element.parent = currentParent;
+            }
+        }
+
+        if (!unary)
+        {
+            currentParent = element;
+            stack.add(element);
+        }
+        else
+        {
+            closeElement(element);
+        }
+    }
+
+    @Override
+    public void end()
+    {
+        AstElement element = stack.get(stack.size() - 1);
+
+        // Remove trailing whitespace
+        if (!element.children.isEmpty())
+        {
+            AstNode lastNode = element.children.get(element.children.size() - 1);
+            if (lastNode instanceof AstText && " ".equals(((AstText) lastNode).text) && !inPre)
+                element.children.remove(element.children.size() - 1);
+        }
+
+        stack.remove(stack.size() - 1);
+        currentParent = stack.isEmpty() ? null : stack.get(stack.size() - 1);
+        closeElement(element);
+    }
+
+    @Override
+    public void chars(String text)
+    {
+        if (currentParent == null)
+            return;
+
+        List<AstNode> children = currentParent.children;
+        if (inPre || !trim(text).isEmpty())
+            text = isTextTag(currentParent) ? text : decodeHtml(text);
+        else
+            text = children.isEmpty() ? "" : " ";
+
+        if (text.isEmpty())
+            return;
+
+        String expression;
+        if (!inVPre && !" ".equals(text) && (expression = parseText(text)) != null)
+        {
+            children.add(new AstExpressionText(expression, text));
+        }
+        else if (!" ".equals(text) || children.isEmpty() || !isSpaceText(children.get(
+            children.size() - 1)))
+        {
+            children.add(new AstText(text));
+        }
+    }
+
+    private void closeElement(AstElement element)
+    {
+        if (element.pre)
+            inVPre = false;
+        if (isPreTag(element.tag))
+            inPre = false;
+    }
+
+    private void processRawAttrs(AstElement element)
+    {
+        if (!element.attrsList.isEmpty())
+        {
+            element.attrs = new ArrayList<>();
+            for (Attribute attribute : element.attrsList)
+                element.attrs.add(new Attribute(attribute.name, stringify(attribute.value)));
+        }
+        else if (!element.pre)
+        {
+            // Non root node in pre blocks with no attributes
+            element.plain = true;
+        }
+    }
+
+    private void processElement(AstElement element)
+    {
+        processKey(element);
+
+        // Determine whether this is a plain element after removing structural attributes
+        element.plain = element.key == null && element.attrsList.isEmpty();
+
+        processRef(element);
+        processSlot(element);
+        processComponent(element);
+        transformClass(element);
+        transformStyle(element);
+        processAttrs(element);
+    }
+
+    private void processKey(AstElement element)
+    {
+        String key = getBindingAttr(element, "key", true);
+        if (isTruthy(key))
+            element.key = key;
+    }
+
+    private void processRef(AstElement element)
+    {
+        String ref = getBindingAttr(element, "ref", true);
+        if (isTruthy(ref))
+        {
+            element.ref = ref;
+            element.refInFor = isInFor(element);
+        }
+    }
+
+    private void processFor(AstElement element)
+    {
+        String expression = element.getAndRemoveAttr("v-for");
+        if (!isTruthy(expression))
+            return;
+
+        Matcher inMatch = FOR_ALIAS.matcher(expression);
+        if (!inMatch.find())
+            return;
+
+        element.forExpression = trim(inMatch.group(2));
+        String alias = STRIP_PARENS.matcher(trim(inMatch.group(1))).replaceAll("");
+        Matcher iteratorMatch = FOR_ITERATOR.matcher(alias);
+        if (iteratorMatch.find())
+        {
+            element.alias = alias.substring(0, iteratorMatch.start())
+                + alias.substring(iteratorMatch.end());
+            element.iterator1 = trim(iteratorMatch.group(1));
+            if (isTruthy(iteratorMatch.group(2)))
+                element.iterator2 = trim(iteratorMatch.group(2));
+        }
+        else
+        {
+            element.alias = alias;
+        }
+    }
+
+    private void processIf(AstElement element)
+    {
+        String expression = element.getAndRemoveAttr("v-if");
+        if (isTruthy(expression))
+        {
+            element.ifExpression = expression;
+            element.addIfCondition(expression, element);
+        }
+        else
+        {
+            if (element.getAndRemoveAttr("v-else") != null)
+                element.isElse = true;
+
+            String elseIf = element.getAndRemoveAttr("v-else-if");
+            if (isTruthy(elseIf))
+                element.elseIfExpression = elseIf;
+        }
+    }
+
+    private void processIfConditions(AstElement element, AstElement parent)
+    {
+        AstElement previous = findPreviousElement(parent.children);
+        if (previous != null && previous.ifExpression != null)
+            previous.addIfCondition(element.elseIfExpression, element);
+    }
+
+    private AstElement findPreviousElement(List<AstNode> children)
+    {
+        for (int i = children.size() - 1; i >= 0; i--)
+        {
+            if (children.get(i) instanceof AstElement)
+                return (AstElement) children.get(i);
+
+            // Text between v-if and v-else(-if) is ignored
+            children.remove(i);
+        }
+        return null;
+    }
+
+    private void processOnce(AstElement element)
+    {
+        if (element.getAndRemoveAttr("v-once") != null)
+            element.once = true;
+    }
+
+    private void processSlot(AstElement element)
+    {
+        if ("slot".equals(element.tag))
+        {
+            element.slotName = getBindingAttr(element, "name", true);
+            return;
+        }
+
+        if ("template".equals(element.tag))
+        {
+            String slotScope = element.getAndRemoveAttr("scope");
+            element.slotScope =
+                isTruthy(slotScope) ? slotScope : element.getAndRemoveAttr("slot-scope");
+            element.hasSlotScopeKey = true;
+        }
+        else
+        {
+            String slotScope = element.getAndRemoveAttr("slot-scope");
+            if (isTruthy(slotScope))
+            {
+                element.slotScope = slotScope;
+                element.hasSlotScopeKey = true;
+            }
+        }
+
+        String slotTarget = getBindingAttr(element, "slot", true);
+        if (isTruthy(slotTarget))
+        {
+            element.slotTarget = "\"\"".equals(slotTarget) ? "\"default\"" : slotTarget;
+            // Preserve slot as an attribute for native shadow DOM compat, only for non-scoped slots
+            if (!"template".equals(element.tag) && !isTruthy(element.slotScope))
+                element.addAttr("slot", slotTarget);
+        }
+    }
+
+    private void processComponent(AstElement element)
+    {
+        String binding = getBindingAttr(element, "is", true);
+        if (isTruthy(binding))
+            element.component = binding;
+
+        if (element.getAndRemoveAttr("inline-template") != null)
+            throw new UnsupportedTemplateException("inline-template");
+    }
+
+    private void transformClass(AstElement element)
+    {
+        String staticClass = element.getAndRemoveAttr("class");
+        if (isTruthy(staticClass))
+            element.staticClass = stringify(staticClass);
+
+        String classBinding = getBindingAttr(element, "class", false);
+        if (isTruthy(classBinding))
+            element.classBinding = classBinding;
+    }
+
+    private void transformStyle(AstElement element)
+    {
+        String staticStyle = element.getAndRemoveAttr("style");
+        if (isTruthy(staticStyle))
+            element.staticStyle = stringify(parseStyleText(staticStyle));
+
+        String styleBinding = getBindingAttr(element, "style", false);
+        if (isTruthy(styleBinding))
+            element.styleBinding = styleBinding;
+    }
+
+    private void processAttrs(AstElement element)
+    {
+        for (Attribute attribute : element.attrsList)
+        {
+            String name = attribute.name;
+            String rawName = attribute.name;
+            String value = attribute.value;
+
+            if (!DIRECTIVE.matcher(name).find())
+            {
+                // Literal attribute
+                element.addAttr(name, stringify(value));
+                // Firefox doesn't update muted state if set via attribute
+                if (element.component == null && "muted".equals(name) && mustUseProp(element.tag,
+                    element.attrsMap.get("type"),
+                    name))
+                    element.addProp(name, "true");
+                continue;
+            }
+
+            element.hasBindings = true;
+            Map<String, Boolean> modifiers = parseModifiers(name);
+            if (modifiers != null)
+                name = MODIFIER.matcher(name).replaceAll("");
+
+            if (BIND.matcher(name).find())
+            {
+                name = BIND.matcher(name).replaceFirst("");
+                value = parseFilters(value);
+                boolean isProp = false;
+                if (modifiers != null)
+                {
+                    if (modifiers.containsKey("prop"))
+                    {
+                        isProp = true;
+                        name = camelize(name);
+                        if ("innerHtml".equals(name))
+                            name = "innerHTML";
+                    }
+                    if (modifiers.containsKey("camel"))
+                        name = camelize(name);
+                    if (modifiers.containsKey("sync"))
+                    {
+                        element.addHandler("update:" + camelize(name),
+                            TemplateCodeGenerator.genAssignmentCode(value, "$event"),
+                            null,
+                            false);
+                    }
+                }
+
+                if (isProp || (element.component == null && mustUseProp(element.tag,
+                    element.attrsMap.get("type"),
+                    name)))
+                    element.addProp(name, value);
+                else
+                    element.addAttr(name, value);
+            }
+            else if (ON.matcher(name).find())
+            {
+                name = ON.matcher(name).replaceFirst("");
+                element.addHandler(name, value, modifiers, false);
+            }
+            else
+            {
+                // Normal directives
+                name = DIRECTIVE.matcher(name).replaceFirst("");
+                Matcher argMatch = ARG.matcher(name);
+                String arg = argMatch.find() ? argMatch.group(1) : null;
+                if (isTruthy(arg))
+                    name = name.substring(0, name.length() - (arg.length() + 1));
+
+                element.addDirective(new Directive(name, rawName, value, arg, modifiers));
+            }
+        }
+    }
+
+    /**
+     * Inputs with a dynamic type and a v-model are expanded in several branches by the
+     * vue-template-compiler, this is not supported.
+     * @param element The element to check
+     */
+    private void checkDynamicInputType(AstElement element)
+    {
+        if (!"input".equals(element.tag) || !isTruthy(element.attrsMap.get("v-model")))
+            return;
+
+        Map<String, String> attrsMap = element.attrsMap;
+        if (isTruthy(attrsMap.get(":type"))
+            || isTruthy(attrsMap.get("v-bind:type"))
+            || (!isTruthy(attrsMap.get("type")) && isTruthy(attrsMap.get("v-bind"))))
+            throw new UnsupportedTemplateException("v-model on an input with a dynamic type");
+    }
+
+    static String getBindingAttr(AstElement element, String name, boolean getStatic)
+    {
+        String dynamicValue = element.getAndRemoveAttr(":" + name);
+        if (!isTruthy(dynamicValue))
+            dynamicValue = element.getAndRemoveAttr("v-bind:" + name);
+
+        if (dynamicValue != null)
+            return parseFilters(dynamicValue);
+
+        if (getStatic)
+        {
+            String staticValue = element.getAndRemoveAttr(name);
+            if (staticValue != null)
+                return stringify(staticValue);
+        }
+
+        return null;
+    }
+
+    private static Map<String, Boolean> parseModifiers(String name)
+    {
+        Matcher matcher = MODIFIER.matcher(name);
+        Map<String, Boolean> modifiers = null;
+        while (matcher.find())
+        {
+            if (modifiers == null)
+                modifiers = new LinkedHashMap<>();
+            modifiers.put(matcher.group().substring(1), true);
+        }
+        return modifiers;
+    }
+
+    /**
+     * Parse the {{ }} interpolations of a text.
+     * @param text The text to parse
+     * @return The JS expression of the text, or null if the text has no interpolation
+     */
+    private static String parseText(String text)
+    {
+        Matcher matcher = MUSTACHE.matcher(text);
+        StringBuilder expression = new StringBuilder();
+        int lastIndex = 0;
+        boolean found = false;
+        while (matcher.find())
+        {
+            if (found)
+                expression.append('+');
+            found = true;
+
+            if (matcher.start() > lastIndex)
+            {
+                expression
+                    .append(stringify(text.substring(lastIndex, matcher.start())))
+                    .append('+');
+            }
+            expression.append("_s(").append(parseFilters(trim(matcher.group(1)))).append(')');
+            lastIndex = matcher.end();
+        }
+
+        if (!found)
+            return null;
+
+        if (lastIndex < text.length())
+            expression.append('+').append(stringify(text.substring(lastIndex)));
+
+        return expression.toString();
+    }
+
+    /**
+     * Parse filters in an expression, port of the filter-parser of the vue-template-compiler.
+     * @param expression The expression to parse
+     * @return The expression with the filters applied
+     */
+    static String parseFilters(String expression)
+    {
+        boolean inSingle = false;
+        boolean inDouble = false;
+        boolean inTemplateString = false;
+        boolean inRegex = false;
+        int curly = 0;
+        int square = 0;
+        int paren = 0;
+        int lastFilterIndex = 0;
+        int c = -1;
+        int prev;
+        String result = null;
+        List<String> filters = new ArrayList<>();
+
+        int i;
+        for (i = 0; i < expression.length(); i++)
+        {
+            prev = c;
+            c = expression.charAt(i);
+            if (inSingle)
+            {
+                if (c == '\'' && prev != '\\')
+                    inSingle = false;
+            }
+            else if (inDouble)
+            {
+                if (c == '"' && prev != '\\')
+                    inDouble = false;
+            }
+            else if (inTemplateString)
+            {
+                if (c == '`' && prev != '\\')
+                    inTemplateString = false;
+            }
+            else if (inRegex)
+            {
+                if (c == '/' && prev != '\\')
+                    inRegex = false;
+            }
+            else if (c == '|'
+                && charAt(expression, i + 1) != '|'
+                && charAt(expression, i - 1) != '|'
+                && curly == 0
+                && square == 0
+                && paren == 0)
+            {
+                if (result == null)
+                {
+                    // First filter, end of expression
+                    lastFilterIndex = i + 1;
+                    result = trim(expression.substring(0, i));
+                }
+                else
+                {
+                    filters.add(trim(expression.substring(lastFilterIndex, i)));
+                    lastFilterIndex = i + 1;
+                }
+            }
+            else
+            {
+                switch (c)
+                {
+                    case '"':
+                        inDouble = true;
+                        break;
+                    case '\'':
+                        inSingle = true;
+                        break;
+                    case '`':
+                        inTemplateString = true;
+                        break;
+                    case '(':
+                        paren++;
+                        break;
+                    case ')':
+                        paren--;
+                        break;
+                    case '[':
+                        square++;
+                        break;
+                    case ']':
+                        square--;
+                        break;
+                    case '{':
+                        curly++;
+                        break;
+                    case '}':
+                        curly--;
+                        break;
+                }
+
+                if (c == '/')
+                {
+                    int j = i - 1;
+                    char p = 0;
+                    // Find first non-whitespace prev char
+                    for (; j >= 0; j--)
+                    {
+                        p = expression.charAt(j);
+                        if (p != ' ')
+                            break;
+                    }
+                    if (p == 0 || !VALID_DIVISION_CHAR.matcher(String.valueOf(p)).matches())
+                        inRegex = true;
+                }
+            }
+        }
+
+        if (result == null)
+            result = trim(expression.substring(0, i));
+        else if (lastFilterIndex != 0)
+            filters.add(trim(expression.substring(lastFilterIndex, i)));
+
+        for (String filter : filters)
+            result = wrapFilter(result, filter);
+
+        return result;
+    }
+
+    private static String wrapFilter(String expression, String filter)
+    {
+        int i = filter.indexOf('(');
+        if (i < 0)
+            return "_f(\"" + filter + "\")(" + expression + ")";
+
+        String name = filter.substring(0, i);
+        String args = filter.substring(i + 1);
+        return "_f(\"" + name + "\")(" + expression + "," + args;
+    }
+
+    private static int charAt(String value, int index)
+    {
+        return index >= 0 && index < value.length() ? value.charAt(index) : -1;
+    }
+
+    private static Map<String, String> parseStyleText(String cssText)
+    {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String item : STYLE_LIST_DELIMITER.split(cssText))
+        {
+            if (item.isEmpty())
+                continue;
+
+            Matcher matcher = STYLE_PROPERTY_DELIMITER.matcher(item);
+            if (matcher.find())
+                result.put(trim(item.substring(0, matcher.start())), trim(matcher.group(1)));
+        }
+        return result;
+    }
+
+    /**
+     * Decode HTML entities in a text node, like he does in the vue-template-compiler.
+     * All the named character references of HTML5 are decoded, with or without semicolon for
+     * the legacy ones.
+     * @param text The text to decode
+     * @return The decoded text
+     */
+    private static String decodeHtml(String text)
+    {
+        if (text.indexOf('&') < 0)
+            return text;
+
+        Matcher matcher = HtmlEntities.DECODE.matcher(text);
+        StringBuffer result = new StringBuffer();
+        while (matcher.find())
+            matcher.appendReplacement(result, Matcher.quoteReplacement(decodeEntity(matcher)));
+
+        return matcher.appendTail(result).toString();
+    }
+
+    private static String decodeEntity(Matcher entity)
+    {
+        if (entity.group(1) != null)
+            return decodeCodePoint(entity.group(1), 10);
+        if (entity.group(3) != null)
+            return decodeCodePoint(entity.group(3), 16);
+        if (entity.group(5) != null)
+            return HtmlEntities.NAMED.getOrDefault(entity.group(5), entity.group());
+
+        String next = entity.group(7);
+        return HtmlEntities.NAMED.get(entity.group(6)) + (next == null ? "" : next);
+    }
+
+    private static String decodeCodePoint(String digits, int radix)
+    {
+        // Also covers values that would overflow an int
+        BigInteger value = new BigInteger(digits, radix);
+        if (value.compareTo(MAX_CODE_POINT) > 0)
+            return REPLACEMENT_CHARACTER;
+
+        int codePoint = value.intValue();
+        if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)
+            return REPLACEMENT_CHARACTER;
+
+        String replacement = HtmlEntities.NUMERIC.get(codePoint);
+        if (replacement != null)
+            return replacement;
+
+        return new String(Character.toChars(codePoint));
+    }
+
+    private static boolean isSpaceText(AstNode node)
+    {
+        return node instanceof AstText && " ".equals(((AstText) node).text);
+    }
+
+    private static boolean isInFor(AstElement element)
+    {
+        for (AstElement parent = element; parent != null; parent = parent.parent)
+        {
+            if (parent.forExpression != null)
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean isTextTag(AstElement element)
+    {
+        return "script".equals(element.tag) || "style".equals(element.tag);
+    }
+
+    private static boolean isForbiddenTag(AstElement element)
+    {
+        String type = element.attrsMap.get("type");
+        return "style".equals(element.tag) || ("script".equals(element.tag) && (!isTruthy(type)
+            || "text/javascript".equals(type)));
+    }
+
+    private static boolean isPreTag(String tag)
+    {
+        return "pre".equals(tag);
+    }
+
+    private static String getTagNamespace(String tag)
+    {
+        if (isSvgTag(tag))
+            return "svg";
+        if ("math".equals(tag))
+            return "math";
+        return null;
+    }
+
+    private static boolean isSvgTag(String tag)
+    {
+        return SVG_TAGS.contains(tag.toLowerCase(java.util.Locale.ROOT));
+    }
+
+    static boolean isReservedTag(String tag)
+    {
+        return HTML_TAGS.contains(tag) || isSvgTag(tag);
+    }
+
+    private static boolean mustUseProp(String tag, String type, String attr)
+    {
+        return ("value".equals(attr) && ACCEPT_VALUE_TAGS.contains(tag) && !"button".equals(type))
+            || ("selected".equals(attr) && "option".equals(tag))
+            || ("checked".equals(attr) && "input".equals(tag))
+            || ("muted".equals(attr) && "video".equals(tag));
+    }
+
+    static boolean isTruthy(String value)
+    {
+        return value != null && !value.isEmpty();
+    }
+}
@@ -0,0 +1,875 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.Attribute;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.Directive;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.Handler;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.IfCondition;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.Model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.camelize;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.keys;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.stringify;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.stringifyModifiers;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.JsUtils.trim;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.TemplateAstParser.getBindingAttr;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.TemplateAstParser.isReservedTag;
+import static com.axellience.vuegwt.processors.component.template.builder.compiler.java.TemplateAstParser.isTruthy;
+
+/**
+ * Generate the render functions from an optimized AST, port of the codegen of the
+ * vue-template-compiler 2.5 with the directives of the web platform.
+ */
+class TemplateCodeGenerator
+{
+    private static final Pattern FUNCTION_EXPRESSION =
+        Pattern.compile("^([\\w$_]+|\\([^)]*?\\))\\s*=>|^function\\s*\\(");
+    private static final Pattern SIMPLE_PATH = Pattern.compile(
+        "^[A-Za-z_$][\\w$]*(?:\\.[A-Za-z_$][\\w$]*|\\['[^']*?']|\\[\"[^\"]*?\"]|\\[\\d+]|\\[[A-Za-z_$][\\w$]*])*$");
+
+    private static final String RANGE_TOKEN = "__r";
+
+    private static final Map<String, String> KEY_CODES = new HashMap<>();
+    private static final Map<String, String> KEY_NAMES = new HashMap<>();
+    private static final Map<String, String> MODIFIER_CODES = new HashMap<>();
+
+    static
+    {
+        KEY_CODES.put("esc", "27");
+        KEY_CODES.put("tab", "9");
+        KEY_CODES.put("enter", "13");
+        KEY_CODES.put("space", "32");
+        KEY_CODES.put("up", "38");
+        KEY_CODES.put("left", "37");
+        KEY_CODES.put("right", "39");
+        KEY_CODES.put("down", "40");
+        KEY_CODES.put("delete", "[8,46]");
+
+        KEY_NAMES.put("esc", "\"Escape\"");
+        KEY_NAMES.put("tab", "\"Tab\"");
+        KEY_NAMES.put("enter", "\"Enter\"");
+        KEY_NAMES.put("space", "\" \"");
+        KEY_NAMES.put("up", "[\"Up\",\"ArrowUp\"]");
+        KEY_NAMES.put("left", "[\"Left\",\"ArrowLeft\"]");
+        KEY_NAMES.put("right", "[\"Right\",\"ArrowRight\"]");
+        KEY_NAMES.put("down", "[\"Down\",\"ArrowDown\"]");
+        KEY_NAMES.put("delete", "[\"Backspace\",\"Delete\"]");
+
+        MODIFIER_CODES.put("stop", "$event.stopPropagation();");
+        MODIFIER_CODES.put("prevent", "$event.preventDefault();");
+        MODIFIER_CODES.put("self", genGuard("$event.target !== $event.currentTarget"));
+        MODIFIER_CODES.put("ctrl", genGuard("!$event.ctrlKey"));
+        MODIFIER_CODES.put("shift", genGuard("!$event.shiftKey"));
+        MODIFIER_CODES.put("alt", genGuard("!$event.altKey"));
+        MODIFIER_CODES.put("meta", genGuard("!$event.metaKey"));
+        MODIFIER_CODES.put("left", genGuard("'button' in $event && $event.button !== 0"));
+        MODIFIER_CODES.put("middle", genGuard("'button' in $event && $event.button !== 1"));
+        MODIFIER_CODES.put("right", genGuard("'button' in $event && $event.button !== 2"));
+    }
+
+    private final List<String> staticRenderFunctions = new ArrayList<>();
+    private int onceId = 0;
+
+    /**
+     * Generate the render function of the given AST.
+     * @param root The root of the AST, null for an empty template
+     * @return The render function body
+     */
+    String generate(AstElement root)
+    {
+        return "with(this){return " + (root != null ? genElement(root) : "_c(\"div\")") + "}";
+    }
+
+    /**
+     * @return The static render functions bodies generated while generating the render function
+     */
+    List<String> getStaticRenderFunctions()
+    {
+        return staticRenderFunctions;
+    }
+
+    private String genElement(AstElement element)
+    {
+        if (element.staticRoot && !element.staticProcessed)
+            return genStatic(element);
+        if (element.once && !element.onceProcessed)
+            return genOnce(element);
+        if (element.forExpression != null && !element.forProcessed)
+            return genFor(element);
+        if (element.ifExpression != null && !element.ifProcessed)
+            return genIf(element);
+
+        if ("template".equals(element.tag) && element.slotTarget == null)
+        {
+            String children = genChildren(element, false);
+            return children != null ? children : "void 0";
+        }
+
+        if ("slot".equals(element.tag))
+            return genSlot(element);
+
+        if (element.component != null)
+            return genComponent(element.component, element);
+
+        String data = element.plain ? null : genData(element);
+        String children = genChildren(element, true);
+        return "_c('" + element.tag + "'" + (data != null ? "," + data : "") + (children != null ?
+            "," + children : "") + ")";
+    }
+
+    private String genStatic(AstElement element)
+    {
+        element.staticProcessed = true;
+        String staticRenderFunction = "with(this){return " + genElement(element) + "}";
+        staticRenderFunctions.add(staticRenderFunction);
+        return "_m(" + (staticRenderFunctions.size() - 1) + (element.staticInFor ? ",true" : "")
+            + ")";
+    }
+
+    private String genOnce(AstElement element)
+    {
+        element.onceProcessed = true;
+        if (element.ifExpression != null && !element.ifProcessed)
+            return genIf(element);
+
+        if (element.staticInFor)
+        {
+            String key = null;
+            for (AstElement parent = element.parent; parent != null; parent = parent.parent)
+            {
+                if (parent.forExpression != null)
+                {
+                    key = parent.key;
+                    break;
+                }
+            }
+
+            // v-once can only be used inside a keyed v-for
+            if (!isTruthy(key))
+                return genElement(element);
+
+            return "_o(" + genElement(element) + "," + (onceId++) + "," + key + ")";
+        }
+
+        return genStatic(element);
+    }
+
+    private String genIf(AstElement element)
+    {
+        element.ifProcessed = true;
+        return genIfConditions(new ArrayList<>(element.ifConditions));
+    }
+
+    private String genIfConditions(List<IfCondition> conditions)
+    {
+        if (conditions.isEmpty())
+            return "_e()";
+
+        IfCondition condition = conditions.remove(0);
+        if (isTruthy(condition.expression))
+        {
+            return "(" + condition.expression + ")?" + genTernaryExpression(condition.block) + ":"
+                + genIfConditions(conditions);
+        }
+
+        return genTernaryExpression(condition.block);
+    }
+
+    private String genTernaryExpression(AstElement element)
+    {
+        return element.once ? genOnce(element) : genElement(element);
+    }
+
+    private String genFor(AstElement element)
+    {
+        element.forProcessed = true;
+        return "_l((" + element.forExpression + "),function(" + genForArguments(element)
+            + "){return " + genElement(element) + "})";
+    }
+
+    private static String genForArguments(AstElement element)
+    {
+        return element.alias
+            + (isTruthy(element.iterator1) ? "," + element.iterator1 : "")
+            + (isTruthy(element.iterator2) ? "," + element.iterator2 : "");
+    }
+
+    private String genData(AstElement element)
+    {
+        StringBuilder data = new StringBuilder("{");
+
+        // Directives first, they may mutate the element's other properties before they are
+        // generated
+        String directives = genDirectives(element);
+        if (directives != null)
+            data.append(directives).append(',');
+
+        if (element.key != null)
+            data.append("key:").append(element.key).append(',');
+        if (element.ref != null)
+            data.append("ref:").append(element.ref).append(',');
+        if (element.refInFor)
+            data.append("refInFor:true,");
+        if (element.pre)
+            data.append("pre:true,");
+        if (element.component != null)
+            data.append("tag:\"").append(element.tag).append("\",");
+
+        if (element.staticClass != null)
+            data.append("staticClass:").append(element.staticClass).append(',');
+        if (element.classBinding != null)
+            data.append("class:").append(element.classBinding).append(',');
+        if (element.staticStyle != null)
+            data.append("staticStyle:").append(element.staticStyle).append(',');
+        if (element.styleBinding != null)
+            data.append("style:(").append(element.styleBinding).append("),");
+
+        if (element.attrs != null)
+            data.append("attrs:{").append(genProps(element.attrs)).append("},");
+        if (element.props != null)
+            data.append("domProps:{").append(genProps(element.props)).append("},");
+        if (element.events != null)
+            data.append(genHandlers(element.events, false)).append(',');
+        if (element.nativeEvents != null)
+            data.append(genHandlers(element.nativeEvents, true)).append(',');
+        if (element.slotTarget != null && !isTruthy(element.slotScope))
+            data.append("slot:").append(element.slotTarget).append(',');
+        if (element.scopedSlots != null)
+            data.append(genScopedSlots(element.scopedSlots)).append(',');
+        if (element.model != null)
+        {
+            data
+                .append("model:{value:")
+                .append(element.model.value)
+                .append(",callback:")
+                .append(element.model.callback)
+                .append(",expression:")
+                .append(element.model.expression)
+                .append("},");
+        }
+
+        if (data.charAt(data.length() - 1) == ',')
+            data.setLength(data.length() - 1);
+        String result = data.append('}').toString();
+
+        if (element.wrapData != null)
+        {
+            Directive bind = element.wrapData;
+            result = "_b(" + result + ",'" + element.tag + "'," + bind.value + "," + (
+                bind.hasModifier("prop") ? "true" : "false") + (bind.hasModifier("sync") ? ",true"
+                : "") + ")";
+        }
+        if (element.wrapListeners != null)
+            result = "_g(" + result + "," + element.wrapListeners.value + ")";
+
+        return result;
+    }
+
+    private String genDirectives(AstElement element)
+    {
+        if (element.directives == null)
+            return null;
+
+        StringBuilder result = new StringBuilder("directives:[");
+        boolean hasRuntime = false;
+        for (Directive directive : element.directives)
+        {
+            // Compile-time directives that manipulate the AST don't need runtime
+            if (!applyDirective(element, directive))
+                continue;
+
+            hasRuntime = true;
+            result
+                .append("{name:\"")
+                .append(directive.name)
+                .append("\",rawName:\"")
+                .append(directive.rawName)
+                .append('"');
+            if (isTruthy(directive.value))
+            {
+                result
+                    .append(",value:(")
+                    .append(directive.value)
+                    .append("),expression:")
+                    .append(stringify(directive.value));
+            }
+            if (isTruthy(directive.arg))
+                result.append(",arg:\"").append(directive.arg).append('"');
+            if (directive.modifiers != null)
+                result.append(",modifiers:").append(stringifyModifiers(directive.modifiers));
+            result.append("},");
+        }
+
+        if (!hasRuntime)
+            return null;
+
+        return result.substring(0, result.length() - 1) + "]";
+    }
+
+    /**
+     * Apply the built in directives.
+     * @param element The element the directive is on
+     * @param directive The directive to apply
+     * @return true if the directive needs to be kept at runtime
+     */
+    private boolean applyDirective(AstElement element, Directive directive)
+    {
+        switch (directive.name)
+        {
+            case "model":
+                return genModel(element, directive);
+            case "text":
+                if (isTruthy(directive.value))
+                    element.addProp("textContent", "_s(" + directive.value + ")");
+                return false;
+            case "html":
+                if (isTruthy(directive.value))
+                    element.addProp("innerHTML", "_s(" + directive.value + ")");
+                return false;
+            case "on":
+                element.wrapListeners = directive;
+                return false;
+            case "bind":
+                element.wrapData = directive;
+                return false;
+            case "cloak":
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private boolean genModel(AstElement element, Directive directive)
+    {
+        String value = directive.value;
+        String tag = element.tag;
+        String type = element.attrsMap.get("type");
+
+        if (element.component != null)
+        {
+            genComponentModel(element, value, directive);
+            // Component v-model doesn't need extra runtime
+            return false;
+        }
+
+        if ("select".equals(tag))
+        {
+            genSelect(element, value, directive);
+        }
+        else if ("input".equals(tag) && "checkbox".equals(type))
+        {
+            genCheckboxModel(element, value, directive);
+        }
+        else if ("input".equals(tag) && "radio".equals(type))
+        {
+            genRadioModel(element, value, directive);
+        }
+        else if ("input".equals(tag) || "textarea".equals(tag))
+        {
+            genDefaultModel(element, value, directive);
+        }
+        else
+        {
+            // The JS compiler checks the tag with config.isReservedTag, which is not set in the
+            // template compiler, so v-model on any other element is treated as a Component one
+            genComponentModel(element, value, directive);
+            return false;
+        }
+
+        return true;
+    }
+
+    private void genComponentModel(AstElement element, String value, Directive directive)
+    {
+        String valueExpression = "$$v";
+        if (directive.hasModifier("trim"))
+            valueExpression = "(typeof $$v === 'string'? $$v.trim(): $$v)";
+        if (directive.hasModifier("number"))
+            valueExpression = "_n(" + valueExpression + ")";
+
+        String assignment = genAssignmentCode(value, valueExpression);
+        element.model = new Model("(" + value + ")",
+            "function ($$v) {" + assignment + "}",
+            "\"" + value + "\"");
+    }
+
+    private void genCheckboxModel(AstElement element, String value, Directive directive)
+    {
+        boolean number = directive.hasModifier("number");
+        String valueBinding = orDefault(getBindingAttr(element, "value", true), "null");
+        String trueValueBinding = orDefault(getBindingAttr(element, "true-value", true), "true");
+        String falseValueBinding =
+            orDefault(getBindingAttr(element, "false-value", true), "false");
+
+        element.addProp("checked",
+            "Array.isArray(" + value + ")?_i(" + value + "," + valueBinding + ")>-1" + (
+                "true".equals(trueValueBinding) ? ":(" + value + ")"
+                    : ":_q(" + value + "," + trueValueBinding + ")"));
+        element.addHandler("change",
+            "var $$a="
+                + value
+                + ",$$el=$event.target,$$c=$$el.checked?("
+                + trueValueBinding
+                + "):("
+                + falseValueBinding
+                + ");if(Array.isArray($$a)){var $$v="
+                + (number ? "_n(" + valueBinding + ")" : valueBinding)
+                + ",$$i=_i($$a,$$v);if($$el.checked){$$i<0&&("
+                + genAssignmentCode(value, "$$a.concat([$$v])")
+                + ")}else{$$i>-1&&("
+                + genAssignmentCode(value, "$$a.slice(0,$$i).concat($$a.slice($$i+1))")
+                + ")}}else{"
+                + genAssignmentCode(value, "$$c")
+                + "}",
+            null,
+            true);
+    }
+
+    private void genRadioModel(AstElement element, String value, Directive directive)
+    {
+        String valueBinding = orDefault(getBindingAttr(element, "value", true), "null");
+        if (directive.hasModifier("number"))
+            valueBinding = "_n(" + valueBinding + ")";
+
+        element.addProp("checked", "_q(" + value + "," + valueBinding + ")");
+        element.addHandler("change", genAssignmentCode(value, valueBinding), null, true);
+    }
+
+    private void genSelect(AstElement element, String value, Directive directive)
+    {
+        String selectedVal = "Array.prototype.filter.call($event.target.options,function(o){"
+            + "return o.selected}).map(function(o){var val = \"_value\" in o ? o._value : o.value;"
+            + "return "
+            + (directive.hasModifier("number") ? "_n(val)" : "val")
+            + "})";
+
+        String code = "var $$selectedVal = " + selectedVal + ";";
+        code = code + " " + genAssignmentCode(value,
+            "$event.target.multiple ? $$selectedVal : $$selectedVal[0]");
+        element.addHandler("change", code, null, true);
+    }
+
+    private void genDefaultModel(AstElement element, String value, Directive directive)
+    {
+        String type = element.attrsMap.get("type");
+        boolean lazy = directive.hasModifier("lazy");
+        boolean number = directive.hasModifier("number");
+        boolean trim = directive.hasModifier("trim");
+
+        boolean needCompositionGuard = !lazy && !"range".equals(type);
+        String event = lazy ? "change" : "range".equals(type) ? RANGE_TOKEN : "input";
+
+        String valueExpression = "$event.target.value";
+        if (trim)
+            valueExpression = "$event.target.value.trim()";
+        if (number)
+            valueExpression = "_n(" + valueExpression + ")";
+
+        String code = genAssignmentCode(value, valueExpression);
+        if (needCompositionGuard)
+            code = "if($event.target.composing)return;" + code;
+
+        element.addProp("value", "(" + value + ")");
+        element.addHandler(event, code, null, true);
+        if (trim || number)
+            element.addHandler("blur", "$forceUpdate()", null, false);
+    }
+
+    private String genHandlers(Map<String, List<Handler>> events, boolean isNative)
+    {
+        StringBuilder result = new StringBuilder(isNative ? "nativeOn:{" : "on:{");
+        for (String name : keys(events))
+        {
+            result
+                .append('"')
+                .append(name)
+                .append("\":")
+                .append(genHandler(events.get(name)))
+                .append(',');
+        }
+        return result.substring(0, result.length() - 1) + "}";
+    }
+
+    private static String genHandler(List<Handler> handlers)
+    {
+        if (handlers.size() == 1)
+            return genHandler(handlers.get(0));
+
+        StringJoiner result = new StringJoiner(",", "[", "]");
+        for (Handler handler : handlers)
+            result.add(genHandler(handler));
+        return result.toString();
+    }
+
+    private static String genHandler(Handler handler)
+    {
+        boolean isMethodPath = SIMPLE_PATH.matcher(handler.value).find();
+        boolean isFunctionExpression = FUNCTION_EXPRESSION.matcher(handler.value).find();
+
+        if (handler.modifiers == null)
+        {
+            if (isMethodPath || isFunctionExpression)
+                return handler.value;
+
+            return "function($event){" + handler.value + "}";
+        }
+
+        StringBuilder code = new StringBuilder();
+        StringBuilder modifierCode = new StringBuilder();
+        List<String> keys = new ArrayList<>();
+        for (String modifier : keys(handler.modifiers))
+        {
+            if (MODIFIER_CODES.containsKey(modifier))
+            {
+                modifierCode.append(MODIFIER_CODES.get(modifier));
+                // left/right
+                if (KEY_CODES.containsKey(modifier))
+                    keys.add(modifier);
+            }
+            else if ("exact".equals(modifier))
+            {
+                StringJoiner guard = new StringJoiner("||");
+                for (String key : Arrays.asList("ctrl", "shift", "alt", "meta"))
+                {
+                    if (!handler.modifiers.containsKey(key))
+                        guard.add("$event." + key + "Key");
+                }
+                modifierCode.append(genGuard(guard.toString()));
+            }
+            else
+            {
+                keys.add(modifier);
+            }
+        }
+
+        if (!keys.isEmpty())
+            code.append(genKeyFilter(keys));
+        // Make sure modifiers like prevent and stop get executed after key filtering
+        code.append(modifierCode);
+
+        String handlerCode;
+        if (isMethodPath)
+            handlerCode = "return " + handler.value + "($event)";
+        else if (isFunctionExpression)
+            handlerCode = "return (" + handler.value + ")($event)";
+        else
+            handlerCode = handler.value;
+
+        return "function($event){" + code + handlerCode + "}";
+    }
+
+    private static String genKeyFilter(List<String> keys)
+    {
+        StringJoiner filters = new StringJoiner("&&");
+        for (String key : keys)
+            filters.add(genFilterCode(key));
+
+        return "if(!('button' in $event)&&" + filters + ")return null;";
+    }
+
+    private static String genFilterCode(String key)
+    {
+        String keyValue = JsUtils.parseInt(key);
+        if (keyValue != null)
+            return "$event.keyCode!==" + keyValue;
+
+        return "_k($event.keyCode,"
+            + stringify(key)
+            + ","
+            + KEY_CODES.getOrDefault(key, "undefined")
+            + ",$event.key,"
+            + KEY_NAMES.getOrDefault(key, "undefined")
+            + ")";
+    }
+
+    private static String genGuard(String condition)
+    {
+        return "if(" + condition + ")return null;";
+    }
+
+    private String genScopedSlots(Map<String, AstElement> slots)
+    {
+        StringJoiner result = new StringJoiner(",", "scopedSlots:_u([", "])");
+        for (String key : keys(slots))
+            result.add(genScopedSlot(key, slots.get(key)));
+        return result.toString();
+    }
+
+    private String genScopedSlot(String key, AstElement element)
+    {
+        if (element.forExpression != null && !element.forProcessed)
+            return genForScopedSlot(key, element);
+
+        String body;
+        if ("template".equals(element.tag))
+        {
+            String children = orDefault(genChildren(element, false), "undefined");
+            body = element.ifExpression != null ? element.ifExpression
+                + "?"
+                + children
+                + ":undefined" : children;
+        }
+        else
+        {
+            body = genElement(element);
+        }
+
+        return "{key:" + key + ",fn:function(" + element.slotScope + "){return " + body + "}}";
+    }
+
+    private String genForScopedSlot(String key, AstElement element)
+    {
+        element.forProcessed = true;
+        return "_l((" + element.forExpression + "),function(" + genForArguments(element)
+            + "){return " + genScopedSlot(key, element) + "})";
+    }
+
+    private String genChildren(AstElement element, boolean checkSkip)
+    {
+        List<AstNode> children = element.children;
+        if (children.isEmpty())
+            return null;
+
+        AstNode first = children.get(0);
+        // Optimize single v-for
+        if (children.size() == 1 && first instanceof AstElement)
+        {
+            AstElement firstElement = (AstElement) first;
+            if (firstElement.forExpression != null
+                && !"template".equals(firstElement.tag)
+                && !"slot".equals(firstElement.tag))
+                return genElement(firstElement);
+        }
+
+        int normalizationType = checkSkip ? getNormalizationType(children) : 0;
+        StringJoiner result = new StringJoiner(",", "[", "]");
+        for (AstNode child : children)
+            result.add(genNode(child));
+
+        return result + (normalizationType != 0 ? "," + normalizationType : "");
+    }
+
+    /**
+     * Determine the normalization needed for the children array.
+     * 0: no normalization needed
+     * 1: simple normalization needed (possible 1-level deep nested array)
+     * 2: full normalization needed
+     * @param children The children to check
+     * @return The normalization type
+     */
+    private static int getNormalizationType(List<AstNode> children)
+    {
+        int result = 0;
+        for (AstNode child : children)
+        {
+            if (!(child instanceof AstElement))
+                continue;
+
+            AstElement element = (AstElement) child;
+            if (needsNormalization(element) || anyIfCondition(element, true))
+                return 2;
+
+            if (maybeComponent(element) || anyIfCondition(element, false))
+                result = 1;
+        }
+        return result;
+    }
+
+    private static boolean anyIfCondition(AstElement element, boolean needsNormalization)
+    {
+        if (element.ifConditions == null)
+            return false;
+
+        for (IfCondition condition : element.ifConditions)
+        {
+            if (needsNormalization ? needsNormalization(condition.block)
+                : maybeComponent(condition.block))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean needsNormalization(AstElement element)
+    {
+        return element.forExpression != null
+            || "template".equals(element.tag)
+            || "slot".equals(element.tag);
+    }
+
+    private static boolean maybeComponent(AstElement element)
+    {
+        return !isReservedTag(element.tag);
+    }
+
+    private String genNode(AstNode node)
+    {
+        if (node instanceof AstElement)
+            return genElement((AstElement) node);
+
+        return genText(node);
+    }
+
+    private static String genText(AstNode node)
+    {
+        if (node instanceof AstExpressionText)
+            return "_v(" + ((AstExpressionText) node).expression + ")";
+
+        return "_v(" + transformSpecialNewlines(stringify(((AstText) node).text)) + ")";
+    }
+
+    private String genSlot(AstElement element)
+    {
+        String slotName = isTruthy(element.slotName) ? element.slotName : "\"default\"";
+        String children = genChildren(element, false);
+        StringBuilder result = new StringBuilder("_t(").append(slotName);
+        if (children != null)
+            result.append(',').append(children);
+
+        String attrs = null;
+        if (element.attrs != null)
+        {
+            StringJoiner joiner = new StringJoiner(",", "{", "}");
+            for (Attribute attribute : element.attrs)
+                joiner.add(camelize(attribute.name) + ":" + attribute.value);
+            attrs = joiner.toString();
+        }
+
+        String bind = element.attrsMap.get("v-bind");
+        boolean hasBind = isTruthy(bind);
+        if ((attrs != null || hasBind) && children == null)
+            result.append(",null");
+        if (attrs != null)
+            result.append(',').append(attrs);
+        if (hasBind)
+            result.append(attrs != null ? "" : ",null").append(',').append(bind);
+
+        return result.append(')').toString();
+    }
+
+    private String genComponent(String componentName, AstElement element)
+    {
+        String children = genChildren(element, true);
+        return "_c(" + componentName + "," + genData(element) + (children != null ? "," + children
+            : "") + ")";
+    }
+
+    private static String genProps(List<Attribute> props)
+    {
+        StringJoiner result = new StringJoiner(",");
+        for (Attribute prop : props)
+            result.add("\"" + prop.name + "\":" + transformSpecialNewlines(prop.value));
+        return result.toString();
+    }
+
+    /**
+     * Generate the code to assign a value to a v-model expression.
+     * @param value The v-model expression
+     * @param assignment The JS expression of the value to assign
+     * @return The assignment code
+     */
+    static String genAssignmentCode(String value, String assignment)
+    {
+        String[] model = parseModel(value);
+        if (model[1] == null)
+            return value + "=" + assignment;
+
+        return "$set(" + model[0] + ", " + model[1] + ", " + assignment + ")";
+    }
+
+    /**
+     * Split a v-model expression in an object expression and a key, port of the parseModel of
+     * the vue-template-compiler.
+     * @param value The v-model expression
+     * @return An array with the object expression and the key, the key is null if the expression
+     * is a simple variable
+     */
+    private static String[] parseModel(String value)
+    {
+        String model = trim(value);
+        int length = model.length();
+
+        if (model.indexOf('[') < 0 || model.lastIndexOf(']') < length - 1)
+        {
+            int index = model.lastIndexOf('.');
+            if (index > -1)
+                return new String[] { model.substring(0, index), "\"" + model.substring(index + 1)
+                    + "\"" };
+
+            return new String[] { model, null };
+        }
+
+        int index = 0;
+        int expressionPosition = 0;
+        int expressionEndPosition = 0;
+        while (index < length)
+        {
+            int c = charAt(model, ++index);
+            if (c == '"' || c == '\'')
+            {
+                index = skipString(model, index, c);
+            }
+            else if (c == '[')
+            {
+                int inBracket = 1;
+                expressionPosition = index;
+                while (index < length)
+                {
+                    c = charAt(model, ++index);
+                    if (c == '"' || c == '\'')
+                    {
+                        index = skipString(model, index, c);
+                        continue;
+                    }
+                    if (c == '[')
+                        inBracket++;
+                    if (c == ']')
+                        inBracket--;
+                    if (inBracket == 0)
+                    {
+                        expressionEndPosition = index;
+                        break;
+                    }
+                }
+            }
+        }
+
+        // Like String.prototype.slice, an unclosed bracket gives an empty key
+        return new String[] {
+            model.substring(0, expressionPosition),
+            model.substring(Math.min(expressionPosition + 1, length),
+                Math.max(expressionPosition + 1, expressionEndPosition))
+        };
+    }
+
+    private static int skipString(String model, int index, int quote)
+    {
+        while (index < model.length())
+        {
+            if (charAt(model, ++index) == quote)
+                break;
+        }
+        return index;
+    }
+
+    private static int charAt(String value, int index)
+    {
+        return index >= 0 && index < value.length() ? value.charAt(index) : -1;
+    }
+
+    private static String transformSpecialNewlines(String text)
+    {
+        return text.replace("\u2028", "\\u2028").replace("\u2029", "\\u2029");
+    }
+
+    private static String orDefault(String value, String defaultValue)
+    {
+        return isTruthy(value) ? value : defaultValue;
+    }
+}
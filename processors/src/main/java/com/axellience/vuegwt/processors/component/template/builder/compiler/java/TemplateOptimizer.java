@@ -0,0 +1,117 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import com.axellience.vuegwt.processors.component.template.builder.compiler.java.AstElement.IfCondition;
+
+/**
+ * Mark the static sub trees of an AST, port of the optimizer of the vue-template-compiler 2.5.
+ * Static roots are rendered once in a static render function and reused on each render.
+ */
+class TemplateOptimizer
+{
+    void optimize(AstElement root)
+    {
+        if (root == null)
+            return;
+
+        markStatic(root);
+        markStaticRoots(root, false);
+    }
+
+    private void markStatic(AstNode node)
+    {
+        node.isStatic = isStatic(node);
+        if (!(node instanceof AstElement))
+            return;
+
+        AstElement element = (AstElement) node;
+        // Don't make component slot content static, it would prevent components from mutating it
+        if (!TemplateAstParser.isReservedTag(element.tag)
+            && !"slot".equals(element.tag)
+            && element.attrsMap.get("inline-template") == null)
+            return;
+
+        for (AstNode child : element.children)
+        {
+            markStatic(child);
+            if (!child.isStatic)
+                element.isStatic = false;
+        }
+
+        if (element.ifConditions != null)
+        {
+            for (int i = 1; i < element.ifConditions.size(); i++)
+            {
+                AstElement block = element.ifConditions.get(i).block;
+                markStatic(block);
+                if (!block.isStatic)
+                    element.isStatic = false;
+            }
+        }
+    }
+
+    private void markStaticRoots(AstElement element, boolean isInFor)
+    {
+        if (element.isStatic || element.once)
+            element.staticInFor = isInFor;
+
+        // For a node to qualify as a static root, it should have children that are not just
+        // static text. Otherwise the cost of hoisting out will outweigh the benefits.
+        if (element.isStatic && !element.children.isEmpty() && !(element.children.size() == 1
+            && element.children.get(0) instanceof AstText))
+        {
+            element.staticRoot = true;
+            return;
+        }
+        element.staticRoot = false;
+
+        for (AstNode child : element.children)
+        {
+            if (child instanceof AstElement)
+                markStaticRoots((AstElement) child, isInFor || element.forExpression != null);
+        }
+
+        if (element.ifConditions != null)
+        {
+            for (int i = 1; i < element.ifConditions.size(); i++)
+            {
+                IfCondition condition = element.ifConditions.get(i);
+                markStaticRoots(condition.block, isInFor);
+            }
+        }
+    }
+
+    private static boolean isStatic(AstNode node)
+    {
+        if (node instanceof AstExpressionText)
+            return false;
+        if (node instanceof AstText)
+            return true;
+
+        AstElement element = (AstElement) node;
+        return element.pre || (!element.hasBindings
+            && element.ifExpression == null
+            && element.forExpression == null
+            && !isBuiltInTag(element.tag)
+            && TemplateAstParser.isReservedTag(element.tag)
+            && !isDirectChildOfTemplateFor(element)
+            && element.hasOnlyStaticKeys());
+    }
+
+    private static boolean isBuiltInTag(String tag)
+    {
+        return "slot".equalsIgnoreCase(tag) || "component".equalsIgnoreCase(tag);
+    }
+
+    private static boolean isDirectChildOfTemplateFor(AstElement element)
+    {
+        while (element.parent != null)
+        {
+            element = element.parent;
+            if (!"template".equals(element.tag))
+                return false;
+            if (element.forExpression != null)
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,13 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+/**
+ * Thrown when a template uses a feature not supported by the {@link JavaVueTemplateCompiler}.
+ * The template is then compiled by the vue-template-compiler instead.
+ */
+class UnsupportedTemplateException extends RuntimeException
+{
+    UnsupportedTemplateException(String feature)
+    {
+        super("Unsupported template feature: " + feature);
+    }
+}
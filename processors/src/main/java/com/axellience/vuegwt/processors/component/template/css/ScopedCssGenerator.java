@@ -0,0 +1,241 @@
+package com.axellience.vuegwt.processors.component.template.css;
+
+import com.axellience.vuegwt.core.client.tools.ScopedCssInjector;
+import com.axellience.vuegwt.processors.VueGwtProcessorOptions;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeSpec.Builder;
+
+import javax.annotation.Generated;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static com.axellience.vuegwt.processors.utils.GeneratorsUtil.toJavaFile;
+
+/**
+ * Generate the code adding the scoped CSS of Components to the page, depending on the
+ * {@link ScopedCssMode}.
+ * When the CSS is bundled or linked, the CSS of the Components is collected over the rounds and
+ * written once all of them have been processed.
+ */
+public class ScopedCssGenerator
+{
+    public static final String LINKED_CSS_FILE = "vue-gwt-scoped.css";
+
+    private final Filer filer;
+    private final Messager messager;
+    private final ScopedCssMode mode;
+    /** Class holding the CSS of all the Components, null unless the CSS is bundled */
+    private final ClassName bundleClassName;
+
+    /** Sorted by Component, so the output doesn't depend on the processing order */
+    private final Map<String, String> cssByComponent = new TreeMap<>();
+    private boolean hasComponents = false;
+    private boolean isWritten = false;
+
+    public ScopedCssGenerator(ProcessingEnvironment processingEnvironment,
+        VueGwtProcessorOptions options)
+    {
+        filer = processingEnvironment.getFiler();
+        messager = processingEnvironment.getMessager();
+
+        ScopedCssMode scopedCssMode = options.getScopedCssMode();
+        Optional<ClassName> bundle = Optional.empty();
+        if (scopedCssMode == ScopedCssMode.BUNDLED)
+        {
+            bundle = getBundleClassName(options);
+            if (!bundle.isPresent())
+                scopedCssMode = ScopedCssMode.LAZY;
+        }
+
+        mode = scopedCssMode;
+        bundleClassName = bundle.orElse(null);
+    }
+
+    private Optional<ClassName> getBundleClassName(VueGwtProcessorOptions options)
+    {
+        Optional<String> bundle = options.getScopedCssBundle();
+        try
+        {
+            if (bundle.isPresent())
+                return Optional.of(ClassName.bestGuess(bundle.get()));
+        }
+        catch (IllegalArgumentException e)
+        {
+            // Reported below
+        }
+
+        messager.printMessage(Kind.ERROR,
+            "The bundled scoped CSS mode requires the fully qualified name of the class to "
+                + "generate, in a package of your GWT module. Set it with -A"
+                + VueGwtProcessorOptions.SCOPED_CSS_BUNDLE
+                + "=com.mypackage.client.MyScopedCss");
+        return Optional.empty();
+    }
+
+    public ScopedCssMode getMode()
+    {
+        return mode;
+    }
+
+    /**
+     * Add the statement adding the scoped CSS of a Component to the page, in the static get
+     * method of its factory.
+     * @param getBuilder The builder of the get method
+     * @param factoryInstance The name of the factory instance in the get method
+     * @param componentExposedTypeName The ExposedType of the Component, holding its scoped CSS
+     */
+    public void addInjectStatement(MethodSpec.Builder getBuilder, String factoryInstance,
+        ClassName componentExposedTypeName)
+    {
+        switch (mode)
+        {
+            case LAZY:
+                getBuilder.addStatement("$L.injectComponentCss($T.getScopedCss())",
+                    factoryInstance,
+                    componentExposedTypeName);
+                break;
+            case BATCHED:
+                getBuilder.addStatement("$T.injectBatched($T.getScopedCss())",
+                    ScopedCssInjector.class,
+                    componentExposedTypeName);
+                break;
+            case BUNDLED:
+                getBuilder.addStatement("$T.inject()", bundleClassName);
+                break;
+            default:
+                // The linked CSS is already in the page
+                break;
+        }
+    }
+
+    /**
+     * Collect the scoped CSS of a Component, if it's bundled or linked.
+     * @param component The Component
+     * @param scopedCss Its scoped CSS, null or empty if it doesn't have any
+     */
+    public void addComponentCss(TypeElement component, String scopedCss)
+    {
+        if (mode != ScopedCssMode.BUNDLED && mode != ScopedCssMode.LINKED)
+            return;
+
+        if (isWritten)
+        {
+            messager.printMessage(Kind.ERROR,
+                "This Component was processed after its scoped CSS was "
+                    + mode.name().toLowerCase(Locale.ROOT)
+                    + ", its CSS would be missing. Components generated by other annotation "
+                    + "processors require the lazy or batched scoped CSS mode.",
+                component);
+            return;
+        }
+
+        hasComponents = true;
+        if (scopedCss != null && !scopedCss.isEmpty())
+            cssByComponent.put(component.getQualifiedName().toString(), scopedCss);
+    }
+
+    /**
+     * Write the bundled or linked CSS once all the Components have been processed.
+     * They are all processed in the same round, unless they are generated, so the CSS is written
+     * in the first round without Component. This avoids generating the bundle in the last round,
+     * where javac warns that generated classes are not processed.
+     * @param hasRoundComponents true if Components were processed in the current round
+     */
+    public void writeIfComplete(boolean hasRoundComponents)
+    {
+        if (isWritten || hasRoundComponents || !hasComponents)
+            return;
+
+        isWritten = true;
+        if (mode == ScopedCssMode.BUNDLED)
+            writeBundle();
+        else if (mode == ScopedCssMode.LINKED)
+            writeLinkedCss();
+    }
+
+    /**
+     * Generate the class holding the CSS of all the Components.
+     * The CSS of each Component is kept in a separate String, as Java constants are limited to
+     * 64KB.
+     */
+    private void writeBundle()
+    {
+        CodeBlock.Builder cssInitializer = CodeBlock.builder().add("{\n").indent();
+        String separator = "";
+        for (Entry<String, String> componentCss : cssByComponent.entrySet())
+        {
+            cssInitializer
+                .add(separator)
+                .add("// $L\n", componentCss.getKey())
+                .add("$S", componentCss.getValue());
+            separator = ",\n";
+        }
+        cssInitializer.unindent().add("\n}");
+
+        Builder bundleBuilder = TypeSpec
+            .classBuilder(bundleClassName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addJavadoc("Scoped CSS of all the Components, injected at once.\n")
+            .addAnnotation(AnnotationSpec
+                .builder(Generated.class)
+                .addMember("value", "$S", this.getClass().getCanonicalName())
+                .addMember("comments", "$S", "https://github.com/Axellience/vue-gwt")
+                .build())
+            .addField(FieldSpec
+                .builder(String[].class, "CSS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(cssInitializer.build())
+                .build())
+            .addField(FieldSpec
+                .builder(boolean.class, "isInjected", Modifier.PRIVATE, Modifier.STATIC)
+                .build())
+            .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+            .addMethod(MethodSpec
+                .methodBuilder("inject")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .beginControlFlow("if (isInjected)")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("isInjected = true")
+                .addStatement("$T.inject(String.join($S, CSS))", ScopedCssInjector.class, "")
+                .build());
+
+        toJavaFile(filer, bundleBuilder, bundleClassName);
+    }
+
+    private void writeLinkedCss()
+    {
+        try
+        {
+            FileObject cssFile =
+                filer.createResource(StandardLocation.CLASS_OUTPUT, "", LINKED_CSS_FILE);
+            try (Writer writer = cssFile.openWriter())
+            {
+                for (String css : cssByComponent.values())
+                    writer.write(css + "\n");
+            }
+        }
+        catch (IOException e)
+        {
+            messager.printMessage(Kind.ERROR,
+                "Couldn't write the scoped CSS of the Components: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.axellience.vuegwt.processors.component.template.css;
+
+/**
+ * How the scoped CSS of Components is added to the page.
+ */
+public enum ScopedCssMode
+{
+    /**
+     * Each Component injects its CSS in its own style element, when its factory is first used.
+     */
+    LAZY,
+    /**
+     * Like {@link #LAZY}, but the CSS of all the Components first used during the same frame is
+     * injected in a single style element.
+     */
+    BATCHED,
+    /**
+     * The CSS of all the Components is generated in a single class, and injected at once when
+     * the first Component is used.
+     */
+    BUNDLED,
+    /**
+     * The CSS of all the Components is written in a CSS file, that must be linked in the page.
+     * Nothing is injected at runtime.
+     */
+    LINKED
+}
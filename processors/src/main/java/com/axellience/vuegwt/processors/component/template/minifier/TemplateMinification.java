@@ -0,0 +1,23 @@
+package com.axellience.vuegwt.processors.component.template.minifier;
+
+/**
+ * Level of minification applied to templates before they are compiled.
+ */
+public enum TemplateMinification
+{
+    /**
+     * Templates are compiled as written.
+     */
+    NONE,
+    /**
+     * Comments are removed, attributes are normalized and consecutive whitespaces in text are
+     * collapsed to a single space. This doesn't change the rendering, unless whitespaces are
+     * preserved with CSS.
+     */
+    SAFE,
+    /**
+     * Like {@link #SAFE}, and whitespace only text containing a new line is also removed, like
+     * the condense whitespace mode of Vue. This can remove spaces between inline elements.
+     */
+    AGGRESSIVE
+}
@@ -0,0 +1,305 @@
+package com.axellience.vuegwt.processors.component.template.minifier;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Minify the HTML of a processed template before it is compiled to render functions.
+ * Whitespace in text becomes text VNodes, so removing it makes render functions smaller and
+ * creates less VNodes on each render.
+ * <br>
+ * The content of raw text elements (pre, textarea, script and style), mustaches and attribute
+ * values other than static classes are never changed. This can be used from any thread.
+ */
+public class TemplateMinifier
+{
+    private static final Set<String> RAW_TEXT_TAGS =
+        new HashSet<>(Arrays.asList("pre", "textarea", "script", "style"));
+
+    private final TemplateMinification minification;
+
+    public TemplateMinifier(TemplateMinification minification)
+    {
+        this.minification = minification;
+    }
+
+    /**
+     * Minify the given template.
+     * @param template The HTML of the template
+     * @return The minified HTML
+     */
+    public String minify(String template)
+    {
+        if (minification == TemplateMinification.NONE)
+            return template;
+
+        StringBuilder result = new StringBuilder(template.length());
+        StringBuilder text = new StringBuilder();
+        int position = 0;
+        while (position < template.length())
+        {
+            if (template.startsWith("<!--", position))
+            {
+                // Text around comments is merged, as if the comment was never there
+                int commentEnd = template.indexOf("-->", position + 4);
+                position = commentEnd == -1 ? template.length() : commentEnd + 3;
+            }
+            else if (template.startsWith("{{", position))
+            {
+                // Expressions can contain brackets that are not tags
+                int mustacheEnd = template.indexOf("}}", position + 2);
+                mustacheEnd = mustacheEnd == -1 ? template.length() : mustacheEnd + 2;
+                text.append(template, position, mustacheEnd);
+                position = mustacheEnd;
+            }
+            else if (isTagStart(template, position))
+            {
+                int tagEnd = findTagEnd(template, position);
+                if (tagEnd == -1)
+                {
+                    text.append(template, position, template.length());
+                    break;
+                }
+
+                appendText(result, text);
+                String tag = template.substring(position, tagEnd);
+                result.append(normalizeTag(tag));
+                position = tagEnd;
+
+                String rawTextTag = getRawTextTagName(tag);
+                if (rawTextTag != null)
+                {
+                    int rawTextEnd = indexOfIgnoreCase(template, "</" + rawTextTag, position);
+                    if (rawTextEnd == -1)
+                        rawTextEnd = template.length();
+                    result.append(template, position, rawTextEnd);
+                    position = rawTextEnd;
+                }
+            }
+            else
+            {
+                text.append(template.charAt(position));
+                position++;
+            }
+        }
+
+        appendText(result, text);
+        return result.toString();
+    }
+
+    /**
+     * Append a text node to the result, with its whitespaces collapsed.
+     * @param result The minified template
+     * @param text The text to append, cleared once appended
+     */
+    private void appendText(StringBuilder result, StringBuilder text)
+    {
+        if (text.length() == 0)
+            return;
+
+        if (isHtmlWhitespace(text))
+        {
+            boolean hasNewLine = text.indexOf("\n") != -1;
+            if (minification != TemplateMinification.AGGRESSIVE || !hasNewLine)
+                result.append(' ');
+            text.setLength(0);
+            return;
+        }
+
+        int position = 0;
+        while (position < text.length())
+        {
+            char c = text.charAt(position);
+            if (c == '{' && position + 1 < text.length() && text.charAt(position + 1) == '{')
+            {
+                int mustacheEnd = text.indexOf("}}", position + 2);
+                mustacheEnd = mustacheEnd == -1 ? text.length() : mustacheEnd + 2;
+                result.append(text, position, mustacheEnd);
+                position = mustacheEnd;
+            }
+            else if (isHtmlWhitespace(c))
+            {
+                result.append(' ');
+                while (position < text.length() && isHtmlWhitespace(text.charAt(position)))
+                    position++;
+            }
+            else
+            {
+                result.append(c);
+                position++;
+            }
+        }
+        text.setLength(0);
+    }
+
+    private static boolean isHtmlWhitespace(CharSequence text)
+    {
+        for (int i = 0; i < text.length(); i++)
+        {
+            if (!isHtmlWhitespace(text.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Check if a character is whitespace in HTML. Other whitespaces, like non-breaking spaces,
+     * are rendered and must be kept.
+     * @param c The character to check
+     * @return true if it's a space, a tab, a line feed, a form feed or a carriage return
+     */
+    private static boolean isHtmlWhitespace(char c)
+    {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Rewrite a tag with a single space between attributes, and the static class normalized.
+     * @param tag The tag, from its opening to its closing bracket
+     * @return The normalized tag, or the tag as is if it's not a start or end tag
+     */
+    private static String normalizeTag(String tag)
+    {
+        if (tag.startsWith("</"))
+            return "</" + tag.substring(2, tag.length() - 1).trim() + ">";
+
+        if (tag.startsWith("<!"))
+            return tag;
+
+        StringBuilder result = new StringBuilder(tag.length());
+        int position = 1;
+        int nameEnd = readUntilDelimiter(tag, position);
+        result.append('<').append(tag, position, nameEnd);
+        position = nameEnd;
+
+        while (true)
+        {
+            position = skipWhitespace(tag, position);
+            if (tag.startsWith("/>", position))
+                return result.append("/>").toString();
+            if (tag.startsWith(">", position))
+                return result.append('>').toString();
+
+            int attributeNameEnd = readUntilDelimiter(tag, position);
+            if (attributeNameEnd == position)
+                return tag;
+
+            String attributeName = tag.substring(position, attributeNameEnd);
+            result.append(' ').append(attributeName);
+            position = skipWhitespace(tag, attributeNameEnd);
+            if (!tag.startsWith("=", position))
+                continue;
+
+            position = skipWhitespace(tag, position + 1);
+            String value;
+            char quote = tag.charAt(position);
+            if (quote == '"' || quote == '\'')
+            {
+                int valueEnd = tag.indexOf(quote, position + 1);
+                if (valueEnd == -1)
+                    return tag;
+                value = tag.substring(position + 1, valueEnd);
+                position = valueEnd + 1;
+            }
+            else
+            {
+                int valueEnd = readUntilDelimiter(tag, position);
+                value = tag.substring(position, valueEnd);
+                quote = value.indexOf('"') == -1 ? '"' : '\'';
+                position = valueEnd;
+            }
+
+            if ("class".equalsIgnoreCase(attributeName))
+                value = value.trim().replaceAll("\\s+", " ");
+
+            result.append('=').append(quote).append(value).append(quote);
+        }
+    }
+
+    private static boolean isTagStart(String template, int position)
+    {
+        if (template.charAt(position) != '<' || position + 1 >= template.length())
+            return false;
+
+        char next = template.charAt(position + 1);
+        if (next == '/' && position + 2 < template.length())
+            next = template.charAt(position + 2);
+
+        return Character.isLetter(next) || next == '!';
+    }
+
+    /**
+     * Find the end of the tag starting at the given position, ignoring brackets in quotes.
+     * @param template The template
+     * @param position The position of the opening bracket of the tag
+     * @return The position after the closing bracket, or -1 if the tag is not closed
+     */
+    private static int findTagEnd(String template, int position)
+    {
+        char quote = 0;
+        for (int i = position + 1; i < template.length(); i++)
+        {
+            char c = template.charAt(i);
+            if (quote != 0)
+            {
+                if (c == quote)
+                    quote = 0;
+            }
+            else if (c == '"' || c == '\'')
+            {
+                quote = c;
+            }
+            else if (c == '>')
+            {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the name of a raw text element from its start tag.
+     * @param tag A tag
+     * @return The name of the element, or null if it's not the start tag of a raw text element
+     */
+    private static String getRawTextTagName(String tag)
+    {
+        if (tag.startsWith("</") || tag.startsWith("<!") || tag.endsWith("/>"))
+            return null;
+
+        String name = tag.substring(1, readUntilDelimiter(tag, 1)).toLowerCase(Locale.ROOT);
+        return RAW_TEXT_TAGS.contains(name) ? name : null;
+    }
+
+    private static int readUntilDelimiter(String tag, int position)
+    {
+        while (position < tag.length())
+        {
+            char c = tag.charAt(position);
+            if (Character.isWhitespace(c) || c == '=' || c == '>' || (c == '/'
+                && tag.startsWith("/>", position)))
+                break;
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipWhitespace(String tag, int position)
+    {
+        while (position < tag.length() && Character.isWhitespace(tag.charAt(position)))
+            position++;
+        return position;
+    }
+
+    private static int indexOfIgnoreCase(String template, String searched, int from)
+    {
+        for (int i = from; i <= template.length() - searched.length(); i++)
+        {
+            if (template.regionMatches(true, i, searched, 0, searched.length()))
+                return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,99 @@
+package com.axellience.vuegwt.processors.component.template.parser;
+
+import com.axellience.vuegwt.processors.component.template.parser.context.TemplateConstants;
+import com.axellience.vuegwt.processors.component.template.parser.context.TemplateParserContext;
+import com.axellience.vuegwt.processors.component.template.parser.variable.LocalVariableInfo;
+import com.axellience.vuegwt.processors.component.template.parser.variable.VariableInfo;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.CastExpr;
+import com.github.javaparser.ast.expr.ConditionalExpr;
+import com.github.javaparser.ast.expr.EnclosedExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.LiteralExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Find the template expressions whose value never changes.
+ * They are made of literals, constant fields of the Component and static constant fields of
+ * imported classes, combined with operators.
+ */
+class TemplateConstantExpressions
+{
+    private final TemplateParserContext context;
+    private final TemplateConstants constants;
+
+    TemplateConstantExpressions(TemplateParserContext context)
+    {
+        this.context = context;
+        this.constants = context.getTemplateConstants();
+    }
+
+    /**
+     * Check if a variable from the template is a constant field of the Component.
+     * @param name The name of the variable
+     * @return true if it's a constant
+     */
+    boolean isConstantVariable(String name)
+    {
+        VariableInfo variableInfo = context.findVariable(name);
+        return variableInfo != null
+            && !(variableInfo instanceof LocalVariableInfo)
+            && constants.isComponentConstant(name);
+    }
+
+    /**
+     * Check if an expression from the template always has the same value.
+     * @param expression The expression, as parsed from the template
+     * @return true if it's constant
+     */
+    boolean isConstant(Expression expression)
+    {
+        if (expression instanceof LiteralExpr)
+            return true;
+
+        if (expression instanceof NameExpr)
+            return isConstantVariable(((NameExpr) expression).getNameAsString());
+
+        if (expression instanceof FieldAccessExpr)
+            return isClassConstant((FieldAccessExpr) expression);
+
+        if (expression instanceof EnclosedExpr
+            || expression instanceof CastExpr
+            || expression instanceof UnaryExpr
+            || expression instanceof BinaryExpr
+            || expression instanceof ConditionalExpr)
+            return getChildExpressions(expression).stream().allMatch(this::isConstant);
+
+        return false;
+    }
+
+    private boolean isClassConstant(FieldAccessExpr fieldAccessExpr)
+    {
+        List<Expression> scope = getChildExpressions(fieldAccessExpr);
+        if (scope.size() != 1 || !(scope.get(0) instanceof NameExpr))
+            return false;
+
+        String className = ((NameExpr) scope.get(0)).getNameAsString();
+        if (context.findVariable(className) != null || !context.hasImport(className))
+            return false;
+
+        return constants.isClassConstant(context.getFullyQualifiedNameForClassName(className),
+            fieldAccessExpr.getNameAsString());
+    }
+
+    private static List<Expression> getChildExpressions(Node node)
+    {
+        return node
+            .getChildNodes()
+            .stream()
+            .filter(Expression.class::isInstance)
+            .map(Expression.class::cast)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,432 @@
+package com.axellience.vuegwt.processors.component.template.parser;
+
+import com.axellience.vuegwt.processors.component.template.parser.context.TemplateParserContext;
+import com.axellience.vuegwt.processors.component.template.parser.variable.VariableInfo;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.ConditionalExpr;
+import com.github.javaparser.ast.expr.DoubleLiteralExpr;
+import com.github.javaparser.ast.expr.EnclosedExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import jsinterop.base.Any;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Translate simple Java expressions from the template to equivalent JS expressions.
+ * Lowered expressions are placed directly in the render function, instead of calling a Java
+ * method generated for them.
+ * <br>
+ * Only a subset of Java is lowered: variables, fields visible in JS, boolean and number literals,
+ * boolean, arithmetic and comparison operators, ternaries and parentheses. The expression is type
+ * checked like the Java compiler would, and is only lowered if the JS expression behaves like
+ * the compiled Java. Otherwise it's left to the Java compiler.
+ */
+class TemplateExpressionLowering
+{
+    private static final TypeName ANY = TypeName.get(Any.class);
+    private static final Pattern INTEGER_LITERAL = Pattern.compile("0|[1-9][0-9]*");
+    private static final Pattern DOUBLE_LITERAL =
+        Pattern.compile("(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?[dD]?");
+
+    private final TemplateParserContext context;
+
+    TemplateExpressionLowering(TemplateParserContext context)
+    {
+        this.context = context;
+    }
+
+    /**
+     * Lower a Java expression to JS.
+     * @param expression The Java expression, as parsed from the template
+     * @param expectedType The type expected for the expression where it is used
+     * @return The JS expression, or empty if the expression can't be lowered safely
+     */
+    Optional<String> lower(Expression expression, TypeName expectedType)
+    {
+        if (!ANY.equals(expectedType) && !TypeName.BOOLEAN.equals(expectedType))
+            return Optional.empty();
+
+        return lowerExpression(expression)
+            .filter(lowered -> isAssignableTo(lowered, expectedType))
+            .map(lowered -> lowered.js);
+    }
+
+    private static boolean isAssignableTo(LoweredExpression lowered, TypeName expectedType)
+    {
+        if (TypeName.BOOLEAN.equals(expectedType))
+            return TypeName.BOOLEAN.equals(lowered.type);
+
+        // Longs and chars don't have the same representation in Java and in JS
+        return lowered.type == null || !(TypeName.LONG.equals(lowered.type)
+            || TypeName.LONG.box().equals(lowered.type)
+            || TypeName.CHAR.equals(lowered.type)
+            || TypeName.CHAR.box().equals(lowered.type));
+    }
+
+    private Optional<LoweredExpression> lowerExpression(Expression expression)
+    {
+        if (expression instanceof NameExpr)
+            return lowerName((NameExpr) expression);
+        if (expression instanceof FieldAccessExpr)
+            return lowerFieldAccess((FieldAccessExpr) expression);
+        if (expression instanceof BooleanLiteralExpr)
+        {
+            boolean value = ((BooleanLiteralExpr) expression).getValue();
+            return Optional.of(new LoweredExpression(String.valueOf(value), TypeName.BOOLEAN));
+        }
+        if (expression instanceof IntegerLiteralExpr)
+            return lowerIntegerLiteral((IntegerLiteralExpr) expression);
+        if (expression instanceof DoubleLiteralExpr)
+            return lowerDoubleLiteral((DoubleLiteralExpr) expression);
+        if (expression instanceof NullLiteralExpr)
+            return Optional.of(new LoweredExpression("null", null));
+        if (expression instanceof EnclosedExpr)
+        {
+            return getSingleChildExpression(expression)
+                .flatMap(this::lowerExpression)
+                .map(inner -> new LoweredExpression("(" + inner.js + ")", inner.type));
+        }
+        if (expression instanceof UnaryExpr)
+            return lowerUnary((UnaryExpr) expression);
+        if (expression instanceof BinaryExpr)
+            return lowerBinary((BinaryExpr) expression);
+        if (expression instanceof ConditionalExpr)
+            return lowerConditional((ConditionalExpr) expression);
+
+        return Optional.empty();
+    }
+
+    private Optional<LoweredExpression> lowerName(NameExpr nameExpr)
+    {
+        String name = nameExpr.getNameAsString();
+        // Class references and $event must go through Java
+        if (context.hasImport(name))
+            return Optional.empty();
+
+        VariableInfo variableInfo = context.findVariable(name);
+        if (variableInfo == null)
+            return Optional.empty();
+
+        return Optional.of(new LoweredExpression(name, variableInfo.getType()));
+    }
+
+    private Optional<LoweredExpression> lowerFieldAccess(FieldAccessExpr fieldAccessExpr)
+    {
+        Optional<LoweredExpression> scope =
+            getSingleChildExpression(fieldAccessExpr).flatMap(this::lowerExpression);
+        if (!scope.isPresent() || scope.get().type == null)
+            return Optional.empty();
+
+        String fieldName = fieldAccessExpr.getNameAsString();
+        return context
+            .getJsVisibleFields()
+            .getFieldType(scope.get().type, fieldName)
+            .map(fieldType -> new LoweredExpression(scope.get().js + "." + fieldName, fieldType));
+    }
+
+    private Optional<LoweredExpression> lowerIntegerLiteral(IntegerLiteralExpr literal)
+    {
+        String value = literal.getValue();
+        if (!INTEGER_LITERAL.matcher(value).matches())
+            return Optional.empty();
+
+        try
+        {
+            return Optional.of(new LoweredExpression(String.valueOf(Integer.parseInt(value)),
+                TypeName.INT));
+        }
+        catch (NumberFormatException e)
+        {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<LoweredExpression> lowerDoubleLiteral(DoubleLiteralExpr literal)
+    {
+        // Float literals are rounded by the Java compiler, they are left to it
+        String value = literal.getValue();
+        if (!DOUBLE_LITERAL.matcher(value).matches())
+            return Optional.empty();
+
+        double doubleValue = Double.parseDouble(value);
+        if (Double.isInfinite(doubleValue))
+            return Optional.empty();
+
+        return Optional.of(new LoweredExpression(String.valueOf(doubleValue), TypeName.DOUBLE));
+    }
+
+    private Optional<LoweredExpression> lowerUnary(UnaryExpr unaryExpr)
+    {
+        Optional<LoweredExpression> optionalOperand = lowerExpression(unaryExpr.getExpression());
+        if (!optionalOperand.isPresent())
+            return Optional.empty();
+
+        LoweredExpression operand = optionalOperand.get();
+        switch (getOperatorName(unaryExpr.getOperator()))
+        {
+            case "logicalcomplement":
+            case "not":
+                if (!TypeName.BOOLEAN.equals(operand.type))
+                    return Optional.empty();
+                return Optional.of(new LoweredExpression("!" + operand.js, TypeName.BOOLEAN));
+            case "minus":
+            case "negative":
+                if (!isNumber(operand.type))
+                    return Optional.empty();
+                String negated = (operand.js.startsWith("-") ? "- " : "-") + operand.js;
+                // Negated int literals are constants, other int negations can overflow
+                if (!isIntegral(operand.type)
+                    || unaryExpr.getExpression() instanceof IntegerLiteralExpr)
+                    return Optional.of(new LoweredExpression(negated, promote(operand.type)));
+                return Optional.of(new LoweredExpression("(" + negated + " | 0)", TypeName.INT));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private Optional<LoweredExpression> lowerBinary(BinaryExpr binaryExpr)
+    {
+        Optional<LoweredExpression> optionalLeft = lowerExpression(binaryExpr.getLeft());
+        Optional<LoweredExpression> optionalRight = lowerExpression(binaryExpr.getRight());
+        if (!optionalLeft.isPresent() || !optionalRight.isPresent())
+            return Optional.empty();
+
+        LoweredExpression left = optionalLeft.get();
+        LoweredExpression right = optionalRight.get();
+        switch (getOperatorName(binaryExpr.getOperator()))
+        {
+            case "or":
+                return lowerLogical(left, "||", right);
+            case "and":
+                return lowerLogical(left, "&&", right);
+            case "equals":
+                return lowerEquality(left, "==", right);
+            case "notequals":
+                return lowerEquality(left, "!=", right);
+            case "less":
+                return lowerComparison(left, "<", right);
+            case "greater":
+                return lowerComparison(left, ">", right);
+            case "lessequals":
+                return lowerComparison(left, "<=", right);
+            case "greaterequals":
+                return lowerComparison(left, ">=", right);
+            case "plus":
+                return lowerArithmetic(left, "+", right);
+            case "minus":
+                return lowerArithmetic(left, "-", right);
+            case "multiply":
+            case "times":
+                return lowerArithmetic(left, "*", right);
+            case "divide":
+                return lowerArithmetic(left, "/", right);
+            case "remainder":
+                return lowerArithmetic(left, "%", right);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private Optional<LoweredExpression> lowerLogical(LoweredExpression left, String operator,
+        LoweredExpression right)
+    {
+        if (!TypeName.BOOLEAN.equals(left.type) || !TypeName.BOOLEAN.equals(right.type))
+            return Optional.empty();
+
+        return Optional.of(new LoweredExpression(left.js + " " + operator + " " + right.js,
+            TypeName.BOOLEAN));
+    }
+
+    private Optional<LoweredExpression> lowerEquality(LoweredExpression left, String operator,
+        LoweredExpression right)
+    {
+        // Comparing to null must also match undefined, like in GWT
+        if (left.type == null || right.type == null)
+        {
+            if ((left.type != null && !isReference(left.type)) || (right.type != null
+                && !isReference(right.type)))
+                return Optional.empty();
+
+            return Optional.of(new LoweredExpression(left.js + " " + operator + " " + right.js,
+                TypeName.BOOLEAN));
+        }
+
+        boolean isSameReferenceType = isReference(left.type) && left.type.equals(right.type);
+        boolean isSamePrimitiveType = (isNumber(left.type) && isNumber(right.type))
+            || (TypeName.BOOLEAN.equals(left.type) && TypeName.BOOLEAN.equals(right.type));
+        if (!isSameReferenceType && !isSamePrimitiveType)
+            return Optional.empty();
+
+        return Optional.of(new LoweredExpression(left.js + " " + operator + "= " + right.js,
+            TypeName.BOOLEAN));
+    }
+
+    private Optional<LoweredExpression> lowerComparison(LoweredExpression left, String operator,
+        LoweredExpression right)
+    {
+        if (!isNumber(left.type) || !isNumber(right.type))
+            return Optional.empty();
+
+        return Optional.of(new LoweredExpression(left.js + " " + operator + " " + right.js,
+            TypeName.BOOLEAN));
+    }
+
+    private Optional<LoweredExpression> lowerArithmetic(LoweredExpression left, String operator,
+        LoweredExpression right)
+    {
+        // String concatenation is left to Java
+        if (!isNumber(left.type) || !isNumber(right.type))
+            return Optional.empty();
+
+        if (!isIntegral(left.type) || !isIntegral(right.type))
+        {
+            TypeName type = TypeName.DOUBLE.equals(left.type) || TypeName.DOUBLE.equals(right.type)
+                ? TypeName.DOUBLE : TypeName.FLOAT;
+            return Optional.of(new LoweredExpression(left.js + " " + operator + " " + right.js,
+                type));
+        }
+
+        // Integer results are truncated to 32 bits like in Java
+        if ("+".equals(operator) || "-".equals(operator))
+        {
+            return Optional.of(new LoweredExpression(
+                "(" + left.js + " " + operator + " " + right.js + " | 0)",
+                TypeName.INT));
+        }
+        if ("*".equals(operator))
+        {
+            return Optional.of(new LoweredExpression("Math.imul(" + left.js + ", " + right.js + ")",
+                TypeName.INT));
+        }
+
+        // Integer division truncates and throws on division by zero
+        return Optional.empty();
+    }
+
+    private Optional<LoweredExpression> lowerConditional(ConditionalExpr conditionalExpr)
+    {
+        Optional<LoweredExpression> condition = lowerExpression(conditionalExpr.getCondition());
+        Optional<LoweredExpression> thenExpr = lowerExpression(conditionalExpr.getThenExpr());
+        Optional<LoweredExpression> elseExpr = lowerExpression(conditionalExpr.getElseExpr());
+        if (!condition.isPresent() || !thenExpr.isPresent() || !elseExpr.isPresent()
+            || !TypeName.BOOLEAN.equals(condition.get().type))
+            return Optional.empty();
+
+        return getConditionalType(thenExpr.get().type, elseExpr.get().type).map(type -> {
+            String js = condition.get().js + " ? " + thenExpr.get().js + " : " + elseExpr.get().js;
+            return new LoweredExpression(js, type);
+        });
+    }
+
+    private static Optional<TypeName> getConditionalType(TypeName thenType, TypeName elseType)
+    {
+        if (thenType == null && elseType == null)
+            return Optional.empty();
+        if (thenType == null)
+            return isReference(elseType) ? Optional.of(elseType) : Optional.empty();
+        if (elseType == null)
+            return isReference(thenType) ? Optional.of(thenType) : Optional.empty();
+
+        if (isNumber(thenType) && isNumber(elseType))
+        {
+            if (thenType.equals(elseType))
+                return Optional.of(thenType);
+            if (isIntegral(thenType) && isIntegral(elseType))
+                return Optional.of(TypeName.INT);
+            if (TypeName.DOUBLE.equals(thenType) || TypeName.DOUBLE.equals(elseType))
+                return Optional.of(TypeName.DOUBLE);
+            return Optional.of(TypeName.FLOAT);
+        }
+
+        if (thenType.equals(elseType) && (isReference(thenType) || TypeName.BOOLEAN.equals(
+            thenType)))
+            return Optional.of(thenType);
+
+        return Optional.empty();
+    }
+
+    private static Optional<Expression> getSingleChildExpression(Node node)
+    {
+        List<Expression> children = node
+            .getChildNodes()
+            .stream()
+            .filter(Expression.class::isInstance)
+            .map(Expression.class::cast)
+            .collect(Collectors.toList());
+
+        if (children.size() != 1)
+            return Optional.empty();
+
+        return Optional.of(children.get(0));
+    }
+
+    /**
+     * The names of the operators changed between versions of JavaParser, so we compare them
+     * without case and underscores.
+     * @param operator A binary or unary operator
+     * @return The normalized name of the operator
+     */
+    private static String getOperatorName(Enum<?> operator)
+    {
+        return operator.name().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isIntegral(TypeName type)
+    {
+        return TypeName.INT.equals(type) || TypeName.SHORT.equals(type) || TypeName.BYTE.equals(
+            type);
+    }
+
+    private static boolean isNumber(TypeName type)
+    {
+        return isIntegral(type) || TypeName.DOUBLE.equals(type) || TypeName.FLOAT.equals(type);
+    }
+
+    /**
+     * Boxed types are excluded, as unboxing and reference comparison don't behave the same in JS.
+     * @param type A type
+     * @return true if values of this type are compared by reference in JS
+     */
+    private static boolean isReference(TypeName type)
+    {
+        if (type.isPrimitive() || type.isBoxedPrimitive())
+            return false;
+
+        return type instanceof ClassName
+            || type instanceof ParameterizedTypeName
+            || type instanceof ArrayTypeName;
+    }
+
+    private static TypeName promote(TypeName type)
+    {
+        return isIntegral(type) ? TypeName.INT : type;
+    }
+
+    private static class LoweredExpression
+    {
+        private final String js;
+        /** null for the null literal */
+        private final TypeName type;
+
+        private LoweredExpression(String js, TypeName type)
+        {
+            this.js = js;
+            this.type = type;
+        }
+    }
+}
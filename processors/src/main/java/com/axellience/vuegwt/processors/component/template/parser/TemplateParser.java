@@ -1,6 +1,8 @@
 package com.axellience.vuegwt.processors.component.template.parser;
 
+import com.axellience.vuegwt.core.annotations.component.Impure;
 import com.axellience.vuegwt.core.annotations.component.Prop;
+import com.axellience.vuegwt.core.annotations.component.VForKey;
 import com.axellience.vuegwt.processors.component.template.parser.TemplateScopedCssParser.ScopedCssResult;
 import com.axellience.vuegwt.processors.component.template.parser.context.TemplateParserContext;
 import com.axellience.vuegwt.processors.component.template.parser.context.localcomponents.LocalComponent;
@@ -17,6 +19,7 @@ import com.github.javaparser.ast.expr.CastExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.nodeTypes.NodeWithType;
 import com.github.javaparser.ast.type.Type;
 import com.squareup.javapoet.TypeName;
@@ -29,10 +32,18 @@ import net.htmlparser.jericho.Element;
 import net.htmlparser.jericho.OutputDocument;
 import net.htmlparser.jericho.Segment;
 import net.htmlparser.jericho.Source;
+import net.htmlparser.jericho.StartTag;
 import net.htmlparser.jericho.Tag;
 
 import javax.annotation.processing.Messager;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -42,7 +53,6 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static com.axellience.vuegwt.processors.utils.GeneratorsNameUtil.propNameToAttributeName;
 import static com.axellience.vuegwt.processors.utils.GeneratorsUtil.stringTypeToTypeName;
@@ -60,8 +70,45 @@ public class TemplateParser
 {
     private static Pattern VUE_ATTR_PATTERN = Pattern.compile("^(v-|:|@).*");
     private static Pattern VUE_MUSTACHE_PATTERN = Pattern.compile("\\{\\{.*?}}");
+    private static final Pattern PARAMETERLESS_CALL_PATTERN =
+        Pattern.compile("([A-Za-z_$][\\w$]*)\\((\\$event)?\\)");
+    private static final Pattern TEMPLATE_EXPRESSION_METHOD_PATTERN =
+        Pattern.compile("exp\\$[0-9]+");
+    private static final String IMPORT_ELEMENT = "vue-gwt:import";
+    private static final String IMPURE_ATTRIBUTE = "vue-gwt:impure";
+    /** Elements rendered by Vue in a special way, that can't be marked with v-once */
+    private static final Set<String> NOT_ONCE_TAGS = new HashSet<>(Arrays.asList("slot",
+        "template",
+        "component",
+        "transition",
+        "transition-group",
+        "keep-alive"));
+    /** Types represented by a JS primitive value, so the same key is === between renders */
+    private static final Set<TypeName> JS_IDENTICAL_KEY_TYPES =
+        new HashSet<>(Arrays.asList(TypeName.get(String.class),
+            TypeName.INT,
+            TypeName.SHORT,
+            TypeName.BYTE,
+            TypeName.FLOAT,
+            TypeName.DOUBLE,
+            TypeName.BOOLEAN,
+            TypeName.DOUBLE.box(),
+            TypeName.BOOLEAN.box()));
+
+    /**
+     * Whether an element and its children can change between renders.
+     * Static elements are hoisted by the Vue template compiler, constant elements only use
+     * constants and can be marked with v-once.
+     * They are ordered from the least to the most dynamic.
+     */
+    private enum ElementConstancy
+    {
+        STATIC, CONSTANT, DYNAMIC
+    }
 
     private TemplateParserContext context;
+    private TemplateExpressionLowering expressionLowering;
+    private TemplateConstantExpressions constantExpressions;
     private Messager messager;
     private TemplateParserLogger logger;
     private TemplateParserResult result;
@@ -70,6 +117,20 @@ public class TemplateParser
     private LocalComponentProp currentProp;
     private TypeName currentExpressionReturnType;
     private OutputDocument outputDocument;
+    /** Text segments directly inside each element, so we don't have to search them */
+    private Map<Element, List<Segment>> textSegmentsByElement;
+
+    /** Number of elements with the impure attribute enclosing the current element */
+    private int impureElementsDepth;
+    /** Number of elements with v-for enclosing the current element */
+    private int vForDepth;
+    /** Whether the expressions of the current element are all constant */
+    private boolean expressionsConstant;
+    /** Whether the current element has expressions */
+    private boolean hasExpressions;
+
+    /** Time spent processing Java expressions during the last parsing, in nanoseconds */
+    private long expressionProcessingTime;
 
     /**
      * Parse a given HTML template and return the a result object containing the expressions
@@ -83,8 +144,13 @@ public class TemplateParser
             TemplateParserContext context, Messager messager)
     {
         this.context = context;
+        this.expressionLowering = new TemplateExpressionLowering(context);
+        this.constantExpressions = new TemplateConstantExpressions(context);
         this.messager = messager;
         this.logger = new TemplateParserLogger(context, messager);
+        this.expressionProcessingTime = 0;
+        this.impureElementsDepth = 0;
+        this.vForDepth = 0;
 
         initJerichoConfig(this.logger);
 
@@ -92,40 +158,86 @@ public class TemplateParser
         outputDocument = new OutputDocument(source);
 
         result = new TemplateParserResult(context);
-        processImports(source);
-        result.setScopedCss(processScopedCss(source));
-        source.getChildElements().forEach(this::processElement);
+        result.setScopedCss(processImportsAndScopedCss(source));
+        textSegmentsByElement = getTextSegmentsByElement(source);
+        for (Element element : source.getChildElements())
+        {
+            if (processElement(element) == ElementConstancy.CONSTANT)
+                markRenderedOnce(element);
+        }
 
         result.setProcessedTemplate(outputDocument.toString());
         return result;
     }
 
-    private void initJerichoConfig(TemplateParserLogger logger)
+    /**
+     * Time spent processing the Java expressions of the last parsed template.
+     * It's included in the time of {@link #parseHtmlTemplate(String, TemplateParserContext,
+     * Messager)}.
+     * @return The time in nanoseconds
+     */
+    public long getExpressionProcessingTime()
+    {
+        return expressionProcessingTime;
+    }
+
+    /**
+     * Add the classes imported by a template to its context, before it's parsed.
+     * This is only needed when the imports must be known before parsing, they are also added
+     * by {@link #parseHtmlTemplate(String, TemplateParserContext, Messager)}. Errors in the
+     * template are not reported here, they are when the template is parsed.
+     * @param htmlTemplate The HTML template, as a String
+     * @param context Context of the Component the template belongs to
+     */
+    public static void resolveImports(String htmlTemplate, TemplateParserContext context)
+    {
+        initJerichoConfig(null);
+        for (Element element : new Source(htmlTemplate).getAllElements(IMPORT_ELEMENT))
+            addImport(element, context);
+    }
+
+    private static void addImport(Element importElement, TemplateParserContext context)
+    {
+        String classAttributeValue = importElement.getAttributeValue("class");
+        if (classAttributeValue != null)
+            context.addImport(classAttributeValue);
+    }
+
+    private static void initJerichoConfig(TemplateParserLogger logger)
     {
         // Allow as many invalid character in attributes as possible
         Attributes.setDefaultMaxErrorCount(Integer.MAX_VALUE);
         // Allow any element to be self closing
         Config.IsHTMLEmptyElementTagRecognised = true;
         // Use our own logger
-        Config.LoggerProvider = new TemplateParserLoggerProvider(logger);
+        TemplateParserLoggerProvider.get().setCurrentLogger(logger);
+        Config.LoggerProvider = TemplateParserLoggerProvider.get();
     }
 
     /**
-     * Add java imports in the template to the context.
+     * Add java imports in the template to the context, and process the scoped style.
+     * Both are removed from the template. This is done in a single pass over the elements.
      * @param doc The document to process
+     * @return The scoped CSS, null if there is none
      */
-    private void processImports(Source doc)
+    private String processImportsAndScopedCss(Source doc)
     {
-        doc
-            .getAllElements()
-            .stream()
-            .filter(element -> "vue-gwt:import".equalsIgnoreCase(element.getName()))
-            .peek(importElement -> {
-                String classAttributeValue = importElement.getAttributeValue("class");
-                if (classAttributeValue != null)
-                    context.addImport(classAttributeValue);
-            })
-            .forEach(outputDocument::remove);
+        String scopedCss = null;
+        for (Element element : doc.getAllElements())
+        {
+            if (IMPORT_ELEMENT.equalsIgnoreCase(element.getName()))
+            {
+                addImport(element, context);
+                outputDocument.remove(element);
+            }
+            else if (isScopedStyleElement(element))
+            {
+                scopedCss = processScopedCss(element).orElse(scopedCss);
+                outputDocument.remove(element);
+            }
+        }
+
+        return scopedCss;
     }
 
     private static boolean isScopedStyleElement(Element element) {
@@ -133,33 +245,68 @@ public class TemplateParser
                 && element.getAttributes() != null && element.getAttributes().get("scoped") != null;
     }
 
-    private String processScopedCss(Source doc) {
-        final String[] scopedCss = new String[1];
-
-        doc.getAllElements().stream()
-            .filter(TemplateParser::isScopedStyleElement)
-            .peek(styleScoped -> {
-                String css = styleScoped.getContent().toString().trim();
-                if (!css.isEmpty()) {
-                    TemplateScopedCssParser scopedCssParser = new TemplateScopedCssParser(messager);
-                    Optional<ScopedCssResult> scopedCssResult = scopedCssParser.parse(
-                            context.getComponentTypeElement(), css);
-                    if (scopedCssResult.isPresent()) {
-                        context.getMandatoryAttributes().putAll(scopedCssResult.get().mandatoryAttributes);
-                        scopedCss[0] = scopedCssResult.get().scopedCss;
-                    }
-                }
-            })
-            .forEach(outputDocument::remove);
+    private Optional<String> processScopedCss(Element styleScoped) {
+        String css = styleScoped.getContent().toString().trim();
+        if (css.isEmpty())
+            return Optional.empty();
+
+        TemplateScopedCssParser scopedCssParser = new TemplateScopedCssParser(messager);
+        Optional<ScopedCssResult> scopedCssResult = scopedCssParser.parse(
+                context.getComponentTypeName(), css);
+        if (!scopedCssResult.isPresent())
+            return Optional.empty();
 
-        return scopedCss[0];
+        context.getMandatoryAttributes().putAll(scopedCssResult.get().mandatoryAttributes);
+        return Optional.of(scopedCssResult.get().scopedCss);
+    }
+
+    /**
+     * Find the text segments directly inside each element, in a single pass over the template.
+     * Elements and nodes are both in document order, so a stack of the elements enclosing the
+     * current node is enough to know which element it belongs to.
+     * @param source The template
+     * @return The text segments of each element, in document order
+     */
+    private Map<Element, List<Segment>> getTextSegmentsByElement(Source source)
+    {
+        Map<Element, List<Segment>> segmentsByElement = new IdentityHashMap<>();
+        Deque<Element> enclosingElements = new ArrayDeque<>();
+        Iterator<Element> elements = source.getAllElements().iterator();
+        Element nextElement = elements.hasNext() ? elements.next() : null;
+
+        for (Segment segment : (Iterable<Segment>) source::getNodeIterator)
+        {
+            while (nextElement != null && nextElement.getBegin() <= segment.getBegin())
+            {
+                popEndedElements(enclosingElements, nextElement.getBegin());
+                enclosingElements.push(nextElement);
+                nextElement = elements.hasNext() ? elements.next() : null;
+            }
+
+            if (segment instanceof Tag || segment instanceof CharacterReference)
+                continue;
+
+            popEndedElements(enclosingElements, segment.getBegin());
+            Element parent = enclosingElements.peek();
+            if (parent != null && parent.encloses(segment))
+                segmentsByElement.computeIfAbsent(parent, e -> new ArrayList<>()).add(segment);
+        }
+
+        return segmentsByElement;
+    }
+
+    private static void popEndedElements(Deque<Element> enclosingElements, int position)
+    {
+        while (!enclosingElements.isEmpty() && enclosingElements.peek().getEnd() <= position)
+            enclosingElements.pop();
     }
 
     /**
      * Recursive method that will process the whole template DOM tree.
      * @param element Current element being processed
+     * @return Whether the element can change between renders
      */
-    private void processElement(Element element)
+    private ElementConstancy processElement(Element element)
     {
         context.setCurrentSegment(element);
         currentProp = null;
@@ -178,15 +325,30 @@ public class TemplateParser
             }
         }
 
+        // Expressions of impure elements and their children are never cached
+        Attribute impureAttribute = attributes != null ? attributes.get(IMPURE_ATTRIBUTE) : null;
+        if (impureAttribute != null)
+        {
+            impureElementsDepth++;
+            outputDocument.remove(impureAttribute);
+        }
+
+        expressionsConstant = true;
+        hasExpressions = false;
+
         Attribute vForAttribute = attributes != null ? attributes.get("v-for") : null;
         if (vForAttribute != null)
         {
             // Add a context layer for our v-for
             context.addContextLayer();
+            vForDepth++;
 
             // Process the v-for expression, and update our attribute
-            String processedVForValue = processVForValue(vForAttribute.getValue());
+            VForDefinition vForDef =
+                new VForDefinition(vForAttribute.getValue(), context, logger);
+            String processedVForValue = processVForValue(vForDef);
             outputDocument.replace(vForAttribute.getValueSegment(), processedVForValue);
+            processVForKey(element, vForAttribute, vForDef);
         }
 
         // Process the element
@@ -194,25 +356,96 @@ public class TemplateParser
             processElementAttributes(element);
 
         // Process text segments
-        StreamSupport
-            .stream(((Iterable<Segment>) element::getNodeIterator).spliterator(), false)
-            .filter(segment -> !(segment instanceof Tag)
-                && !(segment instanceof CharacterReference))
-            .filter(segment -> {
-                for (Element child : element.getChildElements())
-                    if (child.encloses(segment))
-                        return false;
-                return true;
-            })
+        textSegmentsByElement
+            .getOrDefault(element, Collections.emptyList())
             .forEach(this::processTextNode);
 
+        boolean ownExpressionsConstant = expressionsConstant;
+        boolean ownHasExpressions = hasExpressions;
+
         // Recurse downwards
-        element.getChildElements().
-            forEach(this::processElement);
+        List<Element> childElements = element.getChildElements();
+        List<ElementConstancy> childrenConstancy = new ArrayList<>(childElements.size());
+        for (Element childElement : childElements)
+            childrenConstancy.add(processElement(childElement));
 
         // After downward recursion, pop the context layer
         if (vForAttribute != null)
+        {
             context.popContextLayer();
+            vForDepth--;
+        }
+
+        if (impureAttribute != null)
+            impureElementsDepth--;
+
+        ElementConstancy constancy = ElementConstancy.DYNAMIC;
+        if (ownExpressionsConstant && canBeRenderedOnce(element))
+        {
+            constancy = ownHasExpressions ? ElementConstancy.CONSTANT : ElementConstancy.STATIC;
+            for (ElementConstancy childConstancy : childrenConstancy)
+                constancy = childConstancy.compareTo(constancy) > 0 ? childConstancy : constancy;
+        }
+
+        // v-once inside a v-for requires a key, so we only mark elements outside of them
+        if (constancy == ElementConstancy.DYNAMIC && vForAttribute == null && vForDepth == 0)
+        {
+            for (int i = 0; i < childElements.size(); i++)
+            {
+                if (childrenConstancy.get(i) == ElementConstancy.CONSTANT)
+                    markRenderedOnce(childElements.get(i));
+            }
+        }
+
+        return constancy;
+    }
+
+    /**
+     * Check if an element could be rendered once, if all its expressions are constant.
+     * Components, slots and elements with directives other than bindings can't.
+     * @param element The element to check
+     * @return true if it can be rendered once
+     */
+    private boolean canBeRenderedOnce(Element element)
+    {
+        if (NOT_ONCE_TAGS.contains(element.getName().toLowerCase()))
+            return false;
+
+        Attributes attributes = element.getAttributes();
+        if (attributes == null)
+            return true;
+
+        if (getLocalComponentForElement(element).isPresent())
+            return false;
+
+        for (Attribute attribute : attributes)
+        {
+            String attributeName = attribute.getKey().toLowerCase();
+            if ("slot-scope".equals(attributeName) || "scope".equals(attributeName))
+                return false;
+
+            if (VUE_ATTR_PATTERN.matcher(attributeName).matches() && !isAttributeBinding(
+                attribute) && !"v-text".equals(attributeName) && !"v-html".equals(
+                attributeName))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Add v-once on an element whose expressions are all constant, so Vue renders it only once.
+     * Elements without expressions are left to the Vue template compiler, which already hoists
+     * them in the static render functions.
+     * @param element The element to mark
+     */
+    private void markRenderedOnce(Element element)
+    {
+        if (!context.isAutoVOnce())
+            return;
+
+        StartTag startTag = element.getStartTag();
+        outputDocument.insert(startTag.getBegin() + 1 + startTag.getName().length(), " v-once");
     }
 
     /**
@@ -279,6 +512,8 @@ public class TemplateParser
             currentProp = optionalProp.orElse(null);
             currentExpressionReturnType = getExpressionReturnTypeForAttribute(attribute);
             String processedExpression = processExpression(attribute.getValue());
+            if (context.isCachedEventHandlers() && isEventBinding(attribute))
+                processedExpression = getEventHandlerMethodPath(attribute, processedExpression);
 
             if (attribute.getValueSegment() != null)
                 outputDocument.replace(attribute.getValueSegment(), processedExpression);
@@ -287,6 +522,34 @@ public class TemplateParser
         localComponent.ifPresent(lc -> validateRequiredProps(lc, foundProps));
     }
 
+    /**
+     * Vue creates a new function on each render for event handlers that are calls. Handlers
+     * calling a method with no parameter, or only the event, can use the method path instead,
+     * which Vue binds once for each Component instance.
+     * Handlers with modifiers are left as is, Vue wraps them in a function anyway.
+     * @param attribute The event binding attribute
+     * @param processedExpression The processed handler
+     * @return The method path if the handler only calls a method with no parameter or the event,
+     * the processed handler otherwise
+     */
+    private String getEventHandlerMethodPath(Attribute attribute, String processedExpression)
+    {
+        if (attribute.getKey().contains("."))
+            return processedExpression;
+
+        Matcher matcher = PARAMETERLESS_CALL_PATTERN.matcher(processedExpression.trim());
+        if (!matcher.matches())
+            return processedExpression;
+
+        String methodName = matcher.group(1);
+        // Template expressions are always methods, other names must be Component methods
+        if (!TEMPLATE_EXPRESSION_METHOD_PATTERN.matcher(methodName).matches()
+            && (matcher.group(2) != null || !context.hasMethod(methodName)))
+            return processedExpression;
+
+        return methodName;
+    }
+
     /**
      * Return the {@link LocalComponent} definition for a given DOM {@link Element}
      * @param element Current element being processed
@@ -368,15 +631,14 @@ public class TemplateParser
 
     /**
      * Process a v-for value.
-     * It will register the loop variables as a local variable in the context stack.
-     * @param vForValue The value of the v-for attribute
+     * The loop variables have been registered as local variables in the context stack by the
+     * {@link VForDefinition}.
+     * @param vForDef The definition of the v-for
      * @return A processed v-for value, should be placed in the HTML in place of the original
      * v-for value
      */
-    private String processVForValue(String vForValue)
+    private String processVForValue(VForDefinition vForDef)
     {
-        VForDefinition vForDef = new VForDefinition(vForValue, context, logger);
-
         // Set return of the "in" expression
         currentExpressionReturnType = vForDef.getInExpressionType();
 
@@ -386,6 +648,66 @@ public class TemplateParser
         return vForDef.getVariableDefinition() + " in " + inExpression;
     }
 
+    /**
+     * Bind the key of an element with a v-for, if it doesn't have one.
+     * The field annotated with {@link VForKey} of the loop variable type is used as key. Without
+     * it, v-for on Components are reported depending on the {@link VForKeyCheck}, as Vue would
+     * patch them in place instead of moving them.
+     * @param element The element with the v-for
+     * @param vForAttribute The v-for attribute of the element
+     * @param vForDef The definition of the v-for
+     */
+    private void processVForKey(Element element, Attribute vForAttribute, VForDefinition vForDef)
+    {
+        Attributes attributes = element.getAttributes();
+        if (attributes.get("key") != null || attributes.get(":key") != null
+            || attributes.get("v-bind:key") != null)
+            return;
+
+        // Template elements can't be keyed, their children must be instead
+        if ("template".equalsIgnoreCase(element.getName()))
+            return;
+
+        LocalVariableInfo loopVariable = vForDef.getLoopVariableInfo();
+        if (loopVariable == null)
+            return;
+
+        Optional<VariableInfo> vForKey =
+            context.getJsVisibleFields().getVForKey(loopVariable.getType());
+        if (vForKey.isPresent())
+        {
+            // Vue compares keys with ===, other types would get a new JS value on each render
+            TypeName keyType = vForKey.get().getType();
+            currentExpressionReturnType =
+                JS_IDENTICAL_KEY_TYPES.contains(keyType) ? TypeName.get(Any.class)
+                    : TypeName.get(String.class);
+            String processedKey =
+                processExpression(loopVariable.getName() + "." + vForKey.get().getName());
+            outputDocument.insert(vForAttribute.getEnd(), " :key=\"" + processedKey + "\"");
+            return;
+        }
+
+        if (context.getVForKeyCheck() == VForKeyCheck.NONE || !isComponentElement(element))
+            return;
+
+        String message = "v-for on Component \""
+            + element.getName()
+            + "\" without key, its instances will be patched in place when the list changes. "
+            + "Bind a key with :key, or annotate the field identifying "
+            + loopVariable.getType()
+            + " with @VForKey.";
+        if (context.getVForKeyCheck() == VForKeyCheck.ERROR)
+            logger.error(message);
+        else
+            logger.warn(message);
+    }
+
+    private boolean isComponentElement(Element element)
+    {
+        return "component".equalsIgnoreCase(element.getName())
+            || getLocalComponentForElement(element).isPresent();
+    }
+
     /**
      * Process a given template expression
      * @param expressionString Should be either empty or a valid Java expression
@@ -424,9 +746,25 @@ public class TemplateParser
                 expressionString);
 
         if (shouldSkipExpressionProcessing(expressionString))
+        {
+            addExpressionConstancy(constantExpressions.isConstantVariable(expressionString));
             return expressionString;
+        }
+
+        long start = System.nanoTime();
+        String processedExpression = processJavaExpression(expressionString);
+        expressionProcessingTime += System.nanoTime() - start;
+        return processedExpression;
+    }
 
-        return processJavaExpression(expressionString).toTemplateString();
+    /**
+     * Record that the current element has an expression, and whether it is constant.
+     * @param constant true if the expression always has the same value
+     */
+    private void addExpressionConstancy(boolean constant)
+    {
+        hasExpressions = true;
+        expressionsConstant &= constant;
     }
 
     /**
@@ -482,11 +820,13 @@ public class TemplateParser
 
     /**
      * Process the given string as a Java expression.
+     * Simple expressions are lowered to JS, others are added as {@link TemplateExpression} to the
+     * result.
      * @param expressionString A valid Java expression
      * @return A processed expression, should be placed in the HTML in place of the original
      * expression
      */
-    private TemplateExpression processJavaExpression(String expressionString)
+    private String processJavaExpression(String expressionString)
     {
         Expression expression;
         try
@@ -500,6 +840,17 @@ public class TemplateParser
             throw parseException;
         }
 
+        addExpressionConstancy(constantExpressions.isConstant(expression));
+
+        // We don't lower component props as we want Java validation
+        if (currentProp == null && context.isExpressionLowering())
+        {
+            Optional<String> loweredExpression =
+                expressionLowering.lower(expression, currentExpressionReturnType);
+            if (loweredExpression.isPresent())
+                return loweredExpression.get();
+        }
+
         resolveTypesUsingImports(expression);
         resolveStaticMethodsUsingImports(expression);
 
@@ -520,7 +871,62 @@ public class TemplateParser
         return result.addExpression(expressionString,
             currentExpressionReturnType,
             currentProp == null,
-            expressionParameters);
+            expressionParameters,
+            isCacheable(expression)).toTemplateString();
+    }
+
+    /**
+     * Check if the value of an expression can be cached in a computed property.
+     * This is not the case in impure elements, or if the expression may use values Vue doesn't
+     * track.
+     * @param expression The expression to check
+     * @return true if the expression can be cached until its reactive dependencies change
+     */
+    private boolean isCacheable(Expression expression)
+    {
+        return context.isComputedExpressions()
+            && impureElementsDepth == 0
+            && !mayUseUntrackedValues(expression);
+    }
+
+    /**
+     * Check if an expression may use values whose changes are not tracked by Vue.
+     * This is conservative: the only methods trusted are the ones of the Component not
+     * annotated with {@link Impure}. Methods called on other objects, static methods, object
+     * creations, static fields and the untracked fields of the Component make the expression
+     * untracked.
+     * @param expression The expression to check
+     * @return true if the expression may use untracked values
+     */
+    private boolean mayUseUntrackedValues(Expression expression)
+    {
+        if (expression instanceof MethodCallExpr)
+        {
+            MethodCallExpr methodCall = (MethodCallExpr) expression;
+            String methodName = methodCall.getName().getIdentifier();
+            if (methodCall.getScope().isPresent() || !context.hasMethod(methodName)
+                || context.isImpureMethod(methodName))
+                return true;
+        }
+        else if (expression instanceof ObjectCreationExpr)
+        {
+            return true;
+        }
+        else if (expression instanceof NameExpr)
+        {
+            String name = ((NameExpr) expression).getNameAsString();
+            // Not a variable, this is the class of a static field
+            if (context.findVariable(name) == null || context.isUntrackedVariable(name))
+                return true;
+        }
+
+        for (com.github.javaparser.ast.Node node : expression.getChildNodes())
+        {
+            if (node instanceof Expression && mayUseUntrackedValues((Expression) node))
+                return true;
+        }
+
+        return false;
     }
 
     /**
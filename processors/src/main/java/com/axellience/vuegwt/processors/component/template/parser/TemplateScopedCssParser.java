@@ -7,7 +7,6 @@ import java.util.Optional;
 
 import javax.annotation.Nonnull;
 import javax.annotation.processing.Messager;
-import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic.Kind;
 
 import com.axellience.vuegwt.core.client.component.VueComponent;
@@ -66,9 +65,8 @@ public class TemplateScopedCssParser {
         }
     }
 
-    public Optional<ScopedCssResult> parse(TypeElement componentTypeElement, String css) {
+    public Optional<ScopedCssResult> parse(ClassName componentTypeName, String css) {
         if (css == null || css.isEmpty()) return Optional.empty();
-        final ClassName componentTypeName = ClassName.get(componentTypeElement);
         final String md5 = md5(componentTypeName.toString());
         final String datav = "data-v-" + md5;
         // UTF-8 is the fallback if neither a BOM nor @charset rule is present
@@ -222,6 +222,11 @@ public class VForDefinition
         return TypeName.get(Object.class);
     }
 
+    public LocalVariableInfo getLoopVariableInfo()
+    {
+        return loopVariableInfo;
+    }
+
     public String getVariableDefinition()
     {
         String variableDefinition = loopVariableInfo.getName();
@@ -0,0 +1,9 @@
+package com.axellience.vuegwt.processors.component.template.parser;
+
+/**
+ * What to report when a v-for on a Component doesn't have a key.
+ */
+public enum VForKeyCheck
+{
+    NONE, WARNING, ERROR
+}
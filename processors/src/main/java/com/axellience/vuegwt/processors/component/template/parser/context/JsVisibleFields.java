@@ -0,0 +1,80 @@
+package com.axellience.vuegwt.processors.component.template.parser.context;
+
+import com.axellience.vuegwt.core.annotations.component.VForKey;
+import com.axellience.vuegwt.processors.component.template.parser.variable.VariableInfo;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The fields visible in JS of the types that can be used in a template, with their type, and the
+ * field annotated with {@link VForKey} of these types.
+ * It is built on the processor thread, so templates can be parsed on worker threads without
+ * accessing the elements of the compilation.
+ */
+public class JsVisibleFields
+{
+    private static final JsVisibleFields EMPTY =
+        new JsVisibleFields(Collections.emptyMap(), Collections.emptyMap());
+
+    private final Map<String, Map<String, TypeName>> fieldsByType;
+    private final Map<String, VariableInfo> vForKeyByType;
+
+    /**
+     * @param fieldsByType The type of the fields visible in JS, by name, for each type by
+     * qualified name
+     * @param vForKeyByType The field annotated with {@link VForKey}, for each type by qualified
+     * name
+     */
+    public JsVisibleFields(Map<String, Map<String, TypeName>> fieldsByType,
+        Map<String, VariableInfo> vForKeyByType)
+    {
+        this.fieldsByType = fieldsByType;
+        this.vForKeyByType = vForKeyByType;
+    }
+
+    public static JsVisibleFields empty()
+    {
+        return EMPTY;
+    }
+
+    /**
+     * Get the type of a field visible in JS.
+     * @param type The type declaring the field
+     * @param fieldName The name of the field
+     * @return The type of the field, or empty if the type is unknown or the field is not visible
+     * in JS with this name
+     */
+    public Optional<TypeName> getFieldType(TypeName type, String fieldName)
+    {
+        return getQualifiedName(type)
+            .map(fieldsByType::get)
+            .flatMap(fields -> Optional.ofNullable(fields.get(fieldName)));
+    }
+
+    /**
+     * Get the field annotated with {@link VForKey} of a type.
+     * @param type The type to get the key of
+     * @return The name and type of the field, or empty if the type is unknown or doesn't have one
+     */
+    public Optional<VariableInfo> getVForKey(TypeName type)
+    {
+        return getQualifiedName(type).map(vForKeyByType::get);
+    }
+
+    private static Optional<String> getQualifiedName(TypeName type)
+    {
+        TypeName rawType = type;
+        if (type instanceof ParameterizedTypeName)
+            rawType = ((ParameterizedTypeName) type).rawType;
+
+        if (!(rawType instanceof ClassName))
+            return Optional.empty();
+
+        return Optional.of(rawType.toString());
+    }
+}
@@ -0,0 +1,49 @@
+package com.axellience.vuegwt.processors.component.template.parser.context;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields with a compile time constant value that can be used in a template.
+ * Expressions only using them never change, so they only need to be rendered once.
+ * It is built on the processor thread, so templates can be parsed on worker threads without
+ * accessing the elements of the compilation.
+ */
+public class TemplateConstants
+{
+    private static final TemplateConstants EMPTY =
+        new TemplateConstants(Collections.emptySet(), Collections.emptyMap());
+
+    private final Set<String> componentConstants;
+    private final Map<String, Set<String>> constantsByClass;
+
+    /**
+     * @param componentConstants The names of the constant fields of the Component
+     * @param constantsByClass The names of the static constant fields, for each imported class
+     * by qualified name
+     */
+    public TemplateConstants(Set<String> componentConstants,
+        Map<String, Set<String>> constantsByClass)
+    {
+        this.componentConstants = componentConstants;
+        this.constantsByClass = constantsByClass;
+    }
+
+    public static TemplateConstants empty()
+    {
+        return EMPTY;
+    }
+
+    public boolean isComponentConstant(String fieldName)
+    {
+        return componentConstants.contains(fieldName);
+    }
+
+    public boolean isClassConstant(String classQualifiedName, String fieldName)
+    {
+        return constantsByClass
+            .getOrDefault(classQualifiedName, Collections.emptySet())
+            .contains(fieldName);
+    }
+}
@@ -1,20 +1,28 @@
 package com.axellience.vuegwt.processors.component.template.parser.context;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.lang.model.element.TypeElement;
 
+import com.axellience.vuegwt.core.annotations.component.NonReactive;
+import com.axellience.vuegwt.core.annotations.component.ShallowReactive;
 import com.axellience.vuegwt.core.client.component.IsVueComponent;
 import com.axellience.vuegwt.core.client.tools.JsUtils;
 import com.axellience.vuegwt.core.client.tools.VForExpressionUtil;
+import com.axellience.vuegwt.processors.component.template.parser.VForKeyCheck;
 import com.axellience.vuegwt.processors.component.template.parser.context.localcomponents.LocalComponent;
 import com.axellience.vuegwt.processors.component.template.parser.context.localcomponents.LocalComponents;
 import com.axellience.vuegwt.processors.component.template.parser.variable.LocalVariableInfo;
 import com.axellience.vuegwt.processors.component.template.parser.variable.VariableInfo;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.TypeName;
 
 import elemental2.dom.Event;
@@ -29,6 +37,8 @@ import net.htmlparser.jericho.Segment;
 public class TemplateParserContext
 {
     private final TypeElement componentTypeElement;
+    private final ClassName componentTypeName;
+    private final String templateName;
     private final LocalComponents localComponents;
     private final ContextLayer rootLayer;
     private final Deque<ContextLayer> contextLayers = new ArrayDeque<>();
@@ -39,9 +49,18 @@ public class TemplateParserContext
     private Map<String, String> methodNameToFullyQualifiedName = new HashMap<>();
 
     private Segment currentSegment;
+    private JsVisibleFields jsVisibleFields = JsVisibleFields.empty();
+    private final Set<String> impureMethods = new HashSet<>();
+    private final Set<String> untrackedVariables = new HashSet<>();
+    private boolean expressionLowering = true;
+    private boolean computedExpressions = false;
+    private boolean autoVOnce = false;
+    private TemplateConstants templateConstants = TemplateConstants.empty();
+    private VForKeyCheck vForKeyCheck = VForKeyCheck.NONE;
+    private boolean cachedEventHandlers = false;
 
     /** In some cases mandatory attributes must be added to each element during template parsing, for example to support scoped styles */
-    private final Map<String, String> mandatoryAttributes = new HashMap<>();
+    private final Map<String, String> mandatoryAttributes = new LinkedHashMap<>();
 
     /**
      * Build the context based on a given {@link IsVueComponent} Class.
@@ -51,6 +70,9 @@ public class TemplateParserContext
     public TemplateParserContext(TypeElement componentTypeElement, LocalComponents localComponents)
     {
         this.componentTypeElement = componentTypeElement;
+        // Resolved eagerly so the template can be parsed without accessing the type element
+        this.componentTypeName = ClassName.get(componentTypeElement);
+        this.templateName = componentTypeElement.getSimpleName().toString() + ".html";
         this.localComponents = localComponents;
         this.addImport(Event.class.getCanonicalName());
         this.addImport(Math.class.getCanonicalName());
@@ -180,6 +202,15 @@ public class TemplateParserContext
         return classNameToFullyQualifiedName.get(className);
     }
 
+    /**
+     * Return the classes imported so far.
+     * @return The fully qualified names of the imported classes
+     */
+    public Collection<String> getImportedClasses()
+    {
+        return classNameToFullyQualifiedName.values();
+    }
+
     /**
      * Return true if we have an import for the given className
      * @param className The className we want to check
@@ -256,7 +287,7 @@ public class TemplateParserContext
      */
     public String getTemplateName()
     {
-        return componentTypeElement.getSimpleName().toString() + ".html";
+        return templateName;
     }
 
     public Optional<LocalComponent> getLocalComponent(String tagName)
@@ -269,6 +300,134 @@ public class TemplateParserContext
         return componentTypeElement;
     }
 
+    public ClassName getComponentTypeName()
+    {
+        return componentTypeName;
+    }
+
+    /**
+     * Set the fields visible in JS of the types that can be used in the template.
+     * Used to lower field accesses in template expressions.
+     * @param jsVisibleFields The fields visible in JS
+     */
+    public void setJsVisibleFields(JsVisibleFields jsVisibleFields)
+    {
+        this.jsVisibleFields = jsVisibleFields;
+    }
+
+    public JsVisibleFields getJsVisibleFields()
+    {
+        return jsVisibleFields;
+    }
+
+    /**
+     * Register a method of the Component whose result can't be cached in a computed property.
+     * @param methodName The name of the method
+     */
+    public void addImpureMethod(String methodName)
+    {
+        this.impureMethods.add(methodName);
+    }
+
+    public boolean isImpureMethod(String methodName)
+    {
+        return impureMethods.contains(methodName);
+    }
+
+    /**
+     * Register a field of the Component whose changes are not all tracked by Vue, like
+     * {@link NonReactive} and {@link ShallowReactive} fields. Expressions using it can't be cached
+     * in a computed property.
+     * @param name The name of the field
+     */
+    public void addUntrackedVariable(String name)
+    {
+        this.untrackedVariables.add(name);
+    }
+
+    public boolean isUntrackedVariable(String name)
+    {
+        return untrackedVariables.contains(name);
+    }
+
+    /**
+     * Set whether simple expressions can be translated to JS in the render function.
+     * @param expressionLowering true to translate them when possible
+     */
+    public void setExpressionLowering(boolean expressionLowering)
+    {
+        this.expressionLowering = expressionLowering;
+    }
+
+    public boolean isExpressionLowering()
+    {
+        return expressionLowering;
+    }
+
+    /**
+     * Set whether expressions without parameters can be generated as computed properties.
+     * @param computedExpressions true to use computed properties when possible
+     */
+    public void setComputedExpressions(boolean computedExpressions)
+    {
+        this.computedExpressions = computedExpressions;
+    }
+
+    public boolean isComputedExpressions()
+    {
+        return computedExpressions;
+    }
+
+    /**
+     * Set whether elements only using constants should be marked with v-once.
+     * @param autoVOnce true to add v-once on elements only using constants
+     * @param templateConstants The constants that can be used in the template
+     */
+    public void setAutoVOnce(boolean autoVOnce, TemplateConstants templateConstants)
+    {
+        this.autoVOnce = autoVOnce;
+        this.templateConstants = templateConstants;
+    }
+
+    public boolean isAutoVOnce()
+    {
+        return autoVOnce;
+    }
+
+    public TemplateConstants getTemplateConstants()
+    {
+        return templateConstants;
+    }
+
+    /**
+     * Set what to report when a v-for on a Component doesn't have a key.
+     * @param vForKeyCheck The check to apply
+     */
+    public void setVForKeyCheck(VForKeyCheck vForKeyCheck)
+    {
+        this.vForKeyCheck = vForKeyCheck;
+    }
+
+    public VForKeyCheck getVForKeyCheck()
+    {
+        return vForKeyCheck;
+    }
+
+    /**
+     * Set whether v-on handlers calling a method without parameters should be bound to the
+     * method directly.
+     * @param cachedEventHandlers true to bind them to the method
+     */
+    public void setCachedEventHandlers(boolean cachedEventHandlers)
+    {
+        this.cachedEventHandlers = cachedEventHandlers;
+    }
+
+    public boolean isCachedEventHandlers()
+    {
+        return cachedEventHandlers;
+    }
+
     public Map<String, String> getMandatoryAttributes() {
         return mandatoryAttributes;
     }
@@ -3,7 +3,7 @@ package com.axellience.vuegwt.processors.component.template.parser.context.local
 import com.squareup.javapoet.TypeName;
 
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -22,7 +22,7 @@ public class LocalComponent
         this.componentTagName = componentTagName;
         attributeNameToPropMap = new HashMap<>();
         propNameToPropMap = new HashMap<>();
-        requiredProps = new HashSet<>();
+        requiredProps = new LinkedHashSet<>();
     }
 
     public void addProp(String propName, TypeName propType, boolean isRequired)
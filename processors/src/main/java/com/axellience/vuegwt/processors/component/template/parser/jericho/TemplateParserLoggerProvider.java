@@ -4,24 +4,54 @@ import com.axellience.vuegwt.processors.component.template.parser.TemplateParser
 import net.htmlparser.jericho.Logger;
 import net.htmlparser.jericho.LoggerProvider;
 
+/**
+ * Provide our {@link TemplateParserLogger} to Jericho.
+ * Jericho only allows one global {@link LoggerProvider}, so the logger is stored per thread
+ * to allow parsing several templates at the same time.
+ */
 public class TemplateParserLoggerProvider implements LoggerProvider
 {
-    private final TemplateParserLogger logger;
+    private static final TemplateParserLoggerProvider INSTANCE =
+        new TemplateParserLoggerProvider();
 
-    public TemplateParserLoggerProvider(TemplateParserLogger logger)
+    private final ThreadLocal<TemplateParserLogger> logger = new ThreadLocal<>();
+
+    private TemplateParserLoggerProvider()
+    {
+    }
+
+    public static TemplateParserLoggerProvider get()
     {
-        this.logger = logger;
+        return INSTANCE;
+    }
+
+    /**
+     * Set the logger to use for templates parsed on the current thread.
+     * @param logger The logger for the template currently parsed
+     */
+    public void setCurrentLogger(TemplateParserLogger logger)
+    {
+        this.logger.set(logger);
     }
 
     @Override
     public Logger getLogger(String name)
     {
-        return logger;
+        return getCurrentLogger();
     }
 
     @Override
     public Logger getSourceLogger()
     {
-        return logger;
+        return getCurrentLogger();
+    }
+
+    private Logger getCurrentLogger()
+    {
+        Logger currentLogger = logger.get();
+        if (currentLogger == null)
+            return LoggerProvider.DISABLED.getSourceLogger();
+
+        return currentLogger;
     }
 }
@@ -17,6 +17,8 @@ import java.util.Set;
  * The Java expression from the template is then replaced by the result of {@link
  * TemplateExpression#toTemplateString()}.
  * This expression will be either by a computed property or a Method in the Vue.js Component.
+ * Computed properties are used for expressions without parameters, so Vue.js caches their value
+ * until one of their dependencies changes.
  * @author Adrien Baron
  */
 public class TemplateExpression
@@ -26,12 +28,14 @@ public class TemplateExpression
     private final boolean shouldCast;
     private final Integer lineInHtml;
     private final TypeName type;
+    private final boolean computed;
     private final List<VariableInfo> parameters = new LinkedList<>();
 
     public TemplateExpression(String id, String body, TypeName type, boolean shouldCast,
-        Collection<VariableInfo> parameters, Integer lineInHtml)
+        Collection<VariableInfo> parameters, Integer lineInHtml, boolean computed)
     {
         this.id = id;
+        this.computed = computed;
         this.type = type;
         this.body = body;
         this.shouldCast = shouldCast;
@@ -57,6 +61,29 @@ public class TemplateExpression
         return id;
     }
 
+    /**
+     * Return the name of the Java method generated for this expression.
+     * For computed properties, it's the getter of the property, like for {@link
+     * com.axellience.vuegwt.core.annotations.component.Computed} methods.
+     * @return The name of the method
+     */
+    public String getMethodName()
+    {
+        if (!computed)
+            return id;
+
+        return "get" + Character.toUpperCase(id.charAt(0)) + id.substring(1);
+    }
+
+    /**
+     * Is this expression a computed property in the Vue.js Component.
+     * @return true if it's a computed property, false if it's a method
+     */
+    public boolean isComputed()
+    {
+        return computed;
+    }
+
     /**
      * Java type of the expression.
      * @return The fully qualified name of the returned Java type
@@ -92,6 +119,9 @@ public class TemplateExpression
      */
     public String toTemplateString()
     {
+        if (computed)
+            return this.getId();
+
         String[] parametersName =
             this.parameters.stream().map(VariableInfo::getName).toArray(String[]::new);
 
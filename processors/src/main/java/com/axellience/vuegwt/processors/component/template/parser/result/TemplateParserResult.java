@@ -1,7 +1,9 @@
 package com.axellience.vuegwt.processors.component.template.parser.result;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import com.axellience.vuegwt.processors.component.template.parser.context.TemplateParserContext;
 import com.axellience.vuegwt.processors.component.template.parser.variable.VariableInfo;
@@ -17,6 +19,10 @@ public class TemplateParserResult
     private String scopedCss = "";
 
     private final List<TemplateExpression> expressions = new LinkedList<>();
+    private int methodsCount = 0;
+    private int computedCount = 0;
+    /** Expressions by their body, type and parameters, to reuse identical expressions */
+    private final Map<String, TemplateExpression> expressionsByKey = new HashMap<>();
     private final TemplateParserContext context;
     private final String templateName;
 
@@ -50,30 +56,73 @@ public class TemplateParserResult
      * Add an expression to the result.
      * All the Java methods from the template will be added here so we can add them to our Vue.js
      * component.
+     * If an identical expression, with the same type and parameters, has already been added it is
+     * returned instead, so each distinct expression only generates one method.
+     * Expressions without parameters that return a value are added as computed properties, unless
+     * cacheable is false.
      * @param expression The Java expression
      * @param expressionType The type of the expression, determined depending on the context it is
      * used in.
      * @param shouldCast Should the expression be cast to the given expressionType
      * @param parameters The parameters this expression depends on (can be empty)
+     * @param cacheable Can the value of the expression be cached until its reactive dependencies
+     * change
      * @return The {@link TemplateExpression} for this Java expression, will be used to get the
      * string to put in the template instead.
      */
     public TemplateExpression addExpression(String expression, TypeName expressionType,
-        boolean shouldCast, List<VariableInfo> parameters)
+        boolean shouldCast, List<VariableInfo> parameters, boolean cacheable)
     {
-        String id = "exp$" + this.expressions.size();
+        boolean computed = cacheable && parameters.isEmpty() && expressionType != TypeName.VOID;
+        String id = computed ? "cexp$" + computedCount : "exp$" + methodsCount;
 
         TemplateExpression templateExpression = new TemplateExpression(id,
             expression.trim(),
             expressionType,
             shouldCast,
             parameters,
-            context.getCurrentLine().orElse(null));
+            context.getCurrentLine().orElse(null),
+            computed);
 
+        String key = getExpressionKey(templateExpression);
+        TemplateExpression existingExpression = expressionsByKey.get(key);
+        if (existingExpression != null)
+            return existingExpression;
+
+        if (computed)
+            computedCount++;
+        else
+            methodsCount++;
+
+        expressionsByKey.put(key, templateExpression);
         this.expressions.add(templateExpression);
         return templateExpression;
     }
 
+    /**
+     * Key identifying an expression by everything its generated method depends on.
+     * Parameters types are included, as the same name can have different types in different
+     * v-for.
+     * @param expression The expression
+     * @return The key of the expression
+     */
+    private static String getExpressionKey(TemplateExpression expression)
+    {
+        StringBuilder key = new StringBuilder()
+            .append(expression.getBody())
+            .append('|')
+            .append(expression.getType())
+            .append('|')
+            .append(expression.isShouldCast())
+            .append('|')
+            .append(expression.isComputed());
+
+        for (VariableInfo parameter : expression.getParameters())
+            key.append('|').append(parameter.getType()).append(' ').append(parameter.getName());
+
+        return key.toString();
+    }
+
     /**
      * Return the list of expression we found in the template.
      * @return The list of {@link TemplateExpression}
@@ -83,6 +132,24 @@ public class TemplateParserResult
         return expressions;
     }
 
+    /**
+     * Return the number of expressions added as methods, named exp$0 to exp$n.
+     * @return The number of methods
+     */
+    public int getMethodsCount()
+    {
+        return methodsCount;
+    }
+
+    /**
+     * Return the number of expressions added as computed properties, named cexp$0 to cexp$n.
+     * @return The number of computed properties
+     */
+    public int getComputedCount()
+    {
+        return computedCount;
+    }
+
     public String getTemplateName()
     {
         return templateName;
@@ -0,0 +1,310 @@
+package com.axellience.vuegwt.processors.report;
+
+import com.axellience.vuegwt.processors.VueGwtProcessor;
+import com.axellience.vuegwt.processors.VueGwtProcessorOptions;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Build timings and generated code size of the Components processed by the
+ * {@link VueGwtProcessor}.
+ * Reports are collected over all the rounds and written once processing is over.
+ * Components exceeding the configured budgets are reported as errors, times are only reported.
+ * It's only accessed from the processor thread, templates compiled on worker threads carry
+ * their timings back with them.
+ */
+public class BuildReport
+{
+    private static final List<Metric> METRICS = Arrays.asList(new Metric("templateSize",
+            ComponentBuildReport::getTemplateSize,
+            false),
+        new Metric("renderFunctionSize", ComponentBuildReport::getRenderFunctionSize, false),
+        new Metric("staticRenderFunctionsSize",
+            ComponentBuildReport::getStaticRenderFunctionsSize,
+            false),
+        new Metric("expressionCount", ComponentBuildReport::getExpressionCount, false),
+        new Metric("expressionMethodCount", ComponentBuildReport::getExpressionMethodCount, false),
+        new Metric("computedExpressionCount",
+            ComponentBuildReport::getComputedExpressionCount,
+            false),
+        new Metric("proxyMethodCount", ComponentBuildReport::getProxyMethodCount, false),
+        new Metric("injectedDependencyCount",
+            ComponentBuildReport::getInjectedDependencyCount,
+            false),
+        new Metric("parseMs", ComponentBuildReport::getParseTime, true),
+        new Metric("expressionProcessingMs",
+            ComponentBuildReport::getExpressionProcessingTime,
+            true),
+        new Metric("compileMs", ComponentBuildReport::getCompileTime, true),
+        new Metric("emitMs", ComponentBuildReport::getEmitTime, true));
+
+    private final BuildReportFormat format;
+    private final Map<String, Double> budgets;
+    private final Map<String, ComponentBuildReport> componentReports = new LinkedHashMap<>();
+
+    public BuildReport(BuildReportFormat format)
+    {
+        this(format, Collections.emptyMap());
+    }
+
+    /**
+     * @param format The format of the report file, or null to only check budgets
+     * @param budgets Maximum value of metrics for each Component, by metric name
+     */
+    public BuildReport(BuildReportFormat format, Map<String, Double> budgets)
+    {
+        this.format = format;
+        this.budgets = budgets;
+    }
+
+    /**
+     * Check if a metric exists in the report.
+     * @param name The name of the metric, as in the report
+     * @return true if it exists
+     */
+    public static boolean hasMetric(String name)
+    {
+        return METRICS.stream().anyMatch(metric -> metric.name.equals(name));
+    }
+
+    /**
+     * Check if a metric can have a budget.
+     * Times depend on the machine and on its load, so they are only reported, a budget on them
+     * would make builds fail randomly.
+     * @param name The name of the metric, as in the report
+     * @return true if it exists and is not a time
+     */
+    public static boolean canHaveBudget(String name)
+    {
+        return METRICS.stream().anyMatch(metric -> metric.name.equals(name) && !metric.time);
+    }
+
+    /**
+     * Get the report for the given Component, creating it if needed.
+     * @param component The Component
+     * @return The report of the Component
+     */
+    public ComponentBuildReport getComponentReport(TypeElement component)
+    {
+        return componentReports.computeIfAbsent(component.getQualifiedName().toString(),
+            ComponentBuildReport::new);
+    }
+
+    /**
+     * Report an error for each budget exceeded by the given Component.
+     * Must be called once the Component has been generated.
+     * @param component The Component
+     * @param messager Used to report errors
+     */
+    public void checkBudgets(TypeElement component, Messager messager)
+    {
+        if (budgets.isEmpty())
+            return;
+
+        ComponentBuildReport report = getComponentReport(component);
+        for (Metric metric : METRICS)
+        {
+            Double budget = budgets.get(metric.name);
+            if (budget == null || metric.time)
+                continue;
+
+            double value = metric.getValue(report);
+            if (value <= budget)
+                continue;
+
+            messager.printMessage(Kind.ERROR,
+                "Component exceeds its budget for "
+                    + metric.name
+                    + ": "
+                    + metric.format(metric.value.applyAsLong(report))
+                    + " > "
+                    + budget
+                    + ". Budgets are set with -A"
+                    + VueGwtProcessorOptions.BUDGET
+                    + ".",
+                component);
+        }
+    }
+
+    /**
+     * Write the report at the root of the class output, and print a one line summary.
+     * Nothing is written if the report only checks budgets.
+     * @param filer Used to create the report file
+     * @param messager Used to print the summary
+     */
+    public void write(Filer filer, Messager messager)
+    {
+        if (format == null)
+            return;
+
+        String fileLocation;
+        try
+        {
+            FileObject reportFile =
+                filer.createResource(StandardLocation.CLASS_OUTPUT, "", format.getFileName());
+            try (Writer writer = reportFile.openWriter())
+            {
+                writer.write(format == BuildReportFormat.CSV ? toCsv() : toJson());
+            }
+            fileLocation = reportFile.toUri().toString();
+        }
+        catch (IOException e)
+        {
+            messager.printMessage(Kind.WARNING,
+                "Couldn't write the Vue GWT build report: " + e.getMessage());
+            fileLocation = null;
+        }
+
+        messager.printMessage(Kind.NOTE, getSummary(fileLocation));
+    }
+
+    private String getSummary(String fileLocation)
+    {
+        List<ComponentBuildReport> reports = new ArrayList<>(componentReports.values());
+        String summary = "Vue GWT build report: "
+            + reports.size()
+            + " components, "
+            + reports.stream().mapToInt(ComponentBuildReport::getExpressionCount).sum()
+            + " expressions, "
+            + reports
+            .stream()
+            .mapToLong(report -> report.getRenderFunctionSize()
+                + report.getStaticRenderFunctionsSize())
+            .sum()
+            + " characters of render functions, parse "
+            + formatTotal(reports, ComponentBuildReport::getParseTime)
+            + "ms, expressions "
+            + formatTotal(reports, ComponentBuildReport::getExpressionProcessingTime)
+            + "ms, compile "
+            + formatTotal(reports, ComponentBuildReport::getCompileTime)
+            + "ms, emit "
+            + formatTotal(reports, ComponentBuildReport::getEmitTime)
+            + "ms";
+
+        if (fileLocation == null)
+            return summary;
+
+        return summary + " (" + fileLocation + ")";
+    }
+
+    private String toCsv()
+    {
+        StringBuilder csv = new StringBuilder("component");
+        for (Metric metric : METRICS)
+            csv.append(",").append(metric.name);
+        csv.append("\n");
+
+        for (ComponentBuildReport report : componentReports.values())
+        {
+            csv.append("\"").append(report.getComponentName().replace("\"", "\"\"")).append("\"");
+            for (String value : getValues(Collections.singletonList(report)))
+                csv.append(",").append(value);
+            csv.append("\n");
+        }
+
+        // Aggregated values over all the Components
+        csv.append("\"(total)\"");
+        for (String value : getValues(componentReports.values()))
+            csv.append(",").append(value);
+        return csv.append("\n").toString();
+    }
+
+    private String toJson()
+    {
+        StringBuilder json = new StringBuilder("{\n  \"components\": [");
+        String separator = "\n";
+        for (ComponentBuildReport report : componentReports.values())
+        {
+            String componentName =
+                report.getComponentName().replace("\\", "\\\\").replace("\"", "\\\"");
+            json
+                .append(separator)
+                .append("    {\"component\": \"")
+                .append(componentName)
+                .append("\"");
+            appendJsonValues(json, getValues(Collections.singletonList(report)));
+            json.append("}");
+            separator = ",\n";
+        }
+
+        // Aggregated values over all the Components
+        json.append("\n  ],\n  \"total\": {\"components\": ").append(componentReports.size());
+        appendJsonValues(json, getValues(componentReports.values()));
+        return json.append("}\n}\n").toString();
+    }
+
+    private static void appendJsonValues(StringBuilder json, List<String> values)
+    {
+        for (int i = 0; i < METRICS.size(); i++)
+            json.append(", \"").append(METRICS.get(i).name).append("\": ").append(values.get(i));
+    }
+
+    /**
+     * Get the values of the metrics, summed over the given reports.
+     * @param reports The reports to get the values of
+     * @return The formatted values, in the order of the metrics
+     */
+    private static List<String> getValues(Collection<ComponentBuildReport> reports)
+    {
+        List<String> values = new ArrayList<>();
+        for (Metric metric : METRICS)
+            values.add(metric.format(reports.stream().mapToLong(metric.value).sum()));
+        return values;
+    }
+
+    private static String formatTotal(List<ComponentBuildReport> reports,
+        ToLongFunction<ComponentBuildReport> time)
+    {
+        return formatMillis(reports.stream().mapToLong(time).sum());
+    }
+
+    private static String formatMillis(long nanos)
+    {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000d);
+    }
+
+    /**
+     * A value recorded for each Component.
+     * Times are recorded in nanoseconds, but reported in milliseconds.
+     */
+    private static class Metric
+    {
+        private final String name;
+        private final ToLongFunction<ComponentBuildReport> value;
+        private final boolean time;
+
+        private Metric(String name, ToLongFunction<ComponentBuildReport> value, boolean time)
+        {
+            this.name = name;
+            this.value = value;
+            this.time = time;
+        }
+
+        private double getValue(ComponentBuildReport report)
+        {
+            long rawValue = value.applyAsLong(report);
+            return time ? rawValue / 1_000_000d : rawValue;
+        }
+
+        private String format(long rawValue)
+        {
+            return time ? formatMillis(rawValue) : String.valueOf(rawValue);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.axellience.vuegwt.processors.report;
+
+/**
+ * Format of the file written for the {@link BuildReport}.
+ */
+public enum BuildReportFormat
+{
+    JSON("vue-gwt-build-report.json"),
+    CSV("vue-gwt-build-report.csv");
+
+    private final String fileName;
+
+    BuildReportFormat(String fileName)
+    {
+        this.fileName = fileName;
+    }
+
+    /**
+     * @return The name of the report file, written at the root of the class output
+     */
+    public String getFileName()
+    {
+        return fileName;
+    }
+}
@@ -0,0 +1,149 @@
+package com.axellience.vuegwt.processors.report;
+
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import com.axellience.vuegwt.processors.component.template.CompiledTemplate;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.processors.component.template.parser.result.TemplateParserResult;
+
+/**
+ * Time spent by the processor on a given {@link IsVueComponent}, and size of the code generated
+ * for it.
+ * All the times are in nanoseconds, sizes are in characters.
+ */
+public class ComponentBuildReport
+{
+    private final String componentName;
+
+    private int templateSize;
+    private int renderFunctionSize;
+    private int staticRenderFunctionsSize;
+    private int expressionCount;
+    private int expressionMethodCount;
+    private int computedExpressionCount;
+    private int proxyMethodCount;
+    private int injectedDependencyCount;
+    private long parseTime;
+    private long expressionProcessingTime;
+    private long compileTime;
+    private long emitTime;
+
+    /** Time spent on the processor thread to get the compiled template */
+    private long templateTime;
+
+    ComponentBuildReport(String componentName)
+    {
+        this.componentName = componentName;
+    }
+
+    /**
+     * Record the template of the Component.
+     * @param compiledTemplate The compiled template
+     * @param templateTime Time spent on the processor thread to parse and compile the template,
+     * or to wait for it if it was compiled on a worker thread
+     */
+    public void addCompiledTemplate(CompiledTemplate compiledTemplate, long templateTime)
+    {
+        this.templateSize = compiledTemplate.getTemplateSize();
+
+        VueTemplateCompilerResult compilerResult = compiledTemplate.getVueTemplateCompilerResult();
+        this.renderFunctionSize = compilerResult.getRenderFunction().length();
+        this.staticRenderFunctionsSize = 0;
+        for (String staticRenderFunction : compilerResult.getStaticRenderFunctions())
+            this.staticRenderFunctionsSize += staticRenderFunction.length();
+
+        TemplateParserResult parserResult = compiledTemplate.getTemplateParserResult();
+        this.expressionCount = parserResult.getExpressions().size();
+        this.expressionMethodCount = parserResult.getMethodsCount();
+        this.computedExpressionCount = parserResult.getComputedCount();
+        this.parseTime = compiledTemplate.getParseTime();
+        this.expressionProcessingTime = compiledTemplate.getExpressionProcessingTime();
+        this.compileTime = compiledTemplate.getCompileTime();
+        this.templateTime = templateTime;
+    }
+
+    /**
+     * Record the time spent generating the classes of the Component.
+     * The time spent on the template is not counted as emission.
+     * @param generationTime Time spent in the generators for this Component
+     */
+    public void setGenerationTime(long generationTime)
+    {
+        this.emitTime = Math.max(0, generationTime - templateTime);
+    }
+
+    /**
+     * Record the members generated in the ExposedType of the Component.
+     * @param proxyMethodCount Number of proxy methods generated to expose methods to JS
+     * @param injectedDependencyCount Number of fields generated for injected dependencies
+     */
+    public void setGeneratedMembers(int proxyMethodCount, int injectedDependencyCount)
+    {
+        this.proxyMethodCount = proxyMethodCount;
+        this.injectedDependencyCount = injectedDependencyCount;
+    }
+
+    public String getComponentName()
+    {
+        return componentName;
+    }
+
+    public int getTemplateSize()
+    {
+        return templateSize;
+    }
+
+    public int getRenderFunctionSize()
+    {
+        return renderFunctionSize;
+    }
+
+    public int getStaticRenderFunctionsSize()
+    {
+        return staticRenderFunctionsSize;
+    }
+
+    public int getExpressionCount()
+    {
+        return expressionCount;
+    }
+
+    public int getExpressionMethodCount()
+    {
+        return expressionMethodCount;
+    }
+
+    public int getComputedExpressionCount()
+    {
+        return computedExpressionCount;
+    }
+
+    public int getProxyMethodCount()
+    {
+        return proxyMethodCount;
+    }
+
+    public int getInjectedDependencyCount()
+    {
+        return injectedDependencyCount;
+    }
+
+    public long getParseTime()
+    {
+        return parseTime;
+    }
+
+    public long getExpressionProcessingTime()
+    {
+        return expressionProcessingTime;
+    }
+
+    public long getCompileTime()
+    {
+        return compileTime;
+    }
+
+    public long getEmitTime()
+    {
+        return emitTime;
+    }
+}
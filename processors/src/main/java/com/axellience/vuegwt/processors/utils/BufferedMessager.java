@@ -0,0 +1,85 @@
+package com.axellience.vuegwt.processors.utils;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic.Kind;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link Messager} that keeps messages in memory until they are replayed on another
+ * {@link Messager}.
+ * The {@link Messager} from the processing environment must only be used from the processor
+ * thread, this allows code running on other threads to report errors.
+ */
+public class BufferedMessager implements Messager
+{
+    private final List<Message> messages = new ArrayList<>();
+
+    @Override
+    public synchronized void printMessage(Kind kind, CharSequence msg)
+    {
+        printMessage(kind, msg, null, null, null);
+    }
+
+    @Override
+    public synchronized void printMessage(Kind kind, CharSequence msg, Element e)
+    {
+        printMessage(kind, msg, e, null, null);
+    }
+
+    @Override
+    public synchronized void printMessage(Kind kind, CharSequence msg, Element e,
+        AnnotationMirror a)
+    {
+        printMessage(kind, msg, e, a, null);
+    }
+
+    @Override
+    public synchronized void printMessage(Kind kind, CharSequence msg, Element e,
+        AnnotationMirror a, AnnotationValue v)
+    {
+        messages.add(new Message(kind, msg.toString(), e, a, v));
+    }
+
+    /**
+     * Print all the buffered messages, in order, on the given {@link Messager}.
+     * @param messager The {@link Messager} to print messages to
+     */
+    public synchronized void replay(Messager messager)
+    {
+        for (Message message : messages)
+        {
+            if (message.element == null)
+                messager.printMessage(message.kind, message.message);
+            else
+                messager.printMessage(message.kind,
+                    message.message,
+                    message.element,
+                    message.annotationMirror,
+                    message.annotationValue);
+        }
+        messages.clear();
+    }
+
+    private static class Message
+    {
+        private final Kind kind;
+        private final String message;
+        private final Element element;
+        private final AnnotationMirror annotationMirror;
+        private final AnnotationValue annotationValue;
+
+        private Message(Kind kind, String message, Element element,
+            AnnotationMirror annotationMirror, AnnotationValue annotationValue)
+        {
+            this.kind = kind;
+            this.message = message;
+            this.element = element;
+            this.annotationMirror = annotationMirror;
+            this.annotationValue = annotationValue;
+        }
+    }
+}
@@ -215,6 +215,25 @@ public class ComponentGeneratorsUtil
             .orElse(0);
     }
 
+    /**
+     * Return the given Component and all its parent Components.
+     * The classes generated for a Component depend on all of them, they should be used as
+     * originating elements so incremental compilation regenerates them when one changes.
+     * @param component The {@link IsVueComponent} to get the hierarchy of
+     * @return The Component followed by its super Components, closest first
+     */
+    public static TypeElement[] getComponentHierarchy(TypeElement component)
+    {
+        List<TypeElement> hierarchy = new LinkedList<>();
+        Optional<TypeElement> current = Optional.of(component);
+        while (current.isPresent())
+        {
+            hierarchy.add(current.get());
+            current = getSuperComponentType(current.get());
+        }
+        return hierarchy.toArray(new TypeElement[0]);
+    }
+
     /**
      * Check if the given Component has a Template.
      * It doesn't have a template if the class is abstract, if it implements render function
@@ -0,0 +1,105 @@
+package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerEngine;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerException;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerResult;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import javax.script.ScriptEngineManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+/**
+ * Check that the {@link JavaVueTemplateCompiler} generates the same render functions as the
+ * vue-template-compiler, run with Nashorn.
+ */
+@RunWith(Parameterized.class)
+public class JavaVueTemplateCompilerTest
+{
+    private static VueTemplateCompiler nashornCompiler;
+
+    @Parameter
+    public String template;
+
+    @Parameters(name = "{0}")
+    public static List<String> templates()
+    {
+        return Arrays.asList(
+            // HTML entities in text, decoded like he does
+            "<div>&copy; 2018 &hellip; &mdash; &euro; &trade; &laquo;&raquo;</div>",
+            "<p>&lt;b&gt; &amp; &quot;quoted&quot; &apos;single&apos;</p>",
+            "<span>&nbsp;&nbsp;a&nbsp;b</span>",
+            "<p>&copy 2018 &amp x &notit; &notin; &not &copyright</p>",
+            "<p>a &lt=b &amp=c &gt1</p>",
+            "<p>&unknown; &foo &123 & alone &; &#; &#x; &#xZ;</p>",
+            "<p>&#169; &#xA9; &#XA9; &#128; &#x80; &#0; &#xD800; &#x110000; "
+            + "&#99999999999999999999; &#65 &#x41 &#0065;</p>",
+            "<p>&#x1F600; &fopf; &NotEqualTilde; &acE; &bsol; &NewLine;x&Tab;y</p>",
+            "<p>{{ a }} &amp; {{ b }} &gt; &lt;{{ c }}&gt;</p>",
+            "<p>{{ a &gt; b ? '&amp;' : \"&copy;\" }}</p>",
+            "<pre>  &lt;code&gt;\n  &copy;</pre>",
+            "<div><textarea>&lt;&copy;</textarea></div>",
+            "<a title=\"&lt;&amp;&quot;&copy;\" :href=\"url + '&amp;'\">&rarr;</a>",
+            "<div v-pre>&copy; {{ raw }}</div>",
+            "<p>end &amp</p>",
+            "<p>&</p>",
+            "<p>a &AMP; &ampx &amp;amp; &lt;/p&gt; &LT &GT;</p>",
+            "<p>&#x0000041; &#00000000000000000000065; &#x10FFFF; &#xFFFE; &#127; &#1;</p>",
+            "<p>&ThickSpace; &nbsp &nbspx &yuml &yumlx &iexcl1</p>",
+            "<p>{{ \"&#123;\" }}&#123;&#123; a &#125;&#125;</p>",
+            // Other features of the templates
+            "<div><span v-if=\"a\">&check;</span><span v-else-if=\"b\">&cross;</span>"
+            + "<span v-else>&quest;</span></div>",
+            "<ul><li v-for=\"(item, index) in items\" :key=\"item.id\">"
+            + "{{ index }} &middot; {{ item.name }}</li></ul>",
+            "<div @click=\"onClick\" @keyup.enter.prevent=\"onEnter($event)\" "
+            + ":class=\"{ active: isActive }\" :style=\"{ color: color }\">&times;</div>",
+            "<form><input type=\"checkbox\" v-model=\"checked\">"
+            + "<input type=\"radio\" value=\"a\" v-model=\"picked\">"
+            + "<select v-model=\"selected\"><option>&frac12;</option></select>"
+            + "<input v-model.trim=\"text\"></form>",
+            // v-model on other elements is compiled like on Components
+            "<div v-model=\"value\"></div>",
+            "<div><span v-model.trim=\"a.b\"></span><p v-model.number=\"x[i]\">&para;</p></div>",
+            "<button v-model=\"value\" @click=\"onClick\"></button>",
+            "<svg v-model=\"value\"></svg>",
+            "<div><my-component :prop=\"value\" @event=\"handler\">"
+            + "<template slot=\"header\" slot-scope=\"props\">&sect; {{ props.title }}</template>"
+            + "</my-component></div>",
+            "<div>   text &amp;   with   spaces   </div>",
+            "<svg><text>&deg;</text></svg>"
+        );
+    }
+
+    @BeforeClass
+    public static void initNashornCompiler()
+    {
+        assumeNotNull(new ScriptEngineManager().getEngineByName("nashorn"));
+        nashornCompiler = new VueTemplateCompiler(VueTemplateCompilerEngine.NASHORN);
+    }
+
+    @Test
+    public void compileLikeTheVueTemplateCompiler() throws VueTemplateCompilerException
+    {
+        Optional<VueTemplateCompilerResult> result =
+            new JavaVueTemplateCompiler().compile(template);
+        assertTrue("The template should be supported", result.isPresent());
+
+        VueTemplateCompilerResult expected = nashornCompiler.compile(template);
+        assertEquals(expected.getRenderFunction(), result.get().getRenderFunction());
+        assertArrayEquals(expected.getStaticRenderFunctions(),
+            result.get().getStaticRenderFunctions());
+    }
+}
@@ -0,0 +1,56 @@
+package com.axellience.vuegwt.processors.component.template.minifier;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TemplateMinifierTest
+{
+    private final TemplateMinifier safeMinifier = new TemplateMinifier(TemplateMinification.SAFE);
+    private final TemplateMinifier aggressiveMinifier =
+        new TemplateMinifier(TemplateMinification.AGGRESSIVE);
+
+    @Test
+    public void keepTemplateWithoutMinification()
+    {
+        String template = "<div>\n  <span   class=\" a  b \">  text  </span>\n</div>";
+        assertEquals(template, new TemplateMinifier(TemplateMinification.NONE).minify(template));
+    }
+
+    @Test
+    public void collapseWhitespaces()
+    {
+        assertEquals("<div> <span> a b </span> </div>",
+            safeMinifier.minify("<div>\n  <span>\r\n a \t\f b\n</span>\n</div>"));
+    }
+
+    @Test
+    public void removeWhitespacesWithNewLineBetweenTagsInAggressiveMode()
+    {
+        assertEquals("<div><span>a</span> <span>b</span></div>",
+            aggressiveMinifier.minify("<div>\n  <span>a</span> <span>b</span>\n</div>"));
+    }
+
+    @Test
+    public void keepNonBreakingSpaces()
+    {
+        assertEquals("<p>a\u00A0\u00A0b</p>", safeMinifier.minify("<p>a\u00A0\u00A0b</p>"));
+        assertEquals("<p>\u00A0</p>", aggressiveMinifier.minify("<p>\u00A0</p>"));
+        assertEquals("<p> \u2003 \u3000 </p>",
+            safeMinifier.minify("<p>\n\u2003\t\u3000  \n</p>"));
+    }
+
+    @Test
+    public void keepRawTextAndMustaches()
+    {
+        String template = "<div><pre>  a\n  b</pre>{{ '  a  ' }}</div>";
+        assertEquals(template, safeMinifier.minify(template));
+    }
+
+    @Test
+    public void normalizeTags()
+    {
+        assertEquals("<div class=\"a b\" id='c'></div>",
+            safeMinifier.minify("<div   class=\"  a\n b \"\n  id='c'  ></div >"));
+    }
+}
@@ -0,0 +1,191 @@
+package com.axellience.vuegwt.processors.report;
+
+import com.axellience.vuegwt.processors.component.template.CompiledTemplate;
+import com.axellience.vuegwt.processors.component.template.builder.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.processors.component.template.parser.context.TemplateParserContext;
+import com.axellience.vuegwt.processors.component.template.parser.result.TemplateParserResult;
+import org.junit.Test;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ElementVisitor;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BuildReportTest
+{
+    @Test
+    public void reportComponentExceedingSizeBudget()
+    {
+        TypeElement component = createComponent("com.example", "BigComponent");
+        BuildReport buildReport =
+            new BuildReport(null, Collections.singletonMap("renderFunctionSize", 10d));
+        buildReport
+            .getComponentReport(component)
+            .addCompiledTemplate(createCompiledTemplate(component, "with(this){return _c('div')}"),
+                0);
+
+        RecordingMessager messager = new RecordingMessager();
+        buildReport.checkBudgets(component, messager);
+
+        assertEquals(Collections.singletonList(Kind.ERROR), messager.kinds);
+        assertTrue(messager.messages.get(0).contains("renderFunctionSize"));
+    }
+
+    @Test
+    public void acceptComponentWithinSizeBudget()
+    {
+        TypeElement component = createComponent("com.example", "SmallComponent");
+        BuildReport buildReport =
+            new BuildReport(null, Collections.singletonMap("renderFunctionSize", 1000d));
+        buildReport
+            .getComponentReport(component)
+            .addCompiledTemplate(createCompiledTemplate(component, "with(this){return _c('div')}"),
+                0);
+
+        RecordingMessager messager = new RecordingMessager();
+        buildReport.checkBudgets(component, messager);
+
+        assertTrue(messager.kinds.isEmpty());
+    }
+
+    @Test
+    public void onlyReportTimes()
+    {
+        assertTrue(BuildReport.canHaveBudget("renderFunctionSize"));
+        assertTrue(BuildReport.canHaveBudget("expressionCount"));
+        assertFalse(BuildReport.canHaveBudget("parseMs"));
+        assertFalse(BuildReport.canHaveBudget("expressionProcessingMs"));
+        assertFalse(BuildReport.canHaveBudget("compileMs"));
+        assertFalse(BuildReport.canHaveBudget("emitMs"));
+        assertFalse(BuildReport.canHaveBudget("unknown"));
+    }
+
+    private static CompiledTemplate createCompiledTemplate(TypeElement component,
+        String renderFunction)
+    {
+        TemplateParserResult templateParserResult =
+            new TemplateParserResult(new TemplateParserContext(component, null));
+        return new CompiledTemplate(templateParserResult,
+            new VueTemplateCompilerResult(renderFunction, new String[0]),
+            0,
+            0,
+            0,
+            0);
+    }
+
+    private static TypeElement createComponent(String packageName, String simpleName)
+    {
+        PackageElement packageElement = createElement(PackageElement.class,
+            ElementKind.PACKAGE,
+            packageName,
+            packageName,
+            null);
+        return createElement(TypeElement.class,
+            ElementKind.CLASS,
+            packageName + "." + simpleName,
+            simpleName,
+            packageElement);
+    }
+
+    /**
+     * Create an element with only what's needed to build reports and name classes.
+     */
+    private static <T extends Element> T createElement(Class<T> type, ElementKind kind,
+        String qualifiedName, String simpleName, Element enclosingElement)
+    {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+            new Class<?>[] { type },
+            (proxy, method, args) -> {
+                switch (method.getName())
+                {
+                    case "getKind":
+                        return kind;
+                    case "getNestingKind":
+                        return NestingKind.TOP_LEVEL;
+                    case "getQualifiedName":
+                        return createName(qualifiedName);
+                    case "getSimpleName":
+                        return createName(simpleName);
+                    case "getEnclosingElement":
+                        return enclosingElement;
+                    case "accept":
+                        return accept(proxy, args[0], args[1]);
+                    case "toString":
+                        return qualifiedName;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }));
+    }
+
+    private static Object accept(Object element, Object visitor, Object parameter)
+    {
+        @SuppressWarnings("unchecked")
+        ElementVisitor<?, Object> elementVisitor = (ElementVisitor<?, Object>) visitor;
+        if (element instanceof PackageElement)
+            return elementVisitor.visitPackage((PackageElement) element, parameter);
+
+        return elementVisitor.visitType((TypeElement) element, parameter);
+    }
+
+    private static Name createName(String name)
+    {
+        return (Name) Proxy.newProxyInstance(Name.class.getClassLoader(),
+            new Class<?>[] { Name.class },
+            (proxy, method, args) -> String.class
+                .getMethod(method.getName(), method.getParameterTypes())
+                .invoke(name, args));
+    }
+
+    private static class RecordingMessager implements Messager
+    {
+        private final List<Kind> kinds = new ArrayList<>();
+        private final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void printMessage(Kind kind, CharSequence message)
+        {
+            kinds.add(kind);
+            messages.add(message.toString());
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence message, Element element)
+        {
+            printMessage(kind, message);
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence message, Element element,
+            AnnotationMirror annotationMirror)
+        {
+            printMessage(kind, message);
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence message, Element element,
+            AnnotationMirror annotationMirror, AnnotationValue annotationValue)
+        {
+            printMessage(kind, message);
+        }
+    }
+}
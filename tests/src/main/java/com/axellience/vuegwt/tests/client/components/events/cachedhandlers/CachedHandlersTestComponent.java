@@ -0,0 +1,41 @@
+package com.axellience.vuegwt.tests.client.components.events.cachedhandlers;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import elemental2.dom.Event;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+public class CachedHandlersTestComponent implements IsVueComponent {
+
+  @JsProperty
+  int count = 0;
+
+  @JsProperty
+  String lastEventType;
+
+  @JsProperty
+  String selected;
+
+  @JsProperty
+  List<String> items = Arrays.asList("a", "b");
+
+  @JsMethod
+  public void increment() {
+    count++;
+  }
+
+  @JsMethod
+  public void setLastEvent(Event event) {
+    lastEventType = event.type;
+  }
+
+  @JsMethod
+  public void select(String item) {
+    selected = item;
+  }
+}
@@ -0,0 +1,19 @@
+package com.axellience.vuegwt.tests.client.components.list.vforkey;
+
+import com.axellience.vuegwt.core.annotations.component.VForKey;
+import jsinterop.annotations.JsProperty;
+
+public class KeyedItem {
+
+  @VForKey
+  @JsProperty
+  String id;
+
+  @JsProperty
+  String text;
+
+  public KeyedItem(String id, String text) {
+    this.id = id;
+    this.text = text;
+  }
+}
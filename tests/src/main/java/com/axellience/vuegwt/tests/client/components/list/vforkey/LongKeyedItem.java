@@ -0,0 +1,19 @@
+package com.axellience.vuegwt.tests.client.components.list.vforkey;
+
+import com.axellience.vuegwt.core.annotations.component.VForKey;
+import jsinterop.annotations.JsProperty;
+
+public class LongKeyedItem {
+
+  @VForKey
+  @JsProperty
+  long id;
+
+  @JsProperty
+  String text;
+
+  public LongKeyedItem(long id, String text) {
+    this.id = id;
+    this.text = text;
+  }
+}
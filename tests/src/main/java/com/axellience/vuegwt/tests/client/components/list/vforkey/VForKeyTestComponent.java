@@ -0,0 +1,52 @@
+package com.axellience.vuegwt.tests.client.components.list.vforkey;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+public class VForKeyTestComponent implements IsVueComponent {
+
+  @JsProperty
+  List<KeyedItem> items = new ArrayList<>();
+
+  @JsProperty
+  List<LongKeyedItem> longKeyedItems = new ArrayList<>();
+
+  @JsProperty
+  List<KeyedItem> explicitlyKeyedItems = new ArrayList<>();
+
+  public VForKeyTestComponent() {
+    items.add(new KeyedItem("a", "A"));
+    items.add(new KeyedItem("b", "B"));
+    items.add(new KeyedItem("c", "C"));
+
+    longKeyedItems.add(new LongKeyedItem(1L, "A"));
+    longKeyedItems.add(new LongKeyedItem(2L, "B"));
+    longKeyedItems.add(new LongKeyedItem(3L, "C"));
+
+    explicitlyKeyedItems.add(new KeyedItem("a", "A"));
+    explicitlyKeyedItems.add(new KeyedItem("b", "B"));
+    explicitlyKeyedItems.add(new KeyedItem("c", "C"));
+  }
+
+  @JsMethod
+  public void reverseItems() {
+    List<KeyedItem> reversedItems = new ArrayList<>(items);
+    Collections.reverse(reversedItems);
+    items = reversedItems;
+
+    List<LongKeyedItem> reversedLongKeyedItems = new ArrayList<>(longKeyedItems);
+    Collections.reverse(reversedLongKeyedItems);
+    longKeyedItems = reversedLongKeyedItems;
+
+    List<KeyedItem> reversedExplicitlyKeyedItems = new ArrayList<>(explicitlyKeyedItems);
+    Collections.reverse(reversedExplicitlyKeyedItems);
+    explicitlyKeyedItems = reversedExplicitlyKeyedItems;
+  }
+}
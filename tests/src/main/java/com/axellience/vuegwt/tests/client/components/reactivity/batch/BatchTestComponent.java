@@ -0,0 +1,46 @@
+package com.axellience.vuegwt.tests.client.components.reactivity.batch;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import com.axellience.vuegwt.core.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.tests.client.common.SimpleObject;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class BatchTestComponent implements IsVueComponent {
+
+  @JsProperty
+  List<SimpleObject> objects = new ArrayList<>();
+
+  @JsMethod
+  public void addObjects(String... values) {
+    for (String value : values) {
+      SimpleObject object = new SimpleObject();
+      object.setStringProperty(value);
+      objects.add(object);
+    }
+  }
+
+  @JsMethod
+  public void addObjectsBatched(String... values) {
+    VueGWTObserverManager.get().runBatched(() -> addObjects(values));
+  }
+
+  @JsMethod
+  public void addObjectsInNestedBatches(String... values) {
+    VueGWTObserverManager observerManager = VueGWTObserverManager.get();
+    observerManager.beginBatch();
+    observerManager.runBatched(() -> addObjects(values));
+    observerManager.runBatched(() -> addObjects(values));
+    observerManager.endBatch();
+  }
+
+  @JsMethod
+  public SimpleObject getObject(int index) {
+    return objects.get(index);
+  }
+}
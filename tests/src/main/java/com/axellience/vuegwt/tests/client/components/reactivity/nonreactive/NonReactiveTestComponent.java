@@ -0,0 +1,39 @@
+package com.axellience.vuegwt.tests.client.components.reactivity.nonreactive;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.annotations.component.NonReactive;
+import com.axellience.vuegwt.core.annotations.component.ShallowReactive;
+import com.axellience.vuegwt.core.client.VueGWT;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import com.axellience.vuegwt.tests.client.common.SimpleObject;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
+
+@Component
+public class NonReactiveTestComponent implements IsVueComponent {
+
+  @JsProperty
+  String reactiveData = "reactive";
+
+  @NonReactive
+  @JsProperty
+  String nonReactiveData = "non reactive";
+
+  @ShallowReactive
+  @JsProperty
+  SimpleObject shallowObject = createObject("shallow");
+
+  @JsProperty
+  SimpleObject frozenObject = VueGWT.freeze(createObject("frozen"));
+
+  @JsMethod
+  public void assignShallowObject(String value) {
+    shallowObject = createObject(value);
+  }
+
+  private static SimpleObject createObject(String value) {
+    SimpleObject object = new SimpleObject();
+    object.setStringProperty(value);
+    return object;
+  }
+}
@@ -0,0 +1,93 @@
+package com.axellience.vuegwt.tests.client.components.reactivity.reactivecollections;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.client.collections.ReactiveList;
+import com.axellience.vuegwt.core.client.collections.ReactiveMap;
+import com.axellience.vuegwt.core.client.collections.ReactiveSet;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import com.axellience.vuegwt.tests.client.common.SimpleObject;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class ReactiveCollectionsTestComponent implements IsVueComponent {
+
+  @JsProperty
+  List<String> list = new ReactiveList<>();
+
+  @JsProperty
+  Set<String> set = new ReactiveSet<>();
+
+  @JsProperty
+  Map<String, String> map = new ReactiveMap<>();
+
+  @JsProperty
+  List<SimpleObject> objectList = new ReactiveList<>();
+
+  @JsMethod
+  public void addToList(String value) {
+    list.add(value);
+  }
+
+  @JsMethod
+  public void insertInList(int index, String value) {
+    list.add(index, value);
+  }
+
+  @JsMethod
+  public void sortList() {
+    list.sort(String::compareTo);
+  }
+
+  @JsMethod
+  public void removeFromListIf(String value) {
+    list.removeIf(value::equals);
+  }
+
+  @JsMethod
+  public void removeFromListWithIterator(String value) {
+    Iterator<String> iterator = list.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().equals(value)) {
+        iterator.remove();
+      }
+    }
+  }
+
+  @JsMethod
+  public void addToSet(String value) {
+    set.add(value);
+  }
+
+  @JsMethod
+  public void removeFromSet(String value) {
+    set.remove(value);
+  }
+
+  @JsMethod
+  public void putInMap(String key, String value) {
+    map.put(key, value);
+  }
+
+  @JsMethod
+  public void removeFromMap(String key) {
+    map.remove(key);
+  }
+
+  @JsMethod
+  public void addObject(String value) {
+    SimpleObject object = new SimpleObject();
+    object.setStringProperty(value);
+    objectList.add(object);
+  }
+
+  @JsMethod
+  public SimpleObject getObject(int index) {
+    return objectList.get(index);
+  }
+}
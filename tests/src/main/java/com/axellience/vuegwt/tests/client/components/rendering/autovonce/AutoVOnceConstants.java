@@ -0,0 +1,6 @@
+package com.axellience.vuegwt.tests.client.components.rendering.autovonce;
+
+public class AutoVOnceConstants {
+
+  public static final String NAME = "Vue GWT";
+}
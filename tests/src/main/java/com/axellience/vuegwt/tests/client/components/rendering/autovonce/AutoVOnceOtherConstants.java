@@ -0,0 +1,6 @@
+package com.axellience.vuegwt.tests.client.components.rendering.autovonce;
+
+public class AutoVOnceOtherConstants {
+
+  public static final int VERSION = 2;
+}
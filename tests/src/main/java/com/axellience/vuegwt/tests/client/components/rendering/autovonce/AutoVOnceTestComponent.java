@@ -0,0 +1,15 @@
+package com.axellience.vuegwt.tests.client.components.rendering.autovonce;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import jsinterop.annotations.JsProperty;
+
+@Component
+public class AutoVOnceTestComponent implements IsVueComponent {
+
+  @JsProperty
+  final String title = "Title";
+
+  @JsProperty
+  String data = "data";
+}
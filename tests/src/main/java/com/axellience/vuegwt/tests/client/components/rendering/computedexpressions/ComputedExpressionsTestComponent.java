@@ -0,0 +1,40 @@
+package com.axellience.vuegwt.tests.client.components.rendering.computedexpressions;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.annotations.component.NonReactive;
+import com.axellience.vuegwt.core.annotations.component.ShallowReactive;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import com.axellience.vuegwt.tests.client.common.SimpleObject;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
+
+@Component
+public class ComputedExpressionsTestComponent implements IsVueComponent {
+
+  @JsProperty
+  String message = "Hello";
+
+  @NonReactive
+  @JsProperty
+  int evaluations = 0;
+
+  @NonReactive
+  @JsProperty
+  String nonReactiveMessage = "non reactive";
+
+  @ShallowReactive
+  @JsProperty
+  SimpleObject shallowObject = createObject("shallow");
+
+  @JsMethod
+  public String getDecoratedMessage() {
+    evaluations++;
+    return "<" + message + ">";
+  }
+
+  private static SimpleObject createObject(String value) {
+    SimpleObject object = new SimpleObject();
+    object.setStringProperty(value);
+    return object;
+  }
+}
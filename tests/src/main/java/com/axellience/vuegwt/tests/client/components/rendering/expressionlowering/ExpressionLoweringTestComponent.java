@@ -0,0 +1,27 @@
+package com.axellience.vuegwt.tests.client.components.rendering.expressionlowering;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import jsinterop.annotations.JsProperty;
+
+@Component
+public class ExpressionLoweringTestComponent implements IsVueComponent {
+
+  @JsProperty
+  int maxInt = Integer.MAX_VALUE;
+
+  @JsProperty
+  int seven = 7;
+
+  @JsProperty
+  int two = 2;
+
+  @JsProperty
+  char letter = 'a';
+
+  @JsProperty
+  long bigLong = 3000000000L;
+
+  @JsProperty
+  String nullableString = null;
+}
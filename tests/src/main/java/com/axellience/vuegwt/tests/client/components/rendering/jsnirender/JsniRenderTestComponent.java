@@ -0,0 +1,33 @@
+package com.axellience.vuegwt.tests.client.components.rendering.jsnirender;
+
+import com.axellience.vuegwt.core.annotations.component.Component;
+import com.axellience.vuegwt.core.client.component.IsVueComponent;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+public class JsniRenderTestComponent implements IsVueComponent {
+
+  @JsProperty
+  String title = "Title";
+
+  @JsProperty
+  boolean visible = true;
+
+  @JsProperty
+  int count = 0;
+
+  @JsProperty
+  List<String> letters = Arrays.asList("a", "b");
+
+  @JsProperty
+  List<String> numbers = Arrays.asList("1", "2");
+
+  @JsMethod
+  public void increment() {
+    count++;
+  }
+}
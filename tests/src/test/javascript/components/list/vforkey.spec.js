@@ -0,0 +1,69 @@
+import {expect} from 'chai'
+import {
+  createAndMountComponent, destroyComponent, getElement, onGwtReady,
+  onNextTick
+} from '../../vue-gwt-tests-utils'
+
+describe('@VForKey', () => {
+  let component;
+
+  beforeEach(() => onGwtReady().then(() => {
+    component = createAndMountComponent(
+        'com.axellience.vuegwt.tests.client.components.list.vforkey.VForKeyTestComponent');
+  }));
+
+  afterEach(() => {
+    destroyComponent(component);
+  });
+
+  const getSpans = function (id) {
+    return Array.from(getElement(component, id).querySelectorAll('span'));
+  };
+
+  it('should render the items', () => {
+    const texts = getSpans('#auto-keyed').map(span => span.innerText);
+    expect(texts).to.deep.equal(['A', 'B', 'C']);
+  });
+
+  it('should move the elements of the items when they are reordered', () => {
+    const spans = getSpans('#auto-keyed');
+    component.reverseItems();
+
+    return onNextTick(() => {
+      const reversedSpans = getSpans('#auto-keyed');
+      expect(reversedSpans.map(span => span.innerText)).to.deep.equal(['C', 'B', 'A']);
+      expect(reversedSpans[0]).to.equal(spans[2]);
+      expect(reversedSpans[2]).to.equal(spans[0]);
+    });
+  });
+
+  it('should move the elements of the items with a long key', () => {
+    const spans = getSpans('#long-keyed');
+    component.$forceUpdate();
+
+    return onNextTick(() => {
+      // The keys must stay the same between renders
+      const rerenderedSpans = getSpans('#long-keyed');
+      expect(rerenderedSpans[0]).to.equal(spans[0]);
+
+      component.reverseItems();
+    })
+    .then(() => onNextTick(() => {
+      const reversedSpans = getSpans('#long-keyed');
+      expect(reversedSpans.map(span => span.innerText)).to.deep.equal(['C', 'B', 'A']);
+      expect(reversedSpans[0]).to.equal(spans[2]);
+      expect(reversedSpans[2]).to.equal(spans[0]);
+    }));
+  });
+
+  it('should keep the key bound in the template', () => {
+    const spans = getSpans('#explicitly-keyed');
+    component.reverseItems();
+
+    return onNextTick(() => {
+      const reversedSpans = getSpans('#explicitly-keyed');
+      expect(reversedSpans.map(span => span.innerText)).to.deep.equal(['C', 'B', 'A']);
+      expect(reversedSpans[0]).to.equal(spans[2]);
+    });
+  });
+});
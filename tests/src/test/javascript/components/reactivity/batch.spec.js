@@ -0,0 +1,58 @@
+import {expect} from 'chai'
+import {
+  createAndMountComponent, destroyComponent, onGwtReady, onNextTick
+} from '../../vue-gwt-tests-utils'
+
+describe('Batched changes', () => {
+  let component;
+  let notificationCount;
+
+  beforeEach(() => onGwtReady().then(() => {
+    component = createAndMountComponent(
+        'com.axellience.vuegwt.tests.client.components.reactivity.batch.BatchTestComponent');
+
+    notificationCount = 0;
+    component.$watch(() => component.objects, () => notificationCount++, {sync: true});
+  }));
+
+  afterEach(() => {
+    destroyComponent(component);
+  });
+
+  const getValues = function () {
+    return Array.from(component.$el.querySelectorAll('span')).map(span => span.innerText);
+  };
+
+  it('should notify each change without batch', () => {
+    component.addObjects('a', 'b', 'c');
+    expect(notificationCount).to.equal(3);
+  });
+
+  it('should notify once at the end of the batch', () => {
+    component.addObjectsBatched('a', 'b', 'c');
+    expect(notificationCount).to.equal(1);
+
+    return onNextTick(() => {
+      expect(getValues()).to.deep.equal(['a', 'b', 'c']);
+    });
+  });
+
+  it('should notify once at the end of the outer batch', () => {
+    component.addObjectsInNestedBatches('a', 'b');
+    expect(notificationCount).to.equal(1);
+
+    return onNextTick(() => {
+      expect(getValues()).to.deep.equal(['a', 'b', 'a', 'b']);
+    });
+  });
+
+  it('should observe the values added during the batch', () => {
+    component.addObjectsBatched('a');
+
+    return onNextTick(() => {
+      component.getObject(0).setStringProperty('b');
+    }).then(() => onNextTick(() => {
+      expect(getValues()).to.deep.equal(['b']);
+    }));
+  });
+});
@@ -0,0 +1,83 @@
+import {expect} from 'chai'
+import {
+  createAndMountComponent, destroyComponent, getElement, onGwtReady,
+  onNextTick
+} from '../../vue-gwt-tests-utils'
+
+describe('Non reactive data', () => {
+  let component;
+
+  beforeEach(() => onGwtReady().then(() => {
+    component = createAndMountComponent(
+        'com.axellience.vuegwt.tests.client.components.reactivity.nonreactive.NonReactiveTestComponent');
+  }));
+
+  afterEach(() => {
+    destroyComponent(component);
+  });
+
+  const getText = function (id) {
+    return getElement(component, id).innerText;
+  };
+
+  describe('@NonReactive', () => {
+    it('should have its value in the DOM at start', () => {
+      expect(getText('#non-reactive-data')).to.equal('non reactive');
+    });
+
+    it('should not update the DOM when it changes', () => {
+      component.nonReactiveData = 'changed';
+
+      return onNextTick(() => {
+        expect(getText('#non-reactive-data')).to.equal('non reactive');
+      });
+    });
+
+    it('should have its new value in the DOM when the Component renders again', () => {
+      component.nonReactiveData = 'changed';
+      component.reactiveData = 'changed';
+
+      return onNextTick(() => {
+        expect(getText('#reactive-data')).to.equal('changed');
+        expect(getText('#non-reactive-data')).to.equal('changed');
+      });
+    });
+  });
+
+  describe('@ShallowReactive', () => {
+    it('should have its value in the DOM at start', () => {
+      expect(getText('#shallow-object')).to.equal('shallow');
+    });
+
+    it('should update the DOM when it is assigned', () => {
+      component.assignShallowObject('assigned');
+
+      return onNextTick(() => {
+        expect(getText('#shallow-object')).to.equal('assigned');
+      });
+    });
+
+    it('should not observe its value', () => {
+      component.shallowObject.setStringProperty('changed');
+
+      return onNextTick(() => {
+        expect(component.shallowObject.__ob__).to.be.undefined;
+        expect(getText('#shallow-object')).to.equal('shallow');
+      });
+    });
+  });
+
+  describe('VueGWT.freeze', () => {
+    it('should have the value of the frozen object in the DOM at start', () => {
+      expect(getText('#frozen-object')).to.equal('frozen');
+    });
+
+    it('should not observe the frozen object', () => {
+      component.frozenObject.setStringProperty('changed');
+
+      return onNextTick(() => {
+        expect(getText('#frozen-object')).to.equal('frozen');
+      });
+    });
+  });
+});
@@ -0,0 +1,110 @@
+import {expect} from 'chai'
+import {
+  createAndMountComponent, destroyComponent, getElement, onGwtReady,
+  onNextTick
+} from '../../vue-gwt-tests-utils'
+
+describe('Reactive collections', () => {
+  let component;
+
+  beforeEach(() => onGwtReady().then(() => {
+    component = createAndMountComponent(
+        'com.axellience.vuegwt.tests.client.components.reactivity.reactivecollections.ReactiveCollectionsTestComponent');
+  }));
+
+  afterEach(() => {
+    destroyComponent(component);
+  });
+
+  const getValues = function (id) {
+    return Array.from(getElement(component, id).querySelectorAll('span'))
+    .map(span => span.innerText);
+  };
+
+  describe('ReactiveList', () => {
+    it('should update the DOM when a value is added', () => {
+      component.addToList('b');
+      component.insertInList(0, 'a');
+
+      return onNextTick(() => {
+        expect(getValues('#list')).to.deep.equal(['a', 'b']);
+      });
+    });
+
+    it('should update the DOM when it is sorted', () => {
+      component.addToList('c');
+      component.addToList('a');
+      component.addToList('b');
+
+      return onNextTick(() => {
+        expect(getValues('#list')).to.deep.equal(['c', 'a', 'b']);
+        component.sortList();
+      }).then(() => onNextTick(() => {
+        expect(getValues('#list')).to.deep.equal(['a', 'b', 'c']);
+      }));
+    });
+
+    it('should update the DOM when values are removed with removeIf', () => {
+      component.addToList('a');
+      component.addToList('b');
+
+      return onNextTick(() => {
+        component.removeFromListIf('a');
+      }).then(() => onNextTick(() => {
+        expect(getValues('#list')).to.deep.equal(['b']);
+      }));
+    });
+
+    it('should update the DOM when values are removed with an Iterator', () => {
+      component.addToList('a');
+      component.addToList('b');
+
+      return onNextTick(() => {
+        component.removeFromListWithIterator('b');
+      }).then(() => onNextTick(() => {
+        expect(getValues('#list')).to.deep.equal(['a']);
+      }));
+    });
+
+    it('should observe the added values', () => {
+      component.addObject('a');
+
+      return onNextTick(() => {
+        expect(getValues('#object-list')).to.deep.equal(['a']);
+        component.getObject(0).setStringProperty('b');
+      }).then(() => onNextTick(() => {
+        expect(getValues('#object-list')).to.deep.equal(['b']);
+      }));
+    });
+  });
+
+  describe('ReactiveSet', () => {
+    it('should update the DOM when values are added and removed', () => {
+      component.addToSet('a');
+      component.addToSet('b');
+      component.addToSet('a');
+
+      return onNextTick(() => {
+        expect(getValues('#set')).to.deep.equal(['a', 'b']);
+        component.removeFromSet('a');
+      }).then(() => onNextTick(() => {
+        expect(getValues('#set')).to.deep.equal(['b']);
+      }));
+    });
+  });
+
+  describe('ReactiveMap', () => {
+    it('should update the DOM when values are put and removed', () => {
+      component.putInMap('first', 'a');
+      component.putInMap('second', 'b');
+
+      return onNextTick(() => {
+        expect(getValues('#map')).to.deep.equal(['a', 'b']);
+        component.putInMap('first', 'c');
+        component.removeFromMap('second');
+      }).then(() => onNextTick(() => {
+        expect(getValues('#map')).to.deep.equal(['c']);
+      }));
+    });
+  });
+});
@@ -0,0 +1,58 @@
+import {expect} from 'chai'
+import {
+  createAndMountComponent, destroyComponent, getElement, onGwtReady,
+  onNextTick
+} from '../../vue-gwt-tests-utils'
+
+describe('Template expression lowering', () => {
+  let component;
+
+  beforeEach(() => onGwtReady().then(() => {
+    component = createAndMountComponent(
+        'com.axellience.vuegwt.tests.client.components.rendering.expressionlowering.ExpressionLoweringTestComponent');
+  }));
+
+  afterEach(() => {
+    destroyComponent(component);
+  });
+
+  const getAttribute = function (id, attribute) {
+    return getElement(component, id).getAttribute(attribute);
+  };
+
+  it('should overflow int arithmetic like Java', () => {
+    expect(getAttribute('#int-overflow', 'data-sum')).to.equal('-2147483648');
+    expect(getAttribute('#int-overflow', 'data-difference')).to.equal('2147483647');
+    expect(getAttribute('#int-overflow', 'data-product')).to.equal('-2');
+  });
+
+  it('should truncate int division like Java', () => {
+    expect(getAttribute('#division', 'data-int')).to.equal('3');
+    expect(getAttribute('#division', 'data-double')).to.equal('3.5');
+    expect(getAttribute('#division', 'data-remainder')).to.equal('1');
+  });
+
+  it('should render char and long like Java', () => {
+    expect(getAttribute('#excluded-types', 'data-char')).to.equal('a');
+    expect(getAttribute('#excluded-types', 'data-long')).to.equal('3000000001');
+  });
+
+  it('should compare null like Java', () => {
+    expect(getElement(component, '#null-comparison')).to.exist;
+    expect(getElement(component, '#not-null-comparison')).to.not.exist;
+
+    component.nullableString = 'value';
+    return onNextTick(() => {
+      expect(getElement(component, '#null-comparison')).to.not.exist;
+      expect(getElement(component, '#not-null-comparison')).to.exist;
+    });
+  });
+
+  it('should match undefined when comparing to null', () => {
+    component.nullableString = undefined;
+    return onNextTick(() => {
+      expect(getElement(component, '#null-comparison')).to.exist;
+      expect(getElement(component, '#not-null-comparison')).to.not.exist;
+    });
+  });
+});
@@ -0,0 +1,12 @@
+const ciConfig = require('./karma.conf.ci.js');
+
+const OPTIONAL_FEATURES_SPECS = 'src/test/javascript/optional-features/**/*.js';
+
+module.exports = function (config) {
+	// Load CI config
+	ciConfig(config);
+
+	// Also run the specs of the optional features of the processor
+	config.files.unshift(OPTIONAL_FEATURES_SPECS);
+	config.preprocessors[OPTIONAL_FEATURES_SPECS] = ['webpack'];
+};
@@ -0,0 +1,68 @@
+import {expect} from 'chai'
+import {
+  createAndMountComponent, destroyComponent, getElement, onGwtReady,
+  onNextTick
+} from '../../vue-gwt-tests-utils'
+
+describe('Cached event handlers', () => {
+  let component;
+
+  beforeEach(() => onGwtReady().then(() => {
+    component = createAndMountComponent(
+        'com.axellience.vuegwt.tests.client.components.events.cachedhandlers.CachedHandlersTestComponent');
+  }));
+
+  afterEach(() => {
+    destroyComponent(component);
+  });
+
+  const findVNode = function (vnode, element) {
+    if (vnode.elm === element) {
+      return vnode;
+    }
+
+    return (vnode.children || [])
+    .map(child => findVNode(child, element))
+    .find(child => child);
+  };
+
+  // Vue keeps the same invoker between renders, and swaps the handler it calls
+  const getClickHandler = function (id) {
+    return findVNode(component._vnode, getElement(component, id)).data.on.click.fns;
+  };
+
+  const expectSameHandlerAfterRender = function (id, isSame) {
+    const handler = getClickHandler(id);
+    component.$forceUpdate();
+    return onNextTick(() => {
+      expect(getClickHandler(id) === handler).to.equal(isSame);
+    });
+  };
+
+  it('should call the handlers', () => {
+    getElement(component, '#method').click();
+    getElement(component, '#event').click();
+    getElement(component, '#item-b').click();
+    return onNextTick(() => {
+      expect(getElement(component, '#method').innerText).to.equal('1');
+      expect(getElement(component, '#event').innerText).to.equal('click');
+      expect(component.selected).to.equal('b');
+    });
+  });
+
+  it('should keep handlers calling a method without parameters', () => {
+    return expectSameHandlerAfterRender('#method', true);
+  });
+
+  it('should keep handlers only using the event', () => {
+    return expectSameHandlerAfterRender('#event', true);
+  });
+
+  it('should not keep handlers with modifiers', () => {
+    return expectSameHandlerAfterRender('#modifier', false);
+  });
+
+  it('should not keep handlers using v-for variables', () => {
+    return expectSameHandlerAfterRender('#item-a', false);
+  });
+});
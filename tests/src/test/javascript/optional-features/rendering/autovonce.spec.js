@@ -0,0 +1,59 @@
+import {expect} from 'chai'
+import {
+  createAndMountComponent, destroyComponent, getElement, onGwtReady,
+  onNextTick
+} from '../../vue-gwt-tests-utils'
+
+describe('Automatic v-once', () => {
+  let component;
+
+  beforeEach(() => onGwtReady().then(() => {
+    component = createAndMountComponent(
+        'com.axellience.vuegwt.tests.client.components.rendering.autovonce.AutoVOnceTestComponent');
+  }));
+
+  afterEach(() => {
+    destroyComponent(component);
+  });
+
+  const findVNode = function (vnode, element) {
+    if (vnode.elm === element) {
+      return vnode;
+    }
+
+    return (vnode.children || [])
+    .map(child => findVNode(child, element))
+    .find(child => child);
+  };
+
+  const isRenderedOnce = function (id) {
+    return !!findVNode(component._vnode, getElement(component, id)).isOnce;
+  };
+
+  it('should render the constants', () => {
+    expect(getElement(component, '#component-constant').innerText).to.equal('Title');
+    expect(getElement(component, '#class-constant').innerText).to.equal('Vue GWT');
+    expect(getElement(component, '#single-quoted-import-constant').innerText).to.equal('2');
+    expect(getElement(component, '#constant-expression').innerText).to.equal('Title!');
+    expect(getElement(component, '#constant-expression').getAttribute('title'))
+    .to.equal('Title Vue GWT');
+  });
+
+  it('should render elements only using constants once', () => {
+    expect(isRenderedOnce('#component-constant')).to.be.true;
+    expect(isRenderedOnce('#class-constant')).to.be.true;
+    expect(isRenderedOnce('#single-quoted-import-constant')).to.be.true;
+    expect(isRenderedOnce('#constant-expression')).to.be.true;
+  });
+
+  it('should render elements using data each time', () => {
+    expect(isRenderedOnce('#data')).to.be.false;
+    expect(isRenderedOnce('#data-and-constant')).to.be.false;
+
+    component.data = 'changed';
+    return onNextTick(() => {
+      expect(getElement(component, '#data').innerText).to.equal('changed');
+      expect(getElement(component, '#data-and-constant').innerText).to.equal('Titlechanged');
+    });
+  });
+});
@@ -0,0 +1,61 @@
+import {expect} from 'chai'
+import {
+  createAndMountComponent, destroyComponent, getElement, onGwtReady,
+  onNextTick
+} from '../../vue-gwt-tests-utils'
+
+describe('Computed template expressions', () => {
+  let component;
+
+  beforeEach(() => onGwtReady().then(() => {
+    component = createAndMountComponent(
+        'com.axellience.vuegwt.tests.client.components.rendering.computedexpressions.ComputedExpressionsTestComponent');
+  }));
+
+  afterEach(() => {
+    destroyComponent(component);
+  });
+
+  const getText = function (id) {
+    return getElement(component, id).innerText;
+  };
+
+  it('should render the expressions', () => {
+    expect(getText('#cached')).to.equal('<Hello>!');
+    expect(getText('#non-reactive')).to.equal('non reactive!');
+    expect(getText('#method-call-on-object')).to.equal('shallow!');
+  });
+
+  it('should cache expressions only using the component', () => {
+    const evaluations = component.evaluations;
+    component.$forceUpdate();
+    return onNextTick(() => {
+      expect(component.evaluations).to.equal(evaluations);
+    });
+  });
+
+  it('should evaluate cached expressions again when their dependencies change', () => {
+    const evaluations = component.evaluations;
+    component.message = 'changed';
+    return onNextTick(() => {
+      expect(getText('#cached')).to.equal('<changed>!');
+      expect(component.evaluations).to.equal(evaluations + 1);
+    });
+  });
+
+  it('should not cache expressions using non reactive fields', () => {
+    component.nonReactiveMessage = 'changed';
+    component.$forceUpdate();
+    return onNextTick(() => {
+      expect(getText('#non-reactive')).to.equal('changed!');
+    });
+  });
+
+  it('should not cache expressions calling methods on other objects', () => {
+    component.shallowObject.setStringProperty('changed');
+    component.$forceUpdate();
+    return onNextTick(() => {
+      expect(getText('#method-call-on-object')).to.equal('changed!');
+    });
+  });
+});
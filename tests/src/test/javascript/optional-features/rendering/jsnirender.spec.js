@@ -0,0 +1,58 @@
+import {expect} from 'chai'
+import {
+  createAndMountComponent, destroyComponent, getElement, onGwtReady,
+  onNextTick
+} from '../../vue-gwt-tests-utils'
+
+describe('JSNI render functions', () => {
+  let component;
+
+  beforeEach(() => onGwtReady().then(() => {
+    component = createAndMountComponent(
+        'com.axellience.vuegwt.tests.client.components.rendering.jsnirender.JsniRenderTestComponent');
+  }));
+
+  afterEach(() => {
+    destroyComponent(component);
+  });
+
+  const getText = function (id) {
+    return getElement(component, id).innerText;
+  };
+
+  it('should not use with statements', () => {
+    expect(component.$options.render.toString()).to.not.contain('with(');
+    component.$options.staticRenderFns.forEach(staticRenderFunction => {
+      expect(staticRenderFunction.toString()).to.not.contain('with(');
+    });
+  });
+
+  it('should render static content', () => {
+    expect(getText('#static')).to.equal('Static content');
+  });
+
+  it('should render the fields of the component', () => {
+    expect(getText('#title')).to.equal('Title');
+    expect(getElement(component, '#title').getAttribute('title')).to.equal('Title');
+    expect(getElement(component, '#visible')).to.exist;
+
+    component.title = 'Changed';
+    component.visible = false;
+    return onNextTick(() => {
+      expect(getText('#title')).to.equal('Changed');
+      expect(getElement(component, '#title').getAttribute('title')).to.equal('Changed');
+      expect(getElement(component, '#visible')).to.not.exist;
+    });
+  });
+
+  it('should call the methods of the component on events', () => {
+    getElement(component, '#button').click();
+    return onNextTick(() => {
+      expect(getText('#button')).to.equal('1');
+    });
+  });
+
+  it('should use the variables of the v-for', () => {
+    expect(getText('#nested-for').replace(/\s/g, '')).to.equal('a10a20b11b21');
+  });
+});
@@ -0,0 +1,106 @@
+/**
+ * Process the HTML entities decoded by he, the library used by the vue-template-compiler,
+ * and output them as java to be put in HtmlEntities
+ */
+
+const fs = require('fs'),
+	path = require('path');
+
+const IN = path.join(__dirname, '..', 'node_modules', 'he', 'he.js');
+const OUT = path.join(__dirname, '..', 'out', 'HtmlEntities.java');
+
+const readVariable = function (source, name) {
+	const declaration = new RegExp(`var ${name} = (.*);$`, 'm').exec(source);
+	if (!declaration) throw new Error(`Couldn't find ${name} in he`);
+
+	return eval(`(${declaration[1]})`);
+};
+
+const toJavaString = function (value) {
+	let result = '';
+	for (let i = 0; i < value.length; i++) {
+		const charCode = value.charCodeAt(i);
+		if (value[i] === '"' || value[i] === '\\')
+			result += '\\' + value[i];
+		// Unicode escapes of line terminators are not allowed in java strings
+		else if (value[i] === '\n')
+			result += '\\n';
+		else if (value[i] === '\t')
+			result += '\\t';
+		else if (charCode < 0x20 || charCode > 0x7E)
+			result += '\\u' + ('000' + charCode.toString(16).toUpperCase()).slice(-4);
+		else
+			result += value[i];
+	}
+	return `"${result}"`;
+};
+
+module.exports = function () {
+	fs.readFile(IN, 'utf8', function (err, data) {
+		if (err) throw err;
+
+		const regexDecode = readVariable(data, 'regexDecode');
+		const decodeMap = readVariable(data, 'decodeMap');
+		const decodeMapLegacy = readVariable(data, 'decodeMapLegacy');
+		const decodeMapNumeric = readVariable(data, 'decodeMapNumeric');
+
+		// Legacy entities have the same value with and without semicolon
+		Object.keys(decodeMapLegacy).forEach(name => {
+			if (decodeMap[name] !== decodeMapLegacy[name])
+				throw new Error(`Unexpected value for the legacy entity ${name}`);
+		});
+
+		// One alternative per line, the long list of legacy entities is wrapped
+		const decodePattern = regexDecode.source
+			.split('|&')
+			.map((alternative, index) => (index === 0 ? '' : '|&') + alternative)
+			.reduce((lines, alternative) => lines.concat(alternative
+				.split(/(?<=\|)/)
+				.reduce((wrapped, part) => {
+					if (wrapped.length && wrapped[wrapped.length - 1].length + part.length <= 80)
+						wrapped[wrapped.length - 1] += part;
+					else
+						wrapped.push(part);
+					return wrapped;
+				}, [])), [])
+			.map(line => toJavaString(line))
+			.join('\n        + ');
+		const named = Object.keys(decodeMap)
+			.map(name => `        NAMED.put(${toJavaString(name)}, ${toJavaString(decodeMap[name])});`)
+			.join('\n');
+		const numeric = Object.keys(decodeMapNumeric)
+			.map(codePoint => `        NUMERIC.put(${codePoint}, ${toJavaString(decodeMapNumeric[codePoint])});`)
+			.join('\n');
+
+		fs.writeFile(OUT, `package com.axellience.vuegwt.processors.component.template.builder.compiler.java;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+This class is generated by utils/he/process-html-entities.js
+*/
+class HtmlEntities
+{
+    /**
+     * Match the character references, groups are: decimal code point and semicolon, hexadecimal
+     * code point and semicolon, named reference with semicolon, legacy named reference without
+     * semicolon and the character following it.
+     */
+    static final Pattern DECODE = Pattern.compile(${decodePattern});
+    /** Named character references, without their semicolon */
+    static final Map<String, String> NAMED = new HashMap<>();
+    /** Characters replacing numeric references to some code points */
+    static final Map<Integer, String> NUMERIC = new HashMap<>();
+
+    static
+    {
+${named}
+
+${numeric}
+    }
+}
+`, () => console.log('Process HTML Entities SUCCESS'));
+	});
+};
@@ -1,4 +1,5 @@
-const processNashornTemplateCompiler = require('./nashorn/process-nashorn-template-compiler'),
+const processHtmlEntities = require('./he/process-html-entities'),
+	processNashornTemplateCompiler = require('./nashorn/process-nashorn-template-compiler'),
 	processVueDevRuntime = require('./vue-runtime/process-vue-dev-runtime'),
 	processVueRuntime = require('./vue-runtime/process-vue-runtime'),
 	fs = require('fs'),
@@ -10,5 +11,6 @@ if (!fs.existsSync(OUT)){
 }
 
 processNashornTemplateCompiler();
+processHtmlEntities();
 processVueDevRuntime();
 processVueRuntime();
\ No newline at end of file